@@ -46,6 +46,8 @@ public final class RaftMemberContext {
   private int inFlightAppendCount;
   private boolean appendSucceeded;
   private long appendTime;
+  private boolean pipelinedAppendScheduled;
+  private long nextIndexResets;
   private boolean configuring;
   private boolean installing;
   private int failures;
@@ -71,6 +73,7 @@ public final class RaftMemberContext {
     heartbeatTime = 0;
     responseTime = 0;
     inFlightAppendCount = 0;
+    pipelinedAppendScheduled = false;
     timeStats.clear();
     configuring = false;
     installing = false;
@@ -131,11 +134,42 @@ public final class RaftMemberContext {
    * @return Indicates whether an append request can be sent to the member.
    */
   public boolean canAppend() {
-    return inFlightAppendCount == 0
-        || (appendSucceeded
-            && inFlightAppendCount < maxAppendsPerMember
-            && System.currentTimeMillis() - (timeStats.getMean() / maxAppendsPerMember)
-                >= appendTime);
+    return getPipelinedAppendDelay() == 0;
+  }
+
+  /**
+   * Returns the time until another append request can be sent to the member, while other requests
+   * are still in flight. Requests are spread over the mean append latency, such that up to the
+   * maximum number of appends per member are in flight at any time. No further request can be
+   * pipelined if the last append failed, or if there is no latency sample yet.
+   *
+   * @return the delay in milliseconds, 0 if a request can be sent now, or -1 if no request can be
+   *     pipelined until a response is received
+   */
+  public long getPipelinedAppendDelay() {
+    if (inFlightAppendCount == 0) {
+      return 0;
+    }
+
+    if (!appendSucceeded || inFlightAppendCount >= maxAppendsPerMember || timeStats.getN() == 0) {
+      return -1;
+    }
+
+    final double delay =
+        appendTime + (timeStats.getMean() / maxAppendsPerMember) - System.currentTimeMillis();
+    return delay <= 0 ? 0 : (long) Math.ceil(delay);
+  }
+
+  public boolean isPipelinedAppendScheduled() {
+    return pipelinedAppendScheduled;
+  }
+
+  public void setPipelinedAppendScheduled(final boolean pipelinedAppendScheduled) {
+    this.pipelinedAppendScheduled = pipelinedAppendScheduled;
+  }
+
+  public int getInFlightAppendCount() {
+    return inFlightAppendCount;
   }
 
   /**
@@ -460,7 +494,16 @@ public final class RaftMemberContext {
     return currentEntry != null ? currentEntry.index() : 0;
   }
 
+  /**
+   * Returns how often the next index of the member was reset. Used to detect responses to requests
+   * which were sent before the last reset, and are thus outdated.
+   */
+  public long getNextIndexResets() {
+    return nextIndexResets;
+  }
+
   public void reset(final long index) {
+    nextIndexResets++;
     final var nextIndex = reader.seek(index - 1);
     if (nextIndex == index - 1) {
       currentEntry = reader.next();
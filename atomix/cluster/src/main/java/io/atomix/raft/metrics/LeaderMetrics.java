@@ -31,6 +31,22 @@ public class LeaderMetrics extends RaftMetrics {
           .labelNames(FOLLOWER_LABEL, PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
           .register();
 
+  private static final Histogram REPLICATION_LATENCY =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("replication_latency")
+          .help("Latency of append requests which replicate entries to a follower")
+          .labelNames(FOLLOWER_LABEL, PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .register();
+
+  private static final Gauge IN_FLIGHT_APPENDS =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("in_flight_append_requests")
+          .help("The number of append requests sent to a follower which were not answered yet")
+          .labelNames(FOLLOWER_LABEL, PARTITION_GROUP_NAME_LABEL, PARTITION_LABEL)
+          .register();
+
   private static final Counter APPEND_RATE =
       Counter.build()
           .namespace(NAMESPACE)
@@ -82,6 +98,14 @@ public class LeaderMetrics extends RaftMetrics {
     APPEND_LATENCY.labels(memberId, partitionGroupName, partition).observe(latencyms / 1000f);
   }
 
+  public void replicationComplete(final long latencyms, final String memberId) {
+    REPLICATION_LATENCY.labels(memberId, partitionGroupName, partition).observe(latencyms / 1000f);
+  }
+
+  public void observeInFlightAppends(final String memberId, final int inFlightAppends) {
+    IN_FLIGHT_APPENDS.labels(memberId, partitionGroupName, partition).set(inFlightAppends);
+  }
+
   public void observeAppend(
       final String memberId, final int appendedEntries, final int appendedBytes) {
     APPEND_RATE.labels(memberId, partitionGroupName, partition).inc(appendedEntries);
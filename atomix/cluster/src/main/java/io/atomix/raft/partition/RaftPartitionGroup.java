@@ -36,6 +36,7 @@ import io.atomix.raft.zeebe.EntryValidator;
 import io.atomix.utils.concurrent.ThreadContext;
 import io.atomix.utils.serializer.Namespace;
 import io.atomix.utils.serializer.Namespaces;
+import io.camunda.zeebe.journal.record.RecordCompression;
 import io.camunda.zeebe.snapshots.ReceivableSnapshotStoreFactory;
 import java.io.File;
 import java.time.Duration;
@@ -496,6 +497,19 @@ public final class RaftPartitionGroup implements ManagedPartitionGroup {
       return this;
     }
 
+    /**
+     * Sets the compression applied to the data of new log entries. Existing entries can always be
+     * read, independently of this setting. As older versions cannot read compressed entries, this
+     * should only be enabled once all members run a version which supports it.
+     *
+     * @param compression the compression of new entries
+     * @return this builder for chaining
+     */
+    public Builder withCompression(final RecordCompression compression) {
+      config.getStorageConfig().setCompression(compression);
+      return this;
+    }
+
     @Override
     public RaftPartitionGroup build() {
       return new RaftPartitionGroup(config);
@@ -20,6 +20,7 @@ import com.esotericsoftware.kryo.serializers.FieldSerializer.Optional;
 import io.atomix.raft.storage.log.RaftLog;
 import io.atomix.raft.storage.log.RaftLogFlusher;
 import io.atomix.utils.concurrent.ThreadContext;
+import io.camunda.zeebe.journal.record.RecordCompression;
 import io.camunda.zeebe.snapshots.ReceivableSnapshotStoreFactory;
 
 /** Raft storage configuration. */
@@ -40,6 +41,7 @@ public class RaftStorageConfig {
   private long freeDiskSpace = DEFAULT_FREE_DISK_SPACE;
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
+  private RecordCompression compression = RecordCompression.NONE;
 
   @Optional("SnapshotStoreFactory")
   private ReceivableSnapshotStoreFactory persistedSnapshotStoreFactory;
@@ -176,6 +178,23 @@ public class RaftStorageConfig {
     this.preallocateSegmentFiles = preallocateSegmentFiles;
   }
 
+  /**
+   * @return the compression applied to the data of new log entries
+   */
+  public RecordCompression getCompression() {
+    return compression;
+  }
+
+  /**
+   * Sets the compression applied to the data of new log entries. Existing entries can always be
+   * read, independently of this setting.
+   *
+   * @param compression the compression of new entries
+   */
+  public void setCompression(final RecordCompression compression) {
+    this.compression = compression;
+  }
+
   @Override
   public String toString() {
     return "RaftStorageConfig{"
@@ -192,6 +211,8 @@ public class RaftStorageConfig {
         + journalIndexDensity
         + ", preallocateSegmentFiles="
         + preallocateSegmentFiles
+        + ", compression="
+        + compression
         + ", persistedSnapshotStoreFactory="
         + persistedSnapshotStoreFactory
         + '}';
@@ -329,6 +329,7 @@ public class RaftPartitionServer implements Managed<RaftPartitionServer>, Health
         .withSnapshotStore(persistedSnapshotStore)
         .withJournalIndexDensity(storageConfig.getJournalIndexDensity())
         .withPreallocateSegmentFiles(storageConfig.isPreallocateSegmentFiles())
+        .withCompression(storageConfig.getCompression())
         .build();
   }
 
@@ -16,19 +16,35 @@
  */
 package io.atomix.raft.protocol;
 
+import static com.google.common.base.MoreObjects.toStringHelper;
+import static com.google.common.base.Preconditions.checkNotNull;
+
 import io.atomix.raft.RaftError;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Snapshot installation response.
  *
  * <p>Install responses are sent once a snapshot installation request has been received and
- * processed. Install responses provide no additional metadata aside from indicating whether or not
- * the request was successful.
+ * processed. Aside from indicating whether or not the request was successful, the response to the
+ * initial request of a snapshot may contain the chunks which the receiver can reuse from its own
+ * latest snapshot, such that the leader does not need to send their content.
  */
 public class InstallResponse extends AbstractRaftResponse {
 
+  // a mutable map, as immutable maps cannot be serialized; null if sent by an older member
+  private final HashMap<String, Long> reusableChunks;
+
   public InstallResponse(final Status status, final RaftError error) {
+    this(status, error, Map.of());
+  }
+
+  public InstallResponse(
+      final Status status, final RaftError error, final Map<String, Long> reusableChunks) {
     super(status, error);
+    this.reusableChunks = new HashMap<>(reusableChunks);
   }
 
   /**
@@ -40,13 +56,63 @@ public class InstallResponse extends AbstractRaftResponse {
     return new Builder();
   }
 
+  /**
+   * Returns the chunks which the receiver can reuse from its latest snapshot, mapped from chunk
+   * name to checksum.
+   *
+   * @return the reusable chunks, or an empty map if there are none
+   */
+  public Map<String, Long> reusableChunks() {
+    return reusableChunks == null ? Map.of() : reusableChunks;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(getClass(), status, reusableChunks());
+  }
+
+  @Override
+  public boolean equals(final Object object) {
+    if (object instanceof final InstallResponse response) {
+      return response.status == status
+          && Objects.equals(response.error, error)
+          && response.reusableChunks().equals(reusableChunks());
+    }
+    return false;
+  }
+
+  @Override
+  public String toString() {
+    if (status == Status.OK) {
+      return toStringHelper(this)
+          .add("status", status)
+          .add("reusableChunks", reusableChunks().size())
+          .toString();
+    } else {
+      return toStringHelper(this).add("status", status).add("error", error).toString();
+    }
+  }
+
   /** Install response builder. */
   public static class Builder extends AbstractRaftResponse.Builder<Builder, InstallResponse> {
 
+    private Map<String, Long> reusableChunks = Map.of();
+
+    /**
+     * Sets the chunks which the receiver can reuse from its latest snapshot.
+     *
+     * @param reusableChunks the reusable chunks, mapped from chunk name to checksum
+     * @return The install response builder.
+     */
+    public Builder withReusableChunks(final Map<String, Long> reusableChunks) {
+      this.reusableChunks = checkNotNull(reusableChunks, "reusableChunks cannot be null");
+      return this;
+    }
+
     @Override
     public InstallResponse build() {
       validate();
-      return new InstallResponse(status, error);
+      return new InstallResponse(status, error, reusableChunks);
     }
   }
 }
@@ -44,6 +44,7 @@ import io.camunda.zeebe.snapshots.SnapshotChunk;
 import io.camunda.zeebe.snapshots.SnapshotChunkReader;
 import java.io.UncheckedIOException;
 import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -204,8 +205,12 @@ final class LeaderAppender {
 
     // Start the append to the member.
     member.startAppend();
+    metrics.observeInFlightAppends(
+        member.getMember().memberId().id(), member.getInFlightAppendCount());
 
     final long timestamp = System.currentTimeMillis();
+    // requests sent before the next index is reset are outdated, see handleAppendResponseOk
+    final long nextIndexResets = member.getNextIndexResets();
 
     log.trace("Sending {} to {}", request, member.getMember().memberId());
     raft.getProtocol()
@@ -215,16 +220,19 @@ final class LeaderAppender {
               if (open) {
                 // Complete the append to the member.
                 final long appendLatency = System.currentTimeMillis() - timestamp;
-                metrics.appendComplete(appendLatency, member.getMember().memberId().id());
+                final String memberId = member.getMember().memberId().id();
+                metrics.appendComplete(appendLatency, memberId);
                 if (!request.entries().isEmpty()) {
                   member.completeAppend(appendLatency);
+                  metrics.replicationComplete(appendLatency, memberId);
                 } else {
                   member.completeAppend();
                 }
+                metrics.observeInFlightAppends(memberId, member.getInFlightAppendCount());
 
                 if (error == null) {
                   log.trace("Received {} from {}", response, member.getMember().memberId());
-                  handleAppendResponse(member, request, response, timestamp);
+                  handleAppendResponse(member, request, response, timestamp, nextIndexResets);
                 } else {
                   handleAppendResponseFailure(member, request, error);
                 }
@@ -232,8 +240,35 @@ final class LeaderAppender {
             },
             raft.getThreadContext());
 
-    if (!request.entries().isEmpty() && hasMoreEntries(member)) {
+    if (!request.entries().isEmpty()) {
+      appendPipelined(member);
+    }
+  }
+
+  /**
+   * Sends the next append request to the member while others are still in flight, if there are more
+   * entries and the member allows it. If requests are currently too close to each other, the
+   * request is sent once enough time passed, unless the member answers earlier.
+   */
+  private void appendPipelined(final RaftMemberContext member) {
+    if (!hasMoreEntries(member) || member.getFailureCount() > 0) {
+      return;
+    }
+
+    final long delay = member.getPipelinedAppendDelay();
+    if (delay == 0) {
       appendEntries(member);
+    } else if (delay > 0 && !member.isPipelinedAppendScheduled()) {
+      member.setPipelinedAppendScheduled(true);
+      raft.getThreadContext()
+          .schedule(
+              Duration.ofMillis(delay),
+              () -> {
+                member.setPipelinedAppendScheduled(false);
+                if (open) {
+                  appendPipelined(member);
+                }
+              });
     }
   }
 
@@ -245,8 +280,12 @@ final class LeaderAppender {
 
   /** Updates the match index when a response is received. */
   private void updateMatchIndex(final RaftMemberContext member, final AppendResponse response) {
-    // If the replica returned a valid match index then update the existing match index.
-    member.setMatchIndex(response.lastLogIndex());
+    // If the replica returned a valid match index then update the existing match index. With
+    // several requests in flight, responses may arrive out of order; the match index of a term
+    // never decreases though, so an older response must not override it.
+    if (response.lastLogIndex() > member.getMatchIndex()) {
+      member.setMatchIndex(response.lastLogIndex());
+    }
     observeRemainingMemberEntries(member);
   }
 
@@ -264,6 +303,20 @@ final class LeaderAppender {
         member.getMember().memberId().id(), raft.getLog().getLastIndex() - member.getMatchIndex());
   }
 
+  /**
+   * Rolls back the next index to the first entry which was not acknowledged by the member, such
+   * that the entries of a lost request are sent again, instead of waiting for the member to reject
+   * the next request. If nothing was acknowledged yet, the member's log is unknown and the next
+   * index is left as is.
+   */
+  private void rollBackNextIndex(final RaftMemberContext member) {
+    final long nextIndex = member.getMatchIndex() + 1;
+    if (member.getMatchIndex() > 0 && member.getCurrentIndex() >= nextIndex) {
+      log.trace("Roll back next index for {} to {}", member, nextIndex);
+      resetNextIndex(member, nextIndex);
+    }
+  }
+
   /** Resets the next index when a response fails. */
   private void resetNextIndex(final RaftMemberContext member, final AppendResponse response) {
     final long nextIndex = response.lastLogIndex() + 1;
@@ -454,10 +507,21 @@ final class LeaderAppender {
 
   /** Handles an OK install response. */
   private void handleInstallResponseOk(
-      final RaftMemberContext member, final InstallRequest request) {
+      final RaftMemberContext member,
+      final InstallRequest request,
+      final InstallResponse response) {
     // Reset the member failure count and update the member's status if necessary.
     succeedAttempt(member);
 
+    // The member answers the initial request with the chunks it already has, such that the
+    // remaining chunks with a matching checksum can be sent without their content.
+    final var reusableChunks = response.reusableChunks();
+    if (request.isInitial()
+        && !reusableChunks.isEmpty()
+        && member.getNextSnapshotIndex() == request.index()) {
+      member.getSnapshotChunkReader().setReusableChunks(reusableChunks);
+    }
+
     // If the install request was completed successfully, set the member's snapshotIndex and reset
     // the next snapshot index/offset.
     if (request.complete()) {
@@ -579,6 +643,11 @@ final class LeaderAppender {
       final RaftMemberContext member, final VersionedAppendRequest request, final Throwable error) {
     failHeartbeat();
 
+    // The entries of the request may have been lost; resend them instead of continuing after them
+    if (!request.entries().isEmpty()) {
+      rollBackNextIndex(member);
+    }
+
     // Log the failed attempt to contact the member.
     failAttempt(member, request, error);
   }
@@ -622,9 +691,10 @@ final class LeaderAppender {
       final RaftMemberContext member,
       final VersionedAppendRequest request,
       final AppendResponse response,
-      final long timestamp) {
+      final long timestamp,
+      final long nextIndexResets) {
     if (response.status() == RaftResponse.Status.OK) {
-      handleAppendResponseOk(member, request, response);
+      handleAppendResponseOk(member, request, response, nextIndexResets);
     } else {
       handleAppendResponseError(member, request, response);
     }
@@ -634,7 +704,8 @@ final class LeaderAppender {
   private void handleAppendResponseOk(
       final RaftMemberContext member,
       final VersionedAppendRequest request,
-      final AppendResponse response) {
+      final AppendResponse response,
+      final long nextIndexResets) {
     // Reset the member failure count and update the member's availability status if necessary.
     succeedAttempt(member);
 
@@ -665,6 +736,19 @@ final class LeaderAppender {
       raft.setLeader(null);
       raft.transition(RaftServer.Role.FOLLOWER);
     }
+    // If the next index was reset since the request was sent, e.g. because an earlier request of
+    // the pipeline was rejected, the request was based on an outdated next index, and was most
+    // likely rejected for the same reason. Resetting again would only send the same entries twice.
+    else if (nextIndexResets != member.getNextIndexResets()) {
+      log.trace(
+          "Ignoring rejected {} from {}, as the next index was reset since it was sent",
+          request,
+          member.getMember().memberId());
+
+      if (hasMoreEntries(member)) {
+        appendEntries(member);
+      }
+    }
     // If the response failed, the follower should have provided the correct last index in their
     // log. This helps
     // us converge on the matchIndex faster than by simply decrementing nextIndex one index at a
@@ -786,7 +870,7 @@ final class LeaderAppender {
       final InstallResponse response,
       final long timestamp) {
     if (response.status() == RaftResponse.Status.OK) {
-      handleInstallResponseOk(member, request);
+      handleInstallResponseOk(member, request, response);
     } else {
       handleInstallResponseError(member, request, response);
     }
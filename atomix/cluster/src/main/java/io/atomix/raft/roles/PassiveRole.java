@@ -256,8 +256,13 @@ public class PassiveRole extends InactiveRole {
       setNextExpected(request.nextChunkId());
     }
 
-    return CompletableFuture.completedFuture(
-        logResponse(InstallResponse.builder().withStatus(RaftResponse.Status.OK).build()));
+    final var response = InstallResponse.builder().withStatus(RaftResponse.Status.OK);
+    if (request.isInitial() && !request.complete()) {
+      // let the leader know which of the remaining chunks we already have, so it can skip their
+      // content
+      response.withReusableChunks(pendingSnapshot.getReusableChunks());
+    }
+    return CompletableFuture.completedFuture(logResponse(response.build()));
   }
 
   @Override
@@ -533,11 +538,17 @@ public class PassiveRole extends InactiveRole {
       log.trace("Committed entries up to index {}", commitIndex);
     }
 
-    // Make sure all entries are flushed before ack to ensure we have persisted what we acknowledge
-    flush(lastLogIndex, request.prevLogIndex());
-
-    // Return a successful append response.
-    succeedAppend(lastLogIndex, future);
+    // Make sure all entries are flushed before ack to ensure we have persisted what we acknowledge.
+    // Depending on the flusher, the flush of several appends may be grouped, in which case the
+    // response is only sent once all of them are flushed. This includes requests without new
+    // entries, e.g. heartbeats, as the acknowledged index may cover entries of previous requests
+    // whose flush is still pending.
+    final long appendedIndex = lastLogIndex;
+    if (lastLogIndex > request.prevLogIndex()) {
+      raft.getLog().flush(() -> succeedAppend(appendedIndex, future));
+    } else {
+      raft.getLog().afterPendingFlushes(() -> succeedAppend(appendedIndex, future));
+    }
   }
 
   private void flush(final long lastFlushedIndex, final long previousEntryIndex) {
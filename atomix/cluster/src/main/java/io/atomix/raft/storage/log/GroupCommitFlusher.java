@@ -0,0 +1,217 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.atomix.raft.storage.log;
+
+import io.atomix.utils.concurrent.Scheduled;
+import io.atomix.utils.concurrent.Scheduler;
+import io.atomix.utils.concurrent.ThreadContext;
+import io.camunda.zeebe.journal.Journal;
+import io.camunda.zeebe.journal.JournalException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An implementation of {@link RaftLogFlusher} which groups the flushes of several appends into a
+ * single flush, without giving up on durability. Calls to {@link #flush(Journal, Runnable)} are
+ * collected until either the given window elapsed since the first of them, or the given number of
+ * calls is pending. The journal is then flushed once, asynchronously, and only afterwards are the
+ * callbacks of all collected calls executed, i.e. appends are only acknowledged once they are on
+ * disk.
+ *
+ * <p>Calls to {@link #flush(Journal)} are not grouped, but flush synchronously as {@link
+ * RaftLogFlusher.DirectFlusher} does, since the caller expects the data to be on disk when it
+ * returns, e.g. the leader before committing.
+ *
+ * <p>Calls to {@link #afterPendingFlushes(Runnable)} don't request a flush, but their callbacks are
+ * executed together with those of the pending or ongoing flush, if there is one, such that nothing
+ * is acknowledged before it is on disk.
+ *
+ * <p>Callbacks are executed on the thread context which registered them, or on the flushing thread
+ * if the caller is not running on a thread context. They are executed in the order in which they
+ * were registered. If the flusher is closed, pending callbacks are dropped, as their data may not
+ * have been flushed.
+ *
+ * <p>Compared to {@link DelayedFlusher}, this trades some latency for throughput: the more appends
+ * arrive within a window, the fewer flushes are necessary.
+ */
+public final class GroupCommitFlusher implements RaftLogFlusher {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(GroupCommitFlusher.class);
+  private final Scheduler scheduler;
+  private final Duration maxDelay;
+  private final int maxPendingFlushes;
+
+  private final Object pendingMonitor = new Object();
+  private List<Runnable> pendingCallbacks = new ArrayList<>();
+  // the callbacks of the ongoing flush, or null if the journal is not being flushed
+  private List<Runnable> flushingCallbacks;
+  private Scheduled scheduledFlush;
+  private boolean flushImmediately;
+
+  private boolean closed;
+
+  /**
+   * @param scheduler the scheduler used to flush asynchronously
+   * @param maxDelay the maximum time a call is kept pending before the journal is flushed
+   * @param maxPendingFlushes the number of pending calls after which the journal is flushed without
+   *     waiting for the delay to elapse
+   */
+  public GroupCommitFlusher(
+      final Scheduler scheduler, final Duration maxDelay, final int maxPendingFlushes) {
+    this.scheduler = Objects.requireNonNull(scheduler, "must specify a scheduler");
+    this.maxDelay = Objects.requireNonNull(maxDelay, "must specify a valid flush delay");
+    if (maxPendingFlushes < 1) {
+      throw new IllegalArgumentException(
+          "Expected max pending flushes to be at least 1, but was " + maxPendingFlushes);
+    }
+    this.maxPendingFlushes = maxPendingFlushes;
+  }
+
+  @Override
+  public void flush(final Journal journal) {
+    journal.flush();
+  }
+
+  @Override
+  public void flush(final Journal journal, final Runnable onFlushed) {
+    final Runnable callback = bindToCurrentContext(onFlushed);
+
+    synchronized (pendingMonitor) {
+      if (closed) {
+        LOGGER.debug("Skipped scheduling flush due to flusher being closed");
+        return;
+      }
+
+      pendingCallbacks.add(callback);
+      if (scheduledFlush == null) {
+        LOGGER.trace(
+            "Scheduling group commit in {} up to index {}", maxDelay, journal.getLastIndex());
+        scheduledFlush = scheduler.schedule(maxDelay, () -> asyncFlush(journal));
+      } else if (pendingCallbacks.size() >= maxPendingFlushes && !flushImmediately) {
+        LOGGER.trace("Flushing early as {} flushes are pending", pendingCallbacks.size());
+        scheduledFlush.cancel();
+        scheduledFlush = scheduler.schedule(Duration.ZERO, () -> asyncFlush(journal));
+        flushImmediately = true;
+      }
+    }
+  }
+
+  @Override
+  public void afterPendingFlushes(final Runnable onFlushed) {
+    final Runnable callback = bindToCurrentContext(onFlushed);
+
+    synchronized (pendingMonitor) {
+      if (closed) {
+        LOGGER.debug("Skipped waiting for pending flushes due to flusher being closed");
+        return;
+      }
+
+      // anything written since the ongoing flush started has a pending callback, so whatever the
+      // caller wants to acknowledge is covered by the pending flush, or else the ongoing one
+      if (!pendingCallbacks.isEmpty()) {
+        pendingCallbacks.add(callback);
+        return;
+      } else if (flushingCallbacks != null) {
+        flushingCallbacks.add(callback);
+        return;
+      }
+    }
+
+    onFlushed.run();
+  }
+
+  @Override
+  public void close() {
+    synchronized (pendingMonitor) {
+      closed = true;
+      pendingCallbacks.clear();
+
+      if (scheduledFlush != null) {
+        scheduledFlush.cancel();
+        scheduledFlush = null;
+      }
+    }
+
+    scheduler.close();
+  }
+
+  private void asyncFlush(final Journal journal) {
+    final List<Runnable> callbacks;
+    synchronized (pendingMonitor) {
+      scheduledFlush = null;
+      flushImmediately = false;
+      callbacks = pendingCallbacks;
+      pendingCallbacks = new ArrayList<>();
+      flushingCallbacks = callbacks;
+    }
+
+    // everything which was written before the callbacks were registered is covered by this flush
+    LOGGER.trace("Flushing journal for {} grouped appends", callbacks.size());
+
+    try {
+      journal.flush();
+    } catch (final JournalException | UncheckedIOException e) {
+      LOGGER.warn("Failed to flush journal, operation will be retried after {}", maxDelay, e);
+      retryFlush(journal, callbacks);
+      return;
+    }
+
+    // no callback is added once the flush is over, so they can be executed outside the monitor
+    synchronized (pendingMonitor) {
+      flushingCallbacks = null;
+    }
+    callbacks.forEach(Runnable::run);
+  }
+
+  private void retryFlush(final Journal journal, final List<Runnable> callbacks) {
+    synchronized (pendingMonitor) {
+      flushingCallbacks = null;
+      if (closed) {
+        LOGGER.debug("Skipped retrying flush due to flusher being closed");
+        return;
+      }
+
+      callbacks.addAll(pendingCallbacks);
+      pendingCallbacks = callbacks;
+      if (scheduledFlush != null) {
+        scheduledFlush.cancel();
+      }
+
+      flushImmediately = false;
+      scheduledFlush = scheduler.schedule(maxDelay, () -> asyncFlush(journal));
+    }
+  }
+
+  private static Runnable bindToCurrentContext(final Runnable callback) {
+    final ThreadContext context = ThreadContext.currentContext();
+    if (context == null) {
+      return callback;
+    }
+
+    return () -> context.execute(callback);
+  }
+
+  @Override
+  public String toString() {
+    return "GroupCommitFlusher{"
+        + "scheduler="
+        + scheduler
+        + ", maxDelay="
+        + maxDelay
+        + ", maxPendingFlushes="
+        + maxPendingFlushes
+        + ", scheduledFlush="
+        + scheduledFlush
+        + '}';
+  }
+}
@@ -193,6 +193,29 @@ public final class RaftLog implements Closeable {
     flusher.flush(journal);
   }
 
+  /**
+   * Flushes the underlying journal using the configured flushing strategy, and executes the given
+   * callback once the data appended so far is flushed. Depending on the strategy, the callback may
+   * be executed asynchronously. For guarantees, refer to the configured {@link RaftLogFlusher}.
+   *
+   * @param onFlushed the callback to execute once the data is flushed
+   */
+  public void flush(final Runnable onFlushed) {
+    flusher.flush(journal, onFlushed);
+  }
+
+  /**
+   * Executes the given callback once all data whose flush was requested via {@link
+   * #flush(Runnable)} is flushed, without requesting a flush itself. Depending on the strategy, the
+   * callback may be executed asynchronously. For guarantees, refer to the configured {@link
+   * RaftLogFlusher}.
+   *
+   * @param onFlushed the callback to execute once the pending data is flushed
+   */
+  public void afterPendingFlushes(final Runnable onFlushed) {
+    flusher.afterPendingFlushes(onFlushed);
+  }
+
   /**
    * Flushes the underlying journal in a blocking, synchronous way. When this returns, it is
    * guaranteed that any appended data since the last flush is persisted on disk.
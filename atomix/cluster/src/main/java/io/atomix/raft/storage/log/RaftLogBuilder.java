@@ -21,6 +21,7 @@ import io.camunda.zeebe.journal.Journal;
 import io.camunda.zeebe.journal.JournalMetaStore;
 import io.camunda.zeebe.journal.file.SegmentedJournal;
 import io.camunda.zeebe.journal.file.SegmentedJournalBuilder;
+import io.camunda.zeebe.journal.record.RecordCompression;
 import java.io.File;
 
 public class RaftLogBuilder implements io.atomix.utils.Builder<RaftLog> {
@@ -126,6 +127,18 @@ public class RaftLogBuilder implements io.atomix.utils.Builder<RaftLog> {
     return this;
   }
 
+  /**
+   * Sets the compression applied to the data of new entries. Existing entries can always be read,
+   * independently of this setting.
+   *
+   * @param compression the compression of new entries
+   * @return this builder for chaining
+   */
+  public RaftLogBuilder withCompression(final RecordCompression compression) {
+    journalBuilder.withCompression(compression);
+    return this;
+  }
+
   /**
    * The ID of the partition on which this log resides.
    *
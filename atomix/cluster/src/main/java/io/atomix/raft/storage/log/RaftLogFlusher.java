@@ -27,6 +27,11 @@ import io.camunda.zeebe.util.CloseableSilently;
  * you still wish a lower likelihood of corruption issues than with {@link NoopFlusher}. The
  * recommended configuration would be to find the smallest possible delay with which you achieve
  * your performance goals.
+ *
+ * <p>{@link GroupCommitFlusher} is a trade-off between performance and safety which does not give
+ * up on durability: appends are only acknowledged once they are flushed, but the flushes of several
+ * appends which arrive within a short window are grouped into one. You should pick this if the
+ * flushes of {@link DirectFlusher} are the bottleneck, e.g. on slower disks.
  */
 @FunctionalInterface
 public interface RaftLogFlusher extends CloseableSilently {
@@ -39,6 +44,37 @@ public interface RaftLogFlusher extends CloseableSilently {
    */
   void flush(final Journal journal);
 
+  /**
+   * Signals that there is data to be flushed in the journal, and that the given callback should be
+   * executed once it is flushed, e.g. to acknowledge the data. Implementations may group several
+   * calls into a single flush, and execute the callback asynchronously.
+   *
+   * <p>By default, this calls {@link #flush(Journal)} and then immediately executes the callback on
+   * the calling thread, i.e. the callback has the same guarantees as {@link #flush(Journal)}.
+   *
+   * @param journal the journal to flush
+   * @param onFlushed the callback to execute once the data is flushed
+   */
+  default void flush(final Journal journal, final Runnable onFlushed) {
+    flush(journal);
+    onFlushed.run();
+  }
+
+  /**
+   * Executes the given callback once the data of all previous calls to {@link #flush(Journal,
+   * Runnable)} is flushed, without flushing anything by itself. This is meant to acknowledge data
+   * which was flushed before, e.g. when a follower receives a heartbeat, without acknowledging data
+   * whose flush is still pending.
+   *
+   * <p>By default, this executes the callback immediately on the calling thread, as the data is
+   * then already flushed as far as this implementation guarantees it.
+   *
+   * @param onFlushed the callback to execute once the pending data is flushed
+   */
+  default void afterPendingFlushes(final Runnable onFlushed) {
+    onFlushed.run();
+  }
+
   /**
    * If this returns true, then any calls to {@link #flush(Journal)} are synchronous and immediate,
    * and any guarantees offered by the implementation will hold after a call to {@link
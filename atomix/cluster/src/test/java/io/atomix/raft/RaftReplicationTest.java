@@ -18,6 +18,7 @@ package io.atomix.raft;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import io.atomix.raft.RaftServer.Role;
+import io.atomix.raft.snapshot.InMemorySnapshot;
 import java.util.stream.Collectors;
 import org.awaitility.Awaitility;
 import org.junit.Rule;
@@ -116,6 +117,33 @@ public class RaftReplicationTest {
         .isEqualTo(snapshotIndex);
   }
 
+  @Test
+  public void shouldReuseSnapshotChunksPresentOnFollower() throws Exception {
+    // given - all members share a snapshot
+    final var leader = raftRule.getLeader().orElseThrow();
+    final var follower = raftRule.getFollower().orElseThrow();
+
+    final var firstSnapshotIndex = raftRule.appendEntries(20);
+    raftRule.awaitSameLogSizeOnAllNodes(firstSnapshotIndex);
+    raftRule.doSnapshot(firstSnapshotIndex, 3);
+
+    // when - the leader takes a new snapshot which contains the chunks of the previous one
+    raftRule.partition(follower);
+    final var lastCommitIndex = raftRule.appendEntries(20);
+    final var snapshotIndex = lastCommitIndex - 5;
+    raftRule.doSnapshotOnMember(leader, snapshotIndex, 4);
+
+    raftRule.reconnect(follower);
+
+    // then - follower received the snapshot, but only the content of the unknown chunks
+    raftRule.awaitSameLogSizeOnAllNodes(lastCommitIndex);
+    final var receivedSnapshot = (InMemorySnapshot) raftRule.getSnapshotOnNode(follower.name());
+    assertThat(receivedSnapshot.getIndex()).isEqualTo(snapshotIndex);
+    assertThat(receivedSnapshot).isEqualTo(raftRule.getSnapshotFromLeader());
+    // the initial chunk is sent before the follower could advertise its chunks
+    assertThat(receivedSnapshot.getReusedChunks()).containsExactlyInAnyOrder("chunk-1", "chunk-2");
+  }
+
   @Test
   // Regression test for https://github.com/camunda/zeebe/issues/9820
   public void shouldNotGetStuckInSnapshotReplicationLoop() throws Exception {
@@ -0,0 +1,106 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.atomix.raft.cluster.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import io.atomix.cluster.MemberId;
+import io.atomix.raft.cluster.RaftMember.Type;
+import java.time.Instant;
+import org.junit.jupiter.api.Test;
+
+final class RaftMemberContextTest {
+
+  private final RaftMemberContext member =
+      new RaftMemberContext(
+          new DefaultRaftMember(MemberId.from("1"), Type.ACTIVE, Instant.now()),
+          mock(RaftClusterContext.class),
+          2);
+
+  @Test
+  void shouldAppendIfNothingIsInFlight() {
+    // then
+    assertThat(member.getPipelinedAppendDelay()).isZero();
+    assertThat(member.canAppend()).isTrue();
+  }
+
+  @Test
+  void shouldNotPipelineWithoutLatencySample() {
+    // given
+    member.appendSucceeded();
+
+    // when
+    member.startAppend();
+
+    // then
+    assertThat(member.getPipelinedAppendDelay()).isEqualTo(-1);
+    assertThat(member.canAppend()).isFalse();
+  }
+
+  @Test
+  void shouldSpreadPipelinedAppendsOverLatency() {
+    // given
+    member.appendSucceeded();
+    member.startAppend();
+    member.completeAppend(10_000);
+
+    // when
+    member.startAppend();
+
+    // then
+    assertThat(member.getPipelinedAppendDelay()).isBetween(1L, 5_000L);
+    assertThat(member.canAppend()).isFalse();
+  }
+
+  @Test
+  void shouldPipelineOnceDelayElapsed() {
+    // given
+    member.appendSucceeded();
+    member.startAppend();
+    member.completeAppend(0);
+
+    // when
+    member.startAppend();
+
+    // then
+    assertThat(member.getPipelinedAppendDelay()).isZero();
+    assertThat(member.canAppend()).isTrue();
+    assertThat(member.getInFlightAppendCount()).isOne();
+  }
+
+  @Test
+  void shouldNotPipelineMoreThanMaxAppends() {
+    // given
+    member.appendSucceeded();
+    member.startAppend();
+    member.completeAppend(0);
+
+    // when
+    member.startAppend();
+    member.startAppend();
+
+    // then
+    assertThat(member.getPipelinedAppendDelay()).isEqualTo(-1);
+    assertThat(member.getInFlightAppendCount()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldNotPipelineAfterFailedAppend() {
+    // given
+    member.startAppend();
+    member.completeAppend(0);
+    member.appendFailed();
+
+    // when
+    member.startAppend();
+
+    // then
+    assertThat(member.getPipelinedAppendDelay()).isEqualTo(-1);
+  }
+}
@@ -17,6 +17,8 @@ package io.atomix.raft.roles;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -33,20 +35,29 @@ import io.atomix.raft.protocol.ProtocolVersionHandler;
 import io.atomix.raft.protocol.ReplicatableJournalRecord;
 import io.atomix.raft.protocol.VersionedAppendRequest;
 import io.atomix.raft.storage.RaftStorage;
+import io.atomix.raft.storage.log.GroupCommitFlusher;
 import io.atomix.raft.storage.log.IndexedRaftLogEntry;
 import io.atomix.raft.storage.log.RaftLog;
+import io.atomix.utils.concurrent.Scheduled;
+import io.atomix.utils.concurrent.Scheduler;
+import io.camunda.zeebe.journal.Journal;
 import io.camunda.zeebe.journal.JournalException;
 import io.camunda.zeebe.journal.JournalException.InvalidChecksum;
 import io.camunda.zeebe.snapshots.PersistedSnapshot;
 import io.camunda.zeebe.snapshots.ReceivableSnapshotStore;
 import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import org.junit.Before;
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.Timeout;
+import org.mockito.ArgumentCaptor;
 
 public class PassiveRoleTest {
 
@@ -61,6 +72,12 @@ public class PassiveRoleTest {
 
     log = mock(RaftLog.class);
     when(log.flushesDirectly()).thenReturn(true);
+    doAnswer(invocation -> runCallback(invocation.getArgument(0)))
+        .when(log)
+        .flush(any(Runnable.class));
+    doAnswer(invocation -> runCallback(invocation.getArgument(0)))
+        .when(log)
+        .afterPendingFlushes(any(Runnable.class));
     when(ctx.getLog()).thenReturn(log);
 
     final PersistedSnapshot snapshot = mock(PersistedSnapshot.class);
@@ -131,10 +148,39 @@ public class PassiveRoleTest {
         role.handleAppend(ProtocolVersionHandler.transform(request)).join();
 
     // then
-    verify(log, times(1)).flush();
+    verify(log, times(1)).flush(any(Runnable.class));
     assertThat(response.lastLogIndex()).isEqualTo(2);
   }
 
+  @Test
+  public void shouldAcknowledgeAppendOnlyAfterFlush() {
+    // given
+    final var entries = List.of(new ReplicatableJournalRecord(1, 1, 1, new byte[1]));
+    final VersionedAppendRequest request =
+        VersionedAppendRequest.builder()
+            .withTerm(1)
+            .withLeader(MemberId.anonymous())
+            .withPrevLogTerm(0)
+            .withPrevLogIndex(0)
+            .withEntries(entries)
+            .withCommitIndex(1)
+            .build();
+
+    final ArgumentCaptor<Runnable> onFlushed = ArgumentCaptor.forClass(Runnable.class);
+    doNothing().when(log).flush(onFlushed.capture());
+    when(log.append(any(ReplicatableJournalRecord.class)))
+        .thenReturn(mock(IndexedRaftLogEntry.class));
+
+    // when
+    final CompletableFuture<AppendResponse> response =
+        role.handleAppend(ProtocolVersionHandler.transform(request));
+
+    // then
+    assertThat(response).isNotDone();
+    onFlushed.getValue().run();
+    assertThat(response.join().lastLogIndex()).isOne();
+  }
+
   @Test
   public void shouldFlushAfterPartiallyAppendedRequest() {
     // given
@@ -188,6 +234,7 @@ public class PassiveRoleTest {
 
     // then
     verify(log, never()).flush();
+    verify(log, never()).flush(any(Runnable.class));
     assertThat(response.lastLogIndex()).isZero();
   }
 
@@ -237,4 +284,85 @@ public class PassiveRoleTest {
     // then
     assertThat(response.succeeded()).isTrue();
   }
+
+  @Test
+  public void shouldNotAcknowledgeUnflushedEntriesOnHeartbeat() {
+    // given - a group commit flusher, which flushes only when the scheduled operation is run
+    final List<Runnable> scheduledFlushes = new ArrayList<>();
+    final Scheduler scheduler = mock(Scheduler.class);
+    when(scheduler.schedule(any(Duration.class), any(Runnable.class)))
+        .thenAnswer(
+            invocation -> {
+              scheduledFlushes.add(invocation.getArgument(1));
+              return mock(Scheduled.class);
+            });
+    final GroupCommitFlusher flusher = new GroupCommitFlusher(scheduler, Duration.ofSeconds(1), 10);
+    final Journal journal = mock(Journal.class);
+    final AtomicLong appendedIndex = new AtomicLong();
+    final AtomicLong flushedIndex = new AtomicLong();
+    doAnswer(invocation -> runCallback(() -> flushedIndex.set(appendedIndex.get())))
+        .when(journal)
+        .flush();
+    doAnswer(invocation -> runCallback(() -> flusher.flush(journal, invocation.getArgument(0))))
+        .when(log)
+        .flush(any(Runnable.class));
+    doAnswer(
+            invocation -> runCallback(() -> flusher.afterPendingFlushes(invocation.getArgument(0))))
+        .when(log)
+        .afterPendingFlushes(any(Runnable.class));
+
+    final IndexedRaftLogEntry entry = mock(IndexedRaftLogEntry.class);
+    when(entry.index()).thenReturn(1L);
+    when(entry.term()).thenReturn(1L);
+    when(log.append(any(ReplicatableJournalRecord.class)))
+        .thenAnswer(
+            invocation -> {
+              appendedIndex.set(1);
+              when(log.getLastEntry()).thenReturn(entry);
+              when(log.getLastIndex()).thenReturn(1L);
+              return entry;
+            });
+
+    final CompletableFuture<AppendResponse> appendResponse =
+        role.handleAppend(
+            ProtocolVersionHandler.transform(
+                VersionedAppendRequest.builder()
+                    .withTerm(1)
+                    .withLeader(MemberId.anonymous())
+                    .withPrevLogTerm(0)
+                    .withPrevLogIndex(0)
+                    .withEntries(List.of(new ReplicatableJournalRecord(1, 1, 1, new byte[1])))
+                    .withCommitIndex(0)
+                    .build()));
+
+    // when - a heartbeat arrives while the flush of the entry is pending
+    final CompletableFuture<AppendResponse> heartbeatResponse =
+        role.handleAppend(
+            ProtocolVersionHandler.transform(
+                VersionedAppendRequest.builder()
+                    .withTerm(1)
+                    .withLeader(MemberId.anonymous())
+                    .withPrevLogTerm(1)
+                    .withPrevLogIndex(1)
+                    .withEntries(List.of())
+                    .withCommitIndex(0)
+                    .build()));
+
+    // then
+    assertThat(appendResponse).isNotDone();
+    assertThat(heartbeatResponse).isNotDone();
+
+    scheduledFlushes.forEach(Runnable::run);
+    assertThat(flushedIndex).hasValue(1);
+    assertThat(appendResponse.join().lastLogIndex()).isLessThanOrEqualTo(flushedIndex.get());
+    assertThat(heartbeatResponse.join().succeeded()).isTrue();
+    assertThat(heartbeatResponse.join().lastLogIndex())
+        .isEqualTo(1)
+        .isLessThanOrEqualTo(flushedIndex.get());
+  }
+
+  private static Void runCallback(final Runnable callback) {
+    callback.run();
+    return null;
+  }
 }
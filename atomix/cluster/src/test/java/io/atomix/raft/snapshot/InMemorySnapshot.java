@@ -28,8 +28,12 @@ import io.camunda.zeebe.util.StringUtil;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import java.nio.ByteBuffer;
 import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Objects;
+import java.util.Set;
 import java.util.TreeMap;
 import java.util.zip.CRC32C;
 import java.util.zip.Checksum;
@@ -43,11 +47,17 @@ public class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapshot {
   private final String id;
   private final NavigableMap<String, String> chunks = new TreeMap<>();
   private final Checksum checksumCalculator = new CRC32C();
+  private final InMemorySnapshot baseSnapshot;
+  private final Set<String> reusedChunks = new HashSet<>();
 
   private long checksum;
 
-  InMemorySnapshot(final TestSnapshotStore testSnapshotStore, final String snapshotId) {
+  InMemorySnapshot(
+      final TestSnapshotStore testSnapshotStore,
+      final String snapshotId,
+      final InMemorySnapshot baseSnapshot) {
     this.testSnapshotStore = testSnapshotStore;
+    this.baseSnapshot = baseSnapshot;
     id = snapshotId;
     final var parts = snapshotId.split("-");
     index = Long.parseLong(parts[0]);
@@ -56,6 +66,7 @@ public class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapshot {
 
   InMemorySnapshot(final TestSnapshotStore testSnapshotStore, final long index, final long term) {
     this.testSnapshotStore = testSnapshotStore;
+    baseSnapshot = null;
     this.index = index;
     this.term = term;
     id = String.format("%d-%d", index, term);
@@ -76,6 +87,17 @@ public class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapshot {
     checksumCalculator.update(chunk);
   }
 
+  /** Returns the names of the chunks which were taken over from the base snapshot. */
+  public Set<String> getReusedChunks() {
+    return reusedChunks;
+  }
+
+  private static long checksum(final String content) {
+    final var checksum = new CRC32C();
+    checksum.update(StringUtil.getBytes(content));
+    return checksum.getValue();
+  }
+
   @Override
   public int version() {
     return 1;
@@ -95,6 +117,7 @@ public class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapshot {
   public SnapshotChunkReader newChunkReader() {
     return new SnapshotChunkReader() {
       private NavigableMap<String, String> iterator = chunks;
+      private Map<String, Long> reusableChunks = Map.of();
 
       @Override
       public void seek(final ByteBuffer id) {
@@ -110,6 +133,11 @@ public class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapshot {
         return ByteBuffer.wrap(iterator.firstEntry().getKey().getBytes());
       }
 
+      @Override
+      public void setReusableChunks(final Map<String, Long> reusableChunks) {
+        this.reusableChunks = Map.copyOf(reusableChunks);
+      }
+
       @Override
       public void close() {
         iterator = null;
@@ -124,8 +152,11 @@ public class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapshot {
       public SnapshotChunk next() {
         final var nextEntry = iterator.firstEntry();
         iterator = chunks.tailMap(nextEntry.getKey(), false);
+        final var checksum = checksum(nextEntry.getValue());
+        final var reused = Objects.equals(reusableChunks.get(nextEntry.getKey()), checksum);
+        final var content = reused ? new byte[0] : StringUtil.getBytes(nextEntry.getValue());
         return new TestSnapshotChunkImpl(
-            id, nextEntry.getKey(), StringUtil.getBytes(nextEntry.getValue()), chunks.size());
+            id, nextEntry.getKey(), content, chunks.size(), checksum, reused);
       }
     };
   }
@@ -170,9 +201,31 @@ public class InMemorySnapshot implements PersistedSnapshot, ReceivedSnapshot {
     return index;
   }
 
+  @Override
+  public Map<String, Long> getReusableChunks() {
+    if (baseSnapshot == null) {
+      return Map.of();
+    }
+
+    final var reusableChunks = new HashMap<String, Long>();
+    baseSnapshot.chunks.forEach((name, content) -> reusableChunks.put(name, checksum(content)));
+    return reusableChunks;
+  }
+
   @Override
   public ActorFuture<Void> apply(final SnapshotChunk chunk) {
-    chunks.put(chunk.getChunkName(), StringUtil.fromBytes(chunk.getContent()));
+    if (chunk.isReused()) {
+      final var content =
+          baseSnapshot == null ? null : baseSnapshot.chunks.get(chunk.getChunkName());
+      if (content == null || checksum(content) != chunk.getChecksum()) {
+        return CompletableActorFuture.completedExceptionally(
+            new IllegalStateException("Cannot reuse unknown chunk " + chunk.getChunkName()));
+      }
+      chunks.put(chunk.getChunkName(), content);
+      reusedChunks.add(chunk.getChunkName());
+    } else {
+      chunks.put(chunk.getChunkName(), StringUtil.fromBytes(chunk.getContent()));
+    }
     return CompletableActorFuture.completed(null);
   }
 
@@ -23,13 +23,22 @@ class TestSnapshotChunkImpl implements SnapshotChunk {
   final String chunkName;
   private final byte[] content;
   private final String snapshotId;
+  private final long checksum;
+  private final boolean reused;
 
   TestSnapshotChunkImpl(
-      final String snapshotId, final String chunkName, final byte[] content, final int totalCount) {
+      final String snapshotId,
+      final String chunkName,
+      final byte[] content,
+      final int totalCount,
+      final long checksum,
+      final boolean reused) {
     this.content = content;
     this.snapshotId = snapshotId;
     this.totalCount = totalCount;
     this.chunkName = chunkName;
+    this.checksum = checksum;
+    this.reused = reused;
   }
 
   @Override
@@ -49,7 +58,7 @@ class TestSnapshotChunkImpl implements SnapshotChunk {
 
   @Override
   public long getChecksum() {
-    return 0;
+    return checksum;
   }
 
   @Override
@@ -61,4 +70,9 @@ class TestSnapshotChunkImpl implements SnapshotChunk {
   public long getSnapshotChecksum() {
     return 0;
   }
+
+  @Override
+  public boolean isReused() {
+    return reused;
+  }
 }
@@ -101,7 +101,7 @@ public class TestSnapshotStore implements ReceivableSnapshotStore {
 
   @Override
   public ReceivedSnapshot newReceivedSnapshot(final String snapshotId) {
-    final var newSnapshot = new InMemorySnapshot(this, snapshotId);
+    final var newSnapshot = new InMemorySnapshot(this, snapshotId, currentPersistedSnapshot.get());
     receivedSnapshots.add(newSnapshot);
     return newSnapshot;
   }
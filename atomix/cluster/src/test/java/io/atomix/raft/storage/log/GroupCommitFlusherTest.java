@@ -0,0 +1,256 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.atomix.raft.storage.log;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.atomix.utils.concurrent.Scheduled;
+import io.atomix.utils.concurrent.Scheduler;
+import io.camunda.zeebe.journal.Journal;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.CloseHelper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+final class GroupCommitFlusherTest {
+  private final TestScheduler scheduler = new TestScheduler();
+  private final GroupCommitFlusher flusher =
+      new GroupCommitFlusher(scheduler, Duration.ofMillis(5), 3);
+  private final Journal journal = Mockito.mock(Journal.class);
+  private final List<Integer> acknowledged = new ArrayList<>();
+
+  @AfterEach
+  void afterEach() {
+    CloseHelper.quietClose(flusher);
+  }
+
+  @Test
+  void shouldFlushSynchronouslyWithoutCallback() {
+    // when
+    flusher.flush(journal);
+
+    // then
+    Mockito.verify(journal, Mockito.times(1)).flush();
+    assertThat(scheduler.operations).isEmpty();
+  }
+
+  @Test
+  void shouldNotAcknowledgeBeforeFlush() {
+    // when
+    flusher.flush(journal, () -> acknowledged.add(1));
+
+    // then
+    assertThat(scheduler.operations).hasSize(1);
+    assertThat(scheduler.operations.get(0).delay).isEqualTo(Duration.ofMillis(5));
+    assertThat(acknowledged).isEmpty();
+    Mockito.verify(journal, Mockito.never()).flush();
+  }
+
+  @Test
+  void shouldGroupFlushesWithinWindow() {
+    // given
+    flusher.flush(journal, () -> acknowledged.add(1));
+    flusher.flush(journal, () -> acknowledged.add(2));
+
+    // when
+    scheduler.runNext();
+
+    // then
+    Mockito.verify(journal, Mockito.times(1)).flush();
+    assertThat(acknowledged).containsExactly(1, 2);
+    assertThat(scheduler.operations).isEmpty();
+  }
+
+  @Test
+  void shouldFlushImmediatelyWhenMaxPendingFlushesIsReached() {
+    // given
+    flusher.flush(journal, () -> acknowledged.add(1));
+    flusher.flush(journal, () -> acknowledged.add(2));
+
+    // when
+    flusher.flush(journal, () -> acknowledged.add(3));
+
+    // then
+    assertThat(scheduler.operations).hasSize(2);
+    assertThat(scheduler.operations.get(0).cancelled).isTrue();
+    assertThat(scheduler.operations.get(1).delay).isZero();
+
+    scheduler.operations.remove(0);
+    scheduler.runNext();
+    Mockito.verify(journal, Mockito.times(1)).flush();
+    assertThat(acknowledged).containsExactly(1, 2, 3);
+  }
+
+  @Test
+  void shouldAcknowledgeLaterFlushesWithNextGroup() {
+    // given
+    flusher.flush(journal, () -> acknowledged.add(1));
+    scheduler.runNext();
+
+    // when
+    flusher.flush(journal, () -> acknowledged.add(2));
+
+    // then
+    assertThat(acknowledged).containsExactly(1);
+    scheduler.runNext();
+    assertThat(acknowledged).containsExactly(1, 2);
+    Mockito.verify(journal, Mockito.times(2)).flush();
+  }
+
+  @Test
+  void shouldAcknowledgeImmediatelyIfNoFlushIsPending() {
+    // when
+    flusher.afterPendingFlushes(() -> acknowledged.add(1));
+
+    // then
+    assertThat(acknowledged).containsExactly(1);
+    assertThat(scheduler.operations).isEmpty();
+    Mockito.verify(journal, Mockito.never()).flush();
+  }
+
+  @Test
+  void shouldAcknowledgeAfterPendingFlush() {
+    // given
+    flusher.flush(journal, () -> acknowledged.add(1));
+
+    // when
+    flusher.afterPendingFlushes(() -> acknowledged.add(2));
+
+    // then
+    assertThat(acknowledged).isEmpty();
+    assertThat(scheduler.operations).hasSize(1);
+    scheduler.runNext();
+    assertThat(acknowledged).containsExactly(1, 2);
+    Mockito.verify(journal, Mockito.times(1)).flush();
+  }
+
+  @Test
+  void shouldAcknowledgeAfterOngoingFlush() {
+    // given
+    final List<Runnable> duringFlush = new ArrayList<>();
+    Mockito.doAnswer(
+            invocation -> {
+              duringFlush.forEach(Runnable::run);
+              return null;
+            })
+        .when(journal)
+        .flush();
+    flusher.flush(journal, () -> acknowledged.add(1));
+    duringFlush.add(() -> flusher.afterPendingFlushes(() -> acknowledged.add(2)));
+    duringFlush.add(() -> assertThat(acknowledged).isEmpty());
+
+    // when
+    scheduler.runNext();
+
+    // then
+    assertThat(acknowledged).containsExactly(1, 2);
+    assertThat(scheduler.operations).isEmpty();
+  }
+
+  @Test
+  void shouldNotAcknowledgeAfterPendingFlushOnFlushError() {
+    // given
+    Mockito.doThrow(new UncheckedIOException(new IOException("Cannot allocate memory")))
+        .when(journal)
+        .flush();
+    flusher.flush(journal, () -> acknowledged.add(1));
+    flusher.afterPendingFlushes(() -> acknowledged.add(2));
+
+    // when
+    scheduler.runNext();
+
+    // then
+    assertThat(acknowledged).isEmpty();
+    Mockito.doNothing().when(journal).flush();
+    scheduler.runNext();
+    assertThat(acknowledged).containsExactly(1, 2);
+  }
+
+  @Test
+  void shouldRetryWithoutAcknowledgingOnFlushError() {
+    // given
+    Mockito.doThrow(new UncheckedIOException(new IOException("Cannot allocate memory")))
+        .when(journal)
+        .flush();
+    flusher.flush(journal, () -> acknowledged.add(1));
+
+    // when
+    scheduler.runNext();
+
+    // then
+    assertThat(acknowledged).isEmpty();
+    assertThat(scheduler.operations).hasSize(1);
+
+    Mockito.doNothing().when(journal).flush();
+    scheduler.runNext();
+    assertThat(acknowledged).containsExactly(1);
+  }
+
+  @Test
+  void shouldNotAcknowledgeWhenClosed() {
+    // given
+    flusher.flush(journal, () -> acknowledged.add(1));
+
+    // when
+    flusher.close();
+    flusher.flush(journal, () -> acknowledged.add(2));
+
+    // then
+    assertThat(scheduler.operations).hasSize(1);
+    assertThat(scheduler.operations.get(0).cancelled).isTrue();
+    assertThat(acknowledged).isEmpty();
+  }
+
+  private static final class TestScheduled implements Scheduled {
+    private final Duration delay;
+    private final Runnable operation;
+
+    private boolean cancelled;
+
+    private TestScheduled(final Duration delay, final Runnable operation) {
+      this.delay = delay;
+      this.operation = operation;
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+    }
+
+    @Override
+    public boolean isDone() {
+      return cancelled;
+    }
+  }
+
+  private static final class TestScheduler implements Scheduler {
+    private final List<TestScheduled> operations = new ArrayList<>();
+
+    @Override
+    public Scheduled schedule(final Duration delay, final Runnable callback) {
+      final var scheduled = new TestScheduled(delay, callback);
+      operations.add(scheduled);
+      return scheduled;
+    }
+
+    @Override
+    public Scheduled schedule(
+        final Duration initialDelay, final Duration interval, final Runnable callback) {
+      throw new UnsupportedOperationException("Expected no periodic scheduling");
+    }
+
+    private void runNext() {
+      operations.remove(0).operation.run();
+    }
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.atomix.raft.storage.log;
+
+import io.atomix.raft.storage.log.entry.ApplicationEntry;
+import io.atomix.raft.storage.log.entry.RaftLogEntry;
+import io.atomix.raft.storage.log.entry.SerializedApplicationEntry;
+import io.atomix.utils.concurrent.SingleThreadContext;
+import io.camunda.zeebe.journal.JournalMetaStore.InMemory;
+import io.camunda.zeebe.util.FileUtil;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the throughput of acknowledged appends with the different {@link RaftLogFlusher}
+ * implementations on the same journal. Every invocation appends {@link #APPENDS_PER_INVOCATION}
+ * entries as a follower would, i.e. each append is followed by {@link RaftLog#flush(Runnable)}, and
+ * waits until all of them are acknowledged; this mimics several append requests being in flight.
+ *
+ * <p>Note that the delayed flusher acknowledges appends before they are flushed, so its results are
+ * an upper bound rather than a fair comparison. Results depend heavily on the disk, so run it via
+ * {@link #main(String[])} on the kind of disk you are interested in.
+ */
+@Warmup(iterations = 3, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class RaftLogFlusherBenchmark {
+
+  private static final int APPENDS_PER_INVOCATION = 32;
+  private static final int ENTRY_SIZE = 1024;
+
+  @Param({"direct", "delayed", "groupCommit"})
+  private String flusherType;
+
+  private final ByteBuffer data = ByteBuffer.allocate(ENTRY_SIZE);
+  private Path directory;
+  private RaftLog log;
+  private long position;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("raft-log-flusher-benchmark");
+    log =
+        RaftLog.builder()
+            .withDirectory(directory.toFile())
+            .withName("benchmark")
+            .withMetaStore(new InMemory())
+            .withFlusher(createFlusher())
+            .build();
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    log.close();
+    FileUtil.deleteFolderIfExists(directory);
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(APPENDS_PER_INVOCATION)
+  public void appendAndFlush() throws InterruptedException {
+    final var acknowledged = new CountDownLatch(APPENDS_PER_INVOCATION);
+
+    for (int i = 0; i < APPENDS_PER_INVOCATION; i++) {
+      log.append(new RaftLogEntry(1, nextEntry()));
+      log.flush(acknowledged::countDown);
+    }
+
+    acknowledged.await();
+  }
+
+  private ApplicationEntry nextEntry() {
+    final long lowestPosition = position + 1;
+    position += 1;
+    return new SerializedApplicationEntry(lowestPosition, position, data.duplicate());
+  }
+
+  private RaftLogFlusher createFlusher() {
+    return switch (flusherType) {
+      case "direct" -> RaftLogFlusher.Factory.DIRECT;
+      case "delayed" -> new DelayedFlusher(
+          new SingleThreadContext("delayed-flusher-%d"), Duration.ofMillis(5));
+      case "groupCommit" -> new GroupCommitFlusher(
+          new SingleThreadContext("group-commit-flusher-%d"),
+          Duration.ofMillis(1),
+          APPENDS_PER_INVOCATION);
+      default -> throw new IllegalArgumentException("Unknown flusher type " + flusherType);
+    };
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(RaftLogFlusherBenchmark.class.getSimpleName()).build())
+        .run();
+  }
+}
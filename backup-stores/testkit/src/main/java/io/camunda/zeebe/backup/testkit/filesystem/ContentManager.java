@@ -0,0 +1,168 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.backup.testkit.filesystem;
+
+import io.camunda.zeebe.backup.api.NamedFileSet;
+import io.camunda.zeebe.backup.common.NamedFileSetImpl;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Stores the contents of backed up files keyed by the hash of their content, such that identical
+ * files are stored only once per partition and shared by all backups referencing them.
+ */
+final class ContentManager {
+
+  /**
+   * The path format, relative to the contents root, consists of the following elements:
+   *
+   * <ul>
+   *   <li>{@code partitionId}
+   *   <li>{@code contentHash}
+   * </ul>
+   */
+  private static final String CONTENT_PATH_FORMAT = "%s/%s";
+
+  private static final String HASH_ALGORITHM = "SHA-256";
+  private static final String TEMP_SUFFIX = ".tmp";
+  private final Path contentsRoot;
+
+  ContentManager(final Path contentsRoot) {
+    this.contentsRoot = contentsRoot;
+  }
+
+  /**
+   * Stores the content of all files in the given set which are not stored yet. The content hash of
+   * every file is added to the given map as soon as its content is stored, such that the caller
+   * knows which contents are referenced even if storing a later file fails.
+   *
+   * @param partitionId the partition the files belong to
+   * @param fileSet the files to store
+   * @param contentHashes the map to which the content hash of each stored file is added, by name
+   */
+  void save(
+      final int partitionId, final NamedFileSet fileSet, final Map<String, String> contentHashes) {
+    for (final var namedFile : fileSet.namedFiles().entrySet()) {
+      final var contentHash = store(partitionId, namedFile.getValue());
+      contentHashes.put(namedFile.getKey(), contentHash);
+    }
+  }
+
+  NamedFileSet restore(
+      final int partitionId, final Map<String, String> contentHashes, final Path targetFolder) {
+    final var pathByName = new HashMap<String, Path>();
+    for (final var entry : contentHashes.entrySet()) {
+      final var filePath = targetFolder.resolve(entry.getKey());
+      try {
+        Files.copy(contentPath(partitionId, entry.getValue()), filePath);
+      } catch (final IOException e) {
+        throw new UncheckedIOException(e);
+      }
+      pathByName.put(entry.getKey(), filePath);
+    }
+
+    return new NamedFileSetImpl(pathByName);
+  }
+
+  /**
+   * Deletes all given contents which are not referenced anymore.
+   *
+   * @param partitionId the partition the contents belong to
+   * @param releasedContents the contents which were referenced by a deleted backup
+   * @param referencedContents all contents which are still referenced by the remaining backups of
+   *     the partition
+   */
+  void deleteUnreferenced(
+      final int partitionId,
+      final Set<String> releasedContents,
+      final Set<String> referencedContents) {
+    for (final var contentHash : releasedContents) {
+      if (!referencedContents.contains(contentHash)) {
+        try {
+          Files.deleteIfExists(contentPath(partitionId, contentHash));
+        } catch (final IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }
+    }
+  }
+
+  /**
+   * Hashes the file, and only if its content is not stored yet, copies it to a temporary file next
+   * to the partition's contents, which is then moved to its content path. Content which is already
+   * stored is thus only read to hash it, but not written again.
+   *
+   * @return the hash of the file's content
+   */
+  private String store(final int partitionId, final Path file) {
+    final String contentHash = hash(file);
+    final var contentPath = contentPath(partitionId, contentHash);
+    if (Files.exists(contentPath)) {
+      return contentHash;
+    }
+
+    final Path tempFile;
+    try {
+      final var partitionDirectory = Files.createDirectories(partitionPath(partitionId));
+      tempFile = Files.createTempFile(partitionDirectory, null, TEMP_SUFFIX);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    try {
+      Files.copy(file, tempFile, StandardCopyOption.REPLACE_EXISTING);
+      Files.move(tempFile, contentPath, StandardCopyOption.ATOMIC_MOVE);
+      return contentHash;
+    } catch (final IOException e) {
+      try {
+        Files.deleteIfExists(tempFile);
+      } catch (final IOException deleteError) {
+        e.addSuppressed(deleteError);
+      }
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static String hash(final Path file) {
+    final var digest = newDigest();
+    try (final InputStream input = new DigestInputStream(Files.newInputStream(file), digest)) {
+      input.transferTo(OutputStream.nullOutputStream());
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  private Path partitionPath(final int partitionId) {
+    return contentsRoot.resolve(String.valueOf(partitionId));
+  }
+
+  private Path contentPath(final int partitionId, final String contentHash) {
+    return contentsRoot.resolve(CONTENT_PATH_FORMAT.formatted(partitionId, contentHash));
+  }
+
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance(HASH_ALGORITHM);
+    } catch (final NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e);
+    }
+  }
+}
@@ -0,0 +1,190 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.backup.testkit.filesystem;
+
+import io.camunda.zeebe.backup.api.Backup;
+import io.camunda.zeebe.backup.api.BackupIdentifier;
+import io.camunda.zeebe.backup.api.BackupIdentifierWildcard;
+import io.camunda.zeebe.backup.api.BackupStatus;
+import io.camunda.zeebe.backup.api.BackupStatusCode;
+import io.camunda.zeebe.backup.api.BackupStore;
+import io.camunda.zeebe.backup.common.BackupIdentifierWildcardImpl;
+import io.camunda.zeebe.backup.common.BackupImpl;
+import io.camunda.zeebe.backup.common.BackupStatusImpl;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * A backup store on the local filesystem which stores backups incrementally. The contents of all
+ * backed up files are keyed by their content hash and shared between all backups of a partition,
+ * such that files which did not change between two backups (e.g. immutable SST files of a snapshot)
+ * are stored only once. Each backup consists of a manifest which references the contents of its
+ * files, and contents are deleted once no manifest references them anymore.
+ *
+ * <p>All operations are executed sequentially, which guarantees that contents are not deleted while
+ * a concurrent backup starts referencing them.
+ */
+public final class FilesystemBackupStore implements BackupStore {
+  public static final String ERROR_MSG_BACKUP_NOT_FOUND =
+      "Expected to restore from backup with id '%s', but does not exist.";
+  public static final String ERROR_MSG_BACKUP_WRONG_STATE_TO_RESTORE =
+      "Expected to restore from completed backup with id '%s', but was in state '%s'";
+  private static final String MANIFESTS_DIRECTORY = "manifests";
+  private static final String CONTENTS_DIRECTORY = "contents";
+  private final ExecutorService executor;
+  private final ManifestManager manifestManager;
+  private final ContentManager contentManager;
+
+  public FilesystemBackupStore(final Path basePath) {
+    executor = Executors.newSingleThreadExecutor();
+    manifestManager = new ManifestManager(basePath.resolve(MANIFESTS_DIRECTORY));
+    contentManager = new ContentManager(basePath.resolve(CONTENTS_DIRECTORY));
+  }
+
+  @Override
+  public CompletableFuture<Void> save(final Backup backup) {
+    return CompletableFuture.runAsync(
+        () -> {
+          final var manifest = manifestManager.createInitialManifest(backup);
+          final var partitionId = backup.id().partitionId();
+          final var snapshot = new HashMap<String, String>();
+          final var segments = new HashMap<String, String>();
+          try {
+            contentManager.save(partitionId, backup.snapshot(), snapshot);
+            contentManager.save(partitionId, backup.segments(), segments);
+            manifestManager.write(manifest.complete(snapshot, segments));
+          } catch (final Exception e) {
+            try {
+              manifestManager.write(manifest.fail(e.getMessage(), snapshot, segments));
+            } catch (final Exception failure) {
+              e.addSuppressed(failure);
+            }
+            throw e;
+          }
+        },
+        executor);
+  }
+
+  @Override
+  public CompletableFuture<BackupStatus> getStatus(final BackupIdentifier id) {
+    return CompletableFuture.supplyAsync(
+        () -> {
+          final var manifest = manifestManager.getManifest(id);
+          if (manifest == null) {
+            return BackupStatusImpl.doesNotExist(id);
+          }
+          return toStatus(manifest);
+        },
+        executor);
+  }
+
+  @Override
+  public CompletableFuture<Collection<BackupStatus>> list(final BackupIdentifierWildcard wildcard) {
+    return CompletableFuture.supplyAsync(
+        () ->
+            manifestManager.listManifests(wildcard).stream()
+                .map(FilesystemBackupStore::toStatus)
+                .toList(),
+        executor);
+  }
+
+  @Override
+  public CompletableFuture<Void> delete(final BackupIdentifier id) {
+    return CompletableFuture.runAsync(
+        () -> {
+          final var manifest = manifestManager.getManifest(id);
+          if (manifest == null) {
+            return;
+          }
+
+          // delete the manifest first, such that a partially deleted backup is never restored
+          manifestManager.deleteManifest(id);
+
+          final var partitionId = id.partitionId();
+          final var referencedContents =
+              manifestManager
+                  .listManifests(
+                      new BackupIdentifierWildcardImpl(
+                          Optional.empty(), Optional.of(partitionId), Optional.empty()))
+                  .stream()
+                  .flatMap(remaining -> remaining.contentReferences().stream())
+                  .collect(Collectors.toSet());
+          contentManager.deleteUnreferenced(
+              partitionId, manifest.contentReferences(), referencedContents);
+        },
+        executor);
+  }
+
+  @Override
+  public CompletableFuture<Backup> restore(final BackupIdentifier id, final Path targetFolder) {
+    return CompletableFuture.supplyAsync(
+        () -> {
+          final var manifest = manifestManager.getManifest(id);
+          if (manifest == null) {
+            throw new RuntimeException(ERROR_MSG_BACKUP_NOT_FOUND.formatted(id));
+          }
+          if (manifest.statusCode() != BackupStatusCode.COMPLETED) {
+            throw new RuntimeException(
+                ERROR_MSG_BACKUP_WRONG_STATE_TO_RESTORE.formatted(id, manifest.statusCode()));
+          }
+
+          final var partitionId = id.partitionId();
+          final var snapshot =
+              contentManager.restore(partitionId, manifest.snapshot(), targetFolder);
+          final var segments =
+              contentManager.restore(partitionId, manifest.segments(), targetFolder);
+          return new BackupImpl(id, manifest.descriptor(), snapshot, segments);
+        },
+        executor);
+  }
+
+  @Override
+  public CompletableFuture<BackupStatusCode> markFailed(
+      final BackupIdentifier id, final String failureReason) {
+    return CompletableFuture.supplyAsync(
+        () -> {
+          manifestManager.markAsFailed(id, failureReason);
+          return BackupStatusCode.FAILED;
+        },
+        executor);
+  }
+
+  @Override
+  public CompletableFuture<Void> closeAsync() {
+    return CompletableFuture.runAsync(
+        () -> {
+          try {
+            executor.shutdown();
+            final var closed = executor.awaitTermination(1, TimeUnit.MINUTES);
+            if (!closed) {
+              executor.shutdownNow();
+            }
+          } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(e);
+          }
+        });
+  }
+
+  private static BackupStatus toStatus(final Manifest manifest) {
+    return new BackupStatusImpl(
+        manifest.id(),
+        Optional.ofNullable(manifest.descriptor()),
+        manifest.statusCode(),
+        Optional.ofNullable(manifest.failureReason()),
+        Optional.ofNullable(manifest.createdAt()),
+        Optional.ofNullable(manifest.modifiedAt()));
+  }
+}
@@ -0,0 +1,26 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.backup.testkit.filesystem;
+
+import io.camunda.zeebe.backup.api.BackupStatusCode;
+
+public abstract class FilesystemBackupStoreException extends RuntimeException {
+  public FilesystemBackupStoreException(final String message) {
+    super(message);
+  }
+
+  public static class UnexpectedManifestState extends FilesystemBackupStoreException {
+    public UnexpectedManifestState(final BackupStatusCode expected, final BackupStatusCode actual) {
+      super("Expected manifest in state '%s', but was in '%s'".formatted(expected, actual));
+    }
+
+    public UnexpectedManifestState(final String message) {
+      super(message);
+    }
+  }
+}
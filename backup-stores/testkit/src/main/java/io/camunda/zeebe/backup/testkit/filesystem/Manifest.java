@@ -0,0 +1,109 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.backup.testkit.filesystem;
+
+import static io.camunda.zeebe.backup.api.BackupStatusCode.COMPLETED;
+import static io.camunda.zeebe.backup.api.BackupStatusCode.FAILED;
+import static io.camunda.zeebe.backup.api.BackupStatusCode.IN_PROGRESS;
+
+import io.camunda.zeebe.backup.api.Backup;
+import io.camunda.zeebe.backup.api.BackupIdentifier;
+import io.camunda.zeebe.backup.api.BackupStatusCode;
+import io.camunda.zeebe.backup.common.BackupDescriptorImpl;
+import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
+import io.camunda.zeebe.backup.testkit.filesystem.FilesystemBackupStoreException.UnexpectedManifestState;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The manifest of a single backup. Instead of the files themselves, it references the content of
+ * every file of the backup by its content hash, see {@link ContentManager}.
+ *
+ * @param snapshot the content hash of each snapshot file, by file name
+ * @param segments the content hash of each segment file, by file name
+ */
+record Manifest(
+    BackupIdentifierImpl id,
+    BackupDescriptorImpl descriptor,
+    BackupStatusCode statusCode,
+    Map<String, String> snapshot,
+    Map<String, String> segments,
+    Instant createdAt,
+    Instant modifiedAt,
+    String failureReason) {
+
+  Manifest {
+    Objects.requireNonNull(id);
+    Objects.requireNonNull(statusCode);
+    snapshot = snapshot == null ? Map.of() : Map.copyOf(snapshot);
+    segments = segments == null ? Map.of() : Map.copyOf(segments);
+  }
+
+  static Manifest createInProgress(final Backup backup) {
+    final var creationTime = Instant.now();
+    return new Manifest(
+        BackupIdentifierImpl.from(backup.id()),
+        BackupDescriptorImpl.from(backup.descriptor()),
+        IN_PROGRESS,
+        Map.of(),
+        Map.of(),
+        creationTime,
+        creationTime,
+        null);
+  }
+
+  static Manifest createFailed(final BackupIdentifier id, final String failureReason) {
+    final var creationTime = Instant.now();
+    return new Manifest(
+        BackupIdentifierImpl.from(id),
+        null,
+        FAILED,
+        Map.of(),
+        Map.of(),
+        creationTime,
+        creationTime,
+        failureReason);
+  }
+
+  Manifest complete(final Map<String, String> snapshot, final Map<String, String> segments) {
+    if (statusCode != IN_PROGRESS) {
+      throw new UnexpectedManifestState(IN_PROGRESS, statusCode);
+    }
+
+    return new Manifest(
+        id, descriptor, COMPLETED, snapshot, segments, createdAt, Instant.now(), null);
+  }
+
+  /**
+   * Marks the backup as failed, while keeping the references to all contents which were already
+   * stored, such that they are released when the failed backup is deleted.
+   */
+  Manifest fail(
+      final String failureReason,
+      final Map<String, String> snapshot,
+      final Map<String, String> segments) {
+    return new Manifest(
+        id, descriptor, FAILED, snapshot, segments, createdAt, Instant.now(), failureReason);
+  }
+
+  Manifest fail(final String failureReason) {
+    return fail(failureReason, snapshot, segments);
+  }
+
+  /**
+   * @return the hashes of all contents referenced by this manifest
+   */
+  Set<String> contentReferences() {
+    return Stream.concat(snapshot.values().stream(), segments.values().stream())
+        .collect(Collectors.toSet());
+  }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.backup.testkit.filesystem;
+
+import static com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS;
+
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.camunda.zeebe.backup.api.Backup;
+import io.camunda.zeebe.backup.api.BackupIdentifier;
+import io.camunda.zeebe.backup.api.BackupIdentifierWildcard;
+import io.camunda.zeebe.backup.api.BackupStatusCode;
+import io.camunda.zeebe.backup.testkit.filesystem.FilesystemBackupStoreException.UnexpectedManifestState;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+final class ManifestManager {
+
+  static final String ERROR_MSG_MANIFEST_ALREADY_EXISTS =
+      "Expected to create new manifest for backup '%s', but already exists.";
+  static final ObjectMapper MAPPER =
+      new ObjectMapper()
+          .registerModule(new Jdk8Module())
+          .registerModule(new JavaTimeModule())
+          .disable(WRITE_DATES_AS_TIMESTAMPS)
+          .setSerializationInclusion(Include.NON_ABSENT);
+
+  /**
+   * The path format, relative to the manifests root, consists of the following elements:
+   *
+   * <ul>
+   *   <li>{@code partitionId}
+   *   <li>{@code checkpointId}
+   *   <li>{@code nodeId}
+   *   <li>{@code "manifest.json"}
+   * </ul>
+   */
+  private static final String MANIFEST_PATH_FORMAT = "%s/%s/%s/%s";
+
+  private static final String MANIFEST_FILE_NAME = "manifest.json";
+  private final Path manifestsRoot;
+
+  ManifestManager(final Path manifestsRoot) {
+    this.manifestsRoot = manifestsRoot;
+  }
+
+  Manifest createInitialManifest(final Backup backup) {
+    final var manifestPath = manifestPath(backup.id());
+    if (Files.exists(manifestPath)) {
+      throw new UnexpectedManifestState(ERROR_MSG_MANIFEST_ALREADY_EXISTS.formatted(backup.id()));
+    }
+
+    final var manifest = Manifest.createInProgress(backup);
+    write(manifest);
+    return manifest;
+  }
+
+  Manifest getManifest(final BackupIdentifier id) {
+    return read(manifestPath(id)).orElse(null);
+  }
+
+  void write(final Manifest manifest) {
+    final var manifestPath = manifestPath(manifest.id());
+    final var tempPath = manifestPath.resolveSibling(MANIFEST_FILE_NAME + ".tmp");
+    try {
+      Files.createDirectories(manifestPath.getParent());
+      Files.write(tempPath, MAPPER.writeValueAsBytes(manifest));
+      Files.move(
+          tempPath,
+          manifestPath,
+          StandardCopyOption.ATOMIC_MOVE,
+          StandardCopyOption.REPLACE_EXISTING);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  void markAsFailed(final BackupIdentifier id, final String failureReason) {
+    final var existingManifest = getManifest(id);
+    if (existingManifest == null) {
+      write(Manifest.createFailed(id, failureReason));
+    } else if (existingManifest.statusCode() != BackupStatusCode.FAILED) {
+      write(existingManifest.fail(failureReason));
+    }
+  }
+
+  void deleteManifest(final BackupIdentifier id) {
+    try {
+      Files.deleteIfExists(manifestPath(id));
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  Collection<Manifest> listManifests(final BackupIdentifierWildcard wildcard) {
+    if (!Files.isDirectory(manifestsRoot)) {
+      return List.of();
+    }
+
+    final var matchesWildcard = filterByWildcard(wildcard);
+    try (final var paths = Files.walk(manifestsRoot, 4)) {
+      return paths
+          .filter(path -> matchesWildcard.test(manifestsRoot.relativize(path)))
+          .map(this::read)
+          .flatMap(Optional::stream)
+          .toList();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private Optional<Manifest> read(final Path manifestPath) {
+    try {
+      return Optional.of(MAPPER.readValue(Files.readAllBytes(manifestPath), Manifest.class));
+    } catch (final NoSuchFileException e) {
+      return Optional.empty();
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private Path manifestPath(final BackupIdentifier id) {
+    return manifestsRoot.resolve(
+        MANIFEST_PATH_FORMAT.formatted(
+            id.partitionId(), id.checkpointId(), id.nodeId(), MANIFEST_FILE_NAME));
+  }
+
+  private Predicate<Path> filterByWildcard(final BackupIdentifierWildcard wildcard) {
+    final var pattern =
+        Pattern.compile(
+                MANIFEST_PATH_FORMAT.formatted(
+                    wildcard.partitionId().map(Number::toString).orElse("\\d+"),
+                    wildcard.checkpointId().map(Number::toString).orElse("\\d+"),
+                    wildcard.nodeId().map(Number::toString).orElse("\\d+"),
+                    Pattern.quote(MANIFEST_FILE_NAME)))
+            .asMatchPredicate();
+    // normalize the separator, such that the pattern also matches on non-unix filesystems
+    return path -> pattern.test(path.toString().replace(path.getFileSystem().getSeparator(), "/"));
+  }
+}
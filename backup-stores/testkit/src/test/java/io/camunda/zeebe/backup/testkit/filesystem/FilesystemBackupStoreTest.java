@@ -0,0 +1,173 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.backup.testkit.filesystem;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.backup.api.Backup;
+import io.camunda.zeebe.backup.api.BackupStore;
+import io.camunda.zeebe.backup.common.BackupDescriptorImpl;
+import io.camunda.zeebe.backup.common.BackupIdentifierImpl;
+import io.camunda.zeebe.backup.common.BackupImpl;
+import io.camunda.zeebe.backup.common.NamedFileSetImpl;
+import io.camunda.zeebe.backup.testkit.BackupStoreTestKit;
+import io.camunda.zeebe.backup.testkit.filesystem.FilesystemBackupStoreException.UnexpectedManifestState;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+final class FilesystemBackupStoreTest implements BackupStoreTestKit {
+
+  @TempDir Path basePath;
+  @TempDir Path sourcePath;
+
+  private FilesystemBackupStore store;
+
+  @BeforeEach
+  void setup() {
+    store = new FilesystemBackupStore(basePath);
+  }
+
+  @AfterEach
+  void tearDown() {
+    store.closeAsync().join();
+  }
+
+  @Override
+  public BackupStore getStore() {
+    return store;
+  }
+
+  @Override
+  public Class<? extends Exception> getBackupInInvalidStateExceptionClass() {
+    return UnexpectedManifestState.class;
+  }
+
+  @Test
+  void shouldStoreIdenticalFilesOnlyOnce() throws IOException {
+    // given
+    final var sharedFile = writeFile("000001.sst", "shared");
+    final var firstBackup =
+        backup(1, Map.of("000001.sst", sharedFile, "CURRENT", writeFile("CURRENT", "1")));
+    final var secondBackup =
+        backup(2, Map.of("000001.sst", sharedFile, "CURRENT", writeFile("CURRENT", "2")));
+
+    // when
+    store.save(firstBackup).join();
+    store.save(secondBackup).join();
+
+    // then - the shared file, both CURRENT files and the segment
+    assertThat(countContents()).isEqualTo(4);
+  }
+
+  @Test
+  void shouldNotWriteStoredContentsAgain() throws IOException {
+    // given
+    final var sharedFile = writeFile("000001.sst", "shared");
+    store.save(backup(1, Map.of("000001.sst", sharedFile))).join();
+    final var storedContent = findContent("shared");
+    final var lastModified = FileTime.fromMillis(0);
+    Files.setLastModifiedTime(storedContent, lastModified);
+
+    // when
+    store.save(backup(2, Map.of("000001.sst", sharedFile))).join();
+
+    // then
+    assertThat(Files.getLastModifiedTime(storedContent)).isEqualTo(lastModified);
+    assertThat(countContents()).isEqualTo(2);
+  }
+
+  @Test
+  void shouldRestoreSharedFiles(@TempDir final Path targetPath) throws IOException {
+    // given
+    final var sharedFile = writeFile("000001.sst", "shared");
+    store.save(backup(1, Map.of("000001.sst", sharedFile))).join();
+    final var secondBackup = backup(2, Map.of("000001.sst", sharedFile));
+    store.save(secondBackup).join();
+
+    // when
+    final var restored = store.restore(secondBackup.id(), targetPath).join();
+
+    // then
+    assertThat(restored.snapshot().namedFiles().get("000001.sst")).hasContent("shared");
+    assertThat(restored.segments().namedFiles().get("segment-file-1")).hasContent("segment");
+  }
+
+  @Test
+  void shouldKeepSharedContentsUntilLastReferenceIsDeleted(@TempDir final Path targetPath)
+      throws IOException {
+    // given
+    final var sharedFile = writeFile("000001.sst", "shared");
+    final var firstBackup =
+        backup(1, Map.of("000001.sst", sharedFile, "CURRENT", writeFile("CURRENT", "1")));
+    final var secondBackup = backup(2, Map.of("000001.sst", sharedFile));
+    store.save(firstBackup).join();
+    store.save(secondBackup).join();
+
+    // when
+    store.delete(firstBackup.id()).join();
+
+    // then - the contents only referenced by the first backup are gone
+    assertThat(countContents()).isEqualTo(2);
+    assertThat(store.restore(secondBackup.id(), targetPath).join().snapshot().namedFiles())
+        .containsOnlyKeys("000001.sst");
+
+    // when
+    store.delete(secondBackup.id()).join();
+
+    // then
+    assertThat(countContents()).isZero();
+  }
+
+  private Backup backup(final long checkpointId, final Map<String, Path> snapshotFiles)
+      throws IOException {
+    return new BackupImpl(
+        new BackupIdentifierImpl(1, 2, checkpointId),
+        new BackupDescriptorImpl(Optional.of("snapshot-" + checkpointId), 4, 5, "test"),
+        new NamedFileSetImpl(snapshotFiles),
+        new NamedFileSetImpl(Map.of("segment-file-1", writeFile("segment-file-1", "segment"))));
+  }
+
+  private Path writeFile(final String name, final String content) throws IOException {
+    final var directory = Files.createTempDirectory(sourcePath, "files");
+    return Files.writeString(directory.resolve(name), content);
+  }
+
+  private Path findContent(final String content) throws IOException {
+    try (final Stream<Path> files = Files.walk(basePath.resolve("contents"))) {
+      return files
+          .filter(Files::isRegularFile)
+          .filter(file -> content.equals(readString(file)))
+          .findFirst()
+          .orElseThrow();
+    }
+  }
+
+  private static String readString(final Path file) {
+    try {
+      return Files.readString(file);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private long countContents() throws IOException {
+    try (final Stream<Path> files = Files.walk(basePath.resolve("contents"))) {
+      return files.filter(Files::isRegularFile).count();
+    }
+  }
+}
@@ -94,6 +94,7 @@ public class Worker extends App {
         ZeebeClient.newClientBuilder()
             .gatewayAddress(appCfg.getBrokerUrl())
             .numJobWorkerExecutionThreads(workerCfg.getThreads())
+            .jobWorkerVirtualThreads(workerCfg.isVirtualThreads())
             .defaultJobWorkerName(workerCfg.getWorkerName())
             .defaultJobTimeout(workerCfg.getCompletionDelay().multipliedBy(6))
             .defaultJobWorkerMaxJobsActive(workerCfg.getCapacity())
@@ -23,6 +23,7 @@ public class WorkerCfg {
   private String workerName;
 
   private int threads;
+  private boolean virtualThreads;
 
   private int capacity;
   private Duration pollingDelay;
@@ -55,6 +56,14 @@ public class WorkerCfg {
     this.threads = threads;
   }
 
+  public boolean isVirtualThreads() {
+    return virtualThreads;
+  }
+
+  public void setVirtualThreads(boolean virtualThreads) {
+    this.virtualThreads = virtualThreads;
+  }
+
   public int getCapacity() {
     return capacity;
   }
@@ -0,0 +1,300 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import io.camunda.zeebe.broker.Loggers;
+import io.camunda.zeebe.broker.exporter.stream.ExporterDirector.RecordExporter;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.logstreams.log.LogRecordAwaiter;
+import io.camunda.zeebe.logstreams.log.LogStream;
+import io.camunda.zeebe.logstreams.log.LogStreamReader;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.scheduler.Actor;
+import io.camunda.zeebe.scheduler.ActorSchedulingService;
+import io.camunda.zeebe.scheduler.SchedulingHints;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.retry.BackOffRetryStrategy;
+import io.camunda.zeebe.scheduler.retry.EndlessRetryStrategy;
+import io.camunda.zeebe.scheduler.retry.RetryStrategy;
+import io.camunda.zeebe.stream.api.EventFilter;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import org.agrona.LangUtil;
+import org.slf4j.Logger;
+
+/**
+ * Drives a single exporter on its own actor. It reads the log with its own {@link LogStreamReader}
+ * and tracks the position of its exporter independently of all other exporters of the partition,
+ * such that a slow or failing exporter does not hold back the others.
+ *
+ * <p>Used by the {@link ExporterDirector} when isolated exporters are enabled. The director keeps
+ * owning the exporter positions as a whole, i.e. it distributes them to the followers and computes
+ * the lowest position for log compaction; this actor only ever writes the position of its own
+ * exporter.
+ */
+final class ExporterActor extends Actor implements LogRecordAwaiter {
+
+  private static final String ERROR_MESSAGE_EXPORTING_ABORTED =
+      "Expected to export record '{}' successfully, but exception was thrown.";
+  private static final String ERROR_MESSAGE_RECOVER_FAILED =
+      "Expected to find event with the exporter position %s in log stream, but nothing was found. Failed to recover '%s'.";
+
+  private static final Logger LOG = Loggers.EXPORTER_LOGGER;
+  private final AtomicBoolean isOpened = new AtomicBoolean(false);
+  private final ExporterContainer container;
+  private final LogStream logStream;
+  private final ZeebeDb zeebeDb;
+  private final ExporterMetrics metrics;
+  private final RecordExporter recordExporter;
+  private final RecordBatchExporter recordBatchExporter;
+  private final RetryStrategy exportingRetryStrategy;
+  private final RetryStrategy recordWrapStrategy;
+  private final BiConsumer<String, Throwable> failureListener;
+  private final String name;
+  private final int partitionId;
+  private LogStreamReader logStreamReader;
+  private EventFilter eventFilter;
+  private boolean inExportingPhase;
+  private boolean isPaused;
+
+  ExporterActor(
+      final String directorName,
+      final ExporterContainer container,
+      final LogStream logStream,
+      final ZeebeDb zeebeDb,
+      final ExporterMetrics metrics,
+      final boolean shouldPauseOnStart,
+      final BiConsumer<String, Throwable> failureListener) {
+    this.container = container;
+    this.logStream = logStream;
+    this.zeebeDb = zeebeDb;
+    this.metrics = metrics;
+    this.failureListener = failureListener;
+    name = directorName + "-" + container.getId();
+    partitionId = logStream.getPartitionId();
+    recordExporter = new RecordExporter(metrics, List.of(container), partitionId);
+    recordBatchExporter =
+        RecordBatchExporter.isRequiredFor(List.of(container))
+            ? new RecordBatchExporter(metrics, List.of(container), partitionId)
+            : null;
+    exportingRetryStrategy = new BackOffRetryStrategy(actor, Duration.ofSeconds(10));
+    recordWrapStrategy = new EndlessRetryStrategy(actor);
+    isPaused = shouldPauseOnStart;
+  }
+
+  ActorFuture<Void> startAsync(final ActorSchedulingService actorSchedulingService) {
+    return actorSchedulingService.submitActor(this, SchedulingHints.ioBound());
+  }
+
+  void pauseExporting() {
+    actor.run(() -> isPaused = true);
+  }
+
+  void resumeExporting() {
+    actor.run(
+        () -> {
+          isPaused = false;
+          actor.submit(this::readNextEvent);
+        });
+  }
+
+  String getExporterId() {
+    return container.getId();
+  }
+
+  @Override
+  protected Map<String, String> createContext() {
+    final var context = super.createContext();
+    context.put(ACTOR_PROP_PARTITION_ID, Integer.toString(partitionId));
+    return context;
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  protected void onActorStarting() {
+    actor.runOnCompletionBlockingCurrentPhase(
+        logStream.newLogStreamReader(),
+        (reader, errorOnReceivingReader) -> {
+          if (errorOnReceivingReader == null) {
+            logStreamReader = reader;
+          } else {
+            LOG.error(
+                "Unexpected error on retrieving reader from log {}",
+                logStream.getLogName(),
+                errorOnReceivingReader);
+            actor.close();
+          }
+        });
+  }
+
+  @Override
+  protected void onActorStarted() {
+    try {
+      // every exporter gets its own transaction context, as the contexts are not thread safe
+      final var state = new ExportersState(zeebeDb, zeebeDb.createContext());
+      container.initContainer(actor, metrics, state);
+      container.configureExporter();
+      eventFilter = ExporterDirector.createEventFilter(List.of(container));
+      container.initPosition();
+      container.openExporter();
+    } catch (final Exception e) {
+      LangUtil.rethrowUnchecked(e);
+    }
+
+    final long position = container.getPosition();
+    if (!logStreamReader.seekToNextEvent(position)) {
+      throw new IllegalStateException(String.format(ERROR_MESSAGE_RECOVER_FAILED, position, name));
+    }
+
+    isOpened.set(true);
+    logStream.registerRecordAvailableListener(this);
+    if (!isPaused) {
+      actor.submit(this::readNextEvent);
+    }
+  }
+
+  @Override
+  protected void onActorCloseRequested() {
+    isOpened.set(false);
+    container.close();
+  }
+
+  @Override
+  protected void onActorClosing() {
+    if (logStreamReader != null) {
+      logStreamReader.close();
+    }
+    logStream.removeRecordAvailableListener(this);
+  }
+
+  @Override
+  protected void onActorClosed() {
+    LOG.debug("Closed exporter actor '{}'.", getName());
+  }
+
+  @Override
+  protected void handleFailure(final Throwable failure) {
+    LOG.error(
+        "Actor '{}' failed in phase {} with: {} .",
+        name,
+        actor.getLifecyclePhase(),
+        failure,
+        failure);
+    isOpened.set(false);
+    actor.fail(failure);
+    failureListener.accept(getExporterId(), failure);
+  }
+
+  @Override
+  public void onRecordAvailable() {
+    actor.run(this::readNextEvent);
+  }
+
+  private void readNextEvent() {
+    if (shouldExport()) {
+      if (recordBatchExporter != null) {
+        readNextBatch();
+        return;
+      }
+
+      final LoggedEvent currentEvent = logStreamReader.next();
+      if (eventFilter.applies(currentEvent)) {
+        inExportingPhase = true;
+        exportEvent(currentEvent);
+      } else {
+        skipRecord(currentEvent);
+      }
+    }
+  }
+
+  private boolean shouldExport() {
+    return isOpened.get() && logStreamReader.hasNext() && !inExportingPhase && !isPaused;
+  }
+
+  private void skipRecord(final LoggedEvent currentEvent) {
+    onRecordSkipped(currentEvent);
+    actor.submit(this::readNextEvent);
+  }
+
+  private void onRecordSkipped(final LoggedEvent currentEvent) {
+    final RecordMetadata metadata = new RecordMetadata();
+    currentEvent.readMetadata(metadata);
+    metrics.eventSkipped(metadata.getValueType());
+
+    container.updatePositionOnSkipIfUpToDate(currentEvent.getPosition());
+  }
+
+  private void readNextBatch() {
+    recordBatchExporter.fill(logStreamReader, eventFilter, this::onRecordSkipped);
+    if (recordBatchExporter.isEmpty()) {
+      actor.submit(this::readNextEvent);
+      return;
+    }
+
+    inExportingPhase = true;
+    final ActorFuture<Boolean> retryFuture =
+        exportingRetryStrategy.runWithRetry(recordBatchExporter::export, this::isClosed);
+
+    actor.runOnCompletion(
+        retryFuture,
+        (bool, throwable) -> {
+          if (throwable != null) {
+            LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, recordBatchExporter, throwable);
+            handleFailure(throwable);
+          } else {
+            recordBatchExporter.onExported();
+            inExportingPhase = false;
+            actor.submit(this::readNextEvent);
+          }
+        });
+  }
+
+  private void exportEvent(final LoggedEvent event) {
+    final ActorFuture<Boolean> wrapRetryFuture =
+        recordWrapStrategy.runWithRetry(
+            () -> {
+              recordExporter.wrap(event);
+              return true;
+            },
+            this::isClosed);
+
+    actor.runOnCompletion(
+        wrapRetryFuture,
+        (b, t) -> {
+          assert t == null : "Throwable must be null";
+
+          final ActorFuture<Boolean> retryFuture =
+              exportingRetryStrategy.runWithRetry(recordExporter::export, this::isClosed);
+
+          actor.runOnCompletion(
+              retryFuture,
+              (bool, throwable) -> {
+                if (throwable != null) {
+                  LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, event, throwable);
+                  handleFailure(throwable);
+                } else {
+                  metrics.eventExported(recordExporter.getTypedEvent().getValueType());
+                  inExportingPhase = false;
+                  actor.submit(this::readNextEvent);
+                }
+              });
+        });
+  }
+
+  private boolean isClosed() {
+    return !isOpened.get();
+  }
+}
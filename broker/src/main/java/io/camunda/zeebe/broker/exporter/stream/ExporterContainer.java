@@ -10,17 +10,25 @@ package io.camunda.zeebe.broker.exporter.stream;
 import io.camunda.zeebe.broker.Loggers;
 import io.camunda.zeebe.broker.exporter.context.ExporterContext;
 import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
+import io.camunda.zeebe.exporter.api.BatchExporter;
 import io.camunda.zeebe.exporter.api.Exporter;
 import io.camunda.zeebe.exporter.api.context.Context;
 import io.camunda.zeebe.exporter.api.context.Controller;
 import io.camunda.zeebe.exporter.api.context.ScheduledTask;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.scheduler.ActorControl;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
 import io.camunda.zeebe.util.buffer.BufferUtil;
 import io.camunda.zeebe.util.jar.ThreadContextUtil;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import org.agrona.DirectBuffer;
 import org.slf4j.Logger;
@@ -35,7 +43,10 @@ final class ExporterContainer implements Controller {
 
   private final ExporterContext context;
   private final Exporter exporter;
+  private final List<Record<?>> acceptedRecords = new ArrayList<>();
+  private final List<Record<?>> acceptedRecordsView = Collections.unmodifiableList(acceptedRecords);
   private long position;
+  private int batchIndex;
   private long lastUnacknowledgedPosition;
   private ExportersState exportersState;
   private ExporterMetrics metrics;
@@ -148,10 +159,16 @@ final class ExporterContainer implements Controller {
     return context.getConfiguration().getId();
   }
 
-  private boolean acceptRecord(final RecordMetadata metadata) {
+  private boolean acceptRecord(
+      final RecordType recordType,
+      final ValueType valueType,
+      final Intent intent,
+      final RejectionType rejectionType) {
     final Context.RecordFilter filter = context.getFilter();
-    return filter.acceptType(metadata.getRecordType())
-        && filter.acceptValue(metadata.getValueType());
+    return filter.acceptType(recordType)
+        && filter.acceptValue(valueType)
+        && filter.acceptIntent(intent)
+        && filter.acceptRejectionType(rejectionType);
   }
 
   void configureExporter() throws Exception {
@@ -162,20 +179,99 @@ final class ExporterContainer implements Controller {
 
   boolean exportRecord(final RecordMetadata rawMetadata, final TypedRecord typedEvent) {
     try {
-      if (position < typedEvent.getPosition()) {
-        if (acceptRecord(rawMetadata)) {
-          export(typedEvent);
-        } else {
-          updatePositionOnSkipIfUpToDate(typedEvent.getPosition());
+      exportIfAccepted(
+          rawMetadata.getRecordType(),
+          rawMetadata.getValueType(),
+          rawMetadata.getIntent(),
+          rawMetadata.getRejectionType(),
+          typedEvent);
+      return true;
+    } catch (final Exception ex) {
+      context.getLogger().warn("Error on exporting record with key {}", typedEvent.getKey(), ex);
+      return false;
+    }
+  }
+
+  /**
+   * Exports a batch of records. A {@link BatchExporter} gets all records it accepts with a single
+   * call, any other exporter gets them one by one.
+   *
+   * <p>If exporting fails, the same batch has to be passed again. A batch exporter then gets the
+   * whole batch again, while any other exporter continues with the record which failed.
+   *
+   * @param records the records to export, must not be empty
+   * @return true if the batch was exported, false otherwise
+   */
+  boolean exportBatch(final List<? extends TypedRecord<?>> records) {
+    try {
+      if (exporter instanceof final BatchExporter batchExporter) {
+        exportAsBatch(batchExporter, records);
+      } else {
+        while (batchIndex < records.size()) {
+          final TypedRecord<?> record = records.get(batchIndex);
+          exportIfAccepted(
+              record.getRecordType(),
+              record.getValueType(),
+              record.getIntent(),
+              record.getRejectionType(),
+              record);
+          batchIndex++;
         }
+        batchIndex = 0;
       }
       return true;
     } catch (final Exception ex) {
-      context.getLogger().warn("Error on exporting record with key {}", typedEvent.getKey(), ex);
+      context
+          .getLogger()
+          .warn(
+              "Error on exporting batch of records from position {} to {}",
+              records.get(0).getPosition(),
+              records.get(records.size() - 1).getPosition(),
+              ex);
       return false;
     }
   }
 
+  private void exportAsBatch(
+      final BatchExporter batchExporter, final List<? extends TypedRecord<?>> records) {
+    acceptedRecords.clear();
+    for (final TypedRecord<?> record : records) {
+      if (position < record.getPosition()
+          && acceptRecord(
+              record.getRecordType(),
+              record.getValueType(),
+              record.getIntent(),
+              record.getRejectionType())) {
+        acceptedRecords.add(record);
+      }
+    }
+
+    if (!acceptedRecords.isEmpty()) {
+      ThreadContextUtil.runWithClassLoader(
+          () -> batchExporter.exportBatch(acceptedRecordsView),
+          exporter.getClass().getClassLoader());
+      lastUnacknowledgedPosition = acceptedRecords.get(acceptedRecords.size() - 1).getPosition();
+    }
+
+    // the records after the last accepted one were skipped for this exporter
+    updatePositionOnSkipIfUpToDate(records.get(records.size() - 1).getPosition());
+  }
+
+  private void exportIfAccepted(
+      final RecordType recordType,
+      final ValueType valueType,
+      final Intent intent,
+      final RejectionType rejectionType,
+      final Record<?> record) {
+    if (position < record.getPosition()) {
+      if (acceptRecord(recordType, valueType, intent, rejectionType)) {
+        export(record);
+      } else {
+        updatePositionOnSkipIfUpToDate(record.getPosition());
+      }
+    }
+  }
+
   private void export(final Record<?> record) {
     ThreadContextUtil.runWithClassLoader(
         () -> exporter.export(record), exporter.getClass().getClassLoader());
@@ -19,7 +19,9 @@ import io.camunda.zeebe.logstreams.log.LoggedEvent;
 import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RejectionType;
 import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.scheduler.Actor;
 import io.camunda.zeebe.scheduler.ActorSchedulingService;
 import io.camunda.zeebe.scheduler.SchedulingHints;
@@ -36,6 +38,7 @@ import io.camunda.zeebe.util.health.FailureListener;
 import io.camunda.zeebe.util.health.HealthMonitorable;
 import io.camunda.zeebe.util.health.HealthReport;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
@@ -45,6 +48,7 @@ import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.agrona.LangUtil;
 import org.slf4j.Logger;
 
@@ -61,6 +65,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   private final List<ExporterContainer> containers;
   private final LogStream logStream;
   private final RecordExporter recordExporter;
+  private final RecordBatchExporter recordBatchExporter;
   private final ZeebeDb zeebeDb;
   private final ExporterMetrics metrics;
   private final String name;
@@ -83,6 +88,9 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   private final Duration distributionInterval;
   private ExporterStateDistributionService exporterDistributionService;
   private final int partitionId;
+  private final boolean isolatedExporters;
+  private final List<ExporterActor> exporterActors = new ArrayList<>();
+  private ActorSchedulingService actorSchedulingService;
 
   public ExporterDirector(final ExporterDirectorContext context, final boolean shouldPauseOnStart) {
     name = context.getName();
@@ -93,6 +101,10 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     partitionId = logStream.getPartitionId();
     metrics = new ExporterMetrics(partitionId);
     recordExporter = new RecordExporter(metrics, containers, partitionId);
+    recordBatchExporter =
+        RecordBatchExporter.isRequiredFor(containers)
+            ? new RecordBatchExporter(metrics, containers, partitionId)
+            : null;
     exportingRetryStrategy = new BackOffRetryStrategy(actor, Duration.ofSeconds(10));
     recordWrapStrategy = new EndlessRetryStrategy(actor);
     zeebeDb = context.getZeebeDb();
@@ -101,9 +113,12 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     exporterPositionsTopic = String.format(EXPORTER_STATE_TOPIC_FORMAT, partitionId);
     exporterMode = context.getExporterMode();
     distributionInterval = context.getDistributionInterval();
+    isolatedExporters =
+        context.isIsolatedExporters() && context.getExporterMode() == ExporterMode.ACTIVE;
   }
 
   public ActorFuture<Void> startAsync(final ActorSchedulingService actorSchedulingService) {
+    this.actorSchedulingService = actorSchedulingService;
     return actorSchedulingService.submitActor(this, SchedulingHints.ioBound());
   }
 
@@ -122,6 +137,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
         () -> {
           isPaused = true;
           exporterPhase = ExporterPhase.PAUSED;
+          exporterActors.forEach(ExporterActor::pauseExporting);
         });
   }
 
@@ -137,7 +153,9 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
         () -> {
           isPaused = false;
           exporterPhase = ExporterPhase.EXPORTING;
-          if (exporterMode == ExporterMode.ACTIVE) {
+          if (isolatedExporters) {
+            exporterActors.forEach(ExporterActor::resumeExporting);
+          } else if (exporterMode == ExporterMode.ACTIVE) {
             actor.submit(this::readNextEvent);
           }
         });
@@ -164,7 +182,8 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
 
   @Override
   protected void onActorStarting() {
-    if (exporterMode == ExporterMode.ACTIVE) {
+    // isolated exporters read the log on their own actors, each with its own reader
+    if (exporterMode == ExporterMode.ACTIVE && !isolatedExporters) {
       final ActorFuture<LogStreamReader> newReaderFuture = logStream.newLogStreamReader();
       actor.runOnCompletionBlockingCurrentPhase(
           newReaderFuture,
@@ -196,8 +215,11 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
               partitionMessagingService,
               exporterPositionsTopic);
 
-      // Initialize containers irrespective of if it is Active or Passive mode
-      initContainers();
+      // Initialize containers irrespective of if it is Active or Passive mode; isolated exporters
+      // initialize their container on their own actor
+      if (!isolatedExporters) {
+        initContainers();
+      }
     } catch (final Exception e) {
       onFailure();
       LangUtil.rethrowUnchecked(e);
@@ -208,7 +230,9 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     // remove exporters from state
     // which are no longer in our configuration
     clearExporterState();
-    if (exporterMode == ExporterMode.ACTIVE) {
+    if (isolatedExporters) {
+      startIsolatedExportingMode();
+    } else if (exporterMode == ExporterMode.ACTIVE) {
       startActiveExportingMode();
     } else { // PASSIVE, we consume the messages and set it in our state
       startPassiveExportingMode();
@@ -221,6 +245,17 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       logStreamReader.close();
     }
     logStream.removeRecordAvailableListener(this);
+
+    // wait until all exporters are closed, such that a new director doesn't race with them
+    for (final ExporterActor exporterActor : exporterActors) {
+      actor.runOnCompletionBlockingCurrentPhase(
+          exporterActor.closeAsync(),
+          (ok, error) -> {
+            if (error != null) {
+              LOG.warn("Failed to close exporter actor '{}'", exporterActor.getName(), error);
+            }
+          });
+    }
   }
 
   @Override
@@ -232,7 +267,10 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   @Override
   protected void onActorCloseRequested() {
     isOpened.set(false);
-    if (exporterMode == ExporterMode.ACTIVE) {
+    if (isolatedExporters) {
+      // the exporter actors close their own containers
+      exporterDistributionService.close();
+    } else if (exporterMode == ExporterMode.ACTIVE) {
       containers.forEach(ExporterContainer::close);
     } else {
       exporterDistributionService.close();
@@ -291,7 +329,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
         snapshotPosition);
   }
 
-  private ExporterEventFilter createEventFilter(final List<ExporterContainer> containers) {
+  static ExporterEventFilter createEventFilter(final List<ExporterContainer> containers) {
 
     final List<Context.RecordFilter> recordFilters =
         containers.stream().map(c -> c.getContext().getFilter()).collect(Collectors.toList());
@@ -310,7 +348,25 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
                     Function.identity(),
                     type -> recordFilters.stream().anyMatch(f -> f.acceptValue(type))));
 
-    return new ExporterEventFilter(acceptRecordTypes, acceptValueTypes);
+    final Map<Intent, Boolean> acceptIntents =
+        Stream.concat(
+                Intent.INTENT_CLASSES.stream()
+                    .flatMap(intentClass -> Arrays.stream(intentClass.getEnumConstants())),
+                Stream.of(Intent.UNKNOWN))
+            .collect(
+                Collectors.toMap(
+                    Function.identity(),
+                    intent -> recordFilters.stream().anyMatch(f -> f.acceptIntent(intent))));
+
+    final Map<RejectionType, Boolean> acceptRejectionTypes =
+        Arrays.stream(RejectionType.values())
+            .collect(
+                Collectors.toMap(
+                    Function.identity(),
+                    type -> recordFilters.stream().anyMatch(f -> f.acceptRejectionType(type))));
+
+    return new ExporterEventFilter(
+        acceptRecordTypes, acceptValueTypes, acceptIntents, acceptRejectionTypes);
   }
 
   private void onFailure() {
@@ -348,6 +404,40 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     }
   }
 
+  private void startIsolatedExportingMode() {
+    if (containers.isEmpty()) {
+      actor.close();
+      return;
+    }
+
+    for (final ExporterContainer container : containers) {
+      final var exporterActor =
+          new ExporterActor(
+              name, container, logStream, zeebeDb, metrics, isPaused, this::onExporterFailure);
+      exporterActors.add(exporterActor);
+      exporterActor.startAsync(actorSchedulingService);
+    }
+
+    exporterPhase = isPaused ? ExporterPhase.PAUSED : ExporterPhase.EXPORTING;
+    actor.runAtFixedRate(distributionInterval, this::distributeExporterState);
+  }
+
+  /**
+   * Called when one of the isolated exporters failed. The other exporters keep on exporting, but
+   * the director is reported as unhealthy, as the position of the failed exporter does not advance
+   * anymore and holds back log compaction.
+   */
+  private void onExporterFailure(final String exporterId, final Throwable failure) {
+    actor.run(
+        () -> {
+          LOG.error("Exporter '{}' failed, the other exporters continue exporting", exporterId);
+          healthReport = HealthReport.unhealthy(this).withIssue(failure);
+          for (final var listener : listeners) {
+            listener.onFailure(healthReport);
+          }
+        });
+  }
+
   private void startPassiveExportingMode() {
     // Only initialize the positions, do not open and start exporting
     for (final ExporterContainer container : containers) {
@@ -371,6 +461,11 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
   }
 
   private void skipRecord(final LoggedEvent currentEvent) {
+    onRecordSkipped(currentEvent);
+    actor.submit(this::readNextEvent);
+  }
+
+  private void onRecordSkipped(final LoggedEvent currentEvent) {
     final RecordMetadata metadata = new RecordMetadata();
     final long eventPosition = currentEvent.getPosition();
 
@@ -382,12 +477,15 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     for (final ExporterContainer container : containers) {
       container.updatePositionOnSkipIfUpToDate(eventPosition);
     }
-
-    actor.submit(this::readNextEvent);
   }
 
   private void readNextEvent() {
     if (shouldExport()) {
+      if (recordBatchExporter != null) {
+        readNextBatch();
+        return;
+      }
+
       final LoggedEvent currentEvent = logStreamReader.next();
       if (eventFilter == null || eventFilter.applies(currentEvent)) {
         inExportingPhase = true;
@@ -398,6 +496,31 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     }
   }
 
+  private void readNextBatch() {
+    recordBatchExporter.fill(logStreamReader, eventFilter, this::onRecordSkipped);
+    if (recordBatchExporter.isEmpty()) {
+      actor.submit(this::readNextEvent);
+      return;
+    }
+
+    inExportingPhase = true;
+    final ActorFuture<Boolean> retryFuture =
+        exportingRetryStrategy.runWithRetry(recordBatchExporter::export, this::isClosed);
+
+    actor.runOnCompletion(
+        retryFuture,
+        (bool, throwable) -> {
+          if (throwable != null) {
+            LOG.error(ERROR_MESSAGE_EXPORTING_ABORTED, recordBatchExporter, throwable);
+            onFailure();
+          } else {
+            recordBatchExporter.onExported();
+            inExportingPhase = false;
+            actor.submit(this::readNextEvent);
+          }
+        });
+  }
+
   private boolean shouldExport() {
     return isOpened.get() && logStreamReader.hasNext() && !inExportingPhase && !isPaused;
   }
@@ -480,7 +603,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     return actor.call(() -> state.getLowestPosition());
   }
 
-  private static class RecordExporter {
+  static final class RecordExporter {
 
     private final RecordValues recordValues = new RecordValues();
     private final RecordMetadata rawMetadata = new RecordMetadata();
@@ -513,7 +636,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
       }
     }
 
-    public boolean export() {
+    boolean export() {
       if (!shouldExport) {
         return true;
       }
@@ -528,6 +651,7 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
         if (container.exportRecord(rawMetadata, typedEvent)) {
           exporterIndex++;
           exporterMetrics.setLastExportedPosition(container.getId(), typedEvent.getPosition());
+          exporterMetrics.setExportingLag(container.getId(), typedEvent.getTimestamp());
         } else {
           return false;
         }
@@ -541,27 +665,37 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
     }
   }
 
-  private static class ExporterEventFilter implements EventFilter {
+  static final class ExporterEventFilter implements EventFilter {
 
     private final RecordMetadata metadata = new RecordMetadata();
     private final Map<RecordType, Boolean> acceptRecordTypes;
     private final Map<ValueType, Boolean> acceptValueTypes;
+    private final Map<Intent, Boolean> acceptIntents;
+    private final Map<RejectionType, Boolean> acceptRejectionTypes;
 
     ExporterEventFilter(
         final Map<RecordType, Boolean> acceptRecordTypes,
-        final Map<ValueType, Boolean> acceptValueTypes) {
+        final Map<ValueType, Boolean> acceptValueTypes,
+        final Map<Intent, Boolean> acceptIntents,
+        final Map<RejectionType, Boolean> acceptRejectionTypes) {
       this.acceptRecordTypes = acceptRecordTypes;
       this.acceptValueTypes = acceptValueTypes;
+      this.acceptIntents = acceptIntents;
+      this.acceptRejectionTypes = acceptRejectionTypes;
     }
 
     @Override
     public boolean applies(final LoggedEvent event) {
+      // only the metadata is read, such that skipping a record never requires decoding its value
       event.readMetadata(metadata);
 
       final RecordType recordType = metadata.getRecordType();
       final ValueType valueType = metadata.getValueType();
 
-      return acceptRecordTypes.get(recordType) && acceptValueTypes.get(valueType);
+      return acceptRecordTypes.get(recordType)
+          && acceptValueTypes.get(valueType)
+          && acceptIntents.getOrDefault(metadata.getIntent(), true)
+          && acceptRejectionTypes.get(metadata.getRejectionType());
     }
 
     @Override
@@ -571,6 +705,10 @@ public final class ExporterDirector extends Actor implements HealthMonitorable,
           + acceptRecordTypes
           + ", acceptValueTypes="
           + acceptValueTypes
+          + ", acceptIntents="
+          + acceptIntents
+          + ", acceptRejectionTypes="
+          + acceptRejectionTypes
           + '}';
     }
   }
@@ -26,6 +26,7 @@ public final class ExporterDirectorContext {
   private PartitionMessagingService partitionMessagingService;
   private ExporterMode exporterMode = ExporterMode.ACTIVE; // per default we export records
   private Duration distributionInterval = DEFAULT_DISTRIBUTION_INTERVAL;
+  private boolean isolatedExporters;
 
   public int getId() {
     return id;
@@ -59,6 +60,10 @@ public final class ExporterDirectorContext {
     return distributionInterval;
   }
 
+  public boolean isIsolatedExporters() {
+    return isolatedExporters;
+  }
+
   public ExporterDirectorContext id(final int id) {
     this.id = id;
     return this;
@@ -100,6 +105,16 @@ public final class ExporterDirectorContext {
     return this;
   }
 
+  /**
+   * If enabled, every exporter is driven by its own actor with its own log stream reader, instead
+   * of all exporters being driven one after the other by the director. Only applies to {@link
+   * ExporterMode#ACTIVE}.
+   */
+  public ExporterDirectorContext isolatedExporters(final boolean isolatedExporters) {
+    this.isolatedExporters = isolatedExporters;
+    return this;
+  }
+
   public enum ExporterMode {
     /**
      * ACTIVE, means it is actively running the exporting and distributes the exporter positions to
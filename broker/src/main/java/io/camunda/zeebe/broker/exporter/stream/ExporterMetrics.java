@@ -8,6 +8,7 @@
 package io.camunda.zeebe.broker.exporter.stream;
 
 import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.prometheus.client.Counter;
 import io.prometheus.client.Gauge;
 
@@ -37,6 +38,15 @@ public final class ExporterMetrics {
           .labelNames("exporter", "partition")
           .register();
 
+  private static final Gauge EXPORTING_LAG =
+      Gauge.build()
+          .namespace("zeebe")
+          .name("exporter_lag")
+          .help(
+              "Time in milliseconds between a record being written and it being exported, by exporter and partition.")
+          .labelNames("exporter", "partition")
+          .register();
+
   private final String partitionIdLabel;
 
   public ExporterMetrics(final int partitionId) {
@@ -59,6 +69,12 @@ public final class ExporterMetrics {
     LAST_UPDATED_EXPORTED_POSITION.labels(exporter, partitionIdLabel).set(position);
   }
 
+  public void setExportingLag(final String exporter, final long recordTimestamp) {
+    EXPORTING_LAG
+        .labels(exporter, partitionIdLabel)
+        .set(ActorClock.currentTimeMillis() - recordTimestamp);
+  }
+
   public void setLastExportedPosition(final String exporter, final long position) {
     LAST_EXPORTED_POSITION.labels(exporter, partitionIdLabel).set(position);
   }
@@ -0,0 +1,141 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import io.camunda.zeebe.exporter.api.BatchExporter;
+import io.camunda.zeebe.logstreams.log.LogStreamReader;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.stream.api.EventFilter;
+import io.camunda.zeebe.stream.impl.records.LazyRecordView;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Exports the records of the log in batches of {@link LazyRecordView}s, which only decode their
+ * value when an exporter accesses it. Used instead of the per record exporting as soon as one of
+ * the exporters is a {@link BatchExporter}; the other exporters still get the records one by one,
+ * but benefit from the lazy decoding as well.
+ *
+ * <p>A batch only contains consecutive records which are accepted by the event filter, such that
+ * filtered records can be skipped safely for all up to date exporters, see {@link
+ * ExporterContainer#updatePositionOnSkipIfUpToDate(long)}.
+ */
+final class RecordBatchExporter {
+
+  static final int MAX_BATCH_SIZE = 100;
+
+  private final List<LazyRecordView> views = new ArrayList<>(MAX_BATCH_SIZE);
+  private final List<LazyRecordView> batch = new ArrayList<>(MAX_BATCH_SIZE);
+  private final List<ExporterContainer> containers;
+  private final ExporterMetrics exporterMetrics;
+
+  private int containerIndex;
+
+  RecordBatchExporter(
+      final ExporterMetrics exporterMetrics,
+      final List<ExporterContainer> containers,
+      final int partitionId) {
+    this.exporterMetrics = exporterMetrics;
+    this.containers = containers;
+
+    for (int i = 0; i < MAX_BATCH_SIZE; i++) {
+      views.add(new LazyRecordView(partitionId));
+    }
+  }
+
+  static boolean isRequiredFor(final List<ExporterContainer> containers) {
+    return containers.stream().anyMatch(c -> c.getExporter() instanceof BatchExporter);
+  }
+
+  /**
+   * Reads the next batch from the given reader, reading at most {@link #MAX_BATCH_SIZE} records.
+   * Records which are rejected by the filter or have an unknown value type are skipped: before the
+   * first accepted record they are passed to the given consumer; the first skipped record after
+   * that ends the batch, and is left in the reader.
+   *
+   * @param reader the reader to read from
+   * @param eventFilter the filter deciding which records are exported, can be null
+   * @param skippedRecordConsumer called for every record which is skipped
+   */
+  void fill(
+      final LogStreamReader reader,
+      final EventFilter eventFilter,
+      final Consumer<LoggedEvent> skippedRecordConsumer) {
+    batch.clear();
+    containerIndex = 0;
+
+    int readRecords = 0;
+    while (readRecords < MAX_BATCH_SIZE && reader.hasNext()) {
+      final LazyRecordView view = views.get(batch.size());
+      view.wrap(reader.peekNext());
+
+      // records of unknown value types are never exported, same as with the per record exporting
+      if (view.hasKnownValueType()
+          && (eventFilter == null || eventFilter.applies(reader.peekNext()))) {
+        reader.next();
+        batch.add(view);
+      } else if (batch.isEmpty()) {
+        skippedRecordConsumer.accept(reader.next());
+      } else {
+        break;
+      }
+
+      readRecords++;
+    }
+  }
+
+  boolean isEmpty() {
+    return batch.isEmpty();
+  }
+
+  /**
+   * Exports the current batch to all containers. If a container fails to export it, the remaining
+   * containers are not called, and calling this method again continues with the failed container.
+   *
+   * @return true if all containers exported the batch, false otherwise
+   */
+  boolean export() {
+    final LazyRecordView lastRecord = batch.get(batch.size() - 1);
+    final int exportersCount = containers.size();
+
+    while (containerIndex < exportersCount) {
+      final ExporterContainer container = containers.get(containerIndex);
+
+      if (container.exportBatch(batch)) {
+        containerIndex++;
+        exporterMetrics.setLastExportedPosition(container.getId(), lastRecord.getPosition());
+        exporterMetrics.setExportingLag(container.getId(), lastRecord.getTimestamp());
+      } else {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  void onExported() {
+    for (final LazyRecordView record : batch) {
+      exporterMetrics.eventExported(record.getValueType());
+    }
+  }
+
+  @Override
+  public String toString() {
+    if (batch.isEmpty()) {
+      return "RecordBatch{}";
+    }
+
+    return "RecordBatch{"
+        + "firstPosition="
+        + batch.get(0).getPosition()
+        + ", lastPosition="
+        + batch.get(batch.size() - 1).getPosition()
+        + '}';
+  }
+}
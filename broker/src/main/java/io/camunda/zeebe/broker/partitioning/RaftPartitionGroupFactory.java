@@ -12,6 +12,7 @@ import io.atomix.raft.partition.RaftPartitionGroup;
 import io.atomix.raft.partition.RaftPartitionGroup.Builder;
 import io.atomix.raft.partition.RoundRobinPartitionDistributor;
 import io.atomix.raft.storage.log.DelayedFlusher;
+import io.atomix.raft.storage.log.GroupCommitFlusher;
 import io.atomix.raft.storage.log.RaftLogFlusher;
 import io.camunda.zeebe.broker.Loggers;
 import io.camunda.zeebe.broker.partitioning.distribution.FixedPartitionDistributor;
@@ -87,7 +88,8 @@ public final class RaftPartitionGroupFactory {
             .withMinStepDownFailureCount(experimentalCfg.getRaft().getMinStepDownFailureCount())
             .withPreferSnapshotReplicationThreshold(
                 experimentalCfg.getRaft().getPreferSnapshotReplicationThreshold())
-            .withPreallocateSegmentFiles(experimentalCfg.getRaft().isPreallocateSegmentFiles());
+            .withPreallocateSegmentFiles(experimentalCfg.getRaft().isPreallocateSegmentFiles())
+            .withCompression(experimentalCfg.getRaft().getJournalCompression());
 
     final int maxMessageSize = (int) networkCfg.getMaxMessageSizeInBytes();
 
@@ -108,7 +110,7 @@ public final class RaftPartitionGroupFactory {
       final FlushConfig config, final ExperimentalCfg experimental) {
     // for backwards compatibility; remove this and flatten when this is removed
     if (experimental.isDisableExplicitRaftFlush()) {
-      return createFlusherFactory(new FlushConfig(false, Duration.ZERO));
+      return createFlusherFactory(new FlushConfig(false, Duration.ZERO, Duration.ZERO, 0));
     }
 
     return createFlusherFactory(config);
@@ -117,6 +119,20 @@ public final class RaftPartitionGroupFactory {
   private RaftLogFlusher.Factory createFlusherFactory(final FlushConfig config) {
     if (config.enabled()) {
       final Duration delayTime = config.delayTime();
+      final Duration groupCommitWindow = config.groupCommitWindow();
+      if (!groupCommitWindow.isZero()) {
+        if (!delayTime.isZero()) {
+          throw new IllegalArgumentException(
+              String.format(
+                  "Expected either a flush delay or a group commit window to be configured, but both were: delayTime=%s, groupCommitWindow=%s",
+                  delayTime, groupCommitWindow));
+        }
+
+        final int maxAppends = config.groupCommitMaxAppends();
+        return threadFactory ->
+            new GroupCommitFlusher(threadFactory.createContext(), groupCommitWindow, maxAppends);
+      }
+
       if (delayTime.isZero()) {
         return RaftLogFlusher.Factory::direct;
       }
@@ -22,10 +22,16 @@ public class ExperimentalCfg implements ConfigurationEntry {
   public static final int DEFAULT_MAX_APPENDS_PER_FOLLOWER = 2;
   public static final DataSize DEFAULT_MAX_APPEND_BATCH_SIZE = DataSize.ofKilobytes(32);
   public static final boolean DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH = false;
+  public static final boolean DEFAULT_ENABLE_APPEND_COALESCING = false;
+  public static final DataSize DEFAULT_MAX_COALESCED_APPEND_SIZE = DataSize.ofKilobytes(32);
+  public static final int DEFAULT_SEQUENCER_CAPACITY = 1024;
 
   private int maxAppendsPerFollower = DEFAULT_MAX_APPENDS_PER_FOLLOWER;
   private DataSize maxAppendBatchSize = DEFAULT_MAX_APPEND_BATCH_SIZE;
   private boolean disableExplicitRaftFlush = DEFAULT_DISABLE_EXPLICIT_RAFT_FLUSH;
+  private boolean enableAppendCoalescing = DEFAULT_ENABLE_APPEND_COALESCING;
+  private DataSize maxCoalescedAppendSize = DEFAULT_MAX_COALESCED_APPEND_SIZE;
+  private int sequencerCapacity = DEFAULT_SEQUENCER_CAPACITY;
   private RocksdbCfg rocksdb = new RocksdbCfg();
   private ExperimentalRaftCfg raft = new ExperimentalRaftCfg();
   private PartitioningCfg partitioning = new PartitioningCfg();
@@ -62,6 +68,37 @@ public class ExperimentalCfg implements ConfigurationEntry {
     return Optional.ofNullable(maxAppendBatchSize).orElse(DEFAULT_MAX_APPEND_BATCH_SIZE).toBytes();
   }
 
+  public boolean isEnableAppendCoalescing() {
+    return enableAppendCoalescing;
+  }
+
+  public void setEnableAppendCoalescing(final boolean enableAppendCoalescing) {
+    this.enableAppendCoalescing = enableAppendCoalescing;
+  }
+
+  public DataSize getMaxCoalescedAppendSize() {
+    return maxCoalescedAppendSize;
+  }
+
+  public void setMaxCoalescedAppendSize(final DataSize maxCoalescedAppendSize) {
+    this.maxCoalescedAppendSize = maxCoalescedAppendSize;
+  }
+
+  public int getMaxCoalescedAppendSizeInBytes() {
+    return (int)
+        Optional.ofNullable(maxCoalescedAppendSize)
+            .orElse(DEFAULT_MAX_COALESCED_APPEND_SIZE)
+            .toBytes();
+  }
+
+  public int getSequencerCapacity() {
+    return sequencerCapacity;
+  }
+
+  public void setSequencerCapacity(final int sequencerCapacity) {
+    this.sequencerCapacity = sequencerCapacity;
+  }
+
   /**
    * @deprecated Deprecated in favor of {@link RaftCfg#getFlush()}. The equivalent is a null
    *     configuration, e.g. {@link new FlushConfig(null)}. Will be removed in 8.3.0.
@@ -146,6 +183,12 @@ public class ExperimentalCfg implements ConfigurationEntry {
         + maxAppendBatchSize
         + ", disableExplicitRaftFlush="
         + disableExplicitRaftFlush
+        + ", enableAppendCoalescing="
+        + enableAppendCoalescing
+        + ", maxCoalescedAppendSize="
+        + maxCoalescedAppendSize
+        + ", sequencerCapacity="
+        + sequencerCapacity
         + ", rocksdb="
         + rocksdb
         + ", partitioning="
@@ -37,6 +37,7 @@ public final class FeatureFlagsCfg {
       DEFAULT_SETTINGS.enableTimerDueDateCheckerAsync();
   private boolean enableStraightThroughProcessingLoopDetector =
       DEFAULT_SETTINGS.enableStraightThroughProcessingLoopDetector();
+  private boolean enableIsolatedExporters = DEFAULT_SETTINGS.enableIsolatedExporters();
 
   public boolean isEnableYieldingDueDateChecker() {
     return enableYieldingDueDateChecker;
@@ -79,13 +80,22 @@ public final class FeatureFlagsCfg {
     this.enableStraightThroughProcessingLoopDetector = enableStraightThroughProcessingLoopDetector;
   }
 
+  public boolean isEnableIsolatedExporters() {
+    return enableIsolatedExporters;
+  }
+
+  public void setEnableIsolatedExporters(final boolean enableIsolatedExporters) {
+    this.enableIsolatedExporters = enableIsolatedExporters;
+  }
+
   public FeatureFlags toFeatureFlags() {
     return new FeatureFlags(
         enableYieldingDueDateChecker,
         enableActorMetrics,
         enableMessageTtlCheckerAsync,
         enableTimerDueDateCheckerAsync,
-        enableStraightThroughProcessingLoopDetector
+        enableStraightThroughProcessingLoopDetector,
+        enableIsolatedExporters
         /*, enableFoo*/ );
   }
 
@@ -7,9 +7,19 @@
  */
 package io.camunda.zeebe.broker.system.configuration;
 
+import java.time.Duration;
+
 public final class ProcessingCfg implements ConfigurationEntry {
   private static final int DEFAULT_PROCESSING_BATCH_LIMIT = 100;
+  private static final int DEFAULT_REPLAY_TRANSACTION_BATCH_LIMIT = 1;
+  private static final Duration DEFAULT_ADAPTIVE_BATCHING_LATENCY_TARGET = Duration.ofMillis(50);
+  private static final int DEFAULT_ADAPTIVE_BATCHING_PROCESSING_BATCH_LIMIT = 1000;
   private Integer maxCommandsInBatch = DEFAULT_PROCESSING_BATCH_LIMIT;
+  private Integer maxBatchesInReplayTransaction = DEFAULT_REPLAY_TRANSACTION_BATCH_LIMIT;
+  private boolean enableAdaptiveBatching = false;
+  private Duration adaptiveBatchingLatencyTarget = DEFAULT_ADAPTIVE_BATCHING_LATENCY_TARGET;
+  private Integer adaptiveBatchingMaxCommandsInBatch =
+      DEFAULT_ADAPTIVE_BATCHING_PROCESSING_BATCH_LIMIT;
 
   @Override
   public void init(final BrokerCfg globalConfig, final String brokerBase) {
@@ -17,6 +27,21 @@ public final class ProcessingCfg implements ConfigurationEntry {
       throw new IllegalArgumentException(
           "maxCommandsInBatch must be >= 1 but was %s".formatted(maxCommandsInBatch));
     }
+    if (maxBatchesInReplayTransaction < 1) {
+      throw new IllegalArgumentException(
+          "maxBatchesInReplayTransaction must be >= 1 but was %s"
+              .formatted(maxBatchesInReplayTransaction));
+    }
+    if (adaptiveBatchingLatencyTarget.isNegative() || adaptiveBatchingLatencyTarget.isZero()) {
+      throw new IllegalArgumentException(
+          "adaptiveBatchingLatencyTarget must be positive but was %s"
+              .formatted(adaptiveBatchingLatencyTarget));
+    }
+    if (enableAdaptiveBatching && adaptiveBatchingMaxCommandsInBatch < maxCommandsInBatch) {
+      throw new IllegalArgumentException(
+          "adaptiveBatchingMaxCommandsInBatch must be >= maxCommandsInBatch (%s) but was %s"
+              .formatted(maxCommandsInBatch, adaptiveBatchingMaxCommandsInBatch));
+    }
   }
 
   public int getMaxCommandsInBatch() {
@@ -27,8 +52,51 @@ public final class ProcessingCfg implements ConfigurationEntry {
     this.maxCommandsInBatch = maxCommandsInBatch;
   }
 
+  public int getMaxBatchesInReplayTransaction() {
+    return maxBatchesInReplayTransaction;
+  }
+
+  public void setMaxBatchesInReplayTransaction(final int maxBatchesInReplayTransaction) {
+    this.maxBatchesInReplayTransaction = maxBatchesInReplayTransaction;
+  }
+
+  public boolean isEnableAdaptiveBatching() {
+    return enableAdaptiveBatching;
+  }
+
+  public void setEnableAdaptiveBatching(final boolean enableAdaptiveBatching) {
+    this.enableAdaptiveBatching = enableAdaptiveBatching;
+  }
+
+  public Duration getAdaptiveBatchingLatencyTarget() {
+    return adaptiveBatchingLatencyTarget;
+  }
+
+  public void setAdaptiveBatchingLatencyTarget(final Duration adaptiveBatchingLatencyTarget) {
+    this.adaptiveBatchingLatencyTarget = adaptiveBatchingLatencyTarget;
+  }
+
+  public int getAdaptiveBatchingMaxCommandsInBatch() {
+    return adaptiveBatchingMaxCommandsInBatch;
+  }
+
+  public void setAdaptiveBatchingMaxCommandsInBatch(final int adaptiveBatchingMaxCommandsInBatch) {
+    this.adaptiveBatchingMaxCommandsInBatch = adaptiveBatchingMaxCommandsInBatch;
+  }
+
   @Override
   public String toString() {
-    return "ProcessingCfg{" + "maxCommandsInBatch=" + maxCommandsInBatch + '}';
+    return "ProcessingCfg{"
+        + "maxCommandsInBatch="
+        + maxCommandsInBatch
+        + ", maxBatchesInReplayTransaction="
+        + maxBatchesInReplayTransaction
+        + ", enableAdaptiveBatching="
+        + enableAdaptiveBatching
+        + ", adaptiveBatchingLatencyTarget="
+        + adaptiveBatchingLatencyTarget
+        + ", adaptiveBatchingMaxCommandsInBatch="
+        + adaptiveBatchingMaxCommandsInBatch
+        + '}';
   }
 }
@@ -11,7 +11,9 @@ import java.time.Duration;
 
 public final class RaftCfg implements ConfigurationEntry {
   public static final boolean DEFAULT_ENABLE_PRIORITY_ELECTION = true;
-  private static final FlushConfig DEFAULT_FLUSH_CONFIG = new FlushConfig(true, Duration.ZERO);
+  private static final FlushConfig DEFAULT_FLUSH_CONFIG =
+      new FlushConfig(
+          true, Duration.ZERO, Duration.ZERO, FlushConfig.DEFAULT_GROUP_COMMIT_MAX_APPENDS);
 
   private boolean enablePriorityElection = DEFAULT_ENABLE_PRIORITY_ELECTION;
 
@@ -43,10 +45,20 @@ public final class RaftCfg implements ConfigurationEntry {
         + '}';
   }
 
-  public record FlushConfig(boolean enabled, Duration delayTime) {
-    public FlushConfig(final boolean enabled, final Duration delayTime) {
+  public record FlushConfig(
+      boolean enabled, Duration delayTime, Duration groupCommitWindow, int groupCommitMaxAppends) {
+    public static final int DEFAULT_GROUP_COMMIT_MAX_APPENDS = 64;
+
+    public FlushConfig(
+        final boolean enabled,
+        final Duration delayTime,
+        final Duration groupCommitWindow,
+        final int groupCommitMaxAppends) {
       this.enabled = enabled;
       this.delayTime = delayTime == null ? Duration.ZERO : delayTime;
+      this.groupCommitWindow = groupCommitWindow == null ? Duration.ZERO : groupCommitWindow;
+      this.groupCommitMaxAppends =
+          groupCommitMaxAppends <= 0 ? DEFAULT_GROUP_COMMIT_MAX_APPENDS : groupCommitMaxAppends;
     }
   }
 }
@@ -92,7 +92,9 @@ public final class ExporterDirectorPartitionTransitionStep implements PartitionT
             .zeebeDb(context.getZeebeDb())
             .partitionMessagingService(context.getMessagingService())
             .descriptors(exporterDescriptors)
-            .exporterMode(exporterMode);
+            .exporterMode(exporterMode)
+            .isolatedExporters(
+                context.getBrokerCfg().getExperimental().getFeatures().isEnableIsolatedExporters());
 
     final ExporterDirector director = new ExporterDirector(exporterCtx, !context.shouldExport());
 
@@ -95,10 +95,19 @@ public final class LogStreamPartitionTransitionStep implements PartitionTransiti
         .withNodeId(context.getNodeId())
         .withPartitionId(context.getPartitionId())
         .withMaxFragmentSize(context.getMaxFragmentSize())
+        .withMaxCoalescedBatchLength(getMaxCoalescedBatchLength(context))
+        .withSequencerCapacity(context.getBrokerCfg().getExperimental().getSequencerCapacity())
         .withActorSchedulingService(context.getActorSchedulingService())
         .buildAsync();
   }
 
+  private static int getMaxCoalescedBatchLength(final PartitionTransitionContext context) {
+    final var experimentalCfg = context.getBrokerCfg().getExperimental();
+    return experimentalCfg.isEnableAppendCoalescing()
+        ? experimentalCfg.getMaxCoalescedAppendSizeInBytes()
+        : 0;
+  }
+
   private boolean shouldInstallOnTransition(final Role newRole, final Role currentRole) {
     return newRole == Role.LEADER
         || (newRole == Role.FOLLOWER && currentRole != Role.CANDIDATE)
@@ -18,6 +18,7 @@ import io.camunda.zeebe.stream.api.records.TypedRecord;
 import io.camunda.zeebe.stream.impl.StreamProcessor;
 import io.camunda.zeebe.stream.impl.StreamProcessorListener;
 import io.camunda.zeebe.stream.impl.StreamProcessorMode;
+import java.time.Duration;
 import java.util.List;
 import java.util.function.BiFunction;
 
@@ -144,6 +145,11 @@ public final class StreamProcessorTransitionStep implements PartitionTransitionS
         .nodeId(context.getNodeId())
         .commandResponseWriter(context.getCommandResponseWriter())
         .maxCommandsInBatch(context.getBrokerCfg().getProcessing().getMaxCommandsInBatch())
+        .maxBatchesInReplayTransaction(
+            context.getBrokerCfg().getProcessing().getMaxBatchesInReplayTransaction())
+        .commandBatchLatencyTarget(getCommandBatchLatencyTarget(context))
+        .maxCommandsInAdaptiveBatch(
+            context.getBrokerCfg().getProcessing().getAdaptiveBatchingMaxCommandsInBatch())
         .listener(
             new StreamProcessorListener() {
               @Override
@@ -158,4 +164,11 @@ public final class StreamProcessorTransitionStep implements PartitionTransitionS
         .partitionCommandSender(context.getPartitionCommandSender())
         .build();
   }
+
+  private static Duration getCommandBatchLatencyTarget(final PartitionTransitionContext context) {
+    final var processingCfg = context.getBrokerCfg().getProcessing();
+    return processingCfg.isEnableAdaptiveBatching()
+        ? processingCfg.getAdaptiveBatchingLatencyTarget()
+        : null;
+  }
 }
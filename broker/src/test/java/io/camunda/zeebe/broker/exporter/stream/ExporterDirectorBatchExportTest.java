@@ -0,0 +1,120 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
+import io.camunda.zeebe.broker.exporter.util.ControlledTestExporter;
+import io.camunda.zeebe.exporter.api.BatchExporter;
+import io.camunda.zeebe.exporter.api.Exporter;
+import io.camunda.zeebe.exporter.api.context.Controller;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.value.JobRecordValue;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.awaitility.Awaitility;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class ExporterDirectorBatchExportTest {
+
+  private static final String BATCH_EXPORTER_ID = "batch-exporter";
+  private static final String RECORD_EXPORTER_ID = "record-exporter";
+
+  @Rule public final ExporterRule rule = ExporterRule.activeExporter();
+
+  private final TestBatchExporter batchExporter = new TestBatchExporter();
+  private final ControlledTestExporter recordExporter =
+      spy(new ControlledTestExporter().shouldAutoUpdatePosition(true));
+
+  @Test
+  public void shouldExportRecordsInBatches() {
+    // given
+    rule.startExporterDirector(
+        List.of(
+            descriptor(BATCH_EXPORTER_ID, batchExporter),
+            descriptor(RECORD_EXPORTER_ID, recordExporter)));
+
+    // when
+    rule.writeEvent(JobIntent.CREATED, new JobRecord().setType("first"));
+    final long lastPosition = rule.writeEvent(JobIntent.COMPLETED, new JobRecord().setType("last"));
+
+    // then
+    Awaitility.await("all exporters have exported all records")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () -> {
+              assertThat(rule.getExportersState().getPosition(BATCH_EXPORTER_ID))
+                  .isEqualTo(lastPosition);
+              assertThat(rule.getExportersState().getPosition(RECORD_EXPORTER_ID))
+                  .isEqualTo(lastPosition);
+            });
+    assertThat(batchExporter.records)
+        .extracting(r -> ((JobRecordValue) r.getValue()).getType())
+        .containsExactly("first", "last");
+    assertThat(recordExporter.getExportedRecords()).hasSize(2);
+  }
+
+  @Test
+  public void shouldRetryWholeBatchOnFailure() {
+    // given
+    batchExporter.failOnce.set(true);
+    rule.startExporterDirector(List.of(descriptor(BATCH_EXPORTER_ID, batchExporter)));
+
+    // when
+    rule.writeEvent(JobIntent.CREATED, new JobRecord());
+    final long lastPosition = rule.writeEvent(JobIntent.COMPLETED, new JobRecord());
+
+    // then
+    Awaitility.await("batch exporter has exported all records after retry")
+        .atMost(Duration.ofSeconds(15))
+        .untilAsserted(
+            () ->
+                assertThat(rule.getExportersState().getPosition(BATCH_EXPORTER_ID))
+                    .isEqualTo(lastPosition));
+    assertThat(batchExporter.records).extracting(Record::getPosition).doesNotHaveDuplicates();
+  }
+
+  private ExporterDescriptor descriptor(final String id, final Exporter exporter) {
+    final ExporterDescriptor descriptor =
+        spy(new ExporterDescriptor(id, ControlledTestExporter.class, Map.of()));
+    doAnswer(c -> exporter).when(descriptor).newInstance();
+    return descriptor;
+  }
+
+  private static final class TestBatchExporter implements BatchExporter {
+
+    private final List<Record<?>> records = new CopyOnWriteArrayList<>();
+    private final AtomicBoolean failOnce = new AtomicBoolean();
+    private Controller controller;
+
+    @Override
+    public void open(final Controller controller) {
+      this.controller = controller;
+    }
+
+    @Override
+    public void exportBatch(final List<Record<?>> batch) {
+      if (failOnce.compareAndSet(true, false)) {
+        throw new IllegalStateException("expected");
+      }
+
+      // the records are only valid during the call
+      batch.forEach(record -> records.add(record.copyOf()));
+      controller.updateLastExportedRecordPosition(batch.get(batch.size() - 1).getPosition());
+    }
+  }
+}
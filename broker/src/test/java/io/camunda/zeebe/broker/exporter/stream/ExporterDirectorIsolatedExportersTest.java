@@ -0,0 +1,149 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+
+import io.camunda.zeebe.broker.exporter.repo.ExporterDescriptor;
+import io.camunda.zeebe.broker.exporter.util.ControlledTestExporter;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.util.health.HealthStatus;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import org.awaitility.Awaitility;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class ExporterDirectorIsolatedExportersTest {
+
+  private static final String EXPORTER_ID_1 = "exporter-1";
+  private static final String EXPORTER_ID_2 = "exporter-2";
+
+  @Rule public final ExporterRule rule = ExporterRule.activeExporter().withIsolatedExporters();
+
+  private final List<ControlledTestExporter> exporters = new ArrayList<>();
+  private final List<ExporterDescriptor> exporterDescriptors = new ArrayList<>();
+  private final CountDownLatch blockingLatch = new CountDownLatch(1);
+
+  @Before
+  public void init() {
+    createExporter(EXPORTER_ID_1);
+    createExporter(EXPORTER_ID_2);
+  }
+
+  @After
+  public void tearDown() {
+    blockingLatch.countDown();
+  }
+
+  @Test
+  public void shouldExportRecordsToAllExporters() {
+    // given
+    rule.startExporterDirector(exporterDescriptors);
+
+    // when
+    rule.writeEvent(JobIntent.CREATED, new JobRecord());
+    final long lastPosition = rule.writeEvent(JobIntent.COMPLETED, new JobRecord());
+
+    // then
+    Awaitility.await("all exporters have exported all records")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () -> {
+              assertThat(exporters)
+                  .allSatisfy(exporter -> assertThat(exporter.getExportedRecords()).hasSize(2));
+              assertThat(rule.getDirector().getLowestPosition().join()).isEqualTo(lastPosition);
+            });
+    final var state = rule.getExportersState();
+    assertThat(state.getPosition(EXPORTER_ID_1)).isEqualTo(lastPosition);
+    assertThat(state.getPosition(EXPORTER_ID_2)).isEqualTo(lastPosition);
+  }
+
+  @Test
+  public void shouldNotBeHeldBackBySlowExporter() {
+    // given
+    final var slowExporter = exporters.get(0);
+    final var fastExporter = exporters.get(1);
+    slowExporter.onExport(record -> awaitUnblocked());
+    rule.startExporterDirector(exporterDescriptors);
+
+    // when
+    final long firstPosition = rule.writeEvent(JobIntent.CREATED, new JobRecord());
+    final long lastPosition = rule.writeEvent(JobIntent.COMPLETED, new JobRecord());
+
+    // then
+    Awaitility.await("fast exporter has exported all records")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () ->
+                assertThat(rule.getExportersState().getPosition(EXPORTER_ID_2))
+                    .isEqualTo(lastPosition));
+    final var state = rule.getExportersState();
+    assertThat(fastExporter.getExportedRecords()).hasSize(2);
+    assertThat(state.getPosition(EXPORTER_ID_1)).isLessThan(firstPosition);
+    assertThat(rule.getDirector().getLowestPosition().join()).isLessThan(firstPosition);
+  }
+
+  @Test
+  public void shouldContinueExportingIfOtherExporterFails() {
+    // given
+    final var failingExporter = exporters.get(0);
+    final var healthyExporter = exporters.get(1);
+    failingExporter.onConfigure(
+        context -> {
+          throw new IllegalStateException("expected");
+        });
+    rule.startExporterDirector(exporterDescriptors);
+
+    // when
+    final long position = rule.writeEvent(JobIntent.CREATED, new JobRecord());
+
+    // then
+    Awaitility.await("healthy exporter has exported the record")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () ->
+                assertThat(rule.getExportersState().getPosition(EXPORTER_ID_2))
+                    .isEqualTo(position));
+    assertThat(healthyExporter.getExportedRecords()).hasSize(1);
+    Awaitility.await("director reports the failed exporter")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(
+            () ->
+                assertThat(rule.getDirector().getHealthReport().getStatus())
+                    .isEqualTo(HealthStatus.UNHEALTHY));
+  }
+
+  private void createExporter(final String exporterId) {
+    final ControlledTestExporter exporter =
+        spy(new ControlledTestExporter().shouldAutoUpdatePosition(true));
+
+    final ExporterDescriptor descriptor =
+        spy(new ExporterDescriptor(exporterId, exporter.getClass(), Map.of()));
+    doAnswer(c -> exporter).when(descriptor).newInstance();
+
+    exporters.add(exporter);
+    exporterDescriptors.add(descriptor);
+  }
+
+  private void awaitUnblocked() {
+    try {
+      blockingLatch.await();
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
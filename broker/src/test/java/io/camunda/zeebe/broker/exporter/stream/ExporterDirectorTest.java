@@ -30,6 +30,7 @@ import io.camunda.zeebe.protocol.record.RecordType;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.protocol.record.intent.DeploymentIntent;
 import io.camunda.zeebe.protocol.record.intent.IncidentIntent;
+import io.camunda.zeebe.protocol.record.intent.Intent;
 import io.camunda.zeebe.protocol.record.intent.JobIntent;
 import java.time.Duration;
 import java.util.ArrayList;
@@ -108,6 +109,53 @@ public final class ExporterDirectorTest {
     assertThat(state.getPosition(EXPORTER_ID_2)).isEqualTo(skippedRecordPosition);
   }
 
+  @Test
+  public void shouldOnlyExportRecordsWithAcceptedIntent() {
+    // given
+    final ControlledTestExporter intentFilteringExporter = exporters.get(0);
+    final ControlledTestExporter tailingExporter = exporters.get(1);
+    intentFilteringExporter.onConfigure(withIntentFilter(List.of(JobIntent.CREATED)));
+    tailingExporter.onConfigure(
+        withFilter(List.of(RecordType.EVENT), List.of(ValueType.JOB, ValueType.DEPLOYMENT)));
+
+    // when
+    startExporterDirector(exporterDescriptors);
+    rule.writeEvent(JobIntent.CREATED, new JobRecord());
+    rule.writeEvent(JobIntent.COMPLETED, new JobRecord());
+    rule.writeEvent(DeploymentIntent.CREATED, new DeploymentRecord());
+
+    // then
+    Awaitility.await("director has read all records until now")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(() -> assertThat(tailingExporter.getExportedRecords()).hasSize(3));
+    assertThat(intentFilteringExporter.getExportedRecords())
+        .extracting(Record::getIntent)
+        .containsExactly(JobIntent.CREATED);
+  }
+
+  @Test
+  public void shouldSkipRecordsWithIntentRejectedByAllExporters() {
+    // given
+    final ControlledTestExporter tailingExporter = exporters.get(1);
+    exporters.forEach(
+        e ->
+            e.onConfigure(withIntentFilter(List.of(JobIntent.CREATED)))
+                .shouldAutoUpdatePosition(false));
+
+    // when
+    startExporterDirector(exporterDescriptors);
+    final ExportersState state = rule.getExportersState();
+    final long skippedRecordPosition = rule.writeEvent(JobIntent.COMPLETED, new JobRecord());
+    rule.writeEvent(JobIntent.CREATED, new JobRecord());
+
+    // then
+    Awaitility.await("director has read all records until now")
+        .atMost(Duration.ofSeconds(5))
+        .untilAsserted(() -> assertThat(tailingExporter.getExportedRecords()).hasSize(1));
+    assertThat(state.getPosition(EXPORTER_ID_1)).isEqualTo(skippedRecordPosition);
+    assertThat(state.getPosition(EXPORTER_ID_2)).isEqualTo(skippedRecordPosition);
+  }
+
   @Test
   public void shouldUpdatePositionOfUpToDateExportersOnSkipRecord() {
     // given
@@ -654,4 +702,25 @@ public final class ExporterDirectorTest {
               }
             });
   }
+
+  private Consumer<Context> withIntentFilter(final List<JobIntent> intents) {
+    return context ->
+        context.setFilter(
+            new Context.RecordFilter() {
+              @Override
+              public boolean acceptType(final RecordType recordType) {
+                return true;
+              }
+
+              @Override
+              public boolean acceptValue(final ValueType valueType) {
+                return valueType == ValueType.JOB;
+              }
+
+              @Override
+              public boolean acceptIntent(final Intent intent) {
+                return intents.contains(intent);
+              }
+            });
+  }
 }
@@ -0,0 +1,87 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.broker.exporter.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.logstreams.log.LogStreamReader;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.Test;
+
+public final class RecordBatchExporterTest {
+
+  private final RecordBatchExporter batchExporter =
+      new RecordBatchExporter(new ExporterMetrics(1), List.of(), 1);
+  private final List<LoggedEvent> skippedRecords = new ArrayList<>();
+
+  @Test
+  public void shouldSkipRecordsOfUnknownValueTypeBeforeBatch() {
+    // given
+    final var unknownRecord = event(1, ValueType.NULL_VAL, Intent.UNKNOWN);
+    final var reader = reader(unknownRecord, event(2, ValueType.JOB, JobIntent.CREATED));
+
+    // when
+    batchExporter.fill(reader, null, skippedRecords::add);
+
+    // then
+    assertThat(skippedRecords).containsExactly(unknownRecord);
+    assertThat(batchExporter.isEmpty()).isFalse();
+    assertThat(reader.hasNext()).isFalse();
+  }
+
+  @Test
+  public void shouldEndBatchAtRecordOfUnknownValueType() {
+    // given
+    final var unknownRecord = event(2, ValueType.NULL_VAL, Intent.UNKNOWN);
+    final var reader = reader(event(1, ValueType.JOB, JobIntent.CREATED), unknownRecord);
+
+    // when
+    batchExporter.fill(reader, null, skippedRecords::add);
+
+    // then - the record is left in the reader, and skipped with the next batch
+    assertThat(skippedRecords).isEmpty();
+    assertThat(batchExporter.isEmpty()).isFalse();
+    assertThat(reader.peekNext()).isSameAs(unknownRecord);
+  }
+
+  private static LoggedEvent event(
+      final long position, final ValueType valueType, final Intent intent) {
+    final var metadata =
+        new RecordMetadata().recordType(RecordType.EVENT).valueType(valueType).intent(intent);
+    final var metadataBuffer = new UnsafeBuffer(new byte[metadata.getLength()]);
+    metadata.write(metadataBuffer, 0);
+
+    final var event = mock(LoggedEvent.class);
+    when(event.getPosition()).thenReturn(position);
+    when(event.getMetadata()).thenReturn(metadataBuffer);
+    when(event.getMetadataLength()).thenReturn((short) metadataBuffer.capacity());
+    when(event.getValueBuffer()).thenReturn(new UnsafeBuffer(new byte[0]));
+    return event;
+  }
+
+  private static LogStreamReader reader(final LoggedEvent... events) {
+    final Deque<LoggedEvent> remaining = new ArrayDeque<>(List.of(events));
+    final var reader = mock(LogStreamReader.class);
+    when(reader.hasNext()).thenAnswer(i -> !remaining.isEmpty());
+    when(reader.peekNext()).thenAnswer(i -> remaining.getFirst());
+    when(reader.next()).thenAnswer(i -> remaining.removeFirst());
+    return reader;
+  }
+}
@@ -14,6 +14,7 @@ import static org.mockito.Mockito.when;
 import io.atomix.cluster.ClusterMembershipService;
 import io.atomix.raft.partition.RaftPartitionGroupConfig;
 import io.atomix.raft.storage.log.DelayedFlusher;
+import io.atomix.raft.storage.log.GroupCommitFlusher;
 import io.atomix.raft.storage.log.RaftLogFlusher.DirectFlusher;
 import io.atomix.raft.storage.log.RaftLogFlusher.NoopFlusher;
 import io.atomix.utils.concurrent.Scheduled;
@@ -57,7 +58,10 @@ final class PartitionManagerImplTest {
   void shouldUseDelayedFlushStrategy() {
     // given
     final var brokerConfig = newConfig();
-    brokerConfig.getCluster().getRaft().setFlush(new FlushConfig(true, Duration.ofSeconds(5)));
+    brokerConfig
+        .getCluster()
+        .getRaft()
+        .setFlush(new FlushConfig(true, Duration.ofSeconds(5), Duration.ZERO, 0));
 
     // when
     final var partitionManager =
@@ -82,11 +86,47 @@ final class PartitionManagerImplTest {
         .hasFieldOrPropertyWithValue("delayTime", Duration.ofSeconds(5));
   }
 
+  @Test
+  void shouldUseGroupCommitFlushStrategy() {
+    // given
+    final var brokerConfig = newConfig();
+    brokerConfig
+        .getCluster()
+        .getRaft()
+        .setFlush(new FlushConfig(true, Duration.ZERO, Duration.ofMillis(2), 32));
+
+    // when
+    final var partitionManager =
+        new PartitionManagerImpl(
+            mock(ActorSchedulingService.class),
+            brokerConfig,
+            new BrokerInfo(1, "dummy"),
+            mockClusterServices,
+            mock(BrokerHealthCheckService.class),
+            null,
+            new ArrayList<>(),
+            null,
+            mock(ExporterRepository.class),
+            null,
+            JobStreamer.noop());
+
+    // then
+    final var config = getPartitionGroupConfig(partitionManager);
+    assertThat(config.getStorageConfig().flusherFactory().createFlusher(NoopContext::new))
+        .isInstanceOf(GroupCommitFlusher.class)
+        .asInstanceOf(InstanceOfAssertFactories.type(GroupCommitFlusher.class))
+        .hasFieldOrPropertyWithValue("maxDelay", Duration.ofMillis(2))
+        .hasFieldOrPropertyWithValue("maxPendingFlushes", 32);
+  }
+
   @Test
   void shouldUseDirectFlushStrategy() {
     // given
     final var brokerConfig = newConfig();
-    brokerConfig.getCluster().getRaft().setFlush(new FlushConfig(true, Duration.ZERO));
+    brokerConfig
+        .getCluster()
+        .getRaft()
+        .setFlush(new FlushConfig(true, Duration.ZERO, Duration.ZERO, 0));
 
     // when
     final var partitionManager =
@@ -113,7 +153,10 @@ final class PartitionManagerImplTest {
   void shouldUseNoOpFlushStrategy() {
     // given
     final var brokerConfig = newConfig();
-    brokerConfig.getCluster().getRaft().setFlush(new FlushConfig(false, Duration.ofSeconds(5)));
+    brokerConfig
+        .getCluster()
+        .getRaft()
+        .setFlush(new FlushConfig(false, Duration.ofSeconds(5), Duration.ZERO, 0));
 
     // when
     final var partitionManager =
@@ -141,7 +184,10 @@ final class PartitionManagerImplTest {
     // given
     final var brokerConfig = newConfig();
     brokerConfig.getExperimental().setDisableExplicitRaftFlush(true);
-    brokerConfig.getCluster().getRaft().setFlush(new FlushConfig(true, Duration.ofSeconds(5)));
+    brokerConfig
+        .getCluster()
+        .getRaft()
+        .setFlush(new FlushConfig(true, Duration.ofSeconds(5), Duration.ZERO, 0));
 
     // when
     final var partitionManager =
@@ -9,6 +9,7 @@ package io.camunda.zeebe.broker.system.configuration;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.journal.record.RecordCompression;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
@@ -181,4 +182,104 @@ final class ExperimentalCfgTest {
     // then
     assertThat(raftCfg.isPreallocateSegmentFiles()).isTrue();
   }
+
+  @Test
+  void shouldSetJournalCompressionFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.getJournalCompression()).isEqualTo(RecordCompression.ZSTD);
+  }
+
+  @Test
+  void shouldSetJournalCompressionFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.raft.journalCompression", "none");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.getJournalCompression()).isEqualTo(RecordCompression.NONE);
+  }
+
+  @Test
+  void shouldNotCompressJournalByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var raftCfg = cfg.getExperimental().getRaft();
+
+    // then
+    assertThat(raftCfg.getJournalCompression()).isEqualTo(RecordCompression.NONE);
+  }
+
+  @Test
+  void shouldSetAppendCoalescingFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var experimentalCfg = cfg.getExperimental();
+
+    // then
+    assertThat(experimentalCfg.isEnableAppendCoalescing()).isTrue();
+    assertThat(experimentalCfg.getMaxCoalescedAppendSizeInBytes()).isEqualTo(64 * 1024);
+  }
+
+  @Test
+  void shouldSetAppendCoalescingFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.enableAppendCoalescing", "false");
+    environment.put("zeebe.broker.experimental.maxCoalescedAppendSize", "128KB");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+    final var experimentalCfg = cfg.getExperimental();
+
+    // then
+    assertThat(experimentalCfg.isEnableAppendCoalescing()).isFalse();
+    assertThat(experimentalCfg.getMaxCoalescedAppendSizeInBytes()).isEqualTo(128 * 1024);
+  }
+
+  @Test
+  void shouldNotCoalesceAppendsByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var experimentalCfg = cfg.getExperimental();
+
+    // then
+    assertThat(experimentalCfg.isEnableAppendCoalescing()).isFalse();
+    assertThat(experimentalCfg.getMaxCoalescedAppendSizeInBytes()).isEqualTo(32 * 1024);
+  }
+
+  @Test
+  void shouldSetSequencerCapacityFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+
+    // then
+    assertThat(cfg.getExperimental().getSequencerCapacity()).isEqualTo(2048);
+  }
+
+  @Test
+  void shouldSetSequencerCapacityFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.sequencerCapacity", "4096");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("experimental-cfg", environment);
+
+    // then
+    assertThat(cfg.getExperimental().getSequencerCapacity()).isEqualTo(4096);
+  }
+
+  @Test
+  void shouldUseDefaultSequencerCapacity() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+
+    // then
+    assertThat(cfg.getExperimental().getSequencerCapacity()).isEqualTo(1024);
+  }
 }
@@ -162,4 +162,37 @@ final class FeatureFlagsCfgTest {
     // then
     assertThat(featureFlagsCfg.isEnableStraightThroughProcessingLoopDetector()).isTrue();
   }
+
+  @Test
+  void shouldDisableIsolatedExportersByDefault() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("empty", environment);
+    final var featureFlagsCfg = cfg.getExperimental().getFeatures();
+
+    // then
+    assertThat(featureFlagsCfg.isEnableIsolatedExporters()).isFalse();
+  }
+
+  @Test
+  void shouldSetEnableIsolatedExportersFromConfig() {
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("feature-flags-cfg", environment);
+    final var featureFlagsCfg = cfg.getExperimental().getFeatures();
+
+    // then
+    assertThat(featureFlagsCfg.isEnableIsolatedExporters()).isTrue();
+  }
+
+  @Test
+  void shouldSetEnableIsolatedExportersFromEnv() {
+    // given
+    environment.put("zeebe.broker.experimental.features.enableIsolatedExporters", "false");
+
+    // when
+    final BrokerCfg cfg = TestConfigReader.readConfig("feature-flags-cfg", environment);
+    final var featureFlagsCfg = cfg.getExperimental().getFeatures();
+
+    // then
+    assertThat(featureFlagsCfg.isEnableIsolatedExporters()).isFalse();
+  }
 }
@@ -10,6 +10,7 @@ package io.camunda.zeebe.broker.system.configuration;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import java.time.Duration;
 import java.util.Collections;
 import org.junit.jupiter.api.Test;
 
@@ -78,4 +79,117 @@ final class ProcessingCfgTest {
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessageContaining("maxCommandsInBatch must be >= 1");
   }
+
+  @Test
+  void shouldUseDefaultMaxBatchesInReplayTransaction() {
+    // given
+    final var cfg = new ProcessingCfg();
+
+    // when
+    final int limit = cfg.getMaxBatchesInReplayTransaction();
+
+    // then
+    assertThat(limit).isEqualTo(1);
+  }
+
+  @Test
+  void shouldSetMaxBatchesInReplayTransactionFromConfig() {
+    // given
+    final var cfg =
+        TestConfigReader.readConfig("processing-cfg", Collections.emptyMap()).getProcessing();
+
+    // when
+    final int limit = cfg.getMaxBatchesInReplayTransaction();
+
+    // then
+    assertThat(limit).isEqualTo(16);
+  }
+
+  @Test
+  void shouldSetMaxBatchesInReplayTransactionFromEnvironment() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.maxBatchesInReplayTransaction", "32");
+    final var cfg = TestConfigReader.readConfig("processing-cfg", environment).getProcessing();
+
+    // when
+    final var limit = cfg.getMaxBatchesInReplayTransaction();
+
+    // then
+    assertThat(limit).isEqualTo(32);
+  }
+
+  @Test
+  void shouldRejectInvalidMaxBatchesInReplayTransaction() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.maxBatchesInReplayTransaction", "0");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("processing-cfg", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("maxBatchesInReplayTransaction must be >= 1");
+  }
+
+  @Test
+  void shouldDisableAdaptiveBatchingByDefault() {
+    // given
+    final var cfg = new ProcessingCfg();
+
+    // then
+    assertThat(cfg.isEnableAdaptiveBatching()).isFalse();
+    assertThat(cfg.getAdaptiveBatchingLatencyTarget()).isEqualTo(Duration.ofMillis(50));
+    assertThat(cfg.getAdaptiveBatchingMaxCommandsInBatch()).isEqualTo(1000);
+  }
+
+  @Test
+  void shouldSetAdaptiveBatchingFromConfig() {
+    // given
+    final var cfg =
+        TestConfigReader.readConfig("processing-cfg", Collections.emptyMap()).getProcessing();
+
+    // then
+    assertThat(cfg.isEnableAdaptiveBatching()).isTrue();
+    assertThat(cfg.getAdaptiveBatchingLatencyTarget()).isEqualTo(Duration.ofMillis(20));
+    assertThat(cfg.getAdaptiveBatchingMaxCommandsInBatch()).isEqualTo(500);
+  }
+
+  @Test
+  void shouldSetAdaptiveBatchingLatencyTargetFromEnvironment() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.adaptiveBatchingLatencyTarget", "10ms");
+    final var cfg = TestConfigReader.readConfig("processing-cfg", environment).getProcessing();
+
+    // when
+    final var latencyTarget = cfg.getAdaptiveBatchingLatencyTarget();
+
+    // then
+    assertThat(latencyTarget).isEqualTo(Duration.ofMillis(10));
+  }
+
+  @Test
+  void shouldRejectInvalidAdaptiveBatchingLatencyTarget() {
+    // given
+    final var environment =
+        Collections.singletonMap("zeebe.broker.processing.adaptiveBatchingLatencyTarget", "0ms");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("processing-cfg", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("adaptiveBatchingLatencyTarget must be positive");
+  }
+
+  @Test
+  void shouldRejectAdaptiveBatchingMaxCommandsInBatchBelowMaxCommandsInBatch() {
+    // given
+    final var environment =
+        Collections.singletonMap(
+            "zeebe.broker.processing.adaptiveBatchingMaxCommandsInBatch", "50");
+
+    // then
+    assertThatThrownBy(() -> TestConfigReader.readConfig("processing-cfg", environment))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("adaptiveBatchingMaxCommandsInBatch must be >= maxCommandsInBatch");
+  }
 }
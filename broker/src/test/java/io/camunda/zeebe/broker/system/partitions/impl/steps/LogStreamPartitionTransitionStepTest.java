@@ -19,6 +19,7 @@ import io.atomix.raft.RaftServer.Role;
 import io.atomix.raft.partition.RaftPartition;
 import io.atomix.raft.partition.impl.RaftPartitionServer;
 import io.camunda.zeebe.broker.logstreams.AtomixLogStorage;
+import io.camunda.zeebe.broker.system.configuration.BrokerCfg;
 import io.camunda.zeebe.broker.system.partitions.TestPartitionTransitionContext;
 import io.camunda.zeebe.broker.system.partitions.impl.steps.PartitionTransitionTestArgumentProviders.TransitionsThatShouldCloseService;
 import io.camunda.zeebe.broker.system.partitions.impl.steps.PartitionTransitionTestArgumentProviders.TransitionsThatShouldDoNothing;
@@ -28,9 +29,11 @@ import io.camunda.zeebe.logstreams.log.LogStreamBuilder;
 import io.camunda.zeebe.scheduler.testing.TestActorFuture;
 import io.camunda.zeebe.util.health.HealthMonitor;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ArgumentsSource;
 import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.util.unit.DataSize;
 
 class LogStreamPartitionTransitionStepTest {
   final TestPartitionTransitionContext transitionContext = new TestPartitionTransitionContext();
@@ -44,6 +47,7 @@ class LogStreamPartitionTransitionStepTest {
 
   @BeforeEach
   void setup() {
+    transitionContext.setBrokerCfg(new BrokerCfg());
     transitionContext.setComponentHealthMonitor(mock(HealthMonitor.class));
     transitionContext.setLogStorage(mock(AtomixLogStorage.class));
 
@@ -118,6 +122,46 @@ class LogStreamPartitionTransitionStepTest {
     verify(logStreamBuilder, never()).buildAsync();
   }
 
+  @Test
+  void shouldNotCoalesceBatchesByDefault() {
+    // given
+    initializeContext(Role.INACTIVE);
+
+    // when
+    transitionTo(Role.LEADER);
+
+    // then
+    verify(logStreamBuilder).withMaxCoalescedBatchLength(0);
+  }
+
+  @Test
+  void shouldCoalesceBatchesIfEnabled() {
+    // given
+    final var experimentalCfg = transitionContext.getBrokerCfg().getExperimental();
+    experimentalCfg.setEnableAppendCoalescing(true);
+    experimentalCfg.setMaxCoalescedAppendSize(DataSize.ofKilobytes(64));
+    initializeContext(Role.INACTIVE);
+
+    // when
+    transitionTo(Role.LEADER);
+
+    // then
+    verify(logStreamBuilder).withMaxCoalescedBatchLength(64 * 1024);
+  }
+
+  @Test
+  void shouldConfigureSequencerCapacity() {
+    // given
+    transitionContext.getBrokerCfg().getExperimental().setSequencerCapacity(4096);
+    initializeContext(Role.INACTIVE);
+
+    // when
+    transitionTo(Role.LEADER);
+
+    // then
+    verify(logStreamBuilder).withSequencerCapacity(4096);
+  }
+
   private void initializeContext(final Role currentRole) {
     transitionContext.setCurrentRole(currentRole);
     if (currentRole != null && currentRole != Role.INACTIVE) {
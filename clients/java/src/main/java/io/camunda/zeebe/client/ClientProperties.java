@@ -35,6 +35,11 @@ public final class ClientProperties {
    */
   public static final String JOB_WORKER_EXECUTION_THREADS = "zeebe.client.worker.threads";
 
+  /**
+   * @see ZeebeClientBuilder#jobWorkerVirtualThreads(boolean)
+   */
+  public static final String JOB_WORKER_VIRTUAL_THREADS = "zeebe.client.worker.virtualThreads";
+
   /**
    * @see ZeebeClientBuilder#defaultJobWorkerMaxJobsActive(int)
    */
@@ -60,6 +60,20 @@ public interface ZeebeClientBuilder {
    */
   ZeebeClientBuilder numJobWorkerExecutionThreads(int numThreads);
 
+  /**
+   * Runs every job handler on its own virtual thread, instead of on the job worker execution
+   * threads. Since blocking a virtual thread is cheap, this allows to handle many jobs with
+   * blocking handlers (e.g. waiting for I/O) concurrently; the concurrency of a worker is then only
+   * limited by its {@link JobWorkerBuilderStep3#maxJobsActive(int)}. The execution threads are
+   * still used to poll for jobs.
+   *
+   * <p>Virtual threads require Java 21 or newer. On older runtimes, this setting is ignored and a
+   * warning is logged. Default value is false.
+   *
+   * @param enabled true to run job handlers on virtual threads
+   */
+  ZeebeClientBuilder jobWorkerVirtualThreads(boolean enabled);
+
   /**
    * The name of the worker which is used when none is set for a job worker. Default is 'default'.
    */
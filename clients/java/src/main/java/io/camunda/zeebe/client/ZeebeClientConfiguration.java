@@ -31,6 +31,11 @@ public interface ZeebeClientConfiguration {
    */
   int getNumJobWorkerExecutionThreads();
 
+  /**
+   * @see ZeebeClientBuilder#jobWorkerVirtualThreads(boolean)
+   */
+  boolean isJobWorkerVirtualThreadsEnabled();
+
   /**
    * @see ZeebeClientBuilder#defaultJobWorkerMaxJobsActive(int)
    */
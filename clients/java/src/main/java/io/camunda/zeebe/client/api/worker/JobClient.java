@@ -17,6 +17,7 @@ package io.camunda.zeebe.client.api.worker;
 
 import io.camunda.zeebe.client.api.command.ActivateJobsCommandStep1;
 import io.camunda.zeebe.client.api.command.CompleteJobCommandStep1;
+import io.camunda.zeebe.client.api.command.CompleteJobsCommandStep1;
 import io.camunda.zeebe.client.api.command.FailJobCommandStep1;
 import io.camunda.zeebe.client.api.command.ThrowErrorCommandStep1;
 import io.camunda.zeebe.client.api.response.ActivatedJob;
@@ -69,6 +70,26 @@ public interface JobClient {
    */
   CompleteJobCommandStep1 newCompleteCommand(ActivatedJob job);
 
+  /**
+   * Command to complete many jobs at once.
+   *
+   * <pre>
+   * jobClient
+   *  .newCompleteJobsCommand()
+   *  .addJob(jobKey, json)
+   *  .addJob(otherJobKey)
+   *  .send();
+   * </pre>
+   *
+   * <p>The jobs are grouped by partition, and the jobs of each partition are completed together.
+   * Unlike {@link #newCompleteCommand(long)}, the command does not fail if some of the jobs cannot
+   * be completed; instead, the response contains a result per job, which tells whether the job was
+   * completed.
+   *
+   * @return a builder for the command
+   */
+  CompleteJobsCommandStep1 newCompleteJobsCommand();
+
   /**
    * Command to mark a job as failed.
    *
@@ -54,6 +54,7 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
   private String gatewayAddress = DEFAULT_GATEWAY_ADDRESS;
   private int jobWorkerMaxJobsActive = 32;
   private int numJobWorkerExecutionThreads = 1;
+  private boolean jobWorkerVirtualThreads = false;
   private String defaultJobWorkerName = "default";
   private Duration defaultJobTimeout = Duration.ofMinutes(5);
   private Duration defaultJobPollInterval = Duration.ofMillis(100);
@@ -77,6 +78,11 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
     return numJobWorkerExecutionThreads;
   }
 
+  @Override
+  public boolean isJobWorkerVirtualThreadsEnabled() {
+    return jobWorkerVirtualThreads;
+  }
+
   @Override
   public int getDefaultJobWorkerMaxJobsActive() {
     return jobWorkerMaxJobsActive;
@@ -162,6 +168,11 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
       numJobWorkerExecutionThreads(
           Integer.parseInt(properties.getProperty(ClientProperties.JOB_WORKER_EXECUTION_THREADS)));
     }
+    if (properties.containsKey(ClientProperties.JOB_WORKER_VIRTUAL_THREADS)) {
+      jobWorkerVirtualThreads(
+          Boolean.parseBoolean(
+              properties.getProperty(ClientProperties.JOB_WORKER_VIRTUAL_THREADS)));
+    }
     if (properties.containsKey(ClientProperties.JOB_WORKER_MAX_JOBS_ACTIVE)) {
       defaultJobWorkerMaxJobsActive(
           Integer.parseInt(properties.getProperty(ClientProperties.JOB_WORKER_MAX_JOBS_ACTIVE)));
@@ -241,6 +252,12 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
     return this;
   }
 
+  @Override
+  public ZeebeClientBuilder jobWorkerVirtualThreads(final boolean enabled) {
+    jobWorkerVirtualThreads = enabled;
+    return this;
+  }
+
   @Override
   public ZeebeClientBuilder defaultJobWorkerName(final String workerName) {
     this.defaultJobWorkerName = workerName;
@@ -369,6 +386,7 @@ public final class ZeebeClientBuilderImpl implements ZeebeClientBuilder, ZeebeCl
     appendProperty(sb, "gatewayAddress", gatewayAddress);
     appendProperty(sb, "jobWorkerMaxJobsActive", jobWorkerMaxJobsActive);
     appendProperty(sb, "numJobWorkerExecutionThreads", numJobWorkerExecutionThreads);
+    appendProperty(sb, "jobWorkerVirtualThreads", jobWorkerVirtualThreads);
     appendProperty(sb, "defaultJobWorkerName", defaultJobWorkerName);
     appendProperty(sb, "defaultJobTimeout", defaultJobTimeout);
     appendProperty(sb, "defaultJobPollInterval", defaultJobPollInterval);
@@ -118,6 +118,12 @@ public class ZeebeClientCloudBuilderImpl
     return this;
   }
 
+  @Override
+  public ZeebeClientBuilder jobWorkerVirtualThreads(final boolean enabled) {
+    innerBuilder.jobWorkerVirtualThreads(enabled);
+    return this;
+  }
+
   @Override
   public ZeebeClientCloudBuilderStep4 defaultJobWorkerName(final String workerName) {
     innerBuilder.defaultJobWorkerName(workerName);
@@ -25,6 +25,7 @@ import io.camunda.zeebe.client.api.command.BroadcastSignalCommandStep1;
 import io.camunda.zeebe.client.api.command.CancelProcessInstanceCommandStep1;
 import io.camunda.zeebe.client.api.command.ClientException;
 import io.camunda.zeebe.client.api.command.CompleteJobCommandStep1;
+import io.camunda.zeebe.client.api.command.CompleteJobsCommandStep1;
 import io.camunda.zeebe.client.api.command.CreateProcessInstanceCommandStep1;
 import io.camunda.zeebe.client.api.command.DeleteResourceCommandStep1;
 import io.camunda.zeebe.client.api.command.DeployProcessCommandStep1;
@@ -55,6 +56,7 @@ import io.camunda.zeebe.client.impl.command.ResolveIncidentCommandImpl;
 import io.camunda.zeebe.client.impl.command.SetVariablesCommandImpl;
 import io.camunda.zeebe.client.impl.command.TopologyRequestImpl;
 import io.camunda.zeebe.client.impl.util.VersionUtil;
+import io.camunda.zeebe.client.impl.util.VirtualThreads;
 import io.camunda.zeebe.client.impl.worker.JobClientImpl;
 import io.camunda.zeebe.client.impl.worker.JobWorkerBuilderImpl;
 import io.camunda.zeebe.gateway.protocol.GatewayGrpc;
@@ -71,10 +73,13 @@ import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 public final class ZeebeClientImpl implements ZeebeClient {
   private final ZeebeClientConfiguration config;
@@ -82,6 +87,7 @@ public final class ZeebeClientImpl implements ZeebeClient {
   private final GatewayStub asyncStub;
   private final ManagedChannel channel;
   private final ScheduledExecutorService executorService;
+  private final ExecutorService jobExecutorService;
   private final List<Closeable> closeables = new CopyOnWriteArrayList<>();
   private final JobClient jobClient;
   private final CredentialsProvider credentialsProvider;
@@ -107,11 +113,32 @@ public final class ZeebeClientImpl implements ZeebeClient {
       final ManagedChannel channel,
       final GatewayStub gatewayStub,
       final ScheduledExecutorService executorService) {
+    this(
+        config,
+        channel,
+        gatewayStub,
+        executorService,
+        buildJobExecutorService(
+            config, executorService, VirtualThreads::newVirtualThreadPerTaskExecutor));
+  }
+
+  /**
+   * @param executorService the executor to poll for jobs on
+   * @param jobExecutorService the executor to run the job handlers on; may be the same as the
+   *     {@code executorService}
+   */
+  public ZeebeClientImpl(
+      final ZeebeClientConfiguration config,
+      final ManagedChannel channel,
+      final GatewayStub gatewayStub,
+      final ScheduledExecutorService executorService,
+      final ExecutorService jobExecutorService) {
     this.config = config;
     jsonMapper = config.getJsonMapper();
     this.channel = channel;
     asyncStub = gatewayStub;
     this.executorService = executorService;
+    this.jobExecutorService = jobExecutorService;
 
     if (config.getCredentialsProvider() != null) {
       credentialsProvider = config.getCredentialsProvider();
@@ -195,6 +222,32 @@ public final class ZeebeClientImpl implements ZeebeClient {
     return Executors.newScheduledThreadPool(threadCount);
   }
 
+  /**
+   * @param virtualThreadExecutorFactory creates the executor which runs each job handler on its own
+   *     virtual thread, or returns empty if the runtime doesn't support virtual threads
+   * @return the executor to run the job handlers on
+   */
+  static ExecutorService buildJobExecutorService(
+      final ZeebeClientConfiguration configuration,
+      final ScheduledExecutorService executorService,
+      final Supplier<Optional<ExecutorService>> virtualThreadExecutorFactory) {
+    if (!configuration.isJobWorkerVirtualThreadsEnabled()) {
+      return executorService;
+    }
+
+    final Optional<ExecutorService> virtualThreadExecutor = virtualThreadExecutorFactory.get();
+    if (!virtualThreadExecutor.isPresent()) {
+      Loggers.LOGGER.warn(
+          "Expected to run job handlers on virtual threads, but they are not supported by the Java "
+              + "runtime {}. Falling back to the {} job worker execution thread(s).",
+          System.getProperty("java.version"),
+          configuration.getNumJobWorkerExecutionThreads());
+      return executorService;
+    }
+
+    return virtualThreadExecutor.get();
+  }
+
   @Override
   public TopologyRequestStep1 newTopologyRequest() {
     return new TopologyRequestImpl(
@@ -217,28 +270,35 @@ public final class ZeebeClientImpl implements ZeebeClient {
           }
         });
 
-    executorService.shutdownNow();
+    shutdownExecutor(executorService);
+    if (jobExecutorService != executorService) {
+      shutdownExecutor(jobExecutorService);
+    }
+
+    channel.shutdownNow();
 
     try {
-      if (!executorService.awaitTermination(15, TimeUnit.SECONDS)) {
+      if (!channel.awaitTermination(15, TimeUnit.SECONDS)) {
         throw new ClientException(
-            "Timed out awaiting termination of job worker executor after 15 seconds");
+            "Timed out awaiting termination of in-flight request channel after 15 seconds");
       }
     } catch (final InterruptedException e) {
       throw new ClientException(
-          "Unexpected interrupted awaiting termination of job worker executor", e);
+          "Unexpectedly interrupted awaiting termination of in-flight request channel", e);
     }
+  }
 
-    channel.shutdownNow();
+  private static void shutdownExecutor(final ExecutorService executor) {
+    executor.shutdownNow();
 
     try {
-      if (!channel.awaitTermination(15, TimeUnit.SECONDS)) {
+      if (!executor.awaitTermination(15, TimeUnit.SECONDS)) {
         throw new ClientException(
-            "Timed out awaiting termination of in-flight request channel after 15 seconds");
+            "Timed out awaiting termination of job worker executor after 15 seconds");
       }
     } catch (final InterruptedException e) {
       throw new ClientException(
-          "Unexpectedly interrupted awaiting termination of in-flight request channel", e);
+          "Unexpected interrupted awaiting termination of job worker executor", e);
     }
   }
 
@@ -339,7 +399,8 @@ public final class ZeebeClientImpl implements ZeebeClient {
 
   @Override
   public JobWorkerBuilderStep1 newWorker() {
-    return new JobWorkerBuilderImpl(config, jobClient, executorService, closeables);
+    return new JobWorkerBuilderImpl(
+        config, jobClient, executorService, jobExecutorService, closeables);
   }
 
   @Override
@@ -371,6 +432,11 @@ public final class ZeebeClientImpl implements ZeebeClient {
     return newCompleteCommand(job.getKey());
   }
 
+  @Override
+  public CompleteJobsCommandStep1 newCompleteJobsCommand() {
+    return jobClient.newCompleteJobsCommand();
+  }
+
   @Override
   public FailJobCommandStep1 newFailCommand(final long jobKey) {
     return jobClient.newFailCommand(jobKey);
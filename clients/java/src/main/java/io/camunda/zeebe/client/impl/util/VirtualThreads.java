@@ -0,0 +1,65 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.util;
+
+import io.camunda.zeebe.client.impl.Loggers;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.slf4j.Logger;
+
+/**
+ * Provides access to virtual threads. The client is compiled for Java 8, while virtual threads are
+ * only available from Java 21 on, so they are looked up reflectively at runtime.
+ */
+public final class VirtualThreads {
+
+  private static final Logger LOG = Loggers.LOGGER;
+  private static final String EXECUTOR_FACTORY_METHOD = "newVirtualThreadPerTaskExecutor";
+
+  private VirtualThreads() {}
+
+  /**
+   * @return an executor which runs each task on a new virtual thread, or empty if the runtime does
+   *     not support virtual threads
+   */
+  public static Optional<ExecutorService> newVirtualThreadPerTaskExecutor() {
+    return newExecutor(Executors.class, EXECUTOR_FACTORY_METHOD);
+  }
+
+  /**
+   * @param factoryClass the class which declares the factory method
+   * @param factoryMethod the name of a public static method without parameters, which returns an
+   *     {@link ExecutorService}
+   * @return the executor returned by the factory method, or empty if the method doesn't exist or
+   *     fails
+   */
+  static Optional<ExecutorService> newExecutor(
+      final Class<?> factoryClass, final String factoryMethod) {
+    try {
+      final Method factory = factoryClass.getMethod(factoryMethod);
+      return Optional.of((ExecutorService) factory.invoke(null));
+    } catch (final NoSuchMethodException e) {
+      return Optional.empty();
+    } catch (final IllegalAccessException | InvocationTargetException e) {
+      // e.g. on Java 19 and 20, where virtual threads are a preview feature which is not enabled
+      LOG.debug("Expected to create a virtual thread executor, but it is not supported", e);
+      return Optional.empty();
+    }
+  }
+}
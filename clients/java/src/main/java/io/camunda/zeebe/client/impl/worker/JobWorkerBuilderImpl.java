@@ -32,6 +32,7 @@ import java.io.Closeable;
 import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
 
 public final class JobWorkerBuilderImpl
@@ -39,8 +40,16 @@ public final class JobWorkerBuilderImpl
 
   public static final BackoffSupplier DEFAULT_BACKOFF_SUPPLIER =
       BackoffSupplier.newBackoffBuilder().build();
+
+  // the share of maxJobsActive below which a worker polls for more jobs; handlers running on the
+  // execution threads queue up anyway, but each handler running on its own (virtual) thread works
+  // concurrently, so the worker should keep most of its jobs in flight
+  private static final float ACTIVATION_THRESHOLD_RATIO = 0.3f;
+  private static final float CONCURRENT_ACTIVATION_THRESHOLD_RATIO = 0.7f;
+
   private final JobClient jobClient;
   private final ScheduledExecutorService executorService;
+  private final Executor jobExecutor;
   private final List<Closeable> closeables;
   private String jobType;
   private JobHandler handler;
@@ -57,8 +66,18 @@ public final class JobWorkerBuilderImpl
       final JobClient jobClient,
       final ScheduledExecutorService executorService,
       final List<Closeable> closeables) {
+    this(configuration, jobClient, executorService, executorService, closeables);
+  }
+
+  public JobWorkerBuilderImpl(
+      final ZeebeClientConfiguration configuration,
+      final JobClient jobClient,
+      final ScheduledExecutorService executorService,
+      final Executor jobExecutor,
+      final List<Closeable> closeables) {
     this.jobClient = jobClient;
     this.executorService = executorService;
+    this.jobExecutor = jobExecutor;
     this.closeables = closeables;
 
     timeout = configuration.getDefaultJobTimeout();
@@ -149,7 +168,9 @@ public final class JobWorkerBuilderImpl
     final JobWorkerImpl jobWorker =
         new JobWorkerImpl(
             maxJobsActive,
+            activationThreshold(maxJobsActive, jobExecutor != executorService),
             executorService,
+            jobExecutor,
             pollInterval,
             jobRunnableFactory,
             jobPoller,
@@ -157,4 +178,18 @@ public final class JobWorkerBuilderImpl
     closeables.add(jobWorker);
     return jobWorker;
   }
+
+  /**
+   * @param concurrentJobHandlers whether each job handler runs on its own thread, instead of on the
+   *     execution threads which also poll for jobs
+   * @return the number of remaining jobs at or below which the worker polls for more jobs
+   */
+  static int activationThreshold(final int maxJobsActive, final boolean concurrentJobHandlers) {
+    if (!concurrentJobHandlers) {
+      return Math.round(maxJobsActive * ACTIVATION_THRESHOLD_RATIO);
+    }
+
+    // rounded down, to always leave room to activate at least one job
+    return (int) (maxJobsActive * CONCURRENT_ACTIVATION_THRESHOLD_RATIO);
+  }
 }
@@ -22,6 +22,7 @@ import io.camunda.zeebe.client.impl.Loggers;
 import java.io.Closeable;
 import java.time.Duration;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -42,6 +43,9 @@ import org.slf4j.Logger;
  * will poll for new jobs. To determine what is considered enough jobs it compares its number of
  * {@code remainingJobs} with the {@code activationThreshold}.
  *
+ * <p>The job handlers run on the {@code jobExecutor}. This is either the executor which the polls
+ * are scheduled on, or one which runs each job on its own virtual thread.
+ *
  * <p>If a poll fails with an error response, a retry is scheduled with a delay using the {@code
  * retryDelaySupplier} to ask for a new {@code pollInterval}. By default this retry delay supplier
  * is the {@link ExponentialBackoff}. This default is also used as a fallback for the user provided
@@ -62,6 +66,7 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
 
   // job execution facilities
   private final ScheduledExecutorService executor;
+  private final Executor jobExecutor;
   private final JobRunnableFactory jobHandlerFactory;
   private final long initialPollInterval;
   private final BackoffSupplier backoffSupplier;
@@ -73,18 +78,26 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
 
   private volatile long pollInterval;
 
+  /**
+   * @param activationThreshold the number of remaining jobs at or below which new jobs are polled
+   * @param executor the executor to schedule polls on
+   * @param jobExecutor the executor to run the job handlers on
+   */
   public JobWorkerImpl(
       final int maxJobsActive,
+      final int activationThreshold,
       final ScheduledExecutorService executor,
+      final Executor jobExecutor,
       final Duration pollInterval,
       final JobRunnableFactory jobHandlerFactory,
       final JobPoller jobPoller,
       final BackoffSupplier backoffSupplier) {
     this.maxJobsActive = maxJobsActive;
-    activationThreshold = Math.round(maxJobsActive * 0.3f);
+    this.activationThreshold = activationThreshold;
     remainingJobs = new AtomicInteger(0);
 
     this.executor = executor;
+    this.jobExecutor = jobExecutor;
     this.jobHandlerFactory = jobHandlerFactory;
     initialPollInterval = pollInterval.toMillis();
     this.backoffSupplier = backoffSupplier;
@@ -210,7 +223,7 @@ public final class JobWorkerImpl implements JobWorker, Closeable {
   }
 
   private void handleJob(final ActivatedJob job) {
-    executor.execute(jobHandlerFactory.create(job, this::handleJobFinished));
+    jobExecutor.execute(jobHandlerFactory.create(job, this::handleJobFinished));
   }
 
   private void handleJobFinished() {
@@ -16,6 +16,7 @@
 package io.camunda.zeebe.client;
 
 import static io.camunda.zeebe.client.ClientProperties.CLOUD_REGION;
+import static io.camunda.zeebe.client.ClientProperties.JOB_WORKER_VIRTUAL_THREADS;
 import static io.camunda.zeebe.client.ClientProperties.MAX_MESSAGE_SIZE;
 import static io.camunda.zeebe.client.ClientProperties.USE_PLAINTEXT_CONNECTION;
 import static io.camunda.zeebe.client.impl.ZeebeClientBuilderImpl.CA_CERTIFICATE_VAR;
@@ -60,6 +61,7 @@ public final class ZeebeClientTest extends ClientTest {
       assertThat(configuration.getGatewayAddress()).isEqualTo("0.0.0.0:26500");
       assertThat(configuration.getDefaultJobWorkerMaxJobsActive()).isEqualTo(32);
       assertThat(configuration.getNumJobWorkerExecutionThreads()).isEqualTo(1);
+      assertThat(configuration.isJobWorkerVirtualThreadsEnabled()).isFalse();
       assertThat(configuration.getDefaultJobWorkerName()).isEqualTo("default");
       assertThat(configuration.getDefaultJobTimeout()).isEqualTo(Duration.ofMinutes(5));
       assertThat(configuration.getDefaultJobPollInterval()).isEqualTo(Duration.ofMillis(100));
@@ -230,6 +232,20 @@ public final class ZeebeClientTest extends ClientTest {
     assertThat(builder.getMaxMessageSize()).isEqualTo(10 * ONE_MB);
   }
 
+  @Test
+  public void shouldEnableJobWorkerVirtualThreadsWithProperty() {
+    // given
+    final ZeebeClientBuilderImpl builder = new ZeebeClientBuilderImpl();
+    final Properties properties = new Properties();
+    properties.setProperty(JOB_WORKER_VIRTUAL_THREADS, "true");
+
+    // when
+    builder.withProperties(properties);
+
+    // then
+    assertThat(builder.isJobWorkerVirtualThreadsEnabled()).isTrue();
+  }
+
   @Test
   public void shouldOverrideMaxMessageSizeWithEnvVar() {
     // given
@@ -0,0 +1,80 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ZeebeClientImplTest {
+
+  private final ScheduledExecutorService executorService = Executors.newScheduledThreadPool(1);
+  private final ExecutorService virtualThreadExecutor = Executors.newCachedThreadPool();
+
+  @AfterEach
+  void tearDown() {
+    executorService.shutdownNow();
+    virtualThreadExecutor.shutdownNow();
+  }
+
+  @Test
+  void shouldRunJobHandlersOnExecutionThreadsByDefault() {
+    // given
+    final ZeebeClientBuilderImpl configuration = new ZeebeClientBuilderImpl();
+
+    // when
+    final ExecutorService jobExecutor =
+        ZeebeClientImpl.buildJobExecutorService(
+            configuration, executorService, () -> Optional.of(virtualThreadExecutor));
+
+    // then
+    assertThat(jobExecutor).isSameAs(executorService);
+  }
+
+  @Test
+  void shouldRunJobHandlersOnVirtualThreadsIfEnabled() {
+    // given
+    final ZeebeClientBuilderImpl configuration = new ZeebeClientBuilderImpl();
+    configuration.jobWorkerVirtualThreads(true);
+
+    // when
+    final ExecutorService jobExecutor =
+        ZeebeClientImpl.buildJobExecutorService(
+            configuration, executorService, () -> Optional.of(virtualThreadExecutor));
+
+    // then
+    assertThat(jobExecutor).isSameAs(virtualThreadExecutor);
+  }
+
+  @Test
+  void shouldFallBackToExecutionThreadsIfVirtualThreadsAreNotSupported() {
+    // given
+    final ZeebeClientBuilderImpl configuration = new ZeebeClientBuilderImpl();
+    configuration.jobWorkerVirtualThreads(true);
+
+    // when
+    final ExecutorService jobExecutor =
+        ZeebeClientImpl.buildJobExecutorService(configuration, executorService, Optional::empty);
+
+    // then
+    assertThat(jobExecutor).isSameAs(executorService);
+  }
+}
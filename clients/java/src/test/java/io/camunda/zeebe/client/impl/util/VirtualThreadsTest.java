@@ -0,0 +1,87 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.client.impl.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.Test;
+
+class VirtualThreadsTest {
+
+  @Test
+  void shouldCreateExecutorWithFactoryMethod() {
+    // when
+    final Optional<ExecutorService> executor =
+        VirtualThreads.newExecutor(TestExecutorFactory.class, "newExecutor");
+
+    // then
+    assertThat(executor).isPresent();
+    executor.get().shutdownNow();
+  }
+
+  @Test
+  void shouldNotCreateExecutorIfFactoryMethodIsMissing() {
+    // when
+    final Optional<ExecutorService> executor =
+        VirtualThreads.newExecutor(TestExecutorFactory.class, "newVirtualThreadPerTaskExecutor");
+
+    // then
+    assertThat(executor).isEmpty();
+  }
+
+  @Test
+  void shouldNotCreateExecutorIfFactoryMethodFails() {
+    // when
+    final Optional<ExecutorService> executor =
+        VirtualThreads.newExecutor(TestExecutorFactory.class, "newUnsupportedExecutor");
+
+    // then
+    assertThat(executor).isEmpty();
+  }
+
+  @Test
+  void shouldCreateVirtualThreadExecutorOnlyIfSupportedByRuntime() throws Exception {
+    // given
+    final boolean isSupported =
+        VirtualThreads.newExecutor(Executors.class, "newVirtualThreadPerTaskExecutor").isPresent();
+
+    // when
+    final Optional<ExecutorService> executor = VirtualThreads.newVirtualThreadPerTaskExecutor();
+
+    // then
+    assertThat(executor.isPresent()).isEqualTo(isSupported);
+    if (executor.isPresent()) {
+      final Thread thread = executor.get().submit(Thread::currentThread).get();
+      assertThat(Thread.class.getMethod("isVirtual").invoke(thread)).isEqualTo(true);
+      executor.get().shutdownNow();
+    }
+  }
+
+  public static final class TestExecutorFactory {
+
+    public static ExecutorService newExecutor() {
+      return Executors.newSingleThreadExecutor();
+    }
+
+    public static ExecutorService newUnsupportedExecutor() {
+      // like the virtual thread factory method on Java 19 and 20, if preview features are disabled
+      throw new UnsupportedOperationException("Preview features are not enabled");
+    }
+  }
+}
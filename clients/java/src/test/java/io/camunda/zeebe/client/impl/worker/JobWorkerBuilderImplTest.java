@@ -15,6 +15,7 @@
  */
 package io.camunda.zeebe.client.impl.worker;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 
@@ -73,4 +74,32 @@ class JobWorkerBuilderImplTest {
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessageContaining("timeout must be not zero");
   }
+
+  @Test
+  void shouldPollAtThirtyPercentOfMaxJobsActiveRoundedIfHandlersRunOnExecutionThreads() {
+    // when - then
+    assertThat(JobWorkerBuilderImpl.activationThreshold(32, false)).isEqualTo(10);
+    assertThat(JobWorkerBuilderImpl.activationThreshold(5, false)).isEqualTo(2);
+    assertThat(JobWorkerBuilderImpl.activationThreshold(3, false)).isEqualTo(1);
+    assertThat(JobWorkerBuilderImpl.activationThreshold(1, false)).isZero();
+  }
+
+  @Test
+  void shouldPollAtSeventyPercentOfMaxJobsActiveFlooredIfHandlersRunConcurrently() {
+    // when - then
+    assertThat(JobWorkerBuilderImpl.activationThreshold(32, true)).isEqualTo(22);
+    assertThat(JobWorkerBuilderImpl.activationThreshold(5, true)).isEqualTo(3);
+    assertThat(JobWorkerBuilderImpl.activationThreshold(3, true)).isEqualTo(2);
+    assertThat(JobWorkerBuilderImpl.activationThreshold(1, true)).isZero();
+    assertThat(JobWorkerBuilderImpl.activationThreshold(1000, true)).isEqualTo(700);
+  }
+
+  @Test
+  void shouldAlwaysLeaveRoomToActivateJobsIfHandlersRunConcurrently() {
+    // when - then
+    for (int maxJobsActive = 1; maxJobsActive <= 1000; maxJobsActive++) {
+      assertThat(JobWorkerBuilderImpl.activationThreshold(maxJobsActive, true))
+          .isLessThan(maxJobsActive);
+    }
+  }
 }
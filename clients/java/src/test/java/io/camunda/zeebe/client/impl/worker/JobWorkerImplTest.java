@@ -38,6 +38,10 @@ import java.io.IOException;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import org.awaitility.Awaitility;
@@ -57,6 +61,7 @@ public final class JobWorkerImplTest {
   @Rule public final GrpcCleanupRule grpcCleanup = new GrpcCleanupRule();
 
   private MockedGateway gateway;
+  private ManagedChannel channel;
   private ZeebeClient client;
 
   @Before
@@ -73,7 +78,7 @@ public final class JobWorkerImplTest {
             .addService(gateway)
             .build()
             .start());
-    final ManagedChannel channel =
+    channel =
         grpcCleanup.register(InProcessChannelBuilder.forName(serverName).directExecutor().build());
 
     client =
@@ -117,6 +122,43 @@ public final class JobWorkerImplTest {
                 assertThat(gateway.getTimeBetweenLatestPolls()).isGreaterThan(SLOW_POLL_THRESHOLD));
   }
 
+  @Test
+  public void shouldRunJobsConcurrentlyOnJobExecutor() throws InterruptedException {
+    // given a client with a single execution thread, which runs jobs on a separate executor
+    final ExecutorService jobExecutor = Executors.newCachedThreadPool();
+    final ZeebeClient client =
+        new ZeebeClientImpl(
+            new ZeebeClientBuilderImpl(),
+            channel,
+            GatewayGrpc.newStub(channel),
+            Executors.newScheduledThreadPool(1),
+            jobExecutor);
+    gateway.respondWith(TestData.jobs(10));
+
+    // when handlers are blocked until all jobs are handled at the same time
+    final CountDownLatch handledJobs = new CountDownLatch(10);
+    final CountDownLatch releaseHandlers = new CountDownLatch(1);
+    client
+        .newWorker()
+        .jobType("test")
+        .handler(
+            (jobClient, job) -> {
+              handledJobs.countDown();
+              releaseHandlers.await();
+            })
+        .maxJobsActive(10)
+        .open();
+
+    // then
+    try {
+      assertThat(handledJobs.await(5, TimeUnit.SECONDS)).isTrue();
+    } finally {
+      releaseHandlers.countDown();
+      client.close();
+    }
+    assertThat(jobExecutor.isShutdown()).isTrue();
+  }
+
   /**
    * This mocked gateway is able to record metrics on polling for new jobs and easily switch how it
    * responds to polling.
@@ -99,6 +99,8 @@ public class Engine implements RecordProcessor {
   public ProcessingResult process(
       final TypedRecord record, final ProcessingResultBuilder processingResultBuilder) {
 
+    final var variableState = processingState.getVariableState();
+    variableState.enableCache();
     try (final var scope = new ProcessingResultBuilderScope(processingResultBuilder)) {
       TypedRecordProcessor<?> currentProcessor = null;
 
@@ -125,6 +127,9 @@ public class Engine implements RecordProcessor {
       if (noBanCheckNeeded || !processingState.getBannedInstanceState().isBanned(typedCommand)) {
         currentProcessor.processRecord(record);
       }
+    } finally {
+      // the transaction of the command ends after processing, and may be rolled back
+      variableState.disableCache();
     }
     return processingResultBuilder.build();
   }
@@ -160,6 +165,16 @@ public class Engine implements RecordProcessor {
     return processingResultBuilder.build();
   }
 
+  @Override
+  public void onCommit() {
+    processingState.onCommit();
+  }
+
+  @Override
+  public void onRollback() {
+    processingState.onRollback();
+  }
+
   private void handleUnexpectedError(
       final Throwable processingException, final TypedRecord record) {
     final String errorMessage =
@@ -0,0 +1,65 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.metrics;
+
+import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
+import io.prometheus.client.Histogram;
+
+public final class ProcessCacheMetrics {
+
+  private static final String NAMESPACE = "zeebe";
+  private static final String PARTITION_LABEL = "partition";
+
+  private static final Gauge CACHE_SIZE =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("process_cache_size")
+          .help("Number of deployed processes held in the process cache")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
+  private static final Counter CACHE_LOOKUPS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("process_cache_lookups_total")
+          .help("Number of lookups of deployed processes in the process cache")
+          .labelNames(PARTITION_LABEL, "result")
+          .register();
+
+  private static final Histogram TRANSFORMATION_DURATION =
+      Histogram.build()
+          .namespace(NAMESPACE)
+          .name("process_transformation_duration_seconds")
+          .help("Time to transform a persisted process into an executable process on a cache miss")
+          .labelNames(PARTITION_LABEL)
+          .buckets(0.001, 0.005, 0.01, 0.05, 0.1, 0.5, 1, 5)
+          .register();
+
+  private final String partitionIdLabel;
+
+  public ProcessCacheMetrics(final int partitionId) {
+    partitionIdLabel = String.valueOf(partitionId);
+  }
+
+  public void setCacheSize(final int size) {
+    CACHE_SIZE.labels(partitionIdLabel).set(size);
+  }
+
+  public void cacheHit() {
+    CACHE_LOOKUPS.labels(partitionIdLabel, "hit").inc();
+  }
+
+  public void cacheMiss() {
+    CACHE_LOOKUPS.labels(partitionIdLabel, "miss").inc();
+  }
+
+  public Histogram.Timer startTransformation() {
+    return TRANSFORMATION_DURATION.labels(partitionIdLabel).startTimer();
+  }
+}
@@ -67,6 +67,16 @@ public final class ProcessEngineMetrics {
           .help("Number of created (root) process instances")
           .labelNames(PARTITION_LABEL, CREATION_MODE_LABEL)
           .register();
+  private static final String RESULT_LABEL = "result";
+  private static final String RESULT_HIT = "hit";
+  private static final String RESULT_MISS = "miss";
+  private static final Counter DRG_CACHE_LOOKUPS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("drg_cache_lookups_total")
+          .help("Number of lookups of parsed decision requirements graphs in the cache")
+          .labelNames(PARTITION_LABEL, RESULT_LABEL)
+          .register();
   private final String partitionIdLabel;
 
   public ProcessEngineMetrics(final int partitionId) {
@@ -140,6 +150,14 @@ public final class ProcessEngineMetrics {
     EVALUATED_DMN_ELEMENTS.labels(ORGANIZATION_ID, action, partitionIdLabel).inc(amount);
   }
 
+  public void drgCacheHit() {
+    DRG_CACHE_LOOKUPS.labels(partitionIdLabel, RESULT_HIT).inc();
+  }
+
+  public void drgCacheMiss() {
+    DRG_CACHE_LOOKUPS.labels(partitionIdLabel, RESULT_MISS).inc();
+  }
+
   private enum CreationMode {
     CREATION_AT_DEFAULT_START_EVENT,
     CREATION_AT_GIVEN_ELEMENT;
@@ -91,7 +91,10 @@ public final class EngineProcessors {
 
     final var decisionBehavior =
         new DecisionBehavior(
-            DecisionEngineFactory.createDecisionEngine(), processingState, processEngineMetrics);
+            DecisionEngineFactory.createDecisionEngine(),
+            processingState,
+            processEngineMetrics,
+            config.getDrgCacheCapacity());
     final BpmnBehaviorsImpl bpmnBehaviors =
         createBehaviors(
             processingState,
@@ -153,7 +156,11 @@ public final class EngineProcessors {
         writers,
         bpmnBehaviors.jobActivationBehavior());
     addResourceDeletionProcessors(
-        typedRecordProcessors, writers, processingState, commandDistributionBehavior);
+        typedRecordProcessors,
+        writers,
+        processingState,
+        commandDistributionBehavior,
+        decisionBehavior);
     addSignalBroadcastProcessors(typedRecordProcessors, bpmnBehaviors, writers, processingState);
     addCommandDistributionProcessors(
         typedRecordProcessors,
@@ -297,13 +304,15 @@ public final class EngineProcessors {
       final TypedRecordProcessors typedRecordProcessors,
       final Writers writers,
       final MutableProcessingState processingState,
-      final CommandDistributionBehavior commandDistributionBehavior) {
+      final CommandDistributionBehavior commandDistributionBehavior,
+      final DecisionBehavior decisionBehavior) {
     final var resourceDeletionProcessor =
         new ResourceDeletionProcessor(
             writers,
             processingState.getKeyGenerator(),
             processingState.getDecisionState(),
-            commandDistributionBehavior);
+            commandDistributionBehavior,
+            decisionBehavior);
     typedRecordProcessors.onCommand(
         ValueType.RESOURCE_DELETION, ResourceDeletionIntent.DELETE, resourceDeletionProcessor);
   }
@@ -29,6 +29,7 @@ import io.camunda.zeebe.protocol.impl.record.value.decision.MatchedRuleRecord;
 import io.camunda.zeebe.protocol.record.intent.DecisionEvaluationIntent;
 import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.buffer.BufferUtil;
+import io.camunda.zeebe.util.collection.LruCache;
 import io.camunda.zeebe.util.collection.Tuple;
 import java.io.ByteArrayInputStream;
 import java.util.stream.Collectors;
@@ -40,15 +41,18 @@ public class DecisionBehavior {
   private final DecisionEngine decisionEngine;
   private final DecisionState decisionState;
   private final ProcessEngineMetrics metrics;
+  private final LruCache<Long, ParsedDecisionRequirementsGraph> drgCache;
 
   public DecisionBehavior(
       final DecisionEngine decisionEngine,
       final ProcessingState processingState,
-      final ProcessEngineMetrics metrics) {
+      final ProcessEngineMetrics metrics,
+      final int drgCacheCapacity) {
 
     decisionState = processingState.getDecisionState();
     this.decisionEngine = decisionEngine;
     this.metrics = metrics;
+    drgCache = new LruCache<>(drgCacheCapacity);
   }
 
   public Either<Failure, PersistedDecision> findDecisionById(final String decisionId) {
@@ -64,16 +68,42 @@ public class DecisionBehavior {
         .mapLeft(failure -> formatDecisionLookupFailure(failure, decisionKey));
   }
 
+  /**
+   * Returns the parsed decision requirements graph (DRG) of the given decision. Parsing a DRG is
+   * expensive, so the parsed DRGs are cached by their key. This is safe, because the resource of a
+   * DRG never changes for a given key. Only valid DRGs are cached.
+   */
   public Either<Failure, ParsedDecisionRequirementsGraph> findAndParseDrgByDecision(
       final PersistedDecision persistedDecision) {
+    final var drgKey = persistedDecision.getDecisionRequirementsKey();
+    final var cachedDrg = drgCache.get(drgKey);
+    if (cachedDrg != null) {
+      metrics.drgCacheHit();
+      return Either.right(cachedDrg);
+    }
+
+    metrics.drgCacheMiss();
     return findDrgByDecision(persistedDecision)
         .flatMap(drg -> parseDrg(drg.getResource()))
+        .map(
+            parsedDrg -> {
+              drgCache.put(drgKey, parsedDrg);
+              return parsedDrg;
+            })
         .mapLeft(
             failure ->
                 formatDecisionLookupFailure(
                     failure, BufferUtil.bufferAsString(persistedDecision.getDecisionId())));
   }
 
+  /**
+   * Removes the parsed decision requirements graph with the given key from the cache, e.g. when the
+   * decision requirements are deleted.
+   */
+  public void invalidateDrgCache(final long decisionRequirementsKey) {
+    drgCache.remove(decisionRequirementsKey);
+  }
+
   public Failure formatDecisionLookupFailure(final Failure failure, final long decisionKey) {
     return formatDecisionLookupFailure(failure, String.valueOf(decisionKey));
   }
@@ -0,0 +1,166 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.job;
+
+import io.camunda.zeebe.engine.metrics.JobMetrics;
+import io.camunda.zeebe.engine.processing.streamprocessor.TypedRecordProcessor;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedCommandWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedRejectionWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedResponseWriter;
+import io.camunda.zeebe.engine.processing.streamprocessor.writers.Writers;
+import io.camunda.zeebe.engine.state.immutable.ElementInstanceState;
+import io.camunda.zeebe.engine.state.immutable.JobState;
+import io.camunda.zeebe.engine.state.immutable.JobState.State;
+import io.camunda.zeebe.engine.state.immutable.ProcessingState;
+import io.camunda.zeebe.msgpack.value.LongValue;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.stream.api.state.KeyGenerator;
+import java.util.Iterator;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.collections.LongHashSet;
+
+/**
+ * Completes many jobs with a single command. The command contains the keys of the jobs to complete,
+ * and for each of them a job record carrying the variables to complete it with.
+ *
+ * <p>Every job is completed exactly like a single {@link JobIntent#COMPLETE} command would complete
+ * it. Jobs which cannot be completed (e.g. because they don't exist anymore or were already
+ * completed) are skipped, and do not cause the whole batch to be rejected. Repeated job keys are
+ * skipped as well, as the job was already completed by its first occurrence. If the follow-up
+ * records would grow too large, the remaining jobs are skipped as well. The resulting {@link
+ * JobBatchIntent#COMPLETED} event contains only the keys of the jobs which were completed.
+ */
+public final class JobBatchCompleteProcessor implements TypedRecordProcessor<JobBatchRecord> {
+
+  private final JobBatchRecord completedJobs = new JobBatchRecord();
+  private final LongHashSet processedJobKeys = new LongHashSet();
+  private final JobCommandPreconditionChecker preconditionChecker =
+      new JobCommandPreconditionChecker("complete", List.of(State.ACTIVATABLE, State.ACTIVATED));
+
+  private final JobState jobState;
+  private final ElementInstanceState elementInstanceState;
+  private final StateWriter stateWriter;
+  private final TypedCommandWriter commandWriter;
+  private final TypedRejectionWriter rejectionWriter;
+  private final TypedResponseWriter responseWriter;
+  private final KeyGenerator keyGenerator;
+  private final JobMetrics jobMetrics;
+  private final JobCompleteProcessor jobCompleteProcessor;
+
+  public JobBatchCompleteProcessor(
+      final Writers writers,
+      final ProcessingState state,
+      final KeyGenerator keyGenerator,
+      final JobMetrics jobMetrics,
+      final JobCompleteProcessor jobCompleteProcessor) {
+    jobState = state.getJobState();
+    elementInstanceState = state.getElementInstanceState();
+    stateWriter = writers.state();
+    commandWriter = writers.command();
+    rejectionWriter = writers.rejection();
+    responseWriter = writers.response();
+    this.keyGenerator = keyGenerator;
+    this.jobMetrics = jobMetrics;
+    this.jobCompleteProcessor = jobCompleteProcessor;
+  }
+
+  @Override
+  public void processRecord(final TypedRecord<JobBatchRecord> record) {
+    final JobBatchRecord value = record.getValue();
+    final long jobKeyCount = value.jobKeys().stream().count();
+    final long jobCount = value.jobs().stream().count();
+
+    if (jobKeyCount < 1) {
+      reject(
+          record,
+          "Expected to complete job batch with at least one job, but no job keys were given");
+      return;
+    }
+
+    if (jobCount != jobKeyCount) {
+      reject(
+          record,
+          String.format(
+              "Expected to complete job batch with one job record per job key, but got %d job keys and %d job records",
+              jobKeyCount, jobCount));
+      return;
+    }
+
+    completedJobs.reset();
+    completedJobs.setType(value.getTypeBuffer()).setWorker(value.getWorkerBuffer());
+    processedJobKeys.clear();
+
+    final Iterator<LongValue> jobKeys = value.jobKeys().iterator();
+    final Iterator<JobRecord> jobs = value.jobs().iterator();
+    while (jobKeys.hasNext() && jobs.hasNext()) {
+      final long jobKey = jobKeys.next().getValue();
+      final DirectBuffer variables = jobs.next().getVariablesBuffer();
+
+      if (!processedJobKeys.add(jobKey)) {
+        // the job was already completed (or skipped) by its first occurrence in the batch
+        continue;
+      }
+
+      if (preconditionChecker.check(jobState.getState(jobKey), jobKey).isLeft()) {
+        continue;
+      }
+
+      if (!tryCompleteJob(jobKey, variables)) {
+        // the remaining jobs are left as they are, and can be completed again by the worker
+        break;
+      }
+
+      completedJobs.jobKeys().add().setValue(jobKey);
+    }
+
+    final long jobBatchKey = keyGenerator.nextKey();
+    stateWriter.appendFollowUpEvent(jobBatchKey, JobBatchIntent.COMPLETED, completedJobs);
+    responseWriter.writeEventOnCommand(
+        jobBatchKey, JobBatchIntent.COMPLETED, completedJobs, record);
+  }
+
+  private boolean tryCompleteJob(final long jobKey, final DirectBuffer variables) {
+    final JobRecord job = jobState.getJob(jobKey);
+    job.setVariables(variables);
+
+    // leave room for the command completing the job's element, and for the batch event which is
+    // written after all jobs are completed
+    final int followUpLength =
+        job.getLength() + completeElementCommandLength(job) + completedJobs.getLength();
+    if (!stateWriter.canWriteEventOfLength(followUpLength)) {
+      return false;
+    }
+
+    stateWriter.appendFollowUpEvent(jobKey, JobIntent.COMPLETED, job);
+    jobCompleteProcessor.afterAccept(commandWriter, stateWriter, jobKey, JobIntent.COMPLETED, job);
+    jobMetrics.jobCompleted(job.getType());
+    return true;
+  }
+
+  /**
+   * Returns the length of the {@code COMPLETE_ELEMENT} command which {@link
+   * JobCompleteProcessor#afterAccept} may write for the job, or 0 if the job does not belong to an
+   * element instance.
+   */
+  private int completeElementCommandLength(final JobRecord job) {
+    final var elementInstance = elementInstanceState.getInstance(job.getElementInstanceKey());
+    return elementInstance == null ? 0 : elementInstance.getValue().getLength();
+  }
+
+  private void reject(final TypedRecord<JobBatchRecord> record, final String reason) {
+    rejectionWriter.appendRejection(record, RejectionType.INVALID_ARGUMENT, reason);
+    responseWriter.writeRejectionOnCommand(record, RejectionType.INVALID_ARGUMENT, reason);
+  }
+}
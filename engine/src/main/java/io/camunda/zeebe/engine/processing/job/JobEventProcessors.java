@@ -39,11 +39,10 @@ public final class JobEventProcessors {
             bpmnBehaviors.stateBehavior());
 
     final var jobBackoffChecker = new JobBackoffChecker(jobState);
+    final var jobCompleteProcessor =
+        new JobCompleteProcessor(processingState, jobMetrics, eventHandle);
     typedRecordProcessors
-        .onCommand(
-            ValueType.JOB,
-            JobIntent.COMPLETE,
-            new JobCompleteProcessor(processingState, jobMetrics, eventHandle))
+        .onCommand(ValueType.JOB, JobIntent.COMPLETE, jobCompleteProcessor)
         .onCommand(
             ValueType.JOB,
             JobIntent.FAIL,
@@ -84,6 +83,15 @@ public final class JobEventProcessors {
             JobBatchIntent.ACTIVATE,
             new JobBatchActivateProcessor(
                 writers, processingState, processingState.getKeyGenerator(), jobMetrics))
+        .onCommand(
+            ValueType.JOB_BATCH,
+            JobBatchIntent.COMPLETE,
+            new JobBatchCompleteProcessor(
+                writers,
+                processingState,
+                processingState.getKeyGenerator(),
+                jobMetrics,
+                jobCompleteProcessor))
         .withListener(new JobTimeoutTrigger(jobState))
         .withListener(jobBackoffChecker);
   }
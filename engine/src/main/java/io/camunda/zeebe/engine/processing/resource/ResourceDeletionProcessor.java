@@ -8,6 +8,7 @@
 package io.camunda.zeebe.engine.processing.resource;
 
 import io.camunda.zeebe.engine.processing.common.CommandDistributionBehavior;
+import io.camunda.zeebe.engine.processing.common.DecisionBehavior;
 import io.camunda.zeebe.engine.processing.streamprocessor.DistributedTypedRecordProcessor;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.StateWriter;
 import io.camunda.zeebe.engine.processing.streamprocessor.writers.TypedRejectionWriter;
@@ -36,18 +37,21 @@ public class ResourceDeletionProcessor
   private final KeyGenerator keyGenerator;
   private final DecisionState decisionState;
   private final CommandDistributionBehavior commandDistributionBehavior;
+  private final DecisionBehavior decisionBehavior;
 
   public ResourceDeletionProcessor(
       final Writers writers,
       final KeyGenerator keyGenerator,
       final DecisionState decisionState,
-      final CommandDistributionBehavior commandDistributionBehavior) {
+      final CommandDistributionBehavior commandDistributionBehavior,
+      final DecisionBehavior decisionBehavior) {
     stateWriter = writers.state();
     responseWriter = writers.response();
     rejectionWriter = writers.rejection();
     this.keyGenerator = keyGenerator;
     this.decisionState = decisionState;
     this.commandDistributionBehavior = commandDistributionBehavior;
+    this.decisionBehavior = decisionBehavior;
   }
 
   @Override
@@ -111,6 +115,7 @@ public class ResourceDeletionProcessor
 
     stateWriter.appendFollowUpEvent(
         keyGenerator.nextKey(), DecisionRequirementsIntent.DELETED, drgRecord);
+    decisionBehavior.invalidateDrgCache(drg.getDecisionRequirementsKey());
   }
 
   private void deleteDecision(final PersistedDecision persistedDecision) {
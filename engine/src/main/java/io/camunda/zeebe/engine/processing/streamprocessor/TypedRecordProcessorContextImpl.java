@@ -38,7 +38,11 @@ public class TypedRecordProcessorContextImpl implements TypedRecordProcessorCont
     this.zeebeDb = context.getZeebeDb();
     this.processingState =
         new ProcessingDbState(
-            partitionId, zeebeDb, context.getTransactionContext(), context.getKeyGenerator());
+            partitionId,
+            zeebeDb,
+            context.getTransactionContext(),
+            context.getKeyGenerator(),
+            config);
     this.writers = writers;
     this.partitionCommandSender = context.getPartitionCommandSender();
     this.config = config;
@@ -71,7 +75,9 @@ public class TypedRecordProcessorContextImpl implements TypedRecordProcessorCont
 
   @Override
   public Supplier<ScheduledTaskState> getScheduledTaskStateFactory() {
-    return () -> new ScheduledTaskDbState(zeebeDb, zeebeDb.createContext());
+    return () ->
+        new ScheduledTaskDbState(
+            zeebeDb, zeebeDb.createContext(), processingState.getTransientTimerDueDateState());
   }
 
   @Override
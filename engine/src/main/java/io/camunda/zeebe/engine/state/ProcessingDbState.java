@@ -11,6 +11,7 @@ import io.camunda.zeebe.db.DbKey;
 import io.camunda.zeebe.db.DbValue;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.state.deployment.DbDecisionState;
 import io.camunda.zeebe.engine.state.deployment.DbDeploymentState;
 import io.camunda.zeebe.engine.state.deployment.DbProcessState;
@@ -22,6 +23,7 @@ import io.camunda.zeebe.engine.state.instance.DbEventScopeInstanceState;
 import io.camunda.zeebe.engine.state.instance.DbIncidentState;
 import io.camunda.zeebe.engine.state.instance.DbJobState;
 import io.camunda.zeebe.engine.state.instance.DbTimerInstanceState;
+import io.camunda.zeebe.engine.state.instance.TransientTimerDueDateState;
 import io.camunda.zeebe.engine.state.message.DbMessageStartEventSubscriptionState;
 import io.camunda.zeebe.engine.state.message.DbMessageState;
 import io.camunda.zeebe.engine.state.message.DbMessageSubscriptionState;
@@ -60,7 +62,8 @@ public class ProcessingDbState implements MutableProcessingState {
   private final KeyGenerator keyGenerator;
 
   private final MutableProcessState processState;
-  private final MutableTimerInstanceState timerInstanceState;
+  private final DbTimerInstanceState timerInstanceState;
+  private final TransientTimerDueDateState transientTimerDueDateState;
   private final MutableElementInstanceState elementInstanceState;
   private final MutableEventScopeInstanceState eventScopeInstanceState;
   private final MutableVariableState variableState;
@@ -85,13 +88,26 @@ public class ProcessingDbState implements MutableProcessingState {
       final ZeebeDb<ZbColumnFamilies> zeebeDb,
       final TransactionContext transactionContext,
       final KeyGenerator keyGenerator) {
+    this(partitionId, zeebeDb, transactionContext, keyGenerator, new EngineConfiguration());
+  }
+
+  public ProcessingDbState(
+      final int partitionId,
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final KeyGenerator keyGenerator,
+      final EngineConfiguration config) {
     this.partitionId = partitionId;
     this.zeebeDb = zeebeDb;
     this.keyGenerator = Objects.requireNonNull(keyGenerator);
 
     variableState = new DbVariableState(zeebeDb, transactionContext);
-    processState = new DbProcessState(zeebeDb, transactionContext);
-    timerInstanceState = new DbTimerInstanceState(zeebeDb, transactionContext);
+    processState =
+        new DbProcessState(
+            zeebeDb, transactionContext, partitionId, config.getProcessCacheCapacity());
+    transientTimerDueDateState = new TransientTimerDueDateState();
+    timerInstanceState =
+        new DbTimerInstanceState(zeebeDb, transactionContext, transientTimerDueDateState);
     elementInstanceState = new DbElementInstanceState(zeebeDb, transactionContext, variableState);
     eventScopeInstanceState = new DbEventScopeInstanceState(zeebeDb, transactionContext);
 
@@ -117,6 +133,17 @@ public class ProcessingDbState implements MutableProcessingState {
     messageSubscriptionState.onRecovered(context);
     processMessageSubscriptionState.onRecovered(context);
     bannedInstanceState.onRecovered(context);
+    timerInstanceState.onRecovered(context);
+  }
+
+  @Override
+  public void onCommit() {
+    timerInstanceState.onCommit();
+  }
+
+  @Override
+  public void onRollback() {
+    timerInstanceState.onRollback();
   }
 
   @Override
@@ -209,6 +236,14 @@ public class ProcessingDbState implements MutableProcessingState {
     return messageSubscriptionState;
   }
 
+  /**
+   * @return the in-memory index of the timer due dates, which is filled on recovery and can be
+   *     shared with the timer state of the scheduled tasks
+   */
+  public TransientTimerDueDateState getTransientTimerDueDateState() {
+    return transientTimerDueDateState;
+  }
+
   @Override
   public PendingProcessMessageSubscriptionState getPendingProcessMessageSubscriptionState() {
     return processMessageSubscriptionState;
@@ -15,6 +15,7 @@ import io.camunda.zeebe.engine.state.immutable.MessageState;
 import io.camunda.zeebe.engine.state.immutable.ScheduledTaskState;
 import io.camunda.zeebe.engine.state.immutable.TimerInstanceState;
 import io.camunda.zeebe.engine.state.instance.DbTimerInstanceState;
+import io.camunda.zeebe.engine.state.instance.TransientTimerDueDateState;
 import io.camunda.zeebe.engine.state.message.DbMessageState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
 
@@ -25,10 +26,13 @@ public final class ScheduledTaskDbState implements ScheduledTaskState {
   private final TimerInstanceState timerInstanceState;
 
   public ScheduledTaskDbState(
-      final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final TransientTimerDueDateState transientTimerDueDateState) {
     this.distributionState = new DbDistributionState(zeebeDb, transactionContext);
     this.messageState = new DbMessageState(zeebeDb, transactionContext);
-    this.timerInstanceState = new DbTimerInstanceState(zeebeDb, transactionContext);
+    this.timerInstanceState =
+        new DbTimerInstanceState(zeebeDb, transactionContext, transientTimerDueDateState);
   }
 
   @Override
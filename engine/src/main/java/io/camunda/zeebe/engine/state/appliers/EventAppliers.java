@@ -67,6 +67,8 @@ public final class EventAppliers implements EventApplier {
     registerJobIntentEventAppliers(state);
     registerVariableEventAppliers(state);
     register(JobBatchIntent.ACTIVATED, new JobBatchActivatedApplier(state));
+    // the jobs of the batch are completed by their own JOB COMPLETED events
+    register(JobBatchIntent.COMPLETED, NOOP_EVENT_APPLIER);
     registerIncidentEventAppliers(state);
     registerProcessMessageSubscriptionEventAppliers(state);
     registerTimeEventAppliers(state);
@@ -17,6 +17,7 @@ import io.camunda.zeebe.db.impl.DbForeignKey;
 import io.camunda.zeebe.db.impl.DbForeignKey.MatchType;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbString;
+import io.camunda.zeebe.engine.metrics.ProcessCacheMetrics;
 import io.camunda.zeebe.engine.processing.deployment.model.BpmnFactory;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableFlowElement;
 import io.camunda.zeebe.engine.processing.deployment.model.element.ExecutableProcess;
@@ -30,28 +31,34 @@ import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessMetadata;
 import io.camunda.zeebe.protocol.impl.record.value.deployment.ProcessRecord;
 import io.camunda.zeebe.protocol.record.value.deployment.DeploymentResource;
 import io.camunda.zeebe.util.buffer.BufferUtil;
+import io.camunda.zeebe.util.collection.LruCache;
+import io.prometheus.client.Histogram;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
-import org.agrona.collections.Long2ObjectHashMap;
+import org.agrona.collections.Long2LongHashMap;
 import org.agrona.concurrent.UnsafeBuffer;
 import org.agrona.io.DirectBufferInputStream;
 
 public final class DbProcessState implements MutableProcessState {
 
   private static final int DEFAULT_VERSION_VALUE = 0;
+  private static final long MISSING_PROCESS_KEY = -1L;
 
   private final BpmnTransformer transformer = BpmnFactory.createTransformer();
   private final ProcessRecord processRecordForDeployments = new ProcessRecord();
 
-  private final Map<DirectBuffer, Long2ObjectHashMap<DeployedProcess>>
-      processesByProcessIdAndVersion = new HashMap<>();
-  private final Long2ObjectHashMap<DeployedProcess> processesByKey;
+  // the transformed processes are cached by key; the index by id and version only refers to the
+  // keys of cached processes and is cleaned up whenever a process is evicted
+  private final LruCache<Long, DeployedProcess> processesByKey;
+  private final Map<DirectBuffer, Long2LongHashMap> processKeysByProcessIdAndVersion =
+      new HashMap<>();
+  private final ProcessCacheMetrics metrics;
 
   // process
   private final ColumnFamily<DbLong, PersistedProcess> processColumnFamily;
@@ -72,7 +79,10 @@ public final class DbProcessState implements MutableProcessState {
   private final ProcessVersionManager versionManager;
 
   public DbProcessState(
-      final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final int partitionId,
+      final int processCacheCapacity) {
     processDefinitionKey = new DbLong();
     persistedProcess = new PersistedProcess();
     processColumnFamily =
@@ -99,7 +109,8 @@ public final class DbProcessState implements MutableProcessState {
         zeebeDb.createColumnFamily(
             ZbColumnFamilies.PROCESS_CACHE_DIGEST_BY_ID, transactionContext, fkProcessId, digest);
 
-    processesByKey = new Long2ObjectHashMap<>();
+    processesByKey = new LruCache<>(processCacheCapacity, this::removeProcessFromIndex);
+    metrics = new ProcessCacheMetrics(partitionId);
 
     versionManager = new ProcessVersionManager(DEFAULT_VERSION_VALUE, zeebeDb, transactionContext);
   }
@@ -168,9 +179,12 @@ public final class DbProcessState implements MutableProcessState {
     final PersistedProcess copiedProcess = new PersistedProcess();
     copiedProcess.wrap(buffer, 0, persistedProcess.getLength());
 
-    final BpmnModelInstance modelInstance =
-        readModelInstanceFromBuffer(copiedProcess.getResource());
-    final List<ExecutableProcess> definitions = transformer.transformDefinitions(modelInstance);
+    final List<ExecutableProcess> definitions;
+    try (final Histogram.Timer ignored = metrics.startTransformation()) {
+      final BpmnModelInstance modelInstance =
+          readModelInstanceFromBuffer(copiedProcess.getResource());
+      definitions = transformer.transformDefinitions(modelInstance);
+    }
 
     final ExecutableProcess executableProcess =
         definitions.stream()
@@ -202,76 +216,96 @@ public final class DbProcessState implements MutableProcessState {
     final DirectBuffer bpmnProcessId = deployedProcess.getBpmnProcessId();
     processesByKey.put(deployedProcess.getKey(), deployedProcess);
 
-    final Long2ObjectHashMap<DeployedProcess> versionMap =
-        processesByProcessIdAndVersion.computeIfAbsent(
-            bpmnProcessId, id -> new Long2ObjectHashMap<>());
+    Long2LongHashMap versionMap = processKeysByProcessIdAndVersion.get(bpmnProcessId);
+    if (versionMap == null) {
+      versionMap = new Long2LongHashMap(MISSING_PROCESS_KEY);
+      // copy the id, such that the index doesn't keep the resource of an evicted process alive
+      processKeysByProcessIdAndVersion.put(BufferUtil.cloneBuffer(bpmnProcessId), versionMap);
+    }
+    versionMap.put(deployedProcess.getVersion(), deployedProcess.getKey());
+
+    metrics.setCacheSize(processesByKey.size());
+  }
 
-    final int version = deployedProcess.getVersion();
-    versionMap.put(version, deployedProcess);
+  private void removeProcessFromIndex(final long key, final DeployedProcess deployedProcess) {
+    final DirectBuffer bpmnProcessId = deployedProcess.getBpmnProcessId();
+    final Long2LongHashMap versionMap = processKeysByProcessIdAndVersion.get(bpmnProcessId);
+    if (versionMap != null) {
+      versionMap.remove(deployedProcess.getVersion());
+      if (versionMap.isEmpty()) {
+        processKeysByProcessIdAndVersion.remove(bpmnProcessId);
+      }
+    }
+  }
+
+  private DeployedProcess getCachedProcess(final DirectBuffer processIdBuffer, final long version) {
+    final Long2LongHashMap versionMap = processKeysByProcessIdAndVersion.get(processIdBuffer);
+    if (versionMap == null) {
+      return null;
+    }
+
+    final long key = versionMap.get(version);
+    return key == MISSING_PROCESS_KEY ? null : processesByKey.get(key);
   }
 
   @Override
   public DeployedProcess getLatestProcessVersionByProcessId(final DirectBuffer processIdBuffer) {
-    final Long2ObjectHashMap<DeployedProcess> versionMap =
-        processesByProcessIdAndVersion.get(processIdBuffer);
-
     processId.wrapBuffer(processIdBuffer);
     final long latestVersion = versionManager.getCurrentProcessVersion(processIdBuffer);
 
-    DeployedProcess deployedProcess;
-    if (versionMap == null) {
-      deployedProcess = lookupProcessByIdAndPersistedVersion(latestVersion);
-    } else {
-      deployedProcess = versionMap.get(latestVersion);
-      if (deployedProcess == null) {
-        deployedProcess = lookupProcessByIdAndPersistedVersion(latestVersion);
-      }
+    final DeployedProcess deployedProcess = getCachedProcess(processIdBuffer, latestVersion);
+    if (deployedProcess != null) {
+      metrics.cacheHit();
+      return deployedProcess;
     }
-    return deployedProcess;
+
+    metrics.cacheMiss();
+    return lookupPersistenceState(processIdBuffer, latestVersion);
   }
 
   @Override
   public DeployedProcess getProcessByProcessIdAndVersion(
       final DirectBuffer processId, final int version) {
-    final Long2ObjectHashMap<DeployedProcess> versionMap =
-        processesByProcessIdAndVersion.get(processId);
-
-    if (versionMap != null) {
-      final DeployedProcess deployedProcess = versionMap.get(version);
-      return deployedProcess != null ? deployedProcess : lookupPersistenceState(processId, version);
-    } else {
-      return lookupPersistenceState(processId, version);
+    final DeployedProcess deployedProcess = getCachedProcess(processId, version);
+    if (deployedProcess != null) {
+      metrics.cacheHit();
+      return deployedProcess;
     }
+
+    metrics.cacheMiss();
+    return lookupPersistenceState(processId, version);
   }
 
   @Override
   public DeployedProcess getProcessByKey(final long key) {
     final DeployedProcess deployedProcess = processesByKey.get(key);
-
     if (deployedProcess != null) {
+      metrics.cacheHit();
       return deployedProcess;
-    } else {
-      return lookupPersistenceStateForProcessByKey(key);
     }
+
+    metrics.cacheMiss();
+    return lookupPersistenceStateForProcessByKey(key);
   }
 
   @Override
   public Collection<DeployedProcess> getProcesses() {
-    updateCompleteInMemoryState();
-    return processesByKey.values();
+    final List<DeployedProcess> processes = new ArrayList<>();
+    processColumnFamily.forEach(process -> processes.add(getOrTransformProcess(process)));
+    return processes;
   }
 
   @Override
   public Collection<DeployedProcess> getProcessesByBpmnProcessId(final DirectBuffer bpmnProcessId) {
-    updateCompleteInMemoryState();
-
-    final Long2ObjectHashMap<DeployedProcess> processesByVersions =
-        processesByProcessIdAndVersion.get(bpmnProcessId);
-
-    if (processesByVersions != null) {
-      return processesByVersions.values();
-    }
-    return Collections.emptyList();
+    processId.wrapBuffer(bpmnProcessId);
+
+    final List<DeployedProcess> processes = new ArrayList<>();
+    processByIdAndVersionColumnFamily.whileEqualPrefix(
+        processId,
+        (key, process) -> {
+          processes.add(getOrTransformProcess(process));
+        });
+    return processes;
   }
 
   @Override
@@ -310,20 +344,8 @@ public final class DbProcessState implements MutableProcessState {
     return element;
   }
 
-  private DeployedProcess lookupProcessByIdAndPersistedVersion(final long latestVersion) {
-    processVersion.wrapLong(latestVersion);
-
-    final PersistedProcess processWithVersionAndId =
-        processByIdAndVersionColumnFamily.get(idAndVersionKey);
-
-    if (processWithVersionAndId != null) {
-      return updateInMemoryState(processWithVersionAndId);
-    }
-    return null;
-  }
-
   private DeployedProcess lookupPersistenceState(
-      final DirectBuffer processIdBuffer, final int version) {
+      final DirectBuffer processIdBuffer, final long version) {
     processId.wrapBuffer(processIdBuffer);
     processVersion.wrapLong(version);
 
@@ -331,14 +353,7 @@ public final class DbProcessState implements MutableProcessState {
         processByIdAndVersionColumnFamily.get(idAndVersionKey);
 
     if (processWithVersionAndId != null) {
-      updateInMemoryState(processWithVersionAndId);
-
-      final Long2ObjectHashMap<DeployedProcess> newVersionMap =
-          processesByProcessIdAndVersion.get(processIdBuffer);
-
-      if (newVersionMap != null) {
-        return newVersionMap.get(version);
-      }
+      return updateInMemoryState(processWithVersionAndId);
     }
     // does not exist in persistence and in memory state
     return null;
@@ -349,15 +364,14 @@ public final class DbProcessState implements MutableProcessState {
 
     final PersistedProcess processWithKey = processColumnFamily.get(this.processDefinitionKey);
     if (processWithKey != null) {
-      updateInMemoryState(processWithKey);
-
-      return processesByKey.get(processDefinitionKey);
+      return updateInMemoryState(processWithKey);
     }
     // does not exist in persistence and in memory state
     return null;
   }
 
-  private void updateCompleteInMemoryState() {
-    processColumnFamily.forEach(this::updateInMemoryState);
+  private DeployedProcess getOrTransformProcess(final PersistedProcess persistedProcess) {
+    final DeployedProcess deployedProcess = processesByKey.get(persistedProcess.getKey());
+    return deployedProcess != null ? deployedProcess : updateInMemoryState(persistedProcess);
   }
 }
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.engine.state.instance;
 
 import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.LongColumnFamily;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.impl.DbCompositeKey;
@@ -39,10 +40,10 @@ public final class DbElementInstanceState implements MutableElementInstanceState
 
   private final DbLong elementInstanceKey;
   private final ElementInstance elementInstance;
-  private final ColumnFamily<DbLong, ElementInstance> elementInstanceColumnFamily;
+  private final LongColumnFamily<ElementInstance> elementInstanceColumnFamily;
 
   private final AwaitProcessInstanceResultMetadata awaitResultMetadata;
-  private final ColumnFamily<DbLong, AwaitProcessInstanceResultMetadata>
+  private final LongColumnFamily<AwaitProcessInstanceResultMetadata>
       awaitProcessInstanceResultMetadataColumnFamily;
 
   private final DbLong flowScopeKey = new DbLong();
@@ -88,19 +89,13 @@ public final class DbElementInstanceState implements MutableElementInstanceState
 
     elementInstance = new ElementInstance();
     elementInstanceColumnFamily =
-        zeebeDb.createColumnFamily(
-            ZbColumnFamilies.ELEMENT_INSTANCE_KEY,
-            transactionContext,
-            elementInstanceKey,
-            elementInstance);
+        zeebeDb.createLongColumnFamily(
+            ZbColumnFamilies.ELEMENT_INSTANCE_KEY, transactionContext, elementInstance);
 
     awaitResultMetadata = new AwaitProcessInstanceResultMetadata();
     awaitProcessInstanceResultMetadataColumnFamily =
-        zeebeDb.createColumnFamily(
-            ZbColumnFamilies.AWAIT_WORKLOW_RESULT,
-            transactionContext,
-            elementInstanceKey,
-            awaitResultMetadata);
+        zeebeDb.createLongColumnFamily(
+            ZbColumnFamilies.AWAIT_WORKLOW_RESULT, transactionContext, awaitResultMetadata);
 
     flowScopeKeyAndElementId = new DbCompositeKey<>(flowScopeKey, gatewayElementId);
     numberOfTakenSequenceFlowsKey =
@@ -140,22 +135,21 @@ public final class DbElementInstanceState implements MutableElementInstanceState
 
   @Override
   public void removeInstance(final long key) {
-    elementInstanceKey.wrapLong(key);
-    final var instance = elementInstanceColumnFamily.get(elementInstanceKey);
+    final var instance = elementInstanceColumnFamily.get(key);
     if (instance == null) {
       return;
     }
     final long parent = instance.getParentKey();
+    elementInstanceKey.wrapLong(key);
     parentKey.inner().wrapLong(parent);
     parentChildColumnFamily.deleteIfExists(parentChildKey);
-    elementInstanceColumnFamily.deleteExisting(elementInstanceKey);
+    elementInstanceColumnFamily.deleteExisting(key);
     variableState.removeScope(key);
-    awaitProcessInstanceResultMetadataColumnFamily.deleteIfExists(elementInstanceKey);
+    awaitProcessInstanceResultMetadataColumnFamily.deleteIfExists(key);
     removeNumberOfTakenSequenceFlows(key);
 
     if (parent > 0) {
-      elementInstanceKey.wrapLong(parent);
-      final var parentInstance = elementInstanceColumnFamily.get(elementInstanceKey);
+      final var parentInstance = elementInstanceColumnFamily.get(parent);
       if (parentInstance == null) {
         final var errorMsg =
             "Expected to find parent instance for element instance with key %d, but none was found.";
@@ -171,22 +165,20 @@ public final class DbElementInstanceState implements MutableElementInstanceState
     elementInstanceKey.wrapLong(instance.getKey());
     parentKey.inner().wrapLong(instance.getParentKey());
 
-    elementInstanceColumnFamily.insert(elementInstanceKey, instance);
+    elementInstanceColumnFamily.insert(instance.getKey(), instance);
     parentChildColumnFamily.insert(parentChildKey, DbNil.INSTANCE);
     variableState.createScope(elementInstanceKey.getValue(), parentKey.inner().getValue());
   }
 
   @Override
   public void updateInstance(final ElementInstance scopeInstance) {
-    elementInstanceKey.wrapLong(scopeInstance.getKey());
     parentKey.inner().wrapLong(scopeInstance.getParentKey());
-    elementInstanceColumnFamily.update(elementInstanceKey, scopeInstance);
+    elementInstanceColumnFamily.update(scopeInstance.getKey(), scopeInstance);
   }
 
   @Override
   public void updateInstance(final long key, final Consumer<ElementInstance> modifier) {
-    elementInstanceKey.wrapLong(key);
-    final var scopeInstance = elementInstanceColumnFamily.get(elementInstanceKey);
+    final var scopeInstance = elementInstanceColumnFamily.get(key);
     modifier.accept(scopeInstance);
     updateInstance(scopeInstance);
   }
@@ -194,8 +186,7 @@ public final class DbElementInstanceState implements MutableElementInstanceState
   @Override
   public void setAwaitResultRequestMetadata(
       final long processInstanceKey, final AwaitProcessInstanceResultMetadata metadata) {
-    elementInstanceKey.wrapLong(processInstanceKey);
-    awaitProcessInstanceResultMetadataColumnFamily.insert(elementInstanceKey, metadata);
+    awaitProcessInstanceResultMetadataColumnFamily.insert(processInstanceKey, metadata);
   }
 
   @Override
@@ -240,8 +231,7 @@ public final class DbElementInstanceState implements MutableElementInstanceState
 
   @Override
   public ElementInstance getInstance(final long key) {
-    elementInstanceKey.wrapLong(key);
-    final ElementInstance elementInstance = elementInstanceColumnFamily.get(elementInstanceKey);
+    final ElementInstance elementInstance = elementInstanceColumnFamily.get(key);
     return copyElementInstance(elementInstance);
   }
 
@@ -290,8 +280,7 @@ public final class DbElementInstanceState implements MutableElementInstanceState
   @Override
   public AwaitProcessInstanceResultMetadata getAwaitResultRequestMetadata(
       final long processInstanceKey) {
-    elementInstanceKey.wrapLong(processInstanceKey);
-    return awaitProcessInstanceResultMetadataColumnFamily.get(elementInstanceKey);
+    return awaitProcessInstanceResultMetadataColumnFamily.get(processInstanceKey);
   }
 
   @Override
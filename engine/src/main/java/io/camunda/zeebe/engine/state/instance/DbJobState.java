@@ -8,6 +8,7 @@
 package io.camunda.zeebe.engine.state.instance;
 
 import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.LongColumnFamily;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.impl.DbCompositeKey;
@@ -38,7 +39,7 @@ public final class DbJobState implements JobState, MutableJobState {
 
   private final DbLong jobKey;
   private final DbForeignKey<DbLong> fkJob;
-  private final ColumnFamily<DbLong, JobRecordValue> jobsColumnFamily;
+  private final LongColumnFamily<JobRecordValue> jobsColumnFamily;
 
   // key => job state
   private final JobStateValue jobState = new JobStateValue();
@@ -70,8 +71,7 @@ public final class DbJobState implements JobState, MutableJobState {
     jobKey = new DbLong();
     fkJob = new DbForeignKey<>(jobKey, ZbColumnFamilies.JOBS);
     jobsColumnFamily =
-        zeebeDb.createColumnFamily(
-            ZbColumnFamilies.JOBS, transactionContext, jobKey, jobRecordToRead);
+        zeebeDb.createLongColumnFamily(ZbColumnFamilies.JOBS, transactionContext, jobRecordToRead);
 
     statesJobColumnFamily =
         zeebeDb.createColumnFamily(
@@ -164,8 +164,9 @@ public final class DbJobState implements JobState, MutableJobState {
   public void delete(final long key, final JobRecord record) {
     final DirectBuffer type = record.getTypeBuffer();
 
+    jobsColumnFamily.deleteExisting(key);
+
     jobKey.wrapLong(key);
-    jobsColumnFamily.deleteExisting(jobKey);
 
     statesJobColumnFamily.deleteExisting(fkJob);
 
@@ -260,8 +261,7 @@ public final class DbJobState implements JobState, MutableJobState {
 
   @Override
   public boolean exists(final long jobKey) {
-    this.jobKey.wrapLong(jobKey);
-    return jobsColumnFamily.exists(this.jobKey);
+    return jobsColumnFamily.exists(jobKey);
   }
 
   @Override
@@ -298,8 +298,7 @@ public final class DbJobState implements JobState, MutableJobState {
 
   @Override
   public JobRecord getJob(final long key) {
-    jobKey.wrapLong(key);
-    final JobRecordValue jobState = jobsColumnFamily.get(jobKey);
+    final JobRecordValue jobState = jobsColumnFamily.get(key);
     return jobState == null ? null : jobState.getRecord();
   }
 
@@ -336,18 +335,20 @@ public final class DbJobState implements JobState, MutableJobState {
   }
 
   private void createJobRecord(final long key, final JobRecord record) {
-    jobKey.wrapLong(key);
     // do not persist variables in job state
     jobRecordToWrite.setRecordWithoutVariables(record);
-    jobsColumnFamily.insert(jobKey, jobRecordToWrite);
+    jobsColumnFamily.insert(key, jobRecordToWrite);
+    // the job state is keyed by the same job key
+    jobKey.wrapLong(key);
   }
 
   /** Updates the job record without updating variables */
   private void updateJobRecord(final long key, final JobRecord updatedValue) {
-    jobKey.wrapLong(key);
     // do not persist variables in job state
     jobRecordToWrite.setRecordWithoutVariables(updatedValue);
-    jobsColumnFamily.update(jobKey, jobRecordToWrite);
+    jobsColumnFamily.update(key, jobRecordToWrite);
+    // the job state is keyed by the same job key
+    jobKey.wrapLong(key);
   }
 
   private void initializeJobState() {
@@ -15,11 +15,34 @@ import io.camunda.zeebe.db.impl.DbForeignKey;
 import io.camunda.zeebe.db.impl.DbForeignKey.MatchType;
 import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbNil;
+import io.camunda.zeebe.engine.state.instance.TransientTimerDueDateState.DueTimer;
 import io.camunda.zeebe.engine.state.mutable.MutableTimerInstanceState;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.scheduler.clock.ActorClock;
+import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
+import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.function.Consumer;
 
-public final class DbTimerInstanceState implements MutableTimerInstanceState {
+public final class DbTimerInstanceState
+    implements MutableTimerInstanceState, StreamProcessorLifecycleAware {
+
+  /**
+   * How long a triggered timer is not visited again. Usually, the timer is removed from the state
+   * by then; otherwise the trigger command got lost, e.g. on a leader change, and it's triggered
+   * again.
+   */
+  private static final long RETRIGGER_DELAY = Duration.ofSeconds(10).toMillis();
+
+  /**
+   * How long a due timer which is not found in the state is not visited again. Usually, it was
+   * stored by a transaction which is not committed yet; otherwise it's dropped from the transient
+   * state when the transaction is rolled back.
+   */
+  private static final long NOT_FOUND_RETRY_DELAY =
+      TransientTimerDueDateState.DEFAULT_TICK_DURATION.toMillis();
 
   private final ColumnFamily<DbCompositeKey<DbForeignKey<DbLong>, DbLong>, TimerInstance>
       timerInstanceColumnFamily;
@@ -35,10 +58,27 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
   private final DbCompositeKey<DbLong, DbCompositeKey<DbForeignKey<DbLong>, DbLong>>
       dueDateCompositeKey;
 
+  private final TransientTimerDueDateState transientState;
+  // the changes of the current transaction to the transient state, in order, to undo on rollback
+  private final List<UncommittedChange> uncommittedChanges = new ArrayList<>();
+
   private long nextDueDate;
 
   public DbTimerInstanceState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
+    this(zeebeDb, transactionContext, new TransientTimerDueDateState());
+  }
+
+  /**
+   * @param transientState the in-memory index of the due dates, which can be shared with other
+   *     instances on the same database; it is only filled by the instance which is registered as
+   *     {@link StreamProcessorLifecycleAware}
+   */
+  public DbTimerInstanceState(
+      final ZeebeDb<ZbColumnFamilies> zeebeDb,
+      final TransactionContext transactionContext,
+      final TransientTimerDueDateState transientState) {
+    this.transientState = transientState;
     timerInstance = new TimerInstance();
     timerKey = new DbLong();
     elementInstanceKey =
@@ -62,6 +102,50 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
             DbNil.INSTANCE);
   }
 
+  @Override
+  public void onRecovered(final ReadonlyStreamProcessorContext context) {
+    rebuildTransientState();
+    transientState.enable();
+  }
+
+  /**
+   * Forgets the changes to the transient state, as the transaction which made them is committed.
+   */
+  public void onCommit() {
+    uncommittedChanges.clear();
+  }
+
+  /**
+   * Undoes the changes to the transient state which were made since the last commit, such that it
+   * matches the rolled back transaction again.
+   */
+  public void onRollback() {
+    // the changes are undone atomically, such that the due timers are not polled in between
+    synchronized (transientState) {
+      for (int i = uncommittedChanges.size() - 1; i >= 0; i--) {
+        final UncommittedChange change = uncommittedChanges.get(i);
+        if (change.restoredTimer() == null) {
+          transientState.remove(change.timerKey());
+        } else {
+          transientState.add(change.restoredTimer());
+        }
+      }
+    }
+    uncommittedChanges.clear();
+  }
+
+  private void rebuildTransientState() {
+    final List<DueTimer> timers = new ArrayList<>();
+    dueDateColumnFamily.forEach(
+        (key, nil) ->
+            timers.add(
+                new DueTimer(
+                    key.first().getValue(),
+                    key.second().first().inner().getValue(),
+                    key.second().second().getValue())));
+    transientState.reset(ActorClock.currentTimeMillis(), timers);
+  }
+
   @Override
   public void store(final TimerInstance timer) {
     timerKey.wrapLong(timer.getKey());
@@ -71,6 +155,12 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
     dueDate.wrapLong(timer.getDueDate());
     dueDateColumnFamily.insert(dueDateCompositeKey, DbNil.INSTANCE);
+
+    if (transientState.isEnabled()) {
+      final DueTimer replacedTimer =
+          transientState.add(timer.getDueDate(), timer.getElementInstanceKey(), timer.getKey());
+      uncommittedChanges.add(new UncommittedChange(timer.getKey(), replacedTimer));
+    }
   }
 
   @Override
@@ -81,10 +171,25 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
     dueDate.wrapLong(timer.getDueDate());
     dueDateColumnFamily.deleteExisting(dueDateCompositeKey);
+
+    if (transientState.isEnabled()) {
+      transientState.remove(timer.getKey());
+      // restore the timer as it is in the state, even if the checker moved it in the meantime,
+      // since
+      // a timer which is missing in the transient state would never be triggered
+      uncommittedChanges.add(
+          new UncommittedChange(
+              timer.getKey(),
+              new DueTimer(timer.getDueDate(), timer.getElementInstanceKey(), timer.getKey())));
+    }
   }
 
   @Override
   public long processTimersWithDueDateBefore(final long timestamp, final TimerVisitor consumer) {
+    if (transientState.isEnabled()) {
+      return processTransientTimersWithDueDateBefore(timestamp, consumer);
+    }
+
     nextDueDate = -1L;
 
     dueDateColumnFamily.whileTrue(
@@ -107,6 +212,35 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
     return nextDueDate;
   }
 
+  private long processTransientTimersWithDueDateBefore(
+      final long timestamp, final TimerVisitor consumer) {
+    // polling and adding the timer back must not interleave with the removal of the timer
+    synchronized (transientState) {
+      DueTimer dueTimer;
+      while ((dueTimer = transientState.poll(timestamp)) != null) {
+        final TimerInstance timer = get(dueTimer.elementInstanceKey(), dueTimer.timerKey());
+        if (timer == null) {
+          // the timer is not committed yet, as removed timers are not in the transient state
+          transientState.add(
+              timestamp + NOT_FOUND_RETRY_DELAY,
+              dueTimer.elementInstanceKey(),
+              dueTimer.timerKey());
+          continue;
+        }
+
+        if (!consumer.visit(timer)) {
+          transientState.add(dueTimer);
+          return dueTimer.dueDate();
+        }
+
+        transientState.add(
+            timestamp + RETRIGGER_DELAY, dueTimer.elementInstanceKey(), dueTimer.timerKey());
+      }
+
+      return transientState.nextDueDate();
+    }
+  }
+
   @Override
   public void forEachTimerForElementInstance(
       final long elementInstanceKey, final Consumer<TimerInstance> action) {
@@ -126,4 +260,10 @@ public final class DbTimerInstanceState implements MutableTimerInstanceState {
 
     return timerInstanceColumnFamily.get(elementAndTimerKey);
   }
+
+  /**
+   * @param timerKey the key of the changed timer
+   * @param restoredTimer the timer to restore on rollback, or null to remove the timer
+   */
+  private record UncommittedChange(long timerKey, DueTimer restoredTimer) {}
 }
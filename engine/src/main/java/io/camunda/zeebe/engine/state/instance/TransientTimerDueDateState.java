@@ -0,0 +1,317 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Set;
+import org.agrona.collections.Long2ObjectHashMap;
+
+/**
+ * This class is used by {@link DbTimerInstanceState} to keep an in-memory index of the due dates of
+ * the timers, such that due timers can be found without iterating over the due date column family.
+ * <br>
+ * It is implemented as a hierarchical timing wheel. Each level has {@value #WHEEL_SIZE} buckets,
+ * the buckets of the lowest level span one tick, those of every other level span all buckets of the
+ * level below. A timer is added to the lowest level that covers its due date, and is moved down one
+ * level whenever the wheel advances to its bucket, until it is due. Timers which are too far in the
+ * future for all levels are kept in an overflow list. Adding a timer and finding the due timers is
+ * thus independent of the number of timers which are not due yet. <br>
+ * The index contains at most one entry per timer key, and removed timers are removed from the index
+ * right away, such that it doesn't grow with the number of canceled timers. Since the index is not
+ * part of the database transaction, its changes must be undone when the transaction is rolled back,
+ * which {@link #add(DueTimer)} and {@link #remove(long)} support by returning the replaced or
+ * removed timer. Polled timers must therefore be verified against the state. It doesn't contain
+ * timers which were added before it was {@link #enable() enabled}. <br>
+ * This class is thread safe. It's intended use is that one thread is adding and removing entries
+ * while another thread is polling the due entries. Callers can synchronize on the instance to make
+ * a sequence of calls atomic.
+ */
+public final class TransientTimerDueDateState {
+
+  /** The same as the resolution of the due date timer checker. */
+  static final Duration DEFAULT_TICK_DURATION = Duration.ofMillis(100);
+
+  private static final int WHEEL_BITS = 8;
+  private static final int WHEEL_SIZE = 1 << WHEEL_BITS;
+  private static final int WHEEL_MASK = WHEEL_SIZE - 1;
+  private static final int LEVELS = 4;
+
+  private final long tickMillis;
+  private final List<List<Set<DueTimer>>> levels = new ArrayList<>(LEVELS);
+  private final int[] levelSizes = new int[LEVELS];
+  private final Set<DueTimer> overflow = new HashSet<>();
+  // due timers are polled in the same order as they are stored in the due date column family
+  private final PriorityQueue<DueTimer> dueTimers =
+      new PriorityQueue<>(
+          Comparator.comparingLong(DueTimer::dueDate)
+              .thenComparingLong(DueTimer::elementInstanceKey)
+              .thenComparingLong(DueTimer::timerKey));
+  private final Long2ObjectHashMap<DueTimer> timersByKey = new Long2ObjectHashMap<>();
+
+  private long currentTick;
+  private volatile boolean enabled;
+
+  public TransientTimerDueDateState() {
+    this(DEFAULT_TICK_DURATION);
+  }
+
+  public TransientTimerDueDateState(final Duration tickDuration) {
+    tickMillis = tickDuration.toMillis();
+
+    for (int level = 0; level < LEVELS; level++) {
+      final List<Set<DueTimer>> buckets = new ArrayList<>(WHEEL_SIZE);
+      for (int slot = 0; slot < WHEEL_SIZE; slot++) {
+        buckets.add(new HashSet<>());
+      }
+      levels.add(buckets);
+    }
+  }
+
+  /**
+   * @return true if the index contains all timers of the state, i.e. it was filled on recovery
+   */
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /** Marks the index as complete, such that it can be used instead of the state. */
+  public void enable() {
+    enabled = true;
+  }
+
+  /**
+   * Removes all timers and moves the wheel to the given time.
+   *
+   * @param timestamp the current time in milliseconds
+   */
+  public synchronized void clear(final long timestamp) {
+    levels.forEach(buckets -> buckets.forEach(Set::clear));
+    overflow.clear();
+    dueTimers.clear();
+    timersByKey.clear();
+    for (int level = 0; level < LEVELS; level++) {
+      levelSizes[level] = 0;
+    }
+
+    currentTick = Math.floorDiv(timestamp, tickMillis);
+  }
+
+  /**
+   * Removes all timers, moves the wheel to the given time and adds the given timers.
+   *
+   * @param timestamp the current time in milliseconds
+   * @param timers the timers to add
+   */
+  public synchronized void reset(final long timestamp, final Collection<DueTimer> timers) {
+    clear(timestamp);
+    timers.forEach(this::add);
+  }
+
+  /**
+   * Adds the timer, replacing any timer with the same timer key.
+   *
+   * @return the replaced timer, or null if there was none
+   */
+  public synchronized DueTimer add(
+      final long dueDate, final long elementInstanceKey, final long timerKey) {
+    return add(new DueTimer(dueDate, elementInstanceKey, timerKey));
+  }
+
+  /**
+   * Adds the timer, replacing any timer with the same timer key.
+   *
+   * @return the replaced timer, or null if there was none
+   */
+  public synchronized DueTimer add(final DueTimer timer) {
+    final DueTimer replaced = remove(timer.timerKey());
+    timersByKey.put(timer.timerKey(), timer);
+    insert(timer);
+    return replaced;
+  }
+
+  /**
+   * Removes the timer with the given key, if it is contained.
+   *
+   * @param timerKey the key of the timer to remove
+   * @return the removed timer, or null if there was none
+   */
+  public synchronized DueTimer remove(final long timerKey) {
+    final DueTimer timer = timersByKey.remove(timerKey);
+    if (timer == null) {
+      return null;
+    }
+
+    // a timer is always found where it would be inserted at the current tick, because it's moved
+    // down as soon as the wheel reaches its bucket
+    final long dueTick = Math.floorDiv(timer.dueDate(), tickMillis);
+    if (dueTick <= currentTick) {
+      dueTimers.remove(timer);
+      return timer;
+    }
+
+    final int level = levelOf(dueTick);
+    if (level >= LEVELS) {
+      overflow.remove(timer);
+    } else if (levels.get(level).get(slotOf(dueTick, level)).remove(timer)) {
+      levelSizes[level]--;
+    }
+    return timer;
+  }
+
+  /**
+   * Removes and returns the timer with the earliest due date, if it is due at the given time.
+   *
+   * @param timestamp the current time in milliseconds
+   * @return the earliest due timer, or null if no timer is due
+   */
+  public synchronized DueTimer poll(final long timestamp) {
+    advanceTo(Math.floorDiv(timestamp, tickMillis));
+
+    final DueTimer timer = dueTimers.peek();
+    if (timer == null || timer.dueDate() > timestamp) {
+      return null;
+    }
+    dueTimers.poll();
+    timersByKey.remove(timer.timerKey());
+    return timer;
+  }
+
+  /**
+   * @return the earliest due date of all timers, or -1 if there are no timers
+   */
+  public synchronized long nextDueDate() {
+    final DueTimer dueTimer = dueTimers.peek();
+    if (dueTimer != null) {
+      return dueTimer.dueDate();
+    }
+
+    // the buckets of a level are all before the buckets of the next level, and the buckets before
+    // the current one of a level are always empty
+    for (int level = 0; level < LEVELS; level++) {
+      if (levelSizes[level] == 0) {
+        continue;
+      }
+
+      final List<Set<DueTimer>> buckets = levels.get(level);
+      for (int slot = slotOf(currentTick, level) + 1; slot < WHEEL_SIZE; slot++) {
+        final Set<DueTimer> bucket = buckets.get(slot);
+        if (!bucket.isEmpty()) {
+          return earliestDueDate(bucket);
+        }
+      }
+    }
+
+    return overflow.isEmpty() ? -1L : earliestDueDate(overflow);
+  }
+
+  public synchronized int size() {
+    return timersByKey.size();
+  }
+
+  private void insert(final DueTimer timer) {
+    final long dueTick = Math.floorDiv(timer.dueDate(), tickMillis);
+    if (dueTick <= currentTick) {
+      dueTimers.add(timer);
+      return;
+    }
+
+    final int level = levelOf(dueTick);
+    if (level >= LEVELS) {
+      overflow.add(timer);
+      return;
+    }
+
+    levels.get(level).get(slotOf(dueTick, level)).add(timer);
+    levelSizes[level]++;
+  }
+
+  /**
+   * The level is given by the most significant digit in which the due tick and the current tick
+   * differ, such that the timer is moved down when the wheel reaches this digit.
+   */
+  private int levelOf(final long dueTick) {
+    return (Long.SIZE - 1 - Long.numberOfLeadingZeros(dueTick ^ currentTick)) / WHEEL_BITS;
+  }
+
+  private void advanceTo(final long tick) {
+    while (currentTick < tick) {
+      currentTick = nextTickToProcess(tick);
+      processTick(currentTick);
+    }
+  }
+
+  /**
+   * Returns the next tick on which timers need to be moved. If the lower levels are empty, the
+   * wheel can skip all ticks until the next bucket of the first non-empty level is reached.
+   */
+  private long nextTickToProcess(final long limit) {
+    int level = 0;
+    while (level < LEVELS && levelSizes[level] == 0) {
+      level++;
+    }
+
+    if (level == LEVELS && overflow.isEmpty()) {
+      return limit;
+    }
+
+    final long step = 1L << (level * WHEEL_BITS);
+    return Math.min(limit, (currentTick & -step) + step);
+  }
+
+  private void processTick(final long tick) {
+    if (isStartOfBucket(tick, LEVELS) && !overflow.isEmpty()) {
+      final List<DueTimer> timers = new ArrayList<>(overflow);
+      overflow.clear();
+      timers.forEach(this::insert);
+    }
+
+    for (int level = LEVELS - 1; level > 0; level--) {
+      if (isStartOfBucket(tick, level)) {
+        moveDown(level, slotOf(tick, level));
+      }
+    }
+
+    moveDown(0, slotOf(tick, 0));
+  }
+
+  private void moveDown(final int level, final int slot) {
+    final Set<DueTimer> bucket = levels.get(level).get(slot);
+    if (bucket.isEmpty()) {
+      return;
+    }
+
+    final List<DueTimer> timers = new ArrayList<>(bucket);
+    bucket.clear();
+    levelSizes[level] -= timers.size();
+    timers.forEach(this::insert);
+  }
+
+  private static boolean isStartOfBucket(final long tick, final int level) {
+    return (tick & ((1L << (level * WHEEL_BITS)) - 1)) == 0;
+  }
+
+  private static int slotOf(final long tick, final int level) {
+    return (int) (tick >>> (level * WHEEL_BITS)) & WHEEL_MASK;
+  }
+
+  private static long earliestDueDate(final Collection<DueTimer> timers) {
+    long earliest = Long.MAX_VALUE;
+    for (final DueTimer timer : timers) {
+      earliest = Math.min(earliest, timer.dueDate());
+    }
+    return earliest;
+  }
+
+  public record DueTimer(long dueDate, long elementInstanceKey, long timerKey) {}
+}
@@ -63,4 +63,16 @@ public interface MutableProcessingState extends ProcessingState {
   MutableMigrationState getMigrationState();
 
   KeyGenerator getKeyGenerator();
+
+  /**
+   * Keeps the changes of the in-memory states which are not part of the database transaction, after
+   * the transaction was committed.
+   */
+  void onCommit();
+
+  /**
+   * Discards the changes of the in-memory states which are not part of the database transaction,
+   * after the transaction was rolled back.
+   */
+  void onRollback();
 }
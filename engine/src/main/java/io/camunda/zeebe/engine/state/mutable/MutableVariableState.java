@@ -61,4 +61,18 @@ public interface MutableVariableState extends VariableState {
   void removeScope(long scopeKey);
 
   void removeAllVariables(long scopeKey);
+
+  /**
+   * Caches the parent scopes and the variables resolved by {@link #getVariable(long,
+   * DirectBuffer)}, until {@link #disableCache()} is called. This avoids reading them again for
+   * every expression that is evaluated while processing a command. Writes to the state invalidate
+   * the affected entries.
+   *
+   * <p>The cache doesn't notice a rollback of the transaction, so it must be disabled before the
+   * transaction ends.
+   */
+  void enableCache();
+
+  /** Disables and drops the cache, see {@link #enableCache()}. */
+  void disableCache();
 }
@@ -17,19 +17,28 @@ import io.camunda.zeebe.engine.state.instance.ParentScopeKey;
 import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
 import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
 import io.camunda.zeebe.protocol.ZbColumnFamilies;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.BooleanSupplier;
 import java.util.function.Predicate;
 import org.agrona.DirectBuffer;
 import org.agrona.ExpandableArrayBuffer;
 import org.agrona.MutableDirectBuffer;
+import org.agrona.collections.Long2LongHashMap;
+import org.agrona.collections.Long2ObjectHashMap;
 import org.agrona.collections.MutableInteger;
+import org.agrona.collections.Object2ObjectHashMap;
 import org.agrona.collections.ObjectHashSet;
 import org.agrona.concurrent.UnsafeBuffer;
 
 public class DbVariableState implements MutableVariableState {
 
+  private static final long UNKNOWN_PARENT = Long.MIN_VALUE;
+  private static final DirectBuffer NO_VALUE = new UnsafeBuffer(0, 0);
+
   private final MsgPackWriter writer = new MsgPackWriter();
   private final ExpandableArrayBuffer documentResultBuffer = new ExpandableArrayBuffer();
   private final DirectBuffer resultView = new UnsafeBuffer(0, 0);
@@ -52,6 +61,18 @@ public class DbVariableState implements MutableVariableState {
   // collecting variables
   private final ObjectHashSet<DirectBuffer> collectedVariables = new ObjectHashSet<>();
   private final ObjectHashSet<DirectBuffer> variablesToCollect = new ObjectHashSet<>();
+  // distinct keys to look up several variables of a scope at once; grown on demand and reused
+  private final List<DbCompositeKey<DbLong, DbString>> variableKeys = new ArrayList<>();
+  private final List<DirectBuffer> variableNamesInKeyOrder = new ArrayList<>();
+  private int collectedVariableCount;
+
+  // caches while processing a command, see enableCache(); invalidated on every write
+  // (child scope key) => (parent scope key)
+  private final Long2LongHashMap cachedParentScopes = new Long2LongHashMap(UNKNOWN_PARENT);
+  // (variable name) => (scope key the lookup started from) => (resolved value or NO_VALUE)
+  private final Object2ObjectHashMap<DirectBuffer, Long2ObjectHashMap<DirectBuffer>>
+      cachedVariables = new Object2ObjectHashMap<>();
+  private boolean cacheEnabled;
 
   public DbVariableState(
       final ZeebeDb<ZbColumnFamilies> zeebeDb, final TransactionContext transactionContext) {
@@ -106,6 +127,8 @@ public class DbVariableState implements MutableVariableState {
     variableName.wrapBuffer(variableNameView);
 
     variablesColumnFamily.upsert(scopeKeyVariableNameKey, newVariable);
+    // the variable may shadow or replace a resolved variable of this or any child scope
+    cachedVariables.remove(variableNameView);
   }
 
   @Override
@@ -114,6 +137,9 @@ public class DbVariableState implements MutableVariableState {
     this.parentKey.set(parentKey);
 
     childParentColumnFamily.insert(this.childKey, this.parentKey);
+    cachedParentScopes.remove(childKey);
+    // lookups from this scope may have been resolved while it had no or another parent
+    evictCachedVariables(childKey);
   }
 
   @Override
@@ -125,6 +151,8 @@ public class DbVariableState implements MutableVariableState {
     childKey.wrapLong(scopeKey);
     // TODO: Could be deleteExisting except for tests
     childParentColumnFamily.deleteIfExists(childKey);
+    cachedParentScopes.remove(scopeKey);
+    evictCachedVariables(scopeKey);
   }
 
   @Override
@@ -134,6 +162,25 @@ public class DbVariableState implements MutableVariableState {
         dbString -> true,
         (dbString, variable1) -> variablesColumnFamily.deleteExisting(scopeKeyVariableNameKey),
         () -> false);
+    cachedVariables.clear();
+  }
+
+  private void evictCachedVariables(final long scopeKey) {
+    for (final Long2ObjectHashMap<DirectBuffer> valuesByScope : cachedVariables.values()) {
+      valuesByScope.remove(scopeKey);
+    }
+  }
+
+  @Override
+  public void enableCache() {
+    cacheEnabled = true;
+  }
+
+  @Override
+  public void disableCache() {
+    cacheEnabled = false;
+    cachedParentScopes.clear();
+    cachedVariables.clear();
   }
 
   @Override
@@ -173,7 +220,35 @@ public class DbVariableState implements MutableVariableState {
   @Override
   public DirectBuffer getVariable(
       final long scopeKey, final DirectBuffer name, final int nameOffset, final int nameLength) {
+    if (!cacheEnabled) {
+      return findVariable(scopeKey, name, nameOffset, nameLength);
+    }
 
+    variableNameView.wrap(name, nameOffset, nameLength);
+    Long2ObjectHashMap<DirectBuffer> valuesByScope = cachedVariables.get(variableNameView);
+    if (valuesByScope == null) {
+      valuesByScope = new Long2ObjectHashMap<>();
+      cachedVariables.put(BufferUtil.cloneBuffer(name, nameOffset, nameLength), valuesByScope);
+    } else {
+      final DirectBuffer cachedValue = valuesByScope.get(scopeKey);
+      if (cachedValue != null) {
+        return cachedValue == NO_VALUE ? null : cachedValue;
+      }
+    }
+
+    final DirectBuffer value = findVariable(scopeKey, name, nameOffset, nameLength);
+    if (value == null) {
+      valuesByScope.put(scopeKey, NO_VALUE);
+      return null;
+    }
+
+    final DirectBuffer cachedValue = BufferUtil.cloneBuffer(value);
+    valuesByScope.put(scopeKey, cachedValue);
+    return cachedValue;
+  }
+
+  private DirectBuffer findVariable(
+      final long scopeKey, final DirectBuffer name, final int nameOffset, final int nameLength) {
     long currentScopeKey = scopeKey;
     do {
       final VariableInstance variable =
@@ -218,29 +293,32 @@ public class DbVariableState implements MutableVariableState {
     return resultView;
   }
 
+  /**
+   * Collects the variables with the given names, starting at the given scope and walking up the
+   * scope hierarchy until all of them are found. The remaining names are looked up at once in each
+   * scope, instead of iterating over all variables of the scope. The variables are written scope by
+   * scope, and in the order of their keys within a scope, like {@link
+   * #getVariablesAsDocument(long)} does.
+   */
   @Override
   public DirectBuffer getVariablesAsDocument(
       final long scopeKey, final Collection<DirectBuffer> names) {
 
     variablesToCollect.clear();
     variablesToCollect.addAll(names);
+    collectedVariableCount = 0;
 
     writer.wrap(documentResultBuffer, 0);
 
     writer.reserveMapHeader();
 
-    visitVariables(
-        scopeKey,
-        name -> variablesToCollect.contains(name.getBuffer()),
-        (name, value) -> {
-          writer.writeString(name.getBuffer());
-          writer.writeRaw(value.getValue());
-
-          variablesToCollect.remove(name.getBuffer());
-        },
-        variablesToCollect::isEmpty);
+    long currentScope = scopeKey;
+    while (!variablesToCollect.isEmpty() && currentScope >= 0) {
+      collectVariablesLocal(currentScope);
+      currentScope = getParentScopeKey(currentScope);
+    }
 
-    writer.writeReservedMapHeader(0, names.size() - variablesToCollect.size());
+    writer.writeReservedMapHeader(0, collectedVariableCount);
 
     resultView.wrap(documentResultBuffer, 0, writer.getOffset());
     return resultView;
@@ -281,10 +359,21 @@ public class DbVariableState implements MutableVariableState {
 
   @Override
   public long getParentScopeKey(final long childScopeKey) {
+    if (cacheEnabled) {
+      final long cachedParentKey = cachedParentScopes.get(childScopeKey);
+      if (cachedParentKey != UNKNOWN_PARENT) {
+        return cachedParentKey;
+      }
+    }
+
     childKey.wrapLong(childScopeKey);
 
     final ParentScopeKey parentScopeKey = childParentColumnFamily.get(childKey);
-    return parentScopeKey != null ? parentScopeKey.get() : NO_PARENT;
+    final long parentScope = parentScopeKey != null ? parentScopeKey.get() : NO_PARENT;
+    if (cacheEnabled) {
+      cachedParentScopes.put(childScopeKey, parentScope);
+    }
+    return parentScope;
   }
 
   private VariableInstance getVariableLocal(
@@ -296,6 +385,59 @@ public class DbVariableState implements MutableVariableState {
     return variablesColumnFamily.get(scopeKeyVariableNameKey);
   }
 
+  /** Looks up the variables which are still to collect in the given scope, all at once. */
+  private void collectVariablesLocal(final long scopeKey) {
+    final int count = variablesToCollect.size();
+    while (variableKeys.size() < count) {
+      variableKeys.add(new DbCompositeKey<>(new DbLong(), new DbString()));
+    }
+
+    // the set iterates in hash order, so sort the names to write the variables in a stable order
+    variableNamesInKeyOrder.clear();
+    variableNamesInKeyOrder.addAll(variablesToCollect);
+    variableNamesInKeyOrder.sort(DbVariableState::compareInKeyOrder);
+
+    for (int index = 0; index < count; index++) {
+      final var key = variableKeys.get(index);
+      key.first().wrapLong(scopeKey);
+      key.second().wrapBuffer(variableNamesInKeyOrder.get(index));
+    }
+
+    variablesColumnFamily.multiGet(
+        variableKeys.subList(0, count),
+        (key, variable) -> {
+          if (variable != null) {
+            final DirectBuffer name = key.second().getBuffer();
+            writer.writeString(name);
+            writer.writeRaw(variable.getValue());
+
+            variablesToCollect.remove(name);
+            collectedVariableCount++;
+          }
+        });
+  }
+
+  /**
+   * Compares two variable names in the order of their keys in the state, i.e. by their length
+   * first, as it prefixes the name in the key, and then by their unsigned bytes.
+   */
+  private static int compareInKeyOrder(final DirectBuffer name, final DirectBuffer other) {
+    final int lengthComparison = Integer.compare(name.capacity(), other.capacity());
+    if (lengthComparison != 0) {
+      return lengthComparison;
+    }
+
+    for (int i = 0; i < name.capacity(); i++) {
+      final int byteComparison =
+          Integer.compare(
+              Byte.toUnsignedInt(name.getByte(i)), Byte.toUnsignedInt(other.getByte(i)));
+      if (byteComparison != 0) {
+        return byteComparison;
+      }
+    }
+    return 0;
+  }
+
   /**
    * Like {@link #visitVariablesLocal(long, Predicate, BiConsumer, BooleanSupplier)} but walks up
    * the scope hierarchy.
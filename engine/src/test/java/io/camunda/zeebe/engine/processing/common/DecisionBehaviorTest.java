@@ -0,0 +1,123 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.common;
+
+import static io.camunda.zeebe.test.util.asserts.EitherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.dmn.DecisionEngine;
+import io.camunda.zeebe.dmn.ParsedDecisionRequirementsGraph;
+import io.camunda.zeebe.engine.metrics.ProcessEngineMetrics;
+import io.camunda.zeebe.engine.state.deployment.PersistedDecision;
+import io.camunda.zeebe.engine.state.deployment.PersistedDecisionRequirements;
+import io.camunda.zeebe.engine.state.immutable.DecisionState;
+import io.camunda.zeebe.engine.state.immutable.ProcessingState;
+import io.camunda.zeebe.util.Either;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class DecisionBehaviorTest {
+
+  private static final int CACHE_CAPACITY = 2;
+
+  private final DecisionEngine decisionEngine = mock(DecisionEngine.class);
+  private final DecisionState decisionState = mock(DecisionState.class);
+  private final ParsedDecisionRequirementsGraph parsedDrg =
+      mock(ParsedDecisionRequirementsGraph.class);
+  private DecisionBehavior decisionBehavior;
+
+  @BeforeEach
+  void setup() {
+    final var processingState = mock(ProcessingState.class);
+    when(processingState.getDecisionState()).thenReturn(decisionState);
+    when(decisionEngine.parse(any())).thenReturn(parsedDrg);
+    when(parsedDrg.isValid()).thenReturn(true);
+
+    decisionBehavior =
+        new DecisionBehavior(
+            decisionEngine, processingState, new ProcessEngineMetrics(1), CACHE_CAPACITY);
+  }
+
+  @Test
+  void shouldParseDrgOnlyOnce() {
+    // given
+    final var decision = givenDecision(1L);
+
+    // when
+    decisionBehavior.findAndParseDrgByDecision(decision);
+    final var result = decisionBehavior.findAndParseDrgByDecision(decision);
+
+    // then
+    assertThat(result).isRight().extracting(Either::get).isSameAs(parsedDrg);
+    verify(decisionEngine, times(1)).parse(any());
+  }
+
+  @Test
+  void shouldParseDrgAgainAfterInvalidation() {
+    // given
+    final var decision = givenDecision(1L);
+    decisionBehavior.findAndParseDrgByDecision(decision);
+
+    // when
+    decisionBehavior.invalidateDrgCache(1L);
+    decisionBehavior.findAndParseDrgByDecision(decision);
+
+    // then
+    verify(decisionEngine, times(2)).parse(any());
+  }
+
+  @Test
+  void shouldParseDrgAgainAfterEviction() {
+    // given
+    final var decision = givenDecision(1L);
+    decisionBehavior.findAndParseDrgByDecision(decision);
+
+    // when
+    for (long drgKey = 2L; drgKey < 2L + CACHE_CAPACITY; drgKey++) {
+      decisionBehavior.findAndParseDrgByDecision(givenDecision(drgKey));
+    }
+    decisionBehavior.findAndParseDrgByDecision(decision);
+
+    // then
+    verify(decisionEngine, times(CACHE_CAPACITY + 2)).parse(any());
+  }
+
+  @Test
+  void shouldNotCacheInvalidDrg() {
+    // given
+    final var decision = givenDecision(1L);
+    when(parsedDrg.isValid()).thenReturn(false);
+    when(parsedDrg.getFailureMessage()).thenReturn("invalid DRG");
+
+    // when
+    final var result = decisionBehavior.findAndParseDrgByDecision(decision);
+    decisionBehavior.findAndParseDrgByDecision(decision);
+
+    // then
+    assertThat(result).isLeft();
+    verify(decisionEngine, times(2)).parse(any());
+  }
+
+  private PersistedDecision givenDecision(final long drgKey) {
+    final var decision = mock(PersistedDecision.class);
+    when(decision.getDecisionId()).thenReturn(BufferUtil.wrapString("decision-" + drgKey));
+    when(decision.getDecisionRequirementsKey()).thenReturn(drgKey);
+    when(decision.getDecisionRequirementsId()).thenReturn(BufferUtil.wrapString("drg-" + drgKey));
+
+    final var drg = mock(PersistedDecisionRequirements.class);
+    when(drg.getResource()).thenReturn(BufferUtil.wrapString("<definitions/>"));
+    when(decisionState.findDecisionRequirementsByKey(drgKey)).thenReturn(Optional.of(drg));
+    return decision;
+  }
+}
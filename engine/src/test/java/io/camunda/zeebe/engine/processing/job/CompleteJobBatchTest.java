@@ -0,0 +1,159 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.processing.job;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+import io.camunda.zeebe.engine.util.EngineRule;
+import io.camunda.zeebe.protocol.record.Assertions;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.protocol.record.value.BpmnElementType;
+import io.camunda.zeebe.protocol.record.value.JobBatchRecordValue;
+import io.camunda.zeebe.test.util.Strings;
+import io.camunda.zeebe.test.util.record.RecordingExporter;
+import io.camunda.zeebe.test.util.record.RecordingExporterTestWatcher;
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class CompleteJobBatchTest {
+
+  @ClassRule public static final EngineRule ENGINE = EngineRule.singlePartition();
+  private static final String PROCESS_ID = "process";
+
+  @Rule
+  public final RecordingExporterTestWatcher recordingExporterTestWatcher =
+      new RecordingExporterTestWatcher();
+
+  private String jobType;
+
+  @Before
+  public void setup() {
+    jobType = Strings.newRandomValidBpmnId();
+  }
+
+  @Test
+  public void shouldCompleteJobs() {
+    // given
+    ENGINE.createJob(jobType, PROCESS_ID);
+    ENGINE.createJob(jobType, PROCESS_ID);
+    final List<Long> jobKeys = ENGINE.jobs().withType(jobType).activate().getValue().getJobKeys();
+
+    // when
+    final Record<JobBatchRecordValue> completed =
+        ENGINE
+            .jobBatchCompletion()
+            .withJob(jobKeys.get(0), "{'foo':'bar'}")
+            .withJob(jobKeys.get(1))
+            .complete();
+
+    // then
+    Assertions.assertThat(completed)
+        .hasRecordType(RecordType.EVENT)
+        .hasIntent(JobBatchIntent.COMPLETED);
+    assertThat(completed.getValue().getJobKeys()).containsExactlyElementsOf(jobKeys);
+    assertThat(
+            RecordingExporter.jobRecords(JobIntent.COMPLETED)
+                .withType(jobType)
+                .limit(2)
+                .map(Record::getKey))
+        .containsExactlyElementsOf(jobKeys);
+    assertThat(
+            RecordingExporter.jobRecords(JobIntent.COMPLETED)
+                .withRecordKey(jobKeys.get(0))
+                .getFirst()
+                .getValue()
+                .getVariables())
+        .containsExactly(entry("foo", "bar"));
+  }
+
+  @Test
+  public void shouldContinueProcessInstancesOfCompletedJobs() {
+    // given
+    final long processInstanceKey =
+        ENGINE.createJob(jobType, PROCESS_ID).getValue().getProcessInstanceKey();
+    final long jobKey = ENGINE.jobs().withType(jobType).activate().getValue().getJobKeys().get(0);
+
+    // when
+    ENGINE.jobBatchCompletion().withJob(jobKey).complete();
+
+    // then
+    assertThat(
+            RecordingExporter.processInstanceRecords(ProcessInstanceIntent.ELEMENT_COMPLETED)
+                .withProcessInstanceKey(processInstanceKey)
+                .withElementType(BpmnElementType.PROCESS)
+                .exists())
+        .isTrue();
+  }
+
+  @Test
+  public void shouldSkipJobsWhichCannotBeCompleted() {
+    // given
+    ENGINE.createJob(jobType, PROCESS_ID);
+    final long jobKey = ENGINE.jobs().withType(jobType).activate().getValue().getJobKeys().get(0);
+    final long unknownJobKey = 123L;
+
+    // when
+    final Record<JobBatchRecordValue> completed =
+        ENGINE
+            .jobBatchCompletion()
+            .withJob(unknownJobKey)
+            .withJob(jobKey)
+            .withJob(jobKey)
+            .complete();
+
+    // then
+    assertThat(completed.getValue().getJobKeys()).containsExactly(jobKey);
+  }
+
+  @Test
+  public void shouldCompleteRepeatedJobOnlyOnce() {
+    // given
+    ENGINE.createJob(jobType, PROCESS_ID);
+    final long jobKey = ENGINE.jobs().withType(jobType).activate().getValue().getJobKeys().get(0);
+
+    // when
+    final Record<JobBatchRecordValue> completed =
+        ENGINE
+            .jobBatchCompletion()
+            .withJob(jobKey, "{'foo':'first'}")
+            .withJob(jobKey, "{'foo':'second'}")
+            .complete();
+
+    // then
+    assertThat(completed.getValue().getJobKeys()).containsExactly(jobKey);
+    assertThat(
+            RecordingExporter.records()
+                .between(completed.getSourceRecordPosition(), completed.getPosition())
+                .jobRecords()
+                .withIntent(JobIntent.COMPLETED)
+                .map(r -> r.getValue().getVariables()))
+        .containsExactly(Map.of("foo", "first"));
+  }
+
+  @Test
+  public void shouldRejectEmptyBatch() {
+    // when
+    final Record<JobBatchRecordValue> rejection =
+        ENGINE.jobBatchCompletion().expectRejection().complete();
+
+    // then
+    Assertions.assertThat(rejection)
+        .hasRecordType(RecordType.COMMAND_REJECTION)
+        .hasRejectionType(RejectionType.INVALID_ARGUMENT);
+  }
+}
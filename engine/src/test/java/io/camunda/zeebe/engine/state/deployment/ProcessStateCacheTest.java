@@ -0,0 +1,104 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.deployment;
+
+import static io.camunda.zeebe.engine.state.deployment.ProcessStateTest.creatingDeploymentRecord;
+import static io.camunda.zeebe.util.buffer.BufferUtil.wrapString;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.EngineConfiguration;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessState;
+import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
+import io.camunda.zeebe.engine.util.ProcessingStateRule;
+import io.camunda.zeebe.protocol.Protocol;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+
+public final class ProcessStateCacheTest {
+
+  @Rule
+  public final ProcessingStateRule stateRule =
+      new ProcessingStateRule(
+          Protocol.DEPLOYMENT_PARTITION, new EngineConfiguration().setProcessCacheCapacity(1));
+
+  private MutableProcessState processState;
+  private MutableProcessingState processingState;
+
+  @Before
+  public void setUp() {
+    processingState = stateRule.getProcessingState();
+    processState = processingState.getProcessState();
+  }
+
+  @Test
+  public void shouldReturnCachedProcess() {
+    // given
+    final var deployment = creatingDeploymentRecord(processingState, "process");
+    processState.putDeployment(deployment);
+    final long processKey = deployment.processesMetadata().iterator().next().getKey();
+
+    // when
+    final var firstLookup = processState.getProcessByKey(processKey);
+    final var secondLookup = processState.getProcessByProcessIdAndVersion(wrapString("process"), 1);
+
+    // then
+    assertThat(secondLookup).isSameAs(firstLookup);
+  }
+
+  @Test
+  public void shouldTransformProcessAgainAfterEviction() {
+    // given
+    final var deployment = creatingDeploymentRecord(processingState, "process");
+    processState.putDeployment(deployment);
+    processState.putDeployment(creatingDeploymentRecord(processingState, "other"));
+    final long processKey = deployment.processesMetadata().iterator().next().getKey();
+    final var evictedProcess = processState.getProcessByKey(processKey);
+
+    // when
+    processState.getLatestProcessVersionByProcessId(wrapString("other"));
+    final var reloadedProcess = processState.getProcessByKey(processKey);
+
+    // then
+    assertThat(reloadedProcess).isNotSameAs(evictedProcess);
+    assertThat(reloadedProcess.getKey()).isEqualTo(processKey);
+    assertThat(reloadedProcess.getBpmnProcessId()).isEqualTo(wrapString("process"));
+  }
+
+  @Test
+  public void shouldFindProcessByIdAndVersionAfterEviction() {
+    // given
+    processState.putDeployment(creatingDeploymentRecord(processingState, "process"));
+    processState.putDeployment(creatingDeploymentRecord(processingState, "other"));
+    processState.getProcessByProcessIdAndVersion(wrapString("process"), 1);
+
+    // when
+    processState.getProcessByProcessIdAndVersion(wrapString("other"), 1);
+    final var process = processState.getProcessByProcessIdAndVersion(wrapString("process"), 1);
+
+    // then
+    assertThat(process).isNotNull();
+    assertThat(process.getBpmnProcessId()).isEqualTo(wrapString("process"));
+    assertThat(process.getVersion()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldListAllProcessesRegardlessOfCapacity() {
+    // given
+    processState.putDeployment(creatingDeploymentRecord(processingState, "process"));
+    processState.putDeployment(creatingDeploymentRecord(processingState, "other"));
+
+    // when
+    final var processes = processState.getProcesses();
+
+    // then
+    assertThat(processes)
+        .extracting(DeployedProcess::getBpmnProcessId)
+        .containsExactlyInAnyOrder(wrapString("process"), wrapString("other"));
+  }
+}
@@ -8,12 +8,16 @@
 package io.camunda.zeebe.engine.state.instance;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
 
+import io.camunda.zeebe.engine.state.ProcessingDbState;
+import io.camunda.zeebe.engine.state.instance.TransientTimerDueDateState.DueTimer;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.engine.state.mutable.MutableTimerInstanceState;
 import io.camunda.zeebe.engine.util.ProcessingStateRule;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
+import io.camunda.zeebe.stream.api.ReadonlyStreamProcessorContext;
 import java.util.ArrayList;
 import java.util.List;
 import org.assertj.core.api.Assertions;
@@ -170,6 +174,153 @@ public final class TimerInstanceStateTest {
     assertThat(nextDueDate).isEqualTo(timer1.getDueDate());
   }
 
+  @Test
+  public void shouldFindTimersWithDueDateFromTransientStateAfterRecovery() {
+    // given
+    createTimerInstance(1, 1, 1000L);
+    createTimerInstance(2, 2, 2000L);
+    recoverState();
+    createTimerInstance(3, 3, 1500L);
+    createTimerInstance(4, 4, 3000L);
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    final long nextDueDate =
+        state.processTimersWithDueDateBefore(2000L, t -> keys.add(t.getElementInstanceKey()));
+
+    // then
+    assertThat(keys).containsExactly(1L, 3L, 2L);
+    assertThat(nextDueDate).isEqualTo(3000L);
+  }
+
+  @Test
+  public void shouldNotFindRemovedTimersInTransientState() {
+    // given
+    final var timer1 = createTimerInstance(1, 1, 1000L);
+    recoverState();
+    final var timer2 = createTimerInstance(2, 2, 1000L);
+    state.remove(timer1);
+    state.remove(timer2);
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    final long nextDueDate =
+        state.processTimersWithDueDateBefore(2000L, t -> keys.add(t.getElementInstanceKey()));
+
+    // then
+    assertThat(keys).isEmpty();
+    assertThat(nextDueDate).isEqualTo(-1L);
+  }
+
+  @Test
+  public void shouldNotFindTriggeredTimerInTransientStateAgainImmediately() {
+    // given
+    createTimerInstance(1, 1, 1000L);
+    recoverState();
+    state.processTimersWithDueDateBefore(2000L, t -> true);
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    final long nextDueDate =
+        state.processTimersWithDueDateBefore(2000L, t -> keys.add(t.getElementInstanceKey()));
+
+    // then
+    assertThat(keys).isEmpty();
+    assertThat(nextDueDate).isGreaterThan(2000L);
+  }
+
+  @Test
+  public void shouldKeepNotConsumedTimerInTransientState() {
+    // given
+    final var timer = createTimerInstance(1, 1, 1000L);
+    recoverState();
+
+    // when
+    final long nextDueDate = state.processTimersWithDueDateBefore(2000L, t -> false);
+
+    // then
+    assertThat(nextDueDate).isEqualTo(timer.getDueDate());
+    final List<Long> keys = new ArrayList<>();
+    state.processTimersWithDueDateBefore(2000L, t -> keys.add(t.getElementInstanceKey()));
+    assertThat(keys).containsExactly(1L);
+  }
+
+  @Test
+  public void shouldNotGrowTransientStateWhenTimersAreRemoved() {
+    // given
+    recoverState();
+
+    // when
+    for (int i = 1; i <= 10_000; i++) {
+      final var timer = createTimerInstance(i, i, Long.MAX_VALUE - i);
+      state.remove(timer);
+    }
+
+    // then
+    assertThat(getTransientState().size()).isZero();
+  }
+
+  @Test
+  public void shouldUndoUncommittedChangesOnRollback() {
+    // given
+    final var committedTimer = createTimerInstance(1, 1, 1000L);
+    recoverState();
+    state.remove(committedTimer);
+    createTimerInstance(2, 2, 1500L);
+
+    // when
+    ((DbTimerInstanceState) state).onRollback();
+
+    // then
+    assertThat(getTransientState().size()).isOne();
+    assertThat(getTransientState().poll(2000L)).isEqualTo(new DueTimer(1000L, 1, 1));
+  }
+
+  @Test
+  public void shouldUndoTimerStoredAndRemovedInSameTransactionOnRollback() {
+    // given
+    recoverState();
+    final var timer = createTimerInstance(1, 1, 1000L);
+    state.remove(timer);
+
+    // when
+    ((DbTimerInstanceState) state).onRollback();
+
+    // then
+    assertThat(getTransientState().size()).isZero();
+  }
+
+  @Test
+  public void shouldNotUndoCommittedChangesOnRollback() {
+    // given
+    final var removedTimer = createTimerInstance(1, 1, 1000L);
+    recoverState();
+    state.remove(removedTimer);
+    createTimerInstance(2, 2, 1500L);
+    ((DbTimerInstanceState) state).onCommit();
+
+    // when
+    ((DbTimerInstanceState) state).onRollback();
+
+    // then
+    assertThat(getTransientState().size()).isOne();
+    assertThat(getTransientState().poll(2000L)).isEqualTo(new DueTimer(1500L, 2, 2));
+  }
+
+  @Test
+  public void shouldVisitTimerNotFoundInStateAgainLater() {
+    // given
+    recoverState();
+    getTransientState().add(1000L, 1, 1);
+
+    // when
+    final long nextDueDate = state.processTimersWithDueDateBefore(2000L, t -> true);
+
+    // then
+    assertThat(nextDueDate).isGreaterThan(2000L);
+    assertThat(getTransientState().size()).isOne();
+  }
+
   @Test
   public void shouldListAllTimersByElementInstanceKey() {
     // given
@@ -201,6 +352,14 @@ public final class TimerInstanceStateTest {
     assertThat(keys).hasSize(2).containsExactly(1L, 2L);
   }
 
+  private TransientTimerDueDateState getTransientState() {
+    return ((ProcessingDbState) stateRule.getProcessingState()).getTransientTimerDueDateState();
+  }
+
+  private void recoverState() {
+    ((DbTimerInstanceState) state).onRecovered(mock(ReadonlyStreamProcessorContext.class));
+  }
+
   private TimerInstance createTimerInstance(
       final long elementInstanceKey, final long timerKey, final long dueDate) {
     createElementInstance(elementInstanceKey);
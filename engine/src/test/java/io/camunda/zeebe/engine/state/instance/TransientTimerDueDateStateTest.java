@@ -0,0 +1,200 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.engine.state.instance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.engine.state.instance.TransientTimerDueDateState.DueTimer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class TransientTimerDueDateStateTest {
+
+  private static final long NOW = 1_000_000L;
+
+  private final TransientTimerDueDateState state =
+      new TransientTimerDueDateState(Duration.ofMillis(100));
+
+  @BeforeEach
+  void setUp() {
+    state.clear(NOW);
+  }
+
+  @Test
+  void shouldPollTimerWhenDue() {
+    // given
+    state.add(NOW + 250, 1, 1);
+
+    // when - then
+    assertThat(state.poll(NOW + 249)).isNull();
+    assertThat(state.poll(NOW + 250)).isEqualTo(new DueTimer(NOW + 250, 1, 1));
+    assertThat(state.poll(NOW + 250)).isNull();
+    assertThat(state.size()).isZero();
+  }
+
+  @Test
+  void shouldPollOverdueTimerImmediately() {
+    // given
+    state.add(NOW - 1_000, 1, 1);
+
+    // when - then
+    assertThat(state.poll(NOW)).isEqualTo(new DueTimer(NOW - 1_000, 1, 1));
+  }
+
+  @Test
+  void shouldPollTimersInOrderOfDueDate() {
+    // given
+    state.add(NOW + Duration.ofDays(400).toMillis(), 4, 4);
+    state.add(NOW + Duration.ofHours(3).toMillis(), 3, 3);
+    state.add(NOW + Duration.ofSeconds(30).toMillis(), 2, 2);
+    state.add(NOW + 10, 1, 1);
+
+    // when
+    final List<Long> keys = new ArrayList<>();
+    DueTimer timer;
+    while ((timer = state.poll(NOW + Duration.ofDays(500).toMillis())) != null) {
+      keys.add(timer.timerKey());
+    }
+
+    // then
+    assertThat(keys).containsExactly(1L, 2L, 3L, 4L);
+  }
+
+  @Test
+  void shouldReturnNextDueDate() {
+    // given
+    final long farFuture = NOW + Duration.ofDays(400).toMillis();
+    final long nearFuture = NOW + Duration.ofHours(3).toMillis() + 42;
+    state.add(farFuture, 2, 2);
+    state.add(nearFuture, 1, 1);
+
+    // when - then
+    assertThat(state.nextDueDate()).isEqualTo(nearFuture);
+    assertThat(state.poll(nearFuture)).isNotNull();
+    assertThat(state.nextDueDate()).isEqualTo(farFuture);
+    assertThat(state.poll(farFuture)).isNotNull();
+    assertThat(state.nextDueDate()).isEqualTo(-1L);
+  }
+
+  @Test
+  void shouldPollSameTimersAsSortedList() {
+    // given
+    final var random = new Random(42);
+    final List<DueTimer> timers = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) {
+      final long dueDate = NOW + (long) (random.nextDouble() * Duration.ofDays(30).toMillis());
+      final var timer = new DueTimer(dueDate, i, i);
+      timers.add(timer);
+      state.add(timer);
+    }
+    timers.sort(Comparator.comparingLong(DueTimer::dueDate));
+
+    // when
+    final List<DueTimer> polledTimers = new ArrayList<>();
+    long now = NOW;
+    while (polledTimers.size() < timers.size()) {
+      now += random.nextInt((int) Duration.ofHours(1).toMillis());
+      DueTimer timer;
+      while ((timer = state.poll(now)) != null) {
+        assertThat(timer.dueDate()).isLessThanOrEqualTo(now);
+        polledTimers.add(timer);
+      }
+      assertThat(state.nextDueDate()).isEqualTo(nextDueDate(timers, polledTimers.size()));
+    }
+
+    // then
+    assertThat(polledTimers)
+        .extracting(DueTimer::dueDate)
+        .containsExactlyElementsOf(timers.stream().map(DueTimer::dueDate).toList());
+  }
+
+  @Test
+  void shouldRemoveTimer() {
+    // given
+    state.add(NOW + 10, 1, 1);
+    state.add(NOW + Duration.ofHours(3).toMillis(), 2, 2);
+    state.add(NOW + Duration.ofDays(400).toMillis(), 3, 3);
+    state.add(NOW - 1_000, 4, 4);
+
+    // when
+    state.remove(1);
+    state.remove(2);
+    state.remove(3);
+    state.remove(4);
+
+    // then
+    assertThat(state.size()).isZero();
+    assertThat(state.nextDueDate()).isEqualTo(-1L);
+    assertThat(state.poll(NOW + Duration.ofDays(500).toMillis())).isNull();
+  }
+
+  @Test
+  void shouldReturnRemovedTimer() {
+    // given
+    state.add(NOW + 10, 1, 1);
+
+    // when
+    final DueTimer removedTimer = state.remove(1);
+
+    // then
+    assertThat(removedTimer).isEqualTo(new DueTimer(NOW + 10, 1, 1));
+    assertThat(state.remove(1)).isNull();
+  }
+
+  @Test
+  void shouldRemoveTimerAfterWheelAdvanced() {
+    // given
+    final long dueDate = NOW + Duration.ofHours(3).toMillis();
+    state.add(dueDate, 1, 1);
+    state.poll(dueDate - Duration.ofMinutes(1).toMillis());
+
+    // when
+    state.remove(1);
+
+    // then
+    assertThat(state.size()).isZero();
+    assertThat(state.poll(dueDate)).isNull();
+  }
+
+  @Test
+  void shouldReplaceTimerWithSameKey() {
+    // given
+    state.add(NOW + 10, 1, 1);
+
+    // when
+    final DueTimer replacedTimer = state.add(NOW + 20, 1, 1);
+
+    // then
+    assertThat(replacedTimer).isEqualTo(new DueTimer(NOW + 10, 1, 1));
+    assertThat(state.size()).isOne();
+    assertThat(state.poll(NOW + 20)).isEqualTo(new DueTimer(NOW + 20, 1, 1));
+    assertThat(state.poll(NOW + 20)).isNull();
+  }
+
+  @Test
+  void shouldResetTimers() {
+    // given
+    state.add(NOW + 10, 1, 1);
+
+    // when
+    state.reset(NOW, List.of(new DueTimer(NOW + 20, 2, 2)));
+
+    // then
+    assertThat(state.size()).isOne();
+    assertThat(state.poll(NOW + 20)).isEqualTo(new DueTimer(NOW + 20, 2, 2));
+  }
+
+  private static long nextDueDate(final List<DueTimer> sortedTimers, final int polled) {
+    return polled < sortedTimers.size() ? sortedTimers.get(polled).dueDate() : -1L;
+  }
+}
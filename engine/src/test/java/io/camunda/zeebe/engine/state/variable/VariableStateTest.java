@@ -21,10 +21,13 @@ import io.camunda.zeebe.engine.state.mutable.MutableElementInstanceState;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
 import io.camunda.zeebe.engine.state.mutable.MutableVariableState;
 import io.camunda.zeebe.engine.util.ProcessingStateRule;
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
 import io.camunda.zeebe.protocol.impl.record.value.processinstance.ProcessInstanceRecord;
 import io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent;
 import io.camunda.zeebe.stream.api.records.TypedRecord;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicLong;
 import org.agrona.DirectBuffer;
 import org.junit.After;
@@ -63,6 +66,7 @@ public final class VariableStateTest {
 
   @After
   public void cleanUp() {
+    variableState.disableCache();
     elementInstanceState.removeInstance(child2);
     elementInstanceState.removeInstance(child);
     elementInstanceState.removeInstance(parent);
@@ -222,6 +226,25 @@ public final class VariableStateTest {
     assertEquality(variablesDocument, "{'a': 1, 'c': 3}");
   }
 
+  @Test
+  public void shouldNotCollectHiddenVariablesByName() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    setVariableLocal(parent, wrapString("b"), asMsgPack("2"));
+    setVariableLocal(child, wrapString("b"), asMsgPack("3"));
+
+    // when
+    final DirectBuffer variablesDocument =
+        variableState.getVariablesAsDocument(
+            child, Arrays.asList(wrapString("a"), wrapString("b")));
+
+    // then
+    assertEquality(variablesDocument, "{'a': 1, 'b': 3}");
+  }
+
   @Test
   public void shouldCollectOnlyExistingVariablesByName() {
     // given
@@ -238,6 +261,29 @@ public final class VariableStateTest {
     assertEquality(variablesDocument, "{'a': 1}");
   }
 
+  @Test
+  public void shouldCollectVariablesByNameInKeyOrder() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+
+    final List<DirectBuffer> names = new ArrayList<>();
+    for (int i = 20; i > 0; i--) {
+      final DirectBuffer name = wrapString("var" + i);
+      setVariableLocal(i % 2 == 0 ? parent : child, name, asMsgPack(String.valueOf(i)));
+      names.add(name);
+    }
+
+    // when
+    final DirectBuffer byName = cloneBuffer(variableState.getVariablesAsDocument(child, names));
+
+    // then - the same order as when collecting all variables, scope by scope and in key order
+    final DirectBuffer all = variableState.getVariablesAsDocument(child);
+    assertThat(MsgPackConverter.convertToJson(byName))
+        .isEqualTo(MsgPackConverter.convertToJson(all))
+        .startsWith("{\"var1\":1,\"var3\":3,\"var5\":5,\"var7\":7,\"var9\":9,\"var11\":11,");
+  }
+
   @Test
   public void shouldSetLocalVariable() {
     // given
@@ -362,6 +408,95 @@ public final class VariableStateTest {
     assertThat(variableFromChildScope).isNull();
   }
 
+  @Test
+  public void shouldGetCachedVariableByName() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    variableState.enableCache();
+    variableState.getVariable(child, wrapString("a"));
+
+    // when
+    final DirectBuffer variable = variableState.getVariable(child, wrapString("a"));
+    final DirectBuffer missingVariable = variableState.getVariable(child, wrapString("b"));
+
+    // then
+    assertEquality(variable, "1");
+    assertThat(missingVariable).isNull();
+  }
+
+  @Test
+  public void shouldInvalidateCachedVariableOnWrite() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    variableState.enableCache();
+    variableState.getVariable(child, wrapString("a"));
+    variableState.getVariable(child, wrapString("b"));
+
+    // when
+    setVariableLocal(child, wrapString("a"), asMsgPack("2"));
+    setVariableLocal(parent, wrapString("b"), asMsgPack("3"));
+
+    // then
+    assertEquality(variableState.getVariable(child, wrapString("a")), "2");
+    assertEquality(variableState.getVariable(child, wrapString("b")), "3");
+  }
+
+  @Test
+  public void shouldInvalidateCachedScopeOnRemoval() {
+    // given
+    declareScope(parent);
+    declareScope(parent, child);
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    variableState.enableCache();
+    variableState.getVariable(child, wrapString("a"));
+
+    // when
+    variableState.removeScope(child);
+
+    // then
+    assertThat(variableState.getParentScopeKey(child)).isEqualTo(VariableState.NO_PARENT);
+    assertThat(variableState.getVariable(child, wrapString("a"))).isNull();
+  }
+
+  @Test
+  public void shouldInvalidateCachedVariablesOnScopeCreation() {
+    // given
+    declareScope(parent);
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    variableState.enableCache();
+    variableState.getVariable(child, wrapString("a"));
+
+    // when
+    declareScope(parent, child);
+
+    // then
+    assertEquality(variableState.getVariable(child, wrapString("a")), "1");
+  }
+
+  @Test
+  public void shouldInvalidateCachedVariablesOnScopeRecreation() {
+    // given
+    final long otherParent = child2;
+    declareScope(parent);
+    declareScope(otherParent);
+    declareScope(parent, child);
+    setVariableLocal(parent, wrapString("a"), asMsgPack("1"));
+    setVariableLocal(otherParent, wrapString("a"), asMsgPack("2"));
+    variableState.enableCache();
+    variableState.getVariable(child, wrapString("a"));
+
+    // when
+    variableState.removeScope(child);
+    variableState.createScope(child, otherParent);
+
+    // then
+    assertEquality(variableState.getVariable(child, wrapString("a")), "2");
+  }
+
   @Test
   public void shouldNotGetVariableInstanceLocal() {
     // given
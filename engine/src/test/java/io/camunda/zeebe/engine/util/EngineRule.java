@@ -22,6 +22,7 @@ import io.camunda.zeebe.engine.util.client.DecisionEvaluationClient;
 import io.camunda.zeebe.engine.util.client.DeploymentClient;
 import io.camunda.zeebe.engine.util.client.IncidentClient;
 import io.camunda.zeebe.engine.util.client.JobActivationClient;
+import io.camunda.zeebe.engine.util.client.JobBatchCompletionClient;
 import io.camunda.zeebe.engine.util.client.JobClient;
 import io.camunda.zeebe.engine.util.client.ProcessInstanceClient;
 import io.camunda.zeebe.engine.util.client.PublishMessageClient;
@@ -287,6 +288,10 @@ public final class EngineRule extends ExternalResource {
     return new JobClient(environmentRule);
   }
 
+  public JobBatchCompletionClient jobBatchCompletion() {
+    return new JobBatchCompletionClient(environmentRule);
+  }
+
   public IncidentClient incident() {
     return new IncidentClient(environmentRule);
   }
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.engine.util;
 
 import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.engine.EngineConfiguration;
 import io.camunda.zeebe.engine.state.DefaultZeebeDbFactory;
 import io.camunda.zeebe.engine.state.ProcessingDbState;
 import io.camunda.zeebe.engine.state.mutable.MutableProcessingState;
@@ -21,6 +22,7 @@ public final class ProcessingStateRule extends ExternalResource {
 
   private final TemporaryFolder tempFolder = new TemporaryFolder();
   private final int partition;
+  private final EngineConfiguration config;
   private ZeebeDb<ZbColumnFamilies> db;
   private MutableProcessingState processingState;
 
@@ -29,7 +31,12 @@ public final class ProcessingStateRule extends ExternalResource {
   }
 
   public ProcessingStateRule(final int partition) {
+    this(partition, new EngineConfiguration());
+  }
+
+  public ProcessingStateRule(final int partition, final EngineConfiguration config) {
     this.partition = partition;
+    this.config = config;
   }
 
   @Override
@@ -39,7 +46,7 @@ public final class ProcessingStateRule extends ExternalResource {
 
     final var context = db.createContext();
     final var keyGenerator = new DbKeyGenerator(partition, db, context);
-    processingState = new ProcessingDbState(partition, db, context, keyGenerator);
+    processingState = new ProcessingDbState(partition, db, context, keyGenerator, config);
   }
 
   @Override
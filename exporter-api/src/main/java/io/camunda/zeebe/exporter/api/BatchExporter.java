@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.exporter.api;
+
+import io.camunda.zeebe.exporter.api.context.Controller;
+import io.camunda.zeebe.protocol.record.Record;
+import java.util.List;
+
+/**
+ * An {@link Exporter} which opts in to receive records in batches, instead of one by one.
+ *
+ * <p>The records of a batch are lightweight views over the underlying log. Their metadata (e.g.
+ * position, key, intent, value type) is cheap to access, while the record value is only decoded
+ * when {@link Record#getValue()} (or {@link Record#toJson()}) is called. Exporters which only look
+ * at some of the records, or only at their metadata, thus don't pay for decoding the rest.
+ */
+public interface BatchExporter extends Exporter {
+
+  /**
+   * Called at least once for every batch of records to be exported. Once records are guaranteed to
+   * have been exported, implementations should call {@link
+   * Controller#updateLastExportedRecordPosition(long)} with the position of the last of them.
+   *
+   * <p>Should the method throw an unexpected {@link RuntimeException}, it will be called again with
+   * the same batch until it terminates without any exception.
+   *
+   * <p>The given list and its records are only valid until this method returns, as they wrap the
+   * underlying internal buffers and are reused for the next batch. If the implementation needs to
+   * keep records, it has to call {@link Record#toJson()} to get the serialized version of a record
+   * or {@link Record#copyOf()} to get a deep copy.
+   *
+   * @param records the records to export, ordered by position; never empty
+   */
+  void exportBatch(List<Record<?>> records);
+
+  /**
+   * Exports a single record as a batch of one. Only called by the broker if it doesn't support
+   * exporting batches.
+   *
+   * @param record the record to export
+   */
+  @Override
+  default void export(final Record<?> record) {
+    exportBatch(List.of(record));
+  }
+}
@@ -16,7 +16,9 @@
 package io.camunda.zeebe.exporter.api.context;
 
 import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RejectionType;
 import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
 import org.slf4j.Logger;
 
 /** Encapsulates context associated with the exporter on open. */
@@ -39,7 +41,13 @@ public interface Context {
    */
   void setFilter(RecordFilter filter);
 
-  /** A filter to limit the records which are exported. */
+  /**
+   * A filter to limit the records which are exported. A record is only exported if it is accepted
+   * by all of the methods.
+   *
+   * <p>The filter is evaluated on the metadata of a record, before its value is read; records which
+   * are not accepted are skipped without being decoded.
+   */
   interface RecordFilter {
 
     /**
@@ -57,5 +65,28 @@ public interface Context {
      * @return {@code true} if records with this type of value should be exported.
      */
     boolean acceptValue(ValueType valueType);
+
+    /**
+     * Should export records with the given intent? Since intents are specific to a value type, a
+     * filter which is interested in some intents only should accept all intents of the other value
+     * types it accepts.
+     *
+     * @param intent the intent of the record.
+     * @return {@code true} if records with this intent should be exported.
+     */
+    default boolean acceptIntent(final Intent intent) {
+      return true;
+    }
+
+    /**
+     * Should export records with the given rejection type? Records which are not rejections have
+     * the rejection type {@link RejectionType#NULL_VAL}.
+     *
+     * @param rejectionType the rejection type of the record.
+     * @return {@code true} if records with this rejection type should be exported.
+     */
+    default boolean acceptRejectionType(final RejectionType rejectionType) {
+      return true;
+    }
   }
 }
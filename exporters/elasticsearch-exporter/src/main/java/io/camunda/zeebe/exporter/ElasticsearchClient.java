@@ -22,12 +22,20 @@ import io.camunda.zeebe.exporter.dto.Template;
 import io.camunda.zeebe.protocol.record.Record;
 import io.camunda.zeebe.protocol.record.ValueType;
 import io.prometheus.client.Histogram;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
+import org.apache.http.entity.ByteArrayEntity;
 import org.apache.http.entity.EntityTemplate;
 import org.elasticsearch.client.Request;
+import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
 import org.elasticsearch.client.RestClient;
 
 class ElasticsearchClient implements AutoCloseable {
@@ -38,8 +46,10 @@ class ElasticsearchClient implements AutoCloseable {
   private final TemplateReader templateReader;
   private final RecordIndexRouter indexRouter;
   private final BulkIndexRequest bulkIndexRequest;
+  private final Deque<InFlightBulk> inFlightBulks = new ArrayDeque<>();
 
   private ElasticsearchMetrics metrics;
+  private int inFlightMemoryUsageBytes;
 
   ElasticsearchClient(final ElasticsearchExporterConfiguration configuration) {
     this(configuration, new BulkIndexRequest());
@@ -115,7 +125,101 @@ class ElasticsearchClient implements AutoCloseable {
   }
 
   /**
-   * Returns whether the exporter should call {@link #flush()} or not.
+   * Sends the bulk request to Elastic without waiting for the response, unless it's currently
+   * empty. The bulk request is cleared right away, such that new records can be indexed while the
+   * bulk is in flight. Blocks while too many bulks are in flight, see {@link
+   * #awaitFlushCapacity()}.
+   *
+   * <p>The given callback is run by {@link #acknowledgeCompletedFlushes()} once this bulk and all
+   * bulks sent before it were flushed successfully. If nothing is buffered or in flight, it is run
+   * immediately.
+   *
+   * @param onAcknowledged callback to run once this bulk is acknowledged
+   * @throws ElasticsearchExporterException if one of the previous bulks failed while waiting
+   */
+  public void flushAsync(final Runnable onAcknowledged) {
+    if (bulkIndexRequest.isEmpty()) {
+      if (inFlightBulks.isEmpty()) {
+        onAcknowledged.run();
+      }
+      return;
+    }
+
+    awaitFlushCapacity();
+
+    metrics.recordBulkSize(bulkIndexRequest.size());
+    metrics.recordBulkMemorySize(bulkIndexRequest.memoryUsageBytes());
+
+    final var bulk = new InFlightBulk(serializeBulk(), onAcknowledged);
+    bulkIndexRequest.clear();
+    inFlightBulks.addLast(bulk);
+    inFlightMemoryUsageBytes += bulk.body.length;
+    metrics.setInFlightBulks(inFlightBulks.size());
+
+    sendBulkAsync(bulk);
+  }
+
+  /**
+   * Blocks until another bulk can be sent, acknowledging completed bulks on the way. Another bulk
+   * is sent only if less than {@code bulk.maxInFlightRequests} bulks are in flight and their size
+   * is below {@code bulk.memoryLimit}. The in-flight limit is independent of the limit of the
+   * buffered bulk, such that in-flight bulks never make the next bulk smaller.
+   *
+   * @throws ElasticsearchExporterException if one of the previous bulks failed
+   */
+  public void awaitFlushCapacity() {
+    while (!inFlightBulks.isEmpty()
+        && (inFlightBulks.size() >= configuration.bulk.maxInFlightRequests
+            || inFlightMemoryUsageBytes >= configuration.bulk.memoryLimit)) {
+      awaitOldestFlush();
+    }
+  }
+
+  /**
+   * Blocks until all in-flight bulks are completed and acknowledged.
+   *
+   * @throws ElasticsearchExporterException if one of the bulks failed
+   */
+  public void awaitInFlightFlushes() {
+    while (!inFlightBulks.isEmpty()) {
+      awaitOldestFlush();
+    }
+  }
+
+  /**
+   * Acknowledges the in-flight bulks which were flushed successfully, in the order they were sent.
+   * Stops at the first bulk which is still in flight, such that a bulk is never acknowledged before
+   * all bulks sent before it.
+   *
+   * @throws ElasticsearchExporterException if the oldest in-flight bulk failed; the bulk is sent
+   *     again before throwing
+   */
+  public void acknowledgeCompletedFlushes() {
+    while (!inFlightBulks.isEmpty()) {
+      final var bulk = inFlightBulks.peekFirst();
+      if (!bulk.result.isDone()) {
+        return;
+      }
+
+      try {
+        bulk.result.join();
+      } catch (final CompletionException e) {
+        metrics.recordFailedFlush();
+        sendBulkAsync(bulk);
+        throw new ElasticsearchExporterException(
+            "Failed to flush bulk request, will retry it", e.getCause());
+      }
+
+      inFlightBulks.removeFirst();
+      inFlightMemoryUsageBytes -= bulk.body.length;
+      metrics.setInFlightBulks(inFlightBulks.size());
+      bulk.onAcknowledged.run();
+    }
+  }
+
+  /**
+   * Returns whether the exporter should call {@link #flush()} or not. Only the buffered bulk is
+   * considered; bulks which are in flight are limited by {@link #awaitFlushCapacity()}.
    *
    * @return true if {@link #flush()} should be called, false otherwise
    */
@@ -167,6 +271,60 @@ class ElasticsearchClient implements AutoCloseable {
     }
   }
 
+  private void awaitOldestFlush() {
+    inFlightBulks.peekFirst().result.exceptionally(error -> null).join();
+    acknowledgeCompletedFlushes();
+  }
+
+  private byte[] serializeBulk() {
+    final var output = new ByteArrayOutputStream(bulkIndexRequest.memoryUsageBytes());
+    try {
+      bulkIndexRequest.writeTo(output);
+    } catch (final IOException e) {
+      throw new ElasticsearchExporterException("Failed to serialize bulk request", e);
+    }
+
+    return output.toByteArray();
+  }
+
+  private void sendBulkAsync(final InFlightBulk bulk) {
+    final var request = new Request("POST", "/_bulk");
+    final var body = new ByteArrayEntity(bulk.body);
+    body.setContentType("application/x-ndjson");
+    request.setEntity(body);
+
+    final var result = new CompletableFuture<Void>();
+    final var timer = metrics.measureFlushDuration();
+    bulk.result = result;
+    client.performRequestAsync(
+        request,
+        new ResponseListener() {
+          @Override
+          public void onSuccess(final Response response) {
+            timer.observeDuration();
+            try {
+              final var bulkResponse = readResponse(response, BulkIndexResponse.class);
+              if (bulkResponse.errors()) {
+                throwCollectedBulkError(bulkResponse);
+              }
+              result.complete(null);
+            } catch (final IOException e) {
+              result.completeExceptionally(
+                  new ElasticsearchExporterException("Failed to flush bulk", e));
+            } catch (final ElasticsearchExporterException e) {
+              result.completeExceptionally(e);
+            }
+          }
+
+          @Override
+          public void onFailure(final Exception exception) {
+            timer.observeDuration();
+            result.completeExceptionally(
+                new ElasticsearchExporterException("Failed to flush bulk", exception));
+          }
+        });
+  }
+
   private void throwCollectedBulkError(final BulkIndexResponse bulkResponse) {
     final var collectedErrors = new ArrayList<String>();
     bulkResponse.items().stream()
@@ -229,10 +387,29 @@ class ElasticsearchClient implements AutoCloseable {
   }
 
   private <T> T sendRequest(final Request request, final Class<T> responseType) throws IOException {
-    final var response = client.performRequest(request);
+    return readResponse(client.performRequest(request), responseType);
+  }
+
+  private static <T> T readResponse(final Response response, final Class<T> responseType)
+      throws IOException {
     // buffer the complete response in memory before parsing it; this will give us a better error
     // message which contains the raw response should the deserialization fail
     final var responseBody = response.getEntity().getContent().readAllBytes();
     return MAPPER.readValue(responseBody, responseType);
   }
+
+  /**
+   * A bulk request which was sent asynchronously and is not acknowledged yet. The serialized body
+   * is kept until then, such that the bulk can be sent again if it fails.
+   */
+  private static final class InFlightBulk {
+    private final byte[] body;
+    private final Runnable onAcknowledged;
+    private CompletableFuture<Void> result;
+
+    private InFlightBulk(final byte[] body, final Runnable onAcknowledged) {
+      this.body = body;
+      this.onAcknowledged = onAcknowledged;
+    }
+  }
 }
@@ -74,8 +74,13 @@ public class ElasticsearchExporter implements Exporter {
   public void close() {
 
     try {
-      flush();
-      updateLastExportedPosition();
+      if (isFlushPipelined()) {
+        flushAsync();
+        client.awaitInFlightFlushes();
+      } else {
+        flush();
+        updateLastExportedPosition();
+      }
     } catch (final Exception e) {
       log.warn("Failed to flush records before closing exporter.", e);
     }
@@ -95,21 +100,33 @@ public class ElasticsearchExporter implements Exporter {
       createIndexTemplates();
     }
 
+    if (isFlushPipelined()) {
+      // If one of the previous bulks failed, then it is sent again and the exporter will be invoked
+      // with the same record again.
+      client.acknowledgeCompletedFlushes();
+    }
+
     final var recordSequence = recordCounters.getNextRecordSequence(record);
     client.index(record, recordSequence);
     lastPosition = record.getPosition();
 
-    if (client.shouldFlush()) {
+    if (!client.shouldFlush()) {
+      // If the exporter doesn't flush synchronously then it can update the record counters
+      // immediately. If the asynchronous flush fails then it will retry only the flush operation
+      // with the records in the pending bulk request.
+      recordCounters.updateRecordCounters(record, recordSequence);
+    } else if (isFlushPipelined()) {
+      // Wait for in-flight bulks before updating the record counters. If waiting fails, then the
+      // exporter will be invoked with the same record again.
+      client.awaitFlushCapacity();
+      recordCounters.updateRecordCounters(record, recordSequence);
+      flushAsync();
+    } else {
       flush();
       // Update the record counters only after the flush was successful. If the synchronous flush
       // fails then the exporter will be invoked with the same record again.
       recordCounters.updateRecordCounters(record, recordSequence);
       updateLastExportedPosition();
-    } else {
-      // If the exporter doesn't flush synchronously then it can update the record counters
-      // immediately. If the asynchronous flush fails then it will retry only the flush operation
-      // with the records in the pending bulk request.
-      recordCounters.updateRecordCounters(record, recordSequence);
     }
   }
 
@@ -121,6 +138,13 @@ public class ElasticsearchExporter implements Exporter {
               configuration.index.prefix));
     }
 
+    if (configuration.bulk.maxInFlightRequests < 0) {
+      throw new ExporterException(
+          String.format(
+              "Elasticsearch bulk.maxInFlightRequests must be >= 0. Current value: %d",
+              configuration.bulk.maxInFlightRequests));
+    }
+
     if (configuration.bulk.memoryLimit > RECOMMENDED_MAX_BULK_MEMORY_LIMIT) {
       log.warn(
           "The bulk memory limit is set to more than {} bytes. It is recommended to set the limit between 5 to 15 MB.",
@@ -149,8 +173,13 @@ public class ElasticsearchExporter implements Exporter {
 
   private void flushAndReschedule() {
     try {
-      flush();
-      updateLastExportedPosition();
+      if (isFlushPipelined()) {
+        client.acknowledgeCompletedFlushes();
+        flushAsync();
+      } else {
+        flush();
+        updateLastExportedPosition();
+      }
     } catch (final Exception e) {
       log.warn("Unexpected exception occurred on periodically flushing bulk, will retry later.", e);
     }
@@ -166,10 +195,28 @@ public class ElasticsearchExporter implements Exporter {
     client.flush();
   }
 
+  /**
+   * Sends the pending bulk without waiting for the response. The position and the record counters
+   * are captured now but only stored once the bulk, and all bulks sent before it, succeeded.
+   */
+  private void flushAsync() {
+    final long position = lastPosition;
+    final var serializedExporterMetadata = serializeExporterMetadata();
+    client.flushAsync(
+        () -> controller.updateLastExportedRecordPosition(position, serializedExporterMetadata));
+  }
+
+  private boolean isFlushPipelined() {
+    return configuration.bulk.maxInFlightRequests > 0;
+  }
+
   private void updateLastExportedPosition() {
+    controller.updateLastExportedRecordPosition(lastPosition, serializeExporterMetadata());
+  }
+
+  private byte[] serializeExporterMetadata() {
     exporterMetadata.setRecordCountersByValueType(recordCounters.getRecordCounters());
-    final var serializeExporterMetadata = serializeExporterMetadata(exporterMetadata);
-    controller.updateLastExportedRecordPosition(lastPosition, serializeExporterMetadata);
+    return serializeExporterMetadata(exporterMetadata);
   }
 
   private byte[] serializeExporterMetadata(final ElasticsearchExporterMetadata metadata) {
@@ -278,6 +278,10 @@ public class ElasticsearchExporterConfiguration {
     public int size = 1_000;
     // memory limit of the bulk in bytes before flush
     public int memoryLimit = 10 * 1024 * 1024;
+    // maximum number of bulk requests sent concurrently; 0 flushes synchronously. No further bulk
+    // is
+    // sent while the in-flight bulks take up memoryLimit or more
+    public int maxInFlightRequests = 0;
 
     @Override
     public String toString() {
@@ -288,6 +292,8 @@ public class ElasticsearchExporterConfiguration {
           + size
           + ", memoryLimit="
           + memoryLimit
+          + ", maxInFlightRequests="
+          + maxInFlightRequests
           + '}';
     }
   }
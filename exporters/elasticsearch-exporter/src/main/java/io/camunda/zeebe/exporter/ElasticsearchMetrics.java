@@ -48,6 +48,14 @@ public class ElasticsearchMetrics {
           .labelNames(PARTITION_LABEL)
           .register();
 
+  private static final Gauge IN_FLIGHT_BULKS =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("bulk_in_flight")
+          .help("Number of bulk requests sent but not yet acknowledged")
+          .labelNames(PARTITION_LABEL)
+          .register();
+
   private final String partitionIdLabel;
 
   public ElasticsearchMetrics(final int partitionId) {
@@ -66,6 +74,10 @@ public class ElasticsearchMetrics {
     BULK_MEMORY_SIZE.labels(partitionIdLabel).set(bulkMemorySize);
   }
 
+  public void setInFlightBulks(final int inFlightBulks) {
+    IN_FLIGHT_BULKS.labels(partitionIdLabel).set(inFlightBulks);
+  }
+
   public void recordFailedFlush() {
     FAILED_FLUSH.labels(partitionIdLabel).inc();
   }
@@ -10,10 +10,12 @@ package io.camunda.zeebe.exporter;
 import static io.camunda.zeebe.exporter.ElasticsearchClient.buildPutIndexLifecycleManagementPolicyRequest;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -27,11 +29,13 @@ import io.camunda.zeebe.protocol.record.ValueType;
 import io.camunda.zeebe.test.broker.protocol.ProtocolFactory;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import org.apache.http.entity.BasicHttpEntity;
 import org.elasticsearch.client.Request;
 import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
 import org.elasticsearch.client.RestClient;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -143,6 +147,19 @@ final class ElasticsearchClientTest {
     return requestCaptor;
   }
 
+  private Response mockBulkResponse(final BulkIndexResponse content) throws IOException {
+    final var httpEntity = new BasicHttpEntity();
+    final var serializedContent = MAPPER.writeValueAsBytes(content);
+    final var response = mock(Response.class);
+
+    httpEntity.setContent(new ByteArrayInputStream(serializedContent));
+    httpEntity.setContentLength(serializedContent.length);
+    httpEntity.setContentType("application/json");
+    when(response.getEntity()).thenReturn(httpEntity);
+
+    return response;
+  }
+
   @Nested
   final class FlushTest {
     @BeforeEach
@@ -247,4 +264,171 @@ final class ElasticsearchClientTest {
       assertThat(bulkRequest.size()).isEqualTo(1);
     }
   }
+
+  @Nested
+  final class AsyncFlushTest {
+    private final ArgumentCaptor<Request> requestCaptor = ArgumentCaptor.forClass(Request.class);
+    private final ArgumentCaptor<ResponseListener> listenerCaptor =
+        ArgumentCaptor.forClass(ResponseListener.class);
+    private final List<Integer> acknowledged = new ArrayList<>();
+
+    @BeforeEach
+    void beforeEach() {
+      config.bulk.memoryLimit = Integer.MAX_VALUE;
+      config.bulk.delay = Integer.MAX_VALUE;
+      config.bulk.size = 1;
+      config.bulk.maxInFlightRequests = 2;
+    }
+
+    @Test
+    void shouldSendBulkWithoutWaitingForResponse() {
+      // given
+      client.index(factory.generateRecord(), new RecordSequence(PARTITION_ID, 1));
+
+      // when
+      client.flushAsync(() -> acknowledged.add(1));
+
+      // then
+      verify(restClient).performRequestAsync(requestCaptor.capture(), any());
+      assertThat(requestCaptor.getValue().getEndpoint()).isEqualTo("/_bulk");
+      assertThat(bulkRequest.isEmpty()).isTrue();
+      assertThat(acknowledged).isEmpty();
+    }
+
+    @Test
+    void shouldAcknowledgeBulksInOrder() throws IOException {
+      // given
+      client.index(factory.generateRecord(), new RecordSequence(PARTITION_ID, 1));
+      client.flushAsync(() -> acknowledged.add(1));
+      client.index(factory.generateRecord(), new RecordSequence(PARTITION_ID, 2));
+      client.flushAsync(() -> acknowledged.add(2));
+      verify(restClient, times(2)).performRequestAsync(any(), listenerCaptor.capture());
+      final var listeners = listenerCaptor.getAllValues();
+
+      // when
+      listeners.get(1).onSuccess(mockBulkResponse(new BulkIndexResponse(false, List.of())));
+      client.acknowledgeCompletedFlushes();
+
+      // then
+      assertThat(acknowledged).isEmpty();
+
+      // when
+      listeners.get(0).onSuccess(mockBulkResponse(new BulkIndexResponse(false, List.of())));
+      client.acknowledgeCompletedFlushes();
+
+      // then
+      assertThat(acknowledged).containsExactly(1, 2);
+    }
+
+    @Test
+    void shouldRetryFailedBulk() throws IOException {
+      // given
+      client.index(factory.generateRecord(), new RecordSequence(PARTITION_ID, 1));
+      client.flushAsync(() -> acknowledged.add(1));
+      verify(restClient).performRequestAsync(requestCaptor.capture(), listenerCaptor.capture());
+      final var sentBody = requestCaptor.getValue().getEntity().getContent().readAllBytes();
+
+      // when
+      listenerCaptor.getValue().onFailure(new IOException("Injected failure"));
+
+      // then
+      assertThatThrownBy(client::acknowledgeCompletedFlushes)
+          .isInstanceOf(ElasticsearchExporterException.class);
+      verify(restClient, times(2))
+          .performRequestAsync(requestCaptor.capture(), listenerCaptor.capture());
+      assertThat(requestCaptor.getValue().getEntity().getContent().readAllBytes())
+          .isEqualTo(sentBody);
+      assertThat(acknowledged).isEmpty();
+
+      // when
+      listenerCaptor
+          .getValue()
+          .onSuccess(mockBulkResponse(new BulkIndexResponse(false, List.of())));
+      client.acknowledgeCompletedFlushes();
+
+      // then
+      assertThat(acknowledged).containsExactly(1);
+    }
+
+    @Test
+    void shouldAwaitOldestBulkWhenTooManyInFlight() throws IOException {
+      // given
+      config.bulk.maxInFlightRequests = 1;
+      client.index(factory.generateRecord(), new RecordSequence(PARTITION_ID, 1));
+      client.flushAsync(() -> acknowledged.add(1));
+      verify(restClient).performRequestAsync(any(), listenerCaptor.capture());
+      listenerCaptor
+          .getValue()
+          .onSuccess(mockBulkResponse(new BulkIndexResponse(false, List.of())));
+
+      // when
+      client.index(factory.generateRecord(), new RecordSequence(PARTITION_ID, 2));
+      client.flushAsync(() -> acknowledged.add(2));
+
+      // then
+      assertThat(acknowledged).containsExactly(1);
+      verify(restClient, times(2)).performRequestAsync(any(), any());
+    }
+
+    @Test
+    void shouldNotCountInFlightBulksTowardsBulkMemoryLimit() {
+      // given
+      client.index(factory.generateRecord(), new RecordSequence(PARTITION_ID, 1));
+      config.bulk.size = Integer.MAX_VALUE;
+      config.bulk.memoryLimit = bulkRequest.memoryUsageBytes() + 1;
+      client.flushAsync(() -> acknowledged.add(1));
+
+      // when
+      client.index(factory.generateRecord(), new RecordSequence(PARTITION_ID, 2));
+
+      // then
+      assertThat(client.shouldFlush()).isFalse();
+    }
+
+    @Test
+    void shouldAwaitOldestBulkWhenInFlightMemoryLimitReached() throws IOException {
+      // given
+      client.index(factory.generateRecord(), new RecordSequence(PARTITION_ID, 1));
+      config.bulk.memoryLimit = 1;
+      client.flushAsync(() -> acknowledged.add(1));
+      verify(restClient).performRequestAsync(any(), listenerCaptor.capture());
+      listenerCaptor
+          .getValue()
+          .onSuccess(mockBulkResponse(new BulkIndexResponse(false, List.of())));
+
+      // when
+      client.index(factory.generateRecord(), new RecordSequence(PARTITION_ID, 2));
+      client.flushAsync(() -> acknowledged.add(2));
+
+      // then
+      assertThat(acknowledged).containsExactly(1);
+      verify(restClient, times(2)).performRequestAsync(any(), any());
+    }
+
+    @Test
+    void shouldSendBulkWhileInFlightBulksAreBelowMemoryLimit() {
+      // given
+      client.index(factory.generateRecord(), new RecordSequence(PARTITION_ID, 1));
+      config.bulk.memoryLimit = bulkRequest.memoryUsageBytes() * 10;
+      client.flushAsync(() -> acknowledged.add(1));
+
+      // when
+      client.index(factory.generateRecord(), new RecordSequence(PARTITION_ID, 2));
+      client.flushAsync(() -> acknowledged.add(2));
+
+      // then
+      assertThat(acknowledged).isEmpty();
+      verify(restClient, times(2)).performRequestAsync(any(), any());
+    }
+
+    @Test
+    void shouldAcknowledgeEmptyFlushImmediatelyIfNothingInFlight() {
+      // when
+      client.flushAsync(() -> acknowledged.add(1));
+
+      // then
+      assertThat(acknowledged).containsExactly(1);
+      verify(restClient, never()).performRequestAsync(any(), any());
+    }
+  }
 }
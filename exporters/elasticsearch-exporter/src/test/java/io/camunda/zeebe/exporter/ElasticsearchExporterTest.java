@@ -311,6 +311,73 @@ final class ElasticsearchExporterTest {
           .isInstanceOf(ElasticsearchExporterException.class);
       assertThat(controller.getPosition()).isEqualTo(-1L);
     }
+
+    @Test
+    void shouldUpdateLastExportedPositionOnlyOnceAsyncFlushIsAcknowledged() {
+      // given
+      final var record =
+          ImmutableRecord.builder()
+              .withPosition(10L)
+              .withValueType(ValueType.PROCESS_INSTANCE)
+              .build();
+      final ArgumentCaptor<Runnable> onAcknowledged = ArgumentCaptor.forClass(Runnable.class);
+      config.bulk.maxInFlightRequests = 2;
+      exporter.configure(context);
+      exporter.open(controller);
+      when(client.shouldFlush()).thenReturn(true);
+      doNothing().when(client).flushAsync(onAcknowledged.capture());
+
+      // when
+      exporter.export(record);
+
+      // then
+      verify(client, never()).flush();
+      assertThat(controller.getPosition()).isEqualTo(-1L);
+
+      // when
+      onAcknowledged.getValue().run();
+
+      // then
+      assertThat(controller.getPosition()).isEqualTo(10L);
+    }
+
+    @Test
+    void shouldNotIndexRecordIfPreviousAsyncFlushFailed() {
+      // given
+      final var record =
+          ImmutableRecord.builder()
+              .withPosition(10L)
+              .withValueType(ValueType.PROCESS_INSTANCE)
+              .build();
+      config.bulk.maxInFlightRequests = 2;
+      exporter.configure(context);
+      exporter.open(controller);
+
+      // when
+      doThrow(new ElasticsearchExporterException("failed to flush"))
+          .when(client)
+          .acknowledgeCompletedFlushes();
+
+      // then
+      assertThatCode(() -> exporter.export(record))
+          .isInstanceOf(ElasticsearchExporterException.class);
+      verify(client, never()).index(any(), any());
+    }
+
+    @Test
+    void shouldAwaitInFlightFlushesOnClose() {
+      // given
+      config.bulk.maxInFlightRequests = 2;
+      exporter.configure(context);
+      exporter.open(controller);
+
+      // when
+      exporter.close();
+
+      // then
+      verify(client, times(1)).flushAsync(any());
+      verify(client, times(1)).awaitInFlightFlushes();
+    }
   }
 
   @Nested
@@ -334,6 +401,15 @@ final class ElasticsearchExporterTest {
       assertThatCode(() -> exporter.configure(context)).isInstanceOf(ExporterException.class);
     }
 
+    @Test
+    void shouldForbidNegativeMaxInFlightRequests() {
+      // given
+      config.bulk.maxInFlightRequests = -1;
+
+      // when - then
+      assertThatCode(() -> exporter.configure(context)).isInstanceOf(ExporterException.class);
+    }
+
     @Test
     void shouldForbidNegativeNumberOfReplicas() {
       // given
@@ -0,0 +1,42 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.el.impl;
+
+import io.prometheus.client.Counter;
+
+final class ExpressionCacheMetrics {
+
+  private static final String NAMESPACE = "zeebe";
+
+  private static final Counter CACHE_LOOKUPS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("feel_expression_cache_lookups_total")
+          .help("Number of lookups of parsed FEEL expressions in the expression cache")
+          .labelNames("result")
+          .register();
+
+  private static final Counter CACHE_EVICTIONS =
+      Counter.build()
+          .namespace(NAMESPACE)
+          .name("feel_expression_cache_evictions_total")
+          .help("Number of parsed FEEL expressions evicted from the expression cache")
+          .register();
+
+  void cacheHit() {
+    CACHE_LOOKUPS.labels("hit").inc();
+  }
+
+  void cacheMiss() {
+    CACHE_LOOKUPS.labels("miss").inc();
+  }
+
+  void cacheEviction() {
+    CACHE_EVICTIONS.inc();
+  }
+}
@@ -19,6 +19,7 @@ import io.camunda.zeebe.feel.impl.FeelFunctionProvider;
 import io.camunda.zeebe.feel.impl.FeelToMessagePackTransformer;
 import io.camunda.zeebe.feel.impl.MessagePackValueMapper;
 import io.camunda.zeebe.scheduler.clock.ActorClock;
+import io.camunda.zeebe.util.collection.LruCache;
 import java.util.regex.Pattern;
 import org.camunda.feel.FeelEngine;
 import org.camunda.feel.FeelEngine.Failure;
@@ -29,20 +30,34 @@ import scala.util.Either;
 /**
  * A wrapper around the FEEL-Scala expression language.
  *
+ * <p>Parsed FEEL expressions are cached by their text, such that the same expression is only parsed
+ * once as long as it is used frequently enough to stay in the cache. This is safe, because parsed
+ * expressions are immutable and don't depend on the evaluation context.
+ *
  * <p>
  * <li><a href="https://github.com/camunda/feel-scala">GitHub Repository</a>
  * <li><a href="https://camunda.github.io/feel-scala">Documentation</a>
  */
 public final class FeelExpressionLanguage implements ExpressionLanguage {
 
+  public static final int DEFAULT_EXPRESSION_CACHE_CAPACITY = 1000;
+
   private static final Pattern EXPRESSION_PATTERN = Pattern.compile("\\=(.+)", Pattern.DOTALL);
 
   private final FeelToMessagePackTransformer messagePackTransformer =
       new FeelToMessagePackTransformer();
 
   private final FeelEngine feelEngine;
+  private final ExpressionCacheMetrics metrics = new ExpressionCacheMetrics();
+  private final LruCache<String, Expression> expressionCache;
 
   public FeelExpressionLanguage(final ActorClock clock) {
+    this(clock, DEFAULT_EXPRESSION_CACHE_CAPACITY);
+  }
+
+  public FeelExpressionLanguage(final ActorClock clock, final int expressionCacheCapacity) {
+    expressionCache =
+        new LruCache<>(expressionCacheCapacity, (expression, parsed) -> metrics.cacheEviction());
     feelEngine =
         new FeelEngine.Builder()
             .customValueMapper(new MessagePackValueMapper())
@@ -59,7 +74,7 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
 
     if (expressionMatcher.matches()) {
       final var unpackedExpression = expressionMatcher.group(1);
-      return parseFeelExpression(unpackedExpression);
+      return parseCachedFeelExpression(unpackedExpression);
     } else {
       return new StaticExpression(expression);
     }
@@ -88,6 +103,25 @@ public final class FeelExpressionLanguage implements ExpressionLanguage {
         String.format("Expected FEEL expression or static value but found '%s'", expression));
   }
 
+  private Expression parseCachedFeelExpression(final String expression) {
+    // the cache is guarded in case an instance is shared between threads; parsing happens outside
+    // the lock, so concurrent misses may parse the same expression twice, which is harmless
+    synchronized (expressionCache) {
+      final var cachedExpression = expressionCache.get(expression);
+      if (cachedExpression != null) {
+        metrics.cacheHit();
+        return cachedExpression;
+      }
+    }
+
+    metrics.cacheMiss();
+    final var parsedExpression = parseFeelExpression(expression);
+    synchronized (expressionCache) {
+      expressionCache.put(expression, parsedExpression);
+    }
+    return parsedExpression;
+  }
+
   private Expression parseFeelExpression(final String expression) {
     final Either<Failure, ParsedExpression> parseResult = feelEngine.parseExpression(expression);
 
@@ -10,7 +10,9 @@ package io.camunda.zeebe.el;
 import static io.camunda.zeebe.test.util.MsgPackUtil.asMsgPack;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import io.camunda.zeebe.el.impl.FeelExpressionLanguage;
 import io.camunda.zeebe.el.impl.StaticExpression;
+import io.camunda.zeebe.scheduler.clock.ActorClock;
 import java.util.Map;
 import org.junit.Test;
 
@@ -181,4 +183,40 @@ public class ExpressionLanguageTest {
     assertThat(evaluationResult.getType()).isNull();
     assertThat(evaluationResult.getString()).isNull();
   }
+
+  @Test
+  public void shouldReuseParsedExpression() {
+    // when
+    final var expression = expressionLanguage.parseExpression("=x + 1");
+    final var sameExpression = expressionLanguage.parseExpression("=x + 1");
+
+    // then
+    assertThat(sameExpression).isSameAs(expression);
+  }
+
+  @Test
+  public void shouldReuseInvalidExpression() {
+    // when
+    final var expression = expressionLanguage.parseExpression("=x ?! 1");
+    final var sameExpression = expressionLanguage.parseExpression("=x ?! 1");
+
+    // then
+    assertThat(expression.isValid()).isFalse();
+    assertThat(sameExpression).isSameAs(expression);
+  }
+
+  @Test
+  public void shouldParseExpressionAgainAfterEviction() {
+    // given
+    final var expressionLanguage = new FeelExpressionLanguage(ActorClock.current(), 1);
+    final var expression = expressionLanguage.parseExpression("=x + 1");
+
+    // when
+    expressionLanguage.parseExpression("=x + 2");
+    final var reparsedExpression = expressionLanguage.parseExpression("=x + 1");
+
+    // then
+    assertThat(reparsedExpression).isNotSameAs(expression);
+    assertThat(reparsedExpression.getExpression()).isEqualTo(expression.getExpression());
+  }
 }
@@ -14,11 +14,13 @@ import io.camunda.zeebe.gateway.impl.broker.BrokerClient;
 import io.camunda.zeebe.gateway.impl.broker.RequestRetryHandler;
 import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerClusterState;
 import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerTopologyManager;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobsRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerRequest;
 import io.camunda.zeebe.gateway.impl.job.ActivateJobsHandler;
-import io.camunda.zeebe.gateway.impl.stream.JobActivationProperties;
+import io.camunda.zeebe.gateway.impl.stream.StreamJobsHandler;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BroadcastSignalRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BroadcastSignalResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BrokerInfo;
@@ -27,6 +29,9 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstance
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResult;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultRequest;
@@ -52,16 +57,23 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentReques
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.StreamActivatedJobsRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.TopologyResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesResponse;
+import io.camunda.zeebe.protocol.impl.stream.job.JobActivationProperties;
 import io.camunda.zeebe.transport.stream.api.ClientStreamer;
 import io.camunda.zeebe.util.VersionUtil;
+import io.grpc.stub.ServerCallStreamObserver;
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 public final class EndpointManager {
@@ -70,10 +82,7 @@ public final class EndpointManager {
   private final BrokerTopologyManager topologyManager;
   private final ActivateJobsHandler activateJobsHandler;
   private final RequestRetryHandler requestRetryHandler;
-
-  // TODO: actually make use of it
-  @SuppressWarnings({"FieldCanBeLocal", "unused"})
-  private final ClientStreamer<JobActivationProperties> jobStreamer;
+  private final StreamJobsHandler streamJobsHandler;
 
   public EndpointManager(
       final BrokerClient brokerClient,
@@ -81,7 +90,7 @@ public final class EndpointManager {
       final ClientStreamer<JobActivationProperties> jobStreamer) {
     this.brokerClient = brokerClient;
     this.activateJobsHandler = activateJobsHandler;
-    this.jobStreamer = jobStreamer;
+    streamJobsHandler = new StreamJobsHandler(jobStreamer);
 
     topologyManager = brokerClient.getTopologyManager();
     requestRetryHandler = new RequestRetryHandler(brokerClient, topologyManager);
@@ -167,6 +176,12 @@ public final class EndpointManager {
     activateJobsHandler.activateJobs(request, responseObserver);
   }
 
+  public void streamActivatedJobs(
+      final StreamActivatedJobsRequest request,
+      final ServerCallStreamObserver<ActivatedJob> responseObserver) {
+    streamJobsHandler.handle(request, responseObserver);
+  }
+
   public void cancelProcessInstance(
       final CancelProcessInstanceRequest request,
       final ServerStreamObserver<CancelProcessInstanceResponse> responseObserver) {
@@ -187,6 +202,39 @@ public final class EndpointManager {
         responseObserver);
   }
 
+  public void completeJobs(
+      final CompleteJobsRequest request,
+      final ServerStreamObserver<CompleteJobsResponse> responseObserver) {
+    final Collection<BrokerCompleteJobsRequest> brokerRequests;
+    try {
+      brokerRequests = RequestMapper.toCompleteJobsRequests(request);
+    } catch (final Exception e) {
+      responseObserver.onError(e);
+      return;
+    }
+
+    // a partition which cannot complete its jobs should not fail the jobs of other partitions
+    final Map<Long, CompleteJobResult> results = new ConcurrentHashMap<>();
+    final var responses =
+        brokerRequests.stream()
+            .map(
+                brokerRequest ->
+                    brokerClient
+                        .sendRequestWithRetry(brokerRequest)
+                        .whenComplete(
+                            (response, error) ->
+                                ResponseMapper.toCompleteJobResults(brokerRequest, response, error)
+                                    .forEach(result -> results.put(result.getJobKey(), result))))
+            .toArray(CompletableFuture[]::new);
+
+    CompletableFuture.allOf(responses)
+        .whenComplete(
+            (ok, error) -> {
+              responseObserver.onNext(ResponseMapper.toCompleteJobsResponse(request, results));
+              responseObserver.onCompleted();
+            });
+  }
+
   public void createProcessInstance(
       final CreateProcessInstanceRequest request,
       final ServerStreamObserver<CreateProcessInstanceResponse> responseObserver) {
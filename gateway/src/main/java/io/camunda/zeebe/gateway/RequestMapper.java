@@ -14,6 +14,7 @@ import io.camunda.zeebe.gateway.impl.broker.request.BrokerActivateJobsRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerBroadcastSignalRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerCancelProcessInstanceRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobRequest;
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobsRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerCreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerCreateProcessInstanceWithResultRequest;
 import io.camunda.zeebe.gateway.impl.broker.request.BrokerDeleteResourceRequest;
@@ -30,6 +31,7 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BroadcastSignalRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DeleteResourceRequest;
@@ -43,10 +45,18 @@ import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.PublishMessageRequest
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ResolveIncidentRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.Resource;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.SetVariablesRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.StreamActivatedJobsRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ThrowErrorRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.UpdateJobRetriesRequest;
 import io.camunda.zeebe.msgpack.value.DocumentValue;
+import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.camunda.zeebe.protocol.impl.stream.job.JobActivationProperties;
+import io.camunda.zeebe.protocol.impl.stream.job.JobActivationPropertiesImpl;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import org.agrona.DirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
@@ -111,6 +121,24 @@ public final class RequestMapper {
         grpcRequest.getJobKey(), ensureJsonSet(grpcRequest.getVariables()));
   }
 
+  public static Collection<BrokerCompleteJobsRequest> toCompleteJobsRequests(
+      final CompleteJobsRequest grpcRequest) {
+    if (grpcRequest.getJobsCount() < 1) {
+      throw new IllegalArgumentException(
+          "Expected to complete at least one job, but no jobs were given");
+    }
+
+    final Map<Integer, BrokerCompleteJobsRequest> requestsByPartition = new LinkedHashMap<>();
+    for (final CompleteJobRequest job : grpcRequest.getJobsList()) {
+      requestsByPartition
+          .computeIfAbsent(
+              Protocol.decodePartitionId(job.getJobKey()), BrokerCompleteJobsRequest::new)
+          .addJob(job.getJobKey(), ensureJsonSet(job.getVariables()));
+    }
+
+    return requestsByPartition.values();
+  }
+
   public static BrokerCreateProcessInstanceRequest toCreateProcessInstanceRequest(
       final CreateProcessInstanceRequest grpcRequest) {
     final BrokerCreateProcessInstanceRequest brokerRequest =
@@ -186,6 +214,15 @@ public final class RequestMapper {
         .setVariables(grpcRequest.getFetchVariableList());
   }
 
+  public static JobActivationProperties toJobActivationProperties(
+      final StreamActivatedJobsRequest grpcRequest) {
+    return new JobActivationPropertiesImpl()
+        .setWorker(BufferUtil.wrapString(grpcRequest.getWorker()))
+        .setTimeout(grpcRequest.getTimeout())
+        .setFetchVariables(
+            grpcRequest.getFetchVariableList().stream().map(BufferUtil::wrapString).toList());
+  }
+
   public static BrokerResolveIncidentRequest toResolveIncidentRequest(
       final ResolveIncidentRequest grpcRequest) {
     return new BrokerResolveIncidentRequest(grpcRequest.getIncidentKey());
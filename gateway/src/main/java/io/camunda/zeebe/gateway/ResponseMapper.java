@@ -10,11 +10,17 @@ package io.camunda.zeebe.gateway;
 import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsArray;
 import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
 
+import io.camunda.zeebe.gateway.impl.broker.request.BrokerCompleteJobsRequest;
+import io.camunda.zeebe.gateway.impl.broker.response.BrokerResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivateJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.BroadcastSignalResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CancelProcessInstanceResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobRequest;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResponse;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobResult;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsRequest;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CompleteJobsResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.CreateProcessInstanceWithResultResponse;
 import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.DecisionMetadata;
@@ -50,11 +56,18 @@ import io.camunda.zeebe.protocol.impl.record.value.resource.ResourceDeletionReco
 import io.camunda.zeebe.protocol.impl.record.value.signal.SignalRecord;
 import io.camunda.zeebe.protocol.impl.record.value.variable.VariableDocumentRecord;
 import io.camunda.zeebe.protocol.record.value.EvaluatedDecisionValue;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.agrona.DirectBuffer;
 
 public final class ResponseMapper {
 
+  private static final String ERROR_MSG_JOB_NOT_COMPLETED =
+      "Expected to complete job with key '%d', but it does not exist or cannot be completed";
+
   public static DeployProcessResponse toDeployProcessResponse(
       final long key, final DeploymentRecord brokerResponse) {
     final DeployProcessResponse.Builder responseBuilder =
@@ -252,29 +265,78 @@ public final class ResponseMapper {
     while (jobKeys.hasNext() && jobs.hasNext()) {
       final LongValue jobKey = jobKeys.next();
       final JobRecord job = jobs.next();
-      final ActivatedJob activatedJob =
-          ActivatedJob.newBuilder()
-              .setKey(jobKey.getValue())
-              .setType(bufferAsString(job.getTypeBuffer()))
-              .setBpmnProcessId(job.getBpmnProcessId())
-              .setElementId(job.getElementId())
-              .setProcessInstanceKey(job.getProcessInstanceKey())
-              .setProcessDefinitionVersion(job.getProcessDefinitionVersion())
-              .setProcessDefinitionKey(job.getProcessDefinitionKey())
-              .setElementInstanceKey(job.getElementInstanceKey())
-              .setCustomHeaders(bufferAsJson(job.getCustomHeadersBuffer()))
-              .setWorker(bufferAsString(job.getWorkerBuffer()))
-              .setRetries(job.getRetries())
-              .setDeadline(job.getDeadline())
-              .setVariables(bufferAsJson(job.getVariablesBuffer()))
-              .build();
-
-      responseBuilder.addJobs(activatedJob);
+      responseBuilder.addJobs(toActivatedJob(jobKey.getValue(), job));
     }
 
     return responseBuilder.build();
   }
 
+  public static ActivatedJob toActivatedJob(final long jobKey, final JobRecord job) {
+    return ActivatedJob.newBuilder()
+        .setKey(jobKey)
+        .setType(bufferAsString(job.getTypeBuffer()))
+        .setBpmnProcessId(job.getBpmnProcessId())
+        .setElementId(job.getElementId())
+        .setProcessInstanceKey(job.getProcessInstanceKey())
+        .setProcessDefinitionVersion(job.getProcessDefinitionVersion())
+        .setProcessDefinitionKey(job.getProcessDefinitionKey())
+        .setElementInstanceKey(job.getElementInstanceKey())
+        .setCustomHeaders(bufferAsJson(job.getCustomHeadersBuffer()))
+        .setWorker(bufferAsString(job.getWorkerBuffer()))
+        .setRetries(job.getRetries())
+        .setDeadline(job.getDeadline())
+        .setVariables(bufferAsJson(job.getVariablesBuffer()))
+        .build();
+  }
+
+  public static List<CompleteJobResult> toCompleteJobResults(
+      final BrokerCompleteJobsRequest request,
+      final BrokerResponse<JobBatchRecord> response,
+      final Throwable error) {
+    if (error != null) {
+      return request.getJobKeys().stream()
+          .map(jobKey -> toCompleteJobResult(jobKey, false, error.getMessage()))
+          .toList();
+    }
+
+    final Set<Long> completedJobKeys = new HashSet<>(response.getResponse().getJobKeys());
+    return request.getJobKeys().stream()
+        .map(
+            jobKey ->
+                completedJobKeys.contains(jobKey)
+                    ? toCompleteJobResult(jobKey, true, "")
+                    : toCompleteJobResult(
+                        jobKey, false, String.format(ERROR_MSG_JOB_NOT_COMPLETED, jobKey)))
+        .toList();
+  }
+
+  public static CompleteJobsResponse toCompleteJobsResponse(
+      final CompleteJobsRequest request, final Map<Long, CompleteJobResult> results) {
+    final CompleteJobsResponse.Builder responseBuilder = CompleteJobsResponse.newBuilder();
+    final Set<Long> jobKeys = new HashSet<>();
+    for (final CompleteJobRequest job : request.getJobsList()) {
+      final long jobKey = job.getJobKey();
+      if (jobKeys.add(jobKey)) {
+        responseBuilder.addResults(results.get(jobKey));
+      } else {
+        // only the first occurrence of a job can complete it
+        responseBuilder.addResults(
+            toCompleteJobResult(jobKey, false, String.format(ERROR_MSG_JOB_NOT_COMPLETED, jobKey)));
+      }
+    }
+
+    return responseBuilder.build();
+  }
+
+  private static CompleteJobResult toCompleteJobResult(
+      final long jobKey, final boolean completed, final String reason) {
+    return CompleteJobResult.newBuilder()
+        .setJobKey(jobKey)
+        .setCompleted(completed)
+        .setReason(reason)
+        .build();
+  }
+
   public static ResolveIncidentResponse toResolveIncidentResponse(
       final long key, final IncidentRecord incident) {
     return ResolveIncidentResponse.getDefaultInstance();
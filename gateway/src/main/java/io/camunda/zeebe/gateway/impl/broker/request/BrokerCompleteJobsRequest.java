@@ -0,0 +1,61 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.broker.request;
+
+import io.camunda.zeebe.protocol.impl.record.value.job.JobBatchRecord;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.JobBatchIntent;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+
+/**
+ * Completes all given jobs of a single partition with one command. Since the partition cannot be
+ * derived from a single key, it must be given explicitly.
+ */
+public final class BrokerCompleteJobsRequest extends BrokerExecuteCommand<JobBatchRecord> {
+
+  private final JobBatchRecord requestDto = new JobBatchRecord();
+  private final List<Long> jobKeys = new ArrayList<>();
+
+  public BrokerCompleteJobsRequest(final int partitionId) {
+    super(ValueType.JOB_BATCH, JobBatchIntent.COMPLETE);
+    setPartitionId(partitionId);
+    // the jobs may be of different types
+    requestDto.setType("");
+  }
+
+  public BrokerCompleteJobsRequest addJob(final long jobKey, final DirectBuffer variables) {
+    requestDto.jobKeys().add().setValue(jobKey);
+    requestDto.jobs().add().setVariables(variables);
+    jobKeys.add(jobKey);
+    return this;
+  }
+
+  /** Returns the keys of all jobs to complete, in the order they were added. */
+  public List<Long> getJobKeys() {
+    return jobKeys;
+  }
+
+  @Override
+  public JobBatchRecord getRequestWriter() {
+    return requestDto;
+  }
+
+  @Override
+  protected JobBatchRecord toResponseDto(final DirectBuffer buffer) {
+    final JobBatchRecord responseDto = new JobBatchRecord();
+    responseDto.wrap(buffer);
+    return responseDto;
+  }
+
+  @Override
+  public String toString() {
+    return "BrokerCompleteJobsRequest{" + "requestDto=" + requestDto + '}';
+  }
+}
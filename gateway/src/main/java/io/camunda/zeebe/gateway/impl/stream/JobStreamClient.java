@@ -8,6 +8,7 @@
 package io.camunda.zeebe.gateway.impl.stream;
 
 import io.camunda.zeebe.gateway.impl.broker.cluster.BrokerTopologyListener;
+import io.camunda.zeebe.protocol.impl.stream.job.JobActivationProperties;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.transport.stream.api.ClientStreamer;
 import io.camunda.zeebe.util.CloseableSilently;
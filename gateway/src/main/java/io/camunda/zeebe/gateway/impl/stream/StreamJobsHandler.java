@@ -0,0 +1,134 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.stream;
+
+import io.camunda.zeebe.gateway.Loggers;
+import io.camunda.zeebe.gateway.RequestMapper;
+import io.camunda.zeebe.gateway.ResponseMapper;
+import io.camunda.zeebe.gateway.cmd.InvalidBrokerRequestArgumentException;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.StreamActivatedJobsRequest;
+import io.camunda.zeebe.protocol.impl.stream.job.ActivatedJobImpl;
+import io.camunda.zeebe.protocol.impl.stream.job.JobActivationProperties;
+import io.camunda.zeebe.transport.stream.api.ClientStreamConsumer;
+import io.camunda.zeebe.transport.stream.api.ClientStreamId;
+import io.camunda.zeebe.transport.stream.api.ClientStreamer;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import io.grpc.stub.ServerCallStreamObserver;
+import java.util.concurrent.CompletableFuture;
+import org.agrona.DirectBuffer;
+import org.slf4j.Logger;
+
+/**
+ * Handles {@code StreamActivatedJobs} calls by registering a job stream with all brokers, and
+ * forwarding every pushed job to the gRPC client.
+ *
+ * <p>Flow control is delegated to gRPC: if the call is not ready to accept more messages (e.g. the
+ * client is slow to consume), or if it was cancelled, the push is failed. This lets the broker hand
+ * the job back to the engine, where it becomes activatable again for other workers, instead of
+ * buffering it indefinitely in the gateway.
+ */
+public final class StreamJobsHandler {
+  private static final Logger LOGGER = Loggers.GATEWAY_LOGGER;
+
+  private final ClientStreamer<JobActivationProperties> jobStreamer;
+
+  public StreamJobsHandler(final ClientStreamer<JobActivationProperties> jobStreamer) {
+    this.jobStreamer = jobStreamer;
+  }
+
+  public void handle(
+      final StreamActivatedJobsRequest request,
+      final ServerCallStreamObserver<ActivatedJob> responseObserver) {
+    if (request.getType().isBlank()) {
+      responseObserver.onError(
+          new InvalidBrokerRequestArgumentException("type", "present", "blank"));
+      return;
+    }
+
+    if (request.getTimeout() < 1) {
+      responseObserver.onError(
+          new InvalidBrokerRequestArgumentException(
+              "timeout", "greater than zero", Long.toString(request.getTimeout())));
+      return;
+    }
+
+    final var jobType = BufferUtil.wrapString(request.getType());
+    final var properties = RequestMapper.toJobActivationProperties(request);
+    final var consumer = new JobStreamConsumer(responseObserver);
+
+    responseObserver.setOnCancelHandler(consumer::onCancel);
+
+    // the callback is cheap and non-blocking, so it's fine to run it on the completing thread
+    jobStreamer
+        .add(jobType, properties, consumer)
+        .onComplete(
+            (streamId, error) -> {
+              if (error != null) {
+                LOGGER.debug("Failed to register job stream for type {}", request.getType(), error);
+                responseObserver.onError(error);
+                return;
+              }
+
+              consumer.onRegistered(streamId);
+            },
+            Runnable::run);
+  }
+
+  private final class JobStreamConsumer implements ClientStreamConsumer {
+    private final ActivatedJobImpl activatedJob = new ActivatedJobImpl();
+    private final ServerCallStreamObserver<ActivatedJob> responseObserver;
+
+    private ClientStreamId streamId;
+    private boolean isCancelled;
+
+    private JobStreamConsumer(final ServerCallStreamObserver<ActivatedJob> responseObserver) {
+      this.responseObserver = responseObserver;
+    }
+
+    @Override
+    public synchronized CompletableFuture<Void> push(final DirectBuffer payload) {
+      if (isCancelled || responseObserver.isCancelled()) {
+        return CompletableFuture.failedFuture(
+            new IllegalStateException("Cannot push job, the stream was cancelled by the client"));
+      }
+
+      if (!responseObserver.isReady()) {
+        return CompletableFuture.failedFuture(
+            new IllegalStateException("Cannot push job, the stream is not ready to receive more"));
+      }
+
+      try {
+        activatedJob.wrap(payload);
+        responseObserver.onNext(
+            ResponseMapper.toActivatedJob(activatedJob.jobKey(), activatedJob.jobRecord()));
+      } catch (final Exception e) {
+        return CompletableFuture.failedFuture(e);
+      }
+
+      return CompletableFuture.completedFuture(null);
+    }
+
+    private synchronized void onRegistered(final ClientStreamId streamId) {
+      this.streamId = streamId;
+
+      // the call may have been cancelled before the stream was registered
+      if (isCancelled) {
+        jobStreamer.remove(streamId);
+      }
+    }
+
+    private synchronized void onCancel() {
+      isCancelled = true;
+
+      if (streamId != null) {
+        jobStreamer.remove(streamId);
+      }
+    }
+  }
+}
@@ -0,0 +1,196 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.gateway.impl.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.camunda.zeebe.gateway.cmd.InvalidBrokerRequestArgumentException;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.ActivatedJob;
+import io.camunda.zeebe.gateway.protocol.GatewayOuterClass.StreamActivatedJobsRequest;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.impl.stream.job.ActivatedJobImpl;
+import io.camunda.zeebe.protocol.impl.stream.job.JobActivationProperties;
+import io.camunda.zeebe.scheduler.future.ActorFuture;
+import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import io.camunda.zeebe.transport.stream.api.ClientStreamConsumer;
+import io.camunda.zeebe.transport.stream.api.ClientStreamId;
+import io.camunda.zeebe.transport.stream.api.ClientStreamer;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import io.grpc.stub.ServerCallStreamObserver;
+import java.util.ArrayList;
+import java.util.List;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+@SuppressWarnings("unchecked")
+final class StreamJobsHandlerTest {
+  private final RecordingJobStreamer jobStreamer = new RecordingJobStreamer();
+  private final StreamJobsHandler handler = new StreamJobsHandler(jobStreamer);
+
+  private ServerCallStreamObserver<ActivatedJob> responseObserver;
+
+  @BeforeEach
+  void beforeEach() {
+    responseObserver = mock(ServerCallStreamObserver.class);
+    when(responseObserver.isReady()).thenReturn(true);
+  }
+
+  @Test
+  void shouldRegisterStream() {
+    // given
+    final var request =
+        StreamActivatedJobsRequest.newBuilder()
+            .setType("foo")
+            .setWorker("bar")
+            .setTimeout(500)
+            .addFetchVariable("baz")
+            .build();
+
+    // when
+    handler.handle(request, responseObserver);
+
+    // then
+    assertThat(jobStreamer.streams).hasSize(1);
+    final var stream = jobStreamer.streams.get(0);
+    assertThat(BufferUtil.bufferAsString(stream.streamType)).isEqualTo("foo");
+    assertThat(BufferUtil.bufferAsString(stream.metadata.worker())).isEqualTo("bar");
+    assertThat(stream.metadata.timeout()).isEqualTo(500);
+    assertThat(stream.metadata.fetchVariables())
+        .extracting(BufferUtil::bufferAsString)
+        .containsExactly("baz");
+  }
+
+  @Test
+  void shouldRejectBlankType() {
+    // given
+    final var request = StreamActivatedJobsRequest.newBuilder().setTimeout(500).build();
+
+    // when
+    handler.handle(request, responseObserver);
+
+    // then
+    verify(responseObserver).onError(any(InvalidBrokerRequestArgumentException.class));
+    assertThat(jobStreamer.streams).isEmpty();
+  }
+
+  @Test
+  void shouldRejectNonPositiveTimeout() {
+    // given
+    final var request = StreamActivatedJobsRequest.newBuilder().setType("foo").build();
+
+    // when
+    handler.handle(request, responseObserver);
+
+    // then
+    verify(responseObserver).onError(any(InvalidBrokerRequestArgumentException.class));
+    assertThat(jobStreamer.streams).isEmpty();
+  }
+
+  @Test
+  void shouldForwardPushedJob() {
+    // given
+    handler.handle(validRequest(), responseObserver);
+    final var consumer = jobStreamer.streams.get(0).consumer;
+
+    // when
+    final var result = consumer.push(serializedJob(1L));
+
+    // then
+    final var captor = ArgumentCaptor.forClass(ActivatedJob.class);
+    assertThat(result).isCompleted();
+    verify(responseObserver).onNext(captor.capture());
+    assertThat(captor.getValue().getKey()).isEqualTo(1L);
+    assertThat(captor.getValue().getType()).isEqualTo("foo");
+  }
+
+  @Test
+  void shouldFailPushIfStreamIsNotReady() {
+    // given
+    handler.handle(validRequest(), responseObserver);
+    final var consumer = jobStreamer.streams.get(0).consumer;
+    when(responseObserver.isReady()).thenReturn(false);
+
+    // when
+    final var result = consumer.push(serializedJob(1L));
+
+    // then
+    assertThat(result).isCompletedExceptionally();
+    verify(responseObserver, never()).onNext(any());
+  }
+
+  @Test
+  void shouldRemoveStreamOnCancel() {
+    // given
+    handler.handle(validRequest(), responseObserver);
+    final var cancelHandler = ArgumentCaptor.forClass(Runnable.class);
+    verify(responseObserver).setOnCancelHandler(cancelHandler.capture());
+    final var consumer = jobStreamer.streams.get(0).consumer;
+
+    // when
+    cancelHandler.getValue().run();
+
+    // then
+    assertThat(jobStreamer.removed).containsExactly(jobStreamer.streams.get(0).id);
+    assertThat(consumer.push(serializedJob(1L))).isCompletedExceptionally();
+  }
+
+  private StreamActivatedJobsRequest validRequest() {
+    return StreamActivatedJobsRequest.newBuilder().setType("foo").setTimeout(500).build();
+  }
+
+  private DirectBuffer serializedJob(final long key) {
+    final var job =
+        new ActivatedJobImpl()
+            .setJobKey(key)
+            .setRecord(new JobRecord().setType("foo").setWorker("bar"));
+    final var buffer = new UnsafeBuffer(new byte[job.getLength()]);
+    job.write(buffer, 0);
+    return buffer;
+  }
+
+  private static final class RecordingJobStreamer
+      implements ClientStreamer<JobActivationProperties> {
+    private final List<Stream> streams = new ArrayList<>();
+    private final List<ClientStreamId> removed = new ArrayList<>();
+
+    @Override
+    public ActorFuture<ClientStreamId> add(
+        final DirectBuffer streamType,
+        final JobActivationProperties metadata,
+        final ClientStreamConsumer clientStreamConsumer) {
+      final var stream = new Stream(new TestStreamId(), streamType, metadata, clientStreamConsumer);
+      streams.add(stream);
+      return CompletableActorFuture.completed(stream.id);
+    }
+
+    @Override
+    public ActorFuture<Void> remove(final ClientStreamId streamId) {
+      removed.add(streamId);
+      return CompletableActorFuture.completed(null);
+    }
+
+    @Override
+    public void close() {}
+  }
+
+  private record Stream(
+      ClientStreamId id,
+      DirectBuffer streamType,
+      JobActivationProperties metadata,
+      ClientStreamConsumer consumer) {}
+
+  private static final class TestStreamId implements ClientStreamId {}
+}
@@ -27,6 +27,7 @@ import io.camunda.zeebe.journal.JournalRecord;
 import io.camunda.zeebe.journal.record.JournalRecordReaderUtil;
 import io.camunda.zeebe.journal.record.JournalRecordSerializer;
 import io.camunda.zeebe.journal.record.PersistedJournalRecord;
+import io.camunda.zeebe.journal.record.RecordCompression;
 import io.camunda.zeebe.journal.record.RecordMetadata;
 import io.camunda.zeebe.journal.record.SBESerializer;
 import io.camunda.zeebe.journal.util.ChecksumGenerator;
@@ -54,7 +55,9 @@ final class SegmentWriter {
   private JournalRecord lastEntry;
   private final JournalRecordReaderUtil recordUtil;
   private final ChecksumGenerator checksumGenerator = new ChecksumGenerator();
-  private final JournalRecordSerializer serializer = new SBESerializer();
+  private final JournalRecordSerializer serializer;
+  // records appended with an expected checksum were serialized by a version without compression
+  private final JournalRecordSerializer uncompressedSerializer = new SBESerializer();
   private final MutableDirectBuffer writeBuffer = new UnsafeBuffer();
   private final int descriptorLength;
   private final JournalMetrics metrics;
@@ -64,8 +67,10 @@ final class SegmentWriter {
       final Segment segment,
       final JournalIndex index,
       final long lastWrittenAsqn,
-      final JournalMetrics metrics) {
+      final JournalMetrics metrics,
+      final RecordCompression compression) {
     this.segment = segment;
+    serializer = new SBESerializer(compression);
     descriptorLength = segment.descriptor().length();
     recordUtil = new JournalRecordReaderUtil(serializer);
     this.index = index;
@@ -96,6 +101,7 @@ final class SegmentWriter {
 
   Either<SegmentFull, JournalRecord> append(final JournalRecord record) {
     return append(
+        uncompressedSerializer,
         record.index(),
         record.asqn(),
         new DirectBufferWriter().wrap(record.data()),
@@ -103,10 +109,11 @@ final class SegmentWriter {
   }
 
   Either<SegmentFull, JournalRecord> append(final long asqn, final BufferWriter recordDataWriter) {
-    return append(getNextIndex(), asqn, recordDataWriter, null);
+    return append(serializer, getNextIndex(), asqn, recordDataWriter, null);
   }
 
   private Either<SegmentFull, JournalRecord> append(
+      final JournalRecordSerializer dataSerializer,
       final Long entryIndex,
       final long asqn,
       final BufferWriter recordDataWriter,
@@ -120,7 +127,11 @@ final class SegmentWriter {
 
     final var writeResult =
         writeRecord(
-            entryIndex, asqn, startPosition + frameLength + metadataLength, recordDataWriter);
+            dataSerializer,
+            entryIndex,
+            asqn,
+            startPosition + frameLength + metadataLength,
+            recordDataWriter);
     if (writeResult.isLeft()) {
       buffer.position(startPosition);
       return Either.left(writeResult.getLeft());
@@ -232,8 +243,12 @@ final class SegmentWriter {
   }
 
   private Either<SegmentFull, Integer> writeRecord(
-      final long index, final long asqn, final int offset, final BufferWriter recordDataWriter) {
-    return serializer
+      final JournalRecordSerializer dataSerializer,
+      final long index,
+      final long asqn,
+      final int offset,
+      final BufferWriter recordDataWriter) {
+    return dataSerializer
         .writeData(index, asqn, recordDataWriter, writeBuffer, offset)
         .mapLeft(e -> new SegmentFull("Not enough space to write record"));
   }
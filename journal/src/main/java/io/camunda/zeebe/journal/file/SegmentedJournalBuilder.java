@@ -20,6 +20,7 @@ import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
 import io.camunda.zeebe.journal.JournalMetaStore;
+import io.camunda.zeebe.journal.record.RecordCompression;
 import java.io.File;
 
 /** Raft log builder. */
@@ -44,6 +45,7 @@ public class SegmentedJournalBuilder {
   private int journalIndexDensity = DEFAULT_JOURNAL_INDEX_DENSITY;
   private boolean preallocateSegmentFiles = DEFAULT_PREALLOCATE_SEGMENT_FILES;
   private int partitionId = DEFAULT_PARTITION_ID;
+  private RecordCompression compression = RecordCompression.NONE;
 
   private JournalMetaStore journalMetaStore;
 
@@ -152,6 +154,20 @@ public class SegmentedJournalBuilder {
     return this;
   }
 
+  /**
+   * Sets the compression applied to the data of records written to the journal. Reading is not
+   * affected by this setting, compressed records are always decompressed transparently.
+   *
+   * <p>By default, records are not compressed.
+   *
+   * @param compression the compression of new records
+   * @return this builder for chaining
+   */
+  public SegmentedJournalBuilder withCompression(final RecordCompression compression) {
+    this.compression = checkNotNull(compression, "compression cannot be null");
+    return this;
+  }
+
   /**
    * @param metaStore journal metastore to update lastFlushedIndex
    * @return this builder for chaining
@@ -166,7 +182,8 @@ public class SegmentedJournalBuilder {
     final var journalMetrics = new JournalMetrics(String.valueOf(partitionId));
     final var segmentAllocator =
         preallocateSegmentFiles ? SegmentAllocator.fill() : SegmentAllocator.noop();
-    final var segmentLoader = new SegmentLoader(freeDiskSpace, journalMetrics, segmentAllocator);
+    final var segmentLoader =
+        new SegmentLoader(freeDiskSpace, journalMetrics, segmentAllocator, compression);
     final var segmentsManager =
         new SegmentsManager(
             journalIndex,
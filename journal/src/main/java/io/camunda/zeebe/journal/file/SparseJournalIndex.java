@@ -16,17 +16,25 @@
 package io.camunda.zeebe.journal.file;
 
 import io.camunda.zeebe.journal.JournalRecord;
-import java.util.Map;
-import java.util.TreeMap;
+import java.util.Arrays;
 
+/**
+ * A {@link JournalIndex} which only indexes every n-th record, where n is the configured density.
+ *
+ * <p>Records are indexed in ascending order of their index, and so are their asqns, as they are
+ * appended. This lets us keep the index in sorted, primitive arrays which are searched with binary
+ * search, instead of sorted maps which would box every entry and allocate a tree node per entry.
+ * Truncating the index at either end only moves the bounds of the live part of the arrays.
+ */
 final class SparseJournalIndex implements JournalIndex {
 
+  private static final int INITIAL_CAPACITY = 64;
+
   private final int density;
-  private final TreeMap<Long, Integer> indexToPosition = new TreeMap<>();
-  private final TreeMap<Long, Long> asqnToIndex = new TreeMap<>();
-  // This is added to make deleteAfter and deleteUntil easier.
-  // TODO: Check if this can be improved. https://github.com/zeebe-io/zeebe/issues/6220
-  private final TreeMap<Long, Long> indexToAsqn = new TreeMap<>();
+  // index => position
+  private final SortedEntries positions = new SortedEntries();
+  // index => asqn; only contains the indexed records which have an asqn
+  private final SortedEntries asqns = new SortedEntries();
 
   SparseJournalIndex(final int density) {
     this.density = density;
@@ -36,19 +44,18 @@ final class SparseJournalIndex implements JournalIndex {
   public void index(final JournalRecord indexedEntry, final int position) {
     final long index = indexedEntry.index();
     if (index % density == 0) {
-      indexToPosition.put(index, position);
+      positions.append(index, position);
       final long asqn = indexedEntry.asqn();
       if (asqn != SegmentedJournal.ASQN_IGNORE) {
-        asqnToIndex.put(asqn, index);
-        indexToAsqn.put(index, asqn);
+        asqns.append(index, asqn);
       }
     }
   }
 
   @Override
   public IndexInfo lookup(final long index) {
-    final Map.Entry<Long, Integer> entry = indexToPosition.floorEntry(index);
-    return entry != null ? new IndexInfo(entry.getKey(), entry.getValue()) : null;
+    final int slot = positions.floorKey(index);
+    return slot >= 0 ? new IndexInfo(positions.key(slot), (int) positions.value(slot)) : null;
   }
 
   @Override
@@ -58,45 +65,144 @@ final class SparseJournalIndex implements JournalIndex {
 
   @Override
   public Long lookupAsqn(final long asqn, final long indexUpperBound) {
-    final Map.Entry<Long, Long> entry = asqnToIndex.floorEntry(asqn);
-    if (entry != null) {
-      if (entry.getValue() <= indexUpperBound) {
-        return entry.getValue();
-      } else {
-        return indexToAsqn.floorKey(indexUpperBound);
-      }
+    final int slot = asqns.floorValue(asqn);
+    if (slot < 0) {
+      return null;
+    }
+
+    if (asqns.key(slot) <= indexUpperBound) {
+      return asqns.key(slot);
     }
-    return null;
+
+    final int boundedSlot = asqns.floorKey(indexUpperBound);
+    return boundedSlot >= 0 ? asqns.key(boundedSlot) : null;
   }
 
   @Override
   public void deleteAfter(final long index) {
-    indexToPosition.tailMap(index, false).clear();
-    final var asqnEntryToDelete = indexToAsqn.ceilingEntry(index);
-    if (asqnEntryToDelete != null) {
-      final var asqnToDelete = asqnEntryToDelete.getValue();
-      indexToAsqn.tailMap(index, false).clear();
-      final boolean include = asqnEntryToDelete.getKey() > index;
-      asqnToIndex.tailMap(asqnToDelete, include).clear();
-    }
+    positions.deleteAfterKey(index);
+    asqns.deleteAfterKey(index);
   }
 
   @Override
   public void deleteUntil(final long index) {
-    indexToPosition.headMap(index, false).clear();
+    positions.deleteBeforeKey(index);
 
-    final var asqnEntryToDelete = indexToAsqn.floorEntry(index);
-    if (asqnEntryToDelete != null) {
-      final var asqnToDelete = asqnEntryToDelete.getValue();
-      indexToAsqn.headMap(index, false).clear();
-      asqnToIndex.headMap(asqnToDelete, false).clear();
+    // keep the last asqn before the given index, so that asqns between it and the next indexed
+    // asqn can still be looked up
+    final int asqnSlot = asqns.floorKey(index);
+    if (asqnSlot >= 0) {
+      asqns.deleteBeforeKey(asqns.key(asqnSlot));
     }
   }
 
   @Override
   public void clear() {
-    indexToPosition.clear();
-    indexToAsqn.clear();
-    asqnToIndex.clear();
+    positions.clear();
+    asqns.clear();
+  }
+
+  /**
+   * Entries sorted by key, and, as both the indexes and the asqns of the journal grow
+   * monotonically, by value as well. The live entries are the ones between {@code head} (inclusive)
+   * and {@code tail} (exclusive), such that deleting entries at either end is a matter of moving
+   * these bounds. The arrays are only compacted or grown once the tail reaches their end, which
+   * keeps appending amortized O(1).
+   */
+  private static final class SortedEntries {
+    private long[] keys = new long[INITIAL_CAPACITY];
+    private long[] values = new long[INITIAL_CAPACITY];
+    private int head;
+    private int tail;
+
+    private void append(final long key, final long value) {
+      // an already indexed entry is overwritten, together with everything indexed after it
+      deleteAfterKey(key - 1);
+
+      if (tail == keys.length) {
+        ensureCapacity();
+      }
+
+      keys[tail] = key;
+      values[tail] = value;
+      tail++;
+    }
+
+    private long key(final int slot) {
+      return keys[slot];
+    }
+
+    private long value(final int slot) {
+      return values[slot];
+    }
+
+    /** Returns the slot of the greatest key less than or equal to the given key, or -1. */
+    private int floorKey(final long key) {
+      return floor(keys, key);
+    }
+
+    /** Returns the slot of the greatest value less than or equal to the given value, or -1. */
+    private int floorValue(final long value) {
+      return floor(values, value);
+    }
+
+    private void deleteAfterKey(final long key) {
+      if (head == tail || keys[tail - 1] <= key) {
+        return;
+      }
+
+      tail = floorKey(key) + 1;
+      if (tail <= head) {
+        clear();
+      }
+    }
+
+    private void deleteBeforeKey(final long key) {
+      final int slot = floorKey(key - 1);
+      if (slot >= 0) {
+        head = slot + 1;
+      }
+    }
+
+    private void clear() {
+      head = 0;
+      tail = 0;
+    }
+
+    private int floor(final long[] array, final long searched) {
+      if (head == tail) {
+        return -1;
+      }
+
+      // if there are equal entries, we want the last one
+      int low = head;
+      int high = tail - 1;
+      while (low <= high) {
+        final int mid = (low + high) >>> 1;
+        if (array[mid] <= searched) {
+          low = mid + 1;
+        } else {
+          high = mid - 1;
+        }
+      }
+
+      // high is now the last slot whose entry is less than or equal to the searched one
+      return high >= head ? high : -1;
+    }
+
+    private void ensureCapacity() {
+      final int size = tail - head;
+      if (size <= keys.length / 2) {
+        // enough space was freed by compaction; reuse the arrays
+        System.arraycopy(keys, head, keys, 0, size);
+        System.arraycopy(values, head, values, 0, size);
+      } else {
+        keys = Arrays.copyOfRange(keys, head, head + keys.length * 2);
+        values = Arrays.copyOfRange(values, head, head + values.length * 2);
+      }
+
+      head = 0;
+      tail = size;
+    }
   }
 }
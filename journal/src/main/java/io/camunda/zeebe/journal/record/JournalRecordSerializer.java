@@ -77,7 +77,8 @@ public interface JournalRecordSerializer {
    *
    * @param buffer to read
    * @param offset the offset in the buffer at which the data will be read from
-   * @return a journal indexed record that is read.
+   * @return a journal indexed record that is read. It is owned by the caller and stays valid after
+   *     subsequent reads, as long as the given buffer does.
    */
   RecordData readData(DirectBuffer buffer, int offset);
 
@@ -0,0 +1,28 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.journal.record;
+
+/**
+ * The compression applied by {@link SBESerializer} to the data of the records it writes. Reading is
+ * independent of this setting: compressed records are always decompressed transparently, such that
+ * the compression can be changed without affecting existing records.
+ *
+ * <p>Note that compressed records cannot be read by versions which do not support compression, so
+ * it should only be enabled once all brokers of a cluster are updated. Rolling updates and
+ * downgrades are not supported while it is enabled.
+ */
+public enum RecordCompression {
+  /** Records are written as they are. */
+  NONE,
+
+  /**
+   * The data of records is compressed with zstd at a fast level, if it is large enough and the
+   * compression reduces its size.
+   */
+  ZSTD
+}
@@ -7,7 +7,12 @@
  */
 package io.camunda.zeebe.journal.record;
 
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdException;
 import io.camunda.zeebe.journal.CorruptedJournalException;
+import io.camunda.zeebe.journal.file.CompressedRecordDataDecoder;
+import io.camunda.zeebe.journal.file.CompressedRecordDataEncoder;
+import io.camunda.zeebe.journal.file.CompressionCodec;
 import io.camunda.zeebe.journal.file.MessageHeaderDecoder;
 import io.camunda.zeebe.journal.file.MessageHeaderEncoder;
 import io.camunda.zeebe.journal.file.RecordDataDecoder;
@@ -16,20 +21,62 @@ import io.camunda.zeebe.journal.file.RecordMetadataDecoder;
 import io.camunda.zeebe.journal.file.RecordMetadataEncoder;
 import io.camunda.zeebe.util.Either;
 import io.camunda.zeebe.util.buffer.BufferWriter;
+import io.camunda.zeebe.util.buffer.DirectBufferWriter;
 import java.nio.BufferOverflowException;
+import java.nio.ByteOrder;
+import java.util.Objects;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
 
-/** The serializer that writes and reads a journal record according to the SBE schema defined. */
+/**
+ * The serializer that writes and reads a journal record according to the SBE schema defined.
+ *
+ * <p>If a {@link RecordCompression} is given, the data of large enough records is compressed and
+ * written as {@code CompressedRecordData} instead of {@code RecordData}. As the checksum and the
+ * serialized record cover the compressed data, compressed records are also replicated as they are.
+ *
+ * <p>Buffer ownership: the {@link RecordData} returned by {@link #readData(DirectBuffer, int)} is
+ * owned by the caller. For uncompressed records it is a view on the given buffer, for compressed
+ * records it is a new buffer holding the decompressed data. It is not reused across reads, as
+ * records are held beyond the next read, e.g. as the last entry of a segment or in batches of
+ * entries replicated to followers. Only the compressed bytes go through a buffer owned by the
+ * serializer, which is reused and grown as needed for both writing and reading.
+ *
+ * <p>Compressed records cannot be read by versions which do not know the {@code
+ * CompressedRecordData} template, so rolling updates and downgrades are not supported while the
+ * compression is enabled.
+ */
 public final class SBESerializer implements JournalRecordSerializer {
+
+  /** Smaller records are not compressed, as the gain would not be worth the overhead. */
+  static final int MIN_COMPRESSIBLE_LENGTH = 256;
+
+  private static final int ZSTD_LEVEL = 1;
+
   private final MessageHeaderEncoder headerEncoder = new MessageHeaderEncoder();
   private final RecordMetadataEncoder metadataEncoder = new RecordMetadataEncoder();
   private final RecordDataEncoder recordEncoder = new RecordDataEncoder();
+  private final CompressedRecordDataEncoder compressedRecordEncoder =
+      new CompressedRecordDataEncoder();
 
   private final MessageHeaderDecoder headerDecoder = new MessageHeaderDecoder();
   private final RecordMetadataDecoder metadataDecoder = new RecordMetadataDecoder();
   private final RecordDataDecoder recordDecoder = new RecordDataDecoder();
+  private final CompressedRecordDataDecoder compressedRecordDecoder =
+      new CompressedRecordDataDecoder();
+
+  private final RecordCompression compression;
+  private final UnsafeBuffer uncompressedData = new UnsafeBuffer();
+  private byte[] compressedData = new byte[0];
+
+  public SBESerializer() {
+    this(RecordCompression.NONE);
+  }
+
+  public SBESerializer(final RecordCompression compression) {
+    this.compression = Objects.requireNonNull(compression, "must specify a compression");
+  }
 
   @Override
   public Either<BufferOverflowException, Integer> writeData(
@@ -38,6 +85,20 @@ public final class SBESerializer implements JournalRecordSerializer {
       final BufferWriter recordDataWriter,
       final MutableDirectBuffer writeBuffer,
       final int offset) {
+    if (compression == RecordCompression.ZSTD
+        && recordDataWriter.getLength() >= MIN_COMPRESSIBLE_LENGTH) {
+      return writeCompressedData(index, asqn, recordDataWriter, writeBuffer, offset);
+    }
+
+    return writeUncompressedData(index, asqn, recordDataWriter, writeBuffer, offset);
+  }
+
+  private Either<BufferOverflowException, Integer> writeUncompressedData(
+      final long index,
+      final long asqn,
+      final BufferWriter recordDataWriter,
+      final MutableDirectBuffer writeBuffer,
+      final int offset) {
     final int entryLength = recordDataWriter.getLength();
     final int serializedLength = getSerializedLength(entryLength);
     if (offset + serializedLength > writeBuffer.capacity()) {
@@ -57,13 +118,87 @@ public final class SBESerializer implements JournalRecordSerializer {
     final int headerLength = RecordDataEncoder.dataHeaderLength();
     final int limit = recordEncoder.limit();
     recordEncoder.limit(limit + headerLength + entryLength);
-    writeBuffer.putInt(limit, entryLength, java.nio.ByteOrder.LITTLE_ENDIAN);
+    writeBuffer.putInt(limit, entryLength, ByteOrder.LITTLE_ENDIAN);
     recordDataWriter.write(writeBuffer, limit + headerLength);
 
     final var writtenBytes = headerEncoder.encodedLength() + recordEncoder.encodedLength();
     return Either.right(writtenBytes);
   }
 
+  private Either<BufferOverflowException, Integer> writeCompressedData(
+      final long index,
+      final long asqn,
+      final BufferWriter recordDataWriter,
+      final MutableDirectBuffer writeBuffer,
+      final int offset) {
+    final int entryLength = recordDataWriter.getLength();
+    if (uncompressedData.capacity() < entryLength) {
+      uncompressedData.wrap(new byte[entryLength]);
+    }
+    recordDataWriter.write(uncompressedData, 0);
+
+    final int compressedLength = compress(entryLength);
+    if (compressedLength < 0
+        || getCompressedSerializedLength(compressedLength) >= getSerializedLength(entryLength)) {
+      // not worth it, write the data as it is from the copy we already have
+      return writeUncompressedData(
+          index,
+          asqn,
+          new DirectBufferWriter().wrap(uncompressedData, 0, entryLength),
+          writeBuffer,
+          offset);
+    }
+
+    if (offset + getCompressedSerializedLength(compressedLength) > writeBuffer.capacity()) {
+      return Either.left(new BufferOverflowException());
+    }
+
+    headerEncoder
+        .wrap(writeBuffer, offset)
+        .blockLength(compressedRecordEncoder.sbeBlockLength())
+        .templateId(compressedRecordEncoder.sbeTemplateId())
+        .schemaId(compressedRecordEncoder.sbeSchemaId())
+        .version(compressedRecordEncoder.sbeSchemaVersion());
+
+    compressedRecordEncoder
+        .wrap(writeBuffer, offset + headerEncoder.encodedLength())
+        .index(index)
+        .asqn(asqn)
+        .codec(CompressionCodec.ZSTD)
+        .uncompressedLength(entryLength)
+        .putData(compressedData, 0, compressedLength);
+
+    return Either.right(headerEncoder.encodedLength() + compressedRecordEncoder.encodedLength());
+  }
+
+  /**
+   * Compresses the first {@code entryLength} bytes of {@link #uncompressedData} into {@link
+   * #compressedData}.
+   *
+   * @return the compressed length, or -1 if the data could not be compressed
+   */
+  private int compress(final int entryLength) {
+    final int maxCompressedLength = (int) Zstd.compressBound(entryLength);
+    if (compressedData.length < maxCompressedLength) {
+      compressedData = new byte[maxCompressedLength];
+    }
+
+    try {
+      final long compressedLength =
+          Zstd.compressByteArray(
+              compressedData,
+              0,
+              maxCompressedLength,
+              uncompressedData.byteArray(),
+              0,
+              entryLength,
+              ZSTD_LEVEL);
+      return Zstd.isError(compressedLength) ? -1 : (int) compressedLength;
+    } catch (final ZstdException e) {
+      return -1;
+    }
+  }
+
   @Override
   public int writeMetadata(
       final RecordMetadata metadata, final MutableDirectBuffer buffer, final int offset) {
@@ -104,6 +239,11 @@ public final class SBESerializer implements JournalRecordSerializer {
   @Override
   public RecordData readData(final DirectBuffer buffer, final int offset) {
     headerDecoder.wrap(buffer, offset);
+    if (headerDecoder.schemaId() == compressedRecordDecoder.sbeSchemaId()
+        && headerDecoder.templateId() == compressedRecordDecoder.sbeTemplateId()) {
+      return readCompressedData(buffer, offset);
+    }
+
     if (headerDecoder.schemaId() != recordDecoder.sbeSchemaId()
         || headerDecoder.templateId() != recordDecoder.sbeTemplateId()) {
       throw new CorruptedJournalException("Cannot read record. Header does not match.");
@@ -119,6 +259,49 @@ public final class SBESerializer implements JournalRecordSerializer {
     return new RecordData(recordDecoder.index(), recordDecoder.asqn(), data);
   }
 
+  private RecordData readCompressedData(final DirectBuffer buffer, final int offset) {
+    compressedRecordDecoder.wrap(
+        buffer,
+        offset + headerDecoder.encodedLength(),
+        headerDecoder.blockLength(),
+        headerDecoder.version());
+
+    final long index = compressedRecordDecoder.index();
+    final long asqn = compressedRecordDecoder.asqn();
+    final CompressionCodec codec = compressedRecordDecoder.codec();
+    if (codec != CompressionCodec.ZSTD) {
+      throw new CorruptedJournalException(
+          "Cannot read record %d. Unknown compression codec %s.".formatted(index, codec));
+    }
+
+    final int uncompressedLength = compressedRecordDecoder.uncompressedLength();
+    final int compressedLength = compressedRecordDecoder.dataLength();
+    if (compressedData.length < compressedLength) {
+      compressedData = new byte[compressedLength];
+    }
+    compressedRecordDecoder.getData(compressedData, 0, compressedLength);
+
+    // owned by the returned record, see the class documentation
+    final byte[] data = new byte[uncompressedLength];
+    final long decompressedLength;
+    try {
+      decompressedLength =
+          Zstd.decompressByteArray(
+              data, 0, uncompressedLength, compressedData, 0, compressedLength);
+    } catch (final ZstdException e) {
+      throw new CorruptedJournalException(
+          "Cannot read record %d. Failed to decompress data.".formatted(index), e);
+    }
+
+    if (decompressedLength != uncompressedLength) {
+      throw new CorruptedJournalException(
+          "Cannot read record %d. Expected %d bytes of decompressed data, but got %d."
+              .formatted(index, uncompressedLength, decompressedLength));
+    }
+
+    return new RecordData(index, asqn, new UnsafeBuffer(data));
+  }
+
   @Override
   public int getMetadataLength(final DirectBuffer buffer, final int offset) {
     headerDecoder.wrap(buffer, offset);
@@ -131,6 +314,13 @@ public final class SBESerializer implements JournalRecordSerializer {
         && headerDecoder.templateId() == metadataDecoder.sbeTemplateId());
   }
 
+  private int getCompressedSerializedLength(final int compressedLength) {
+    return headerEncoder.encodedLength()
+        + compressedRecordEncoder.sbeBlockLength()
+        + CompressedRecordDataEncoder.dataHeaderLength()
+        + compressedLength;
+  }
+
   private int getSerializedLength(final int entryLength) {
     return headerEncoder.encodedLength()
         + recordEncoder.sbeBlockLength()
@@ -23,6 +23,7 @@ import io.camunda.zeebe.journal.JournalException.InvalidAsqn;
 import io.camunda.zeebe.journal.JournalReader;
 import io.camunda.zeebe.journal.JournalRecord;
 import io.camunda.zeebe.journal.record.PersistedJournalRecord;
+import io.camunda.zeebe.journal.record.RecordCompression;
 import io.camunda.zeebe.journal.record.RecordData;
 import io.camunda.zeebe.journal.util.MockJournalMetastore;
 import io.camunda.zeebe.journal.util.PosixPathAssert;
@@ -669,6 +670,40 @@ class SegmentedJournalTest {
     PosixPathAssert.assertThat(firstSegment).hasRealSizeLessThan(segmentSize);
   }
 
+  @Test
+  void shouldReplicateCompressedRecords(final @TempDir Path tmpDir) {
+    // given
+    final var data = BufferUtil.wrapString("compressible".repeat(100));
+    final var leaderBuilder =
+        SegmentedJournal.builder()
+            .withCompression(RecordCompression.ZSTD)
+            .withDirectory(tmpDir.resolve("leader").toFile())
+            .withMetaStore(new MockJournalMetastore());
+    final var followerBuilder =
+        SegmentedJournal.builder()
+            .withDirectory(tmpDir.resolve("follower").toFile())
+            .withMetaStore(new MockJournalMetastore());
+    final JournalRecord leaderRecord;
+    final JournalRecord followerRecord;
+
+    // when
+    try (final var leader = leaderBuilder.build();
+        final var follower = followerBuilder.build()) {
+      leaderRecord = leader.append(1, new DirectBufferWriter().wrap(data));
+      final byte[] serializedRecord = new byte[leaderRecord.serializedRecord().capacity()];
+      leaderRecord.serializedRecord().getBytes(0, serializedRecord);
+      followerRecord = follower.append(leaderRecord.checksum(), serializedRecord);
+    }
+
+    // then
+    assertThat(leaderRecord.serializedRecord().capacity()).isLessThan(data.capacity());
+    assertThat(followerRecord.data()).isEqualTo(data);
+    try (final var leader = leaderBuilder.withCompression(RecordCompression.NONE).build()) {
+      final var reader = leader.openReader();
+      assertThat(reader.next().data()).isEqualTo(data);
+    }
+  }
+
   @Test
   void shouldValidateAsqnBeforeCreatingNewSegment() {
     // given
@@ -0,0 +1,94 @@
+/*
+ * Copyright © 2017 camunda services GmbH (info@camunda.com)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.camunda.zeebe.journal.file;
+
+import io.camunda.zeebe.journal.JournalRecord;
+import io.camunda.zeebe.journal.util.TestJournalRecord;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures looking up and indexing records in a {@link SparseJournalIndex} which already contains
+ * many entries. Run it via {@link #main(String[])} or any other JMH runner; use {@code -prof gc} to
+ * compare the allocation rates as well.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class SparseJournalIndexBenchmark {
+
+  private static final int DENSITY = 100;
+
+  @Param({"100000", "10000000"})
+  private int recordCount;
+
+  private SparseJournalIndex index;
+  private long nextLookup;
+  private long nextIndex;
+
+  @Setup
+  public void setup() {
+    index = new SparseJournalIndex(DENSITY);
+    for (long i = 1; i <= recordCount; i++) {
+      index.index(record(i), (int) i);
+    }
+    nextIndex = recordCount + 1L;
+  }
+
+  @Benchmark
+  public IndexInfo lookup() {
+    nextLookup = nextLookup % recordCount + 1;
+    return index.lookup(nextLookup);
+  }
+
+  @Benchmark
+  public Long lookupAsqn() {
+    nextLookup = nextLookup % recordCount + 1;
+    return index.lookupAsqn(nextLookup);
+  }
+
+  @Benchmark
+  public void index() {
+    final long recordIndex = nextIndex++;
+    index.index(record(recordIndex), (int) recordIndex);
+  }
+
+  private static JournalRecord record(final long index) {
+    return new TestJournalRecord(index, index, 0, null, null);
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder().include(SparseJournalIndexBenchmark.class.getSimpleName()).build())
+        .run();
+  }
+}
@@ -239,4 +239,79 @@ class SparseJournalIndexTest {
     assertEquals(4, index.lookupAsqn(Long.MAX_VALUE, 5));
     assertEquals(6, index.lookupAsqn(Long.MAX_VALUE, 6));
   }
+
+  @Test
+  void shouldFindEntriesAfterGrowing() {
+    // given
+    final JournalIndex index = new SparseJournalIndex(1);
+
+    // when
+    for (int i = 1; i <= 1_000; i++) {
+      index.index(asJournalRecord(i, i * 10L), i * 2);
+    }
+
+    // then
+    assertEquals(1, index.lookup(1).index());
+    assertEquals(500, index.lookup(500).index());
+    assertEquals(1000, index.lookup(500).position());
+    assertEquals(1000, index.lookup(Long.MAX_VALUE).index());
+    assertEquals(500, index.lookupAsqn(5_005));
+  }
+
+  @Test
+  void shouldFindEntriesAfterCompactingAndAppending() {
+    // given
+    final JournalIndex index = new SparseJournalIndex(1);
+    for (int i = 1; i <= 100; i++) {
+      index.index(asJournalRecord(i, i * 10L), i * 2);
+    }
+
+    // when
+    index.deleteUntil(90);
+    for (int i = 101; i <= 300; i++) {
+      index.index(asJournalRecord(i, i * 10L), i * 2);
+    }
+
+    // then
+    assertNull(index.lookup(89));
+    assertEquals(90, index.lookup(90).index());
+    assertEquals(250, index.lookup(250).index());
+    assertEquals(500, index.lookup(250).position());
+    assertEquals(300, index.lookupAsqn(Long.MAX_VALUE));
+  }
+
+  @Test
+  void shouldOverwriteEntriesWhenIndexingAgain() {
+    // given
+    final JournalIndex index = new SparseJournalIndex(1);
+    index.index(asJournalRecord(1, 10), 2);
+    index.index(asJournalRecord(2, 20), 4);
+    index.index(asJournalRecord(3, 30), 6);
+
+    // when
+    index.index(asJournalRecord(2, 25), 8);
+
+    // then
+    assertEquals(2, index.lookup(3).index());
+    assertEquals(8, index.lookup(3).position());
+    assertEquals(2, index.lookupAsqn(30));
+    assertEquals(1, index.lookupAsqn(20));
+  }
+
+  @Test
+  void shouldIgnoreRecordsWithoutAsqn() {
+    // given
+    final JournalIndex index = new SparseJournalIndex(1);
+
+    // when
+    index.index(asJournalRecord(1, 10), 2);
+    index.index(asJournalRecord(2, SegmentedJournal.ASQN_IGNORE), 4);
+    index.index(asJournalRecord(3, 30), 6);
+
+    // then
+    assertEquals(2, index.lookup(2).index());
+    assertEquals(1, index.lookupAsqn(20));
+    assertEquals(1, index.lookupAsqn(30, 2));
+    assertEquals(3, index.lookupAsqn(30));
+  }
 }
@@ -13,6 +13,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import io.camunda.zeebe.journal.CorruptedJournalException;
 import io.camunda.zeebe.util.Either;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
 import org.agrona.DirectBuffer;
 import org.agrona.MutableDirectBuffer;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -152,4 +154,109 @@ final class SBESerializerTest {
     // when - then
     assertThat(serializer.writeData(record, writeBuffer, offset)).matches(Either::isLeft);
   }
+
+  @Test
+  void shouldCompressLargeRecord() {
+    // given
+    final var compressingSerializer = new SBESerializer(RecordCompression.ZSTD);
+    final var largeRecord = new RecordData(1, 2, new UnsafeBuffer(new byte[1024]));
+    final var buffer = new UnsafeBuffer(new byte[2048]);
+
+    // when
+    final int compressedLength = compressingSerializer.writeData(largeRecord, buffer, 0).get();
+
+    // then
+    assertThat(compressedLength)
+        .isLessThan(serializer.writeData(largeRecord, new UnsafeBuffer(new byte[2048]), 0).get());
+  }
+
+  @Test
+  void shouldReadCompressedRecord() {
+    // given
+    final var compressingSerializer = new SBESerializer(RecordCompression.ZSTD);
+    final var largeRecord = new RecordData(1, 2, new UnsafeBuffer(new byte[1024]));
+    final var buffer = new UnsafeBuffer(new byte[2048]);
+    compressingSerializer.writeData(largeRecord, buffer, 10).get();
+
+    // when - then
+    assertThat(compressingSerializer.readData(buffer, 10)).isEqualTo(largeRecord);
+    assertThat(serializer.readData(buffer, 10)).isEqualTo(largeRecord);
+  }
+
+  @Test
+  void shouldNotReuseDecompressedDataAcrossReads() {
+    // given
+    final var compressingSerializer = new SBESerializer(RecordCompression.ZSTD);
+    final var firstRecord = new RecordData(1, 2, new UnsafeBuffer(new byte[1024]));
+    final byte[] secondData = new byte[1024];
+    Arrays.fill(secondData, (byte) 1);
+    final var secondRecord = new RecordData(2, 3, new UnsafeBuffer(secondData));
+    final var buffer = new UnsafeBuffer(new byte[4096]);
+    final int firstLength = compressingSerializer.writeData(firstRecord, buffer, 0).get();
+    compressingSerializer.writeData(secondRecord, buffer, firstLength).get();
+
+    // when
+    final var firstRead = compressingSerializer.readData(buffer, 0);
+    final var secondRead = compressingSerializer.readData(buffer, firstLength);
+
+    // then
+    assertThat(firstRead).isEqualTo(firstRecord);
+    assertThat(secondRead).isEqualTo(secondRecord);
+  }
+
+  @Test
+  void shouldNotCompressSmallRecord() {
+    // given
+    final var compressingSerializer = new SBESerializer(RecordCompression.ZSTD);
+
+    // when
+    final int length = compressingSerializer.writeData(record, writeBuffer, 0).get();
+
+    // then
+    assertThat(length).isEqualTo(serializer.writeData(record, writeBuffer, 0).get());
+  }
+
+  @Test
+  void shouldNotCompressIncompressibleRecord() {
+    // given
+    final var compressingSerializer = new SBESerializer(RecordCompression.ZSTD);
+    final byte[] randomData = new byte[1024];
+    new Random(1).nextBytes(randomData);
+    final var randomRecord = new RecordData(1, 2, new UnsafeBuffer(randomData));
+    final var buffer = new UnsafeBuffer(new byte[2048]);
+    final var expectedBuffer = new UnsafeBuffer(new byte[2048]);
+
+    // when
+    final int length = compressingSerializer.writeData(randomRecord, buffer, 0).get();
+
+    // then
+    assertThat(length).isEqualTo(serializer.writeData(randomRecord, expectedBuffer, 0).get());
+    assertThat(buffer).isEqualTo(expectedBuffer);
+    assertThat(compressingSerializer.readData(buffer, 0)).isEqualTo(randomRecord);
+  }
+
+  @Test
+  void shouldThrowCorruptLogExceptionIfCompressedDataIsInvalid() {
+    // given
+    final var compressingSerializer = new SBESerializer(RecordCompression.ZSTD);
+    final var largeRecord = new RecordData(1, 2, new UnsafeBuffer(new byte[1024]));
+    final var buffer = new UnsafeBuffer(new byte[2048]);
+    final int length = compressingSerializer.writeData(largeRecord, buffer, 0).get();
+    buffer.putLong(length - Long.BYTES, -1L);
+
+    // when - then
+    assertThatThrownBy(() -> compressingSerializer.readData(buffer, 0))
+        .isInstanceOf(CorruptedJournalException.class);
+  }
+
+  @Test
+  void shouldThrowBufferOverFlowWhenNotEnoughSpaceForCompressedRecord() {
+    // given
+    final var compressingSerializer = new SBESerializer(RecordCompression.ZSTD);
+    final var largeRecord = new RecordData(1, 2, new UnsafeBuffer(new byte[1024]));
+
+    // when - then
+    assertThat(compressingSerializer.writeData(largeRecord, new UnsafeBuffer(new byte[16]), 0))
+        .matches(Either::isLeft);
+  }
 }
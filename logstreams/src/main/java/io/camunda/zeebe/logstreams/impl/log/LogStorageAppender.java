@@ -15,15 +15,23 @@ import io.camunda.zeebe.logstreams.storage.LogStorage;
 import io.camunda.zeebe.scheduler.Actor;
 import io.camunda.zeebe.scheduler.future.ActorFuture;
 import io.camunda.zeebe.scheduler.future.CompletableActorFuture;
+import io.camunda.zeebe.util.buffer.BufferWriter;
 import io.camunda.zeebe.util.health.FailureListener;
 import io.camunda.zeebe.util.health.HealthMonitorable;
 import io.camunda.zeebe.util.health.HealthReport;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import org.slf4j.Logger;
 
-/** Consume the write buffer and append the blocks to the distributedlog. */
+/**
+ * Consume the write buffer and append the blocks to the distributedlog.
+ *
+ * <p>By default, every {@link SequencedBatch} is appended as its own block. If a maximum coalesced
+ * batch length is given, batches which are already queued are appended together as one block, as
+ * long as it does not exceed that length, to reduce the overhead per block in the log storage.
+ */
 final class LogStorageAppender extends Actor implements HealthMonitorable, AppendErrorHandler {
   public static final Logger LOG = Loggers.LOGSTREAMS_LOGGER;
   private final String name;
@@ -33,16 +41,31 @@ final class LogStorageAppender extends Actor implements HealthMonitorable, Appen
   private final Set<FailureListener> failureListeners = new HashSet<>();
   private final ActorFuture<Void> closeFuture;
   private final int partitionId;
+  private final int maxCoalescedBatchLength;
 
   LogStorageAppender(
       final String name,
       final int partitionId,
       final LogStorage logStorage,
       final Sequencer sequencer) {
+    this(name, partitionId, logStorage, sequencer, 0);
+  }
+
+  /**
+   * @param maxCoalescedBatchLength the maximum length of a block of coalesced batches, or 0 to
+   *     append every batch on its own
+   */
+  LogStorageAppender(
+      final String name,
+      final int partitionId,
+      final LogStorage logStorage,
+      final Sequencer sequencer,
+      final int maxCoalescedBatchLength) {
     this.name = name;
     this.partitionId = partitionId;
     this.logStorage = logStorage;
     this.sequencer = sequencer;
+    this.maxCoalescedBatchLength = maxCoalescedBatchLength;
     flowControl = new AppenderFlowControl(this, partitionId);
     closeFuture = new CompletableActorFuture<>();
   }
@@ -122,14 +145,52 @@ final class LogStorageAppender extends Actor implements HealthMonitorable, Appen
       return;
     }
 
-    final var lowestPosition = sequencedBatch.firstPosition();
-    final var highestPosition =
-        sequencedBatch.firstPosition() + sequencedBatch.entries().size() - 1;
-    append.start(highestPosition);
-    logStorage.append(lowestPosition, highestPosition, sequencedBatch, append);
+    if (maxCoalescedBatchLength > 0) {
+      final var coalescedBatch = coalesceQueuedBatches(sequencedBatch);
+      append(
+          coalescedBatch.lowestPosition(),
+          coalescedBatch.highestPosition(),
+          coalescedBatch,
+          append);
+    } else {
+      final var lowestPosition = sequencedBatch.firstPosition();
+      final var highestPosition =
+          sequencedBatch.firstPosition() + sequencedBatch.entries().size() - 1;
+      append(lowestPosition, highestPosition, sequencedBatch, append);
+    }
     actor.submit(this::tryWriteBatch);
   }
 
+  private void append(
+      final long lowestPosition,
+      final long highestPosition,
+      final BufferWriter block,
+      final InFlightAppend append) {
+    append.start(highestPosition);
+    logStorage.append(lowestPosition, highestPosition, block, append);
+  }
+
+  /**
+   * Takes the batches following the given one from the sequencer, as long as they fit into the
+   * maximum coalesced batch length. The sequencer hands out batches in order of their positions, so
+   * the resulting block has no gaps. It's one append for the flow control, which limits the number
+   * of in-flight blocks rather than batches.
+   */
+  private CoalescedBatch coalesceQueuedBatches(final SequencedBatch firstBatch) {
+    final var batches = new ArrayList<SequencedBatch>();
+    batches.add(firstBatch);
+    int length = firstBatch.length();
+
+    SequencedBatch nextBatch = sequencer.peek();
+    while (nextBatch != null && length + nextBatch.length() <= maxCoalescedBatchLength) {
+      batches.add(sequencer.tryRead());
+      length += nextBatch.length();
+      nextBatch = sequencer.peek();
+    }
+
+    return new CoalescedBatch(batches, length);
+  }
+
   private void onFailure(final Throwable error) {
     LOG.error("Actor {} failed in phase {}.", name, actor.getLifecyclePhase(), error);
     actor.fail(error);
@@ -18,6 +18,8 @@ import java.util.Objects;
 public final class LogStreamBuilderImpl implements LogStreamBuilder {
   private static final int MINIMUM_FRAGMENT_SIZE = 4 * 1024;
   private int maxFragmentSize = 1024 * 1024 * 4;
+  private int maxCoalescedBatchLength = 0;
+  private int sequencerCapacity = Sequencer.DEFAULT_CAPACITY;
   private int partitionId = -1;
   private ActorSchedulingService actorSchedulingService;
   private LogStorage logStorage;
@@ -37,6 +39,18 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
     return this;
   }
 
+  @Override
+  public LogStreamBuilder withMaxCoalescedBatchLength(final int maxCoalescedBatchLength) {
+    this.maxCoalescedBatchLength = maxCoalescedBatchLength;
+    return this;
+  }
+
+  @Override
+  public LogStreamBuilder withSequencerCapacity(final int sequencerCapacity) {
+    this.sequencerCapacity = sequencerCapacity;
+    return this;
+  }
+
   @Override
   public LogStreamBuilder withLogStorage(final LogStorage logStorage) {
     this.logStorage = logStorage;
@@ -67,7 +81,14 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
 
     final var logStreamService =
         new LogStreamImpl(
-            actorSchedulingService, logName, partitionId, nodeId, maxFragmentSize, logStorage);
+            actorSchedulingService,
+            logName,
+            partitionId,
+            nodeId,
+            maxFragmentSize,
+            maxCoalescedBatchLength,
+            sequencerCapacity,
+            logStorage);
 
     final var logstreamInstallFuture = new CompletableActorFuture<LogStream>();
     actorSchedulingService
@@ -94,5 +115,19 @@ public final class LogStreamBuilderImpl implements LogStreamBuilder {
               "Expected fragment size to be at least '%d', but was '%d'",
               MINIMUM_FRAGMENT_SIZE, maxFragmentSize));
     }
+
+    if (maxCoalescedBatchLength < 0) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected max coalesced batch length to be at least '0', but was '%d'",
+              maxCoalescedBatchLength));
+    }
+
+    if (sequencerCapacity < 1 || sequencerCapacity > 1 << 30) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Expected sequencer capacity to be between '1' and '%d', but was '%d'",
+              1 << 30, sequencerCapacity));
+    }
   }
 }
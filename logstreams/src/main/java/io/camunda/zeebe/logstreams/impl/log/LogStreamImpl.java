@@ -41,6 +41,8 @@ public final class LogStreamImpl extends Actor
   private final ActorSchedulingService actorSchedulingService;
   private final List<LogStreamReader> readers;
   private final int maxFragmentSize;
+  private final int maxCoalescedBatchLength;
+  private final int sequencerCapacity;
   private final LogStorage logStorage;
   private final CompletableActorFuture<Void> closeFuture;
   private final int nodeId;
@@ -58,6 +60,8 @@ public final class LogStreamImpl extends Actor
       final int partitionId,
       final int nodeId,
       final int maxFragmentSize,
+      final int maxCoalescedBatchLength,
+      final int sequencerCapacity,
       final LogStorage logStorage) {
     this.actorSchedulingService = actorSchedulingService;
     this.logName = logName;
@@ -67,6 +71,9 @@ public final class LogStreamImpl extends Actor
     actorName = buildActorName(nodeId, "LogStream", partitionId);
 
     this.maxFragmentSize = maxFragmentSize;
+    // a coalesced block is appended as a single entry, so it must not exceed the fragment size
+    this.maxCoalescedBatchLength = Math.min(maxCoalescedBatchLength, maxFragmentSize);
+    this.sequencerCapacity = sequencerCapacity;
     this.logStorage = logStorage;
     closeFuture = new CompletableActorFuture<>();
 
@@ -300,13 +307,18 @@ public final class LogStreamImpl extends Actor
   }
 
   private Sequencer createAndScheduleWriteBuffer(final long initialPosition) {
-    return new Sequencer(initialPosition, maxFragmentSize, new SequencerMetrics(partitionId));
+    return new Sequencer(
+        initialPosition, maxFragmentSize, sequencerCapacity, new SequencerMetrics(partitionId));
   }
 
   private ActorFuture<Void> createAndScheduleLogStorageAppender(final Sequencer sequencer) {
     appender =
         new LogStorageAppender(
-            buildActorName(nodeId, "LogAppender", partitionId), partitionId, logStorage, sequencer);
+            buildActorName(nodeId, "LogAppender", partitionId),
+            partitionId,
+            logStorage,
+            sequencer,
+            maxCoalescedBatchLength);
     return actorSchedulingService.submitActor(appender);
   }
 
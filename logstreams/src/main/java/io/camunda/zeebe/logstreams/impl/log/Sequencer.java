@@ -10,17 +10,18 @@ package io.camunda.zeebe.logstreams.impl.log;
 import static io.camunda.zeebe.logstreams.impl.serializer.DataFrameDescriptor.FRAME_ALIGNMENT;
 
 import io.camunda.zeebe.logstreams.impl.serializer.DataFrameDescriptor;
+import io.camunda.zeebe.logstreams.impl.serializer.SequencedBatchSerializer;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.log.LogStreamWriter;
 import io.camunda.zeebe.scheduler.ActorCondition;
 import io.camunda.zeebe.scheduler.clock.ActorClock;
 import io.camunda.zeebe.util.Either;
 import java.io.Closeable;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
 import java.util.List;
 import java.util.Objects;
-import java.util.Queue;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.locks.ReentrantLock;
+import org.agrona.BitUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -33,22 +34,53 @@ import org.slf4j.LoggerFactory;
  * <p>The sequencer assigns all entries a position and makes that position available to its
  * consumer. The sequencer does not copy or serialize entries, it only keeps a reference to them
  * until they are handed off to the consumer.
+ *
+ * <p>Writes are lock-free: a writer claims the positions for its batch with a CAS on the position
+ * counter, and then publishes the batch into the ring slot of its first position. As positions are
+ * claimed in order, the consumer finds the next batch in the slot of the position following the
+ * last batch it read. A claim is only made if its slot is free, that is if fewer than the capacity
+ * positions are waiting to be read, so the queue is bounded by the number of entries rather than
+ * the number of batches. The producer and consumer positions are padded to avoid false sharing, as
+ * the writers update one and the consumer the other.
  */
-final class Sequencer implements LogStreamWriter, Closeable {
+final class Sequencer extends SequencerConsumerPosition implements LogStreamWriter, Closeable {
+  /** The default number of positions, and thus ring slots, which can be waiting to be read. */
+  public static final int DEFAULT_CAPACITY = 1024;
+
+  private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(Object[].class);
   private static final Logger LOG = LoggerFactory.getLogger(Sequencer.class);
-  private final int maxFragmentSize;
 
-  private volatile long position;
+  @SuppressWarnings("unused")
+  private long p31, p32, p33, p34, p35, p36, p37, p38, p39, p40, p41, p42, p43, p44, p45;
+
+  private final int maxFragmentSize;
+  private final int capacity;
+  private final int mask;
+  private final Object[] slots;
   private volatile boolean isClosed = false;
   private volatile ActorCondition consumer;
-  private final Queue<SequencedBatch> queue = new ArrayBlockingQueue<>(128);
-  private final ReentrantLock lock = new ReentrantLock();
   private final SequencerMetrics metrics;
 
   Sequencer(final long initialPosition, final int maxFragmentSize, final SequencerMetrics metrics) {
+    this(initialPosition, maxFragmentSize, DEFAULT_CAPACITY, metrics);
+  }
+
+  /**
+   * @param capacity the number of entries which can be waiting to be read; rounded up to the next
+   *     power of two
+   */
+  Sequencer(
+      final long initialPosition,
+      final int maxFragmentSize,
+      final int capacity,
+      final SequencerMetrics metrics) {
     LOG.trace("Starting new sequencer at position {}", initialPosition);
     position = initialPosition;
+    consumerPosition = initialPosition;
     this.maxFragmentSize = maxFragmentSize;
+    this.capacity = BitUtil.findNextPositivePowerOfTwo(capacity);
+    mask = this.capacity - 1;
+    slots = new Object[this.capacity];
     this.metrics = Objects.requireNonNull(metrics, "must specify metrics");
   }
 
@@ -82,43 +114,58 @@ final class Sequencer implements LogStreamWriter, Closeable {
       return Either.left(WriteFailure.INVALID_ARGUMENT);
     }
 
-    final long currentPosition;
-    final boolean isEnqueued;
-    lock.lock();
-    try {
-      currentPosition = position;
-      final var sequencedBatch =
-          new SequencedBatch(
-              ActorClock.currentTimeMillis(), currentPosition, sourcePosition, appendEntries);
-      isEnqueued = queue.offer(sequencedBatch);
-      if (isEnqueued) {
-        metrics.observeBatchLengthBytes(sequencedBatch.length());
-        position = currentPosition + batchSize;
-      }
-    } finally {
-      lock.unlock();
-    }
+    final var batchLength = SequencedBatchSerializer.calculateBatchSize(appendEntries);
+    final long currentPosition = claimPositions(batchSize);
 
-    if (consumer != null) {
-      consumer.signal();
-    }
-    metrics.setQueueSize(queue.size());
-    if (isEnqueued) {
-      metrics.observeBatchSize(batchSize);
-      return Either.right(currentPosition + batchSize - 1);
-    } else {
+    if (currentPosition < 0) {
+      signalConsumer();
       LOG.trace("Rejecting write of {}, sequencer queue is full", appendEntries);
       return Either.left(WriteFailure.FULL);
     }
+
+    final var sequencedBatch =
+        new SequencedBatch(
+            ActorClock.currentTimeMillis(),
+            currentPosition,
+            sourcePosition,
+            appendEntries,
+            batchLength);
+    SLOTS.setRelease(slots, slotIndex(currentPosition), sequencedBatch);
+    signalConsumer();
+
+    metrics.observeBatchLengthBytes(batchLength);
+    metrics.observeBatchSize(batchSize);
+    metrics.setQueueSize(queuedPositions(currentPosition + batchSize));
+    return Either.right(currentPosition + batchSize - 1);
   }
 
   /**
-   * Retrieves, but does not remove, the first item in the sequenced batch queue.
+   * Retrieves and removes the next batch, if it was already published by its writer. As this is
+   * only ever called by the single consumer, it does not need to synchronize with other readers.
    *
    * @return A {@link SequencedBatch} or null if none is available
    */
   SequencedBatch tryRead() {
-    return queue.poll();
+    final long nextPosition = consumerPosition;
+    final var batch = peek();
+    if (batch == null) {
+      return null;
+    }
+
+    // the slot must be free before writers can observe the new consumer position and claim it
+    slots[slotIndex(nextPosition)] = null;
+    CONSUMER_POSITION.setRelease(this, nextPosition + batch.entries().size());
+    return batch;
+  }
+
+  /**
+   * Retrieves, but does not remove, the next batch, if it was already published by its writer. As
+   * with {@link #tryRead()}, this must only be called by the consumer.
+   *
+   * @return A {@link SequencedBatch} or null if none is available
+   */
+  SequencedBatch peek() {
+    return (SequencedBatch) SLOTS.getAcquire(slots, slotIndex(consumerPosition));
   }
 
   /**
@@ -135,6 +182,43 @@ final class Sequencer implements LogStreamWriter, Closeable {
     this.consumer = consumer;
   }
 
+  /**
+   * Claims the given number of positions, unless the slot of the first one may still be occupied.
+   *
+   * @return the first claimed position, or -1 if the queue is full
+   */
+  private long claimPositions(final int count) {
+    while (true) {
+      final long currentPosition = position;
+      if (queuedPositions(currentPosition) >= capacity) {
+        return -1;
+      }
+
+      if (POSITION.compareAndSet(this, currentPosition, currentPosition + count)) {
+        return currentPosition;
+      }
+    }
+  }
+
+  private int queuedPositions(final long nextPosition) {
+    return (int) Math.max(0, nextPosition - consumerPosition);
+  }
+
+  private void signalConsumer() {
+    final var consumer = this.consumer;
+    if (consumer != null) {
+      consumer.signal();
+    }
+  }
+
+  int capacity() {
+    return capacity;
+  }
+
+  private int slotIndex(final long position) {
+    return (int) position & mask;
+  }
+
   private boolean isEntryValid(final LogAppendEntry entry) {
     return entry.recordValue() != null
         && entry.recordValue().getLength() > 0
@@ -142,3 +226,47 @@ final class Sequencer implements LogStreamWriter, Closeable {
         && entry.recordMetadata().getLength() > 0;
   }
 }
+
+class SequencerPadding1 {
+  @SuppressWarnings("unused")
+  protected long p1, p2, p3, p4, p5, p6, p7, p8, p9, p10, p11, p12, p13, p14, p15;
+}
+
+/** The next position to claim, updated by all writers. */
+class SequencerPosition extends SequencerPadding1 {
+  protected static final VarHandle POSITION;
+
+  static {
+    try {
+      POSITION =
+          MethodHandles.lookup().findVarHandle(SequencerPosition.class, "position", long.class);
+    } catch (final ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  protected volatile long position;
+}
+
+/** Pad out a cache line between the position and the consumer position to prevent false sharing. */
+class SequencerPadding2 extends SequencerPosition {
+  @SuppressWarnings("unused")
+  protected long p16, p17, p18, p19, p20, p21, p22, p23, p24, p25, p26, p27, p28, p29, p30;
+}
+
+/** The position of the next batch to read, only updated by the consumer. */
+class SequencerConsumerPosition extends SequencerPadding2 {
+  protected static final VarHandle CONSUMER_POSITION;
+
+  static {
+    try {
+      CONSUMER_POSITION =
+          MethodHandles.lookup()
+              .findVarHandle(SequencerConsumerPosition.class, "consumerPosition", long.class);
+    } catch (final ReflectiveOperationException e) {
+      throw new ExceptionInInitializerError(e);
+    }
+  }
+
+  protected volatile long consumerPosition;
+}
@@ -15,8 +15,7 @@ final class SequencerMetrics {
       Gauge.build()
           .namespace("zeebe")
           .name("sequencer_queue_size")
-          .help(
-              "Current length of queue, i.e. how many entry batches are available to the appender")
+          .help("Current length of queue, i.e. how many entries are available to the appender")
           .labelNames("partition")
           .register();
 
@@ -31,6 +31,27 @@ public interface LogStreamBuilder {
    */
   LogStreamBuilder withMaxFragmentSize(int maxFragmentSize);
 
+  /**
+   * The maximum length of a block which combines several queued entry batches into a single append
+   * to the log storage. It is capped at the maximum fragment size. Coalescing is disabled with 0,
+   * which is the default, so that every batch is appended on its own.
+   *
+   * @param maxCoalescedBatchLength the maximum length of a coalesced block in bytes
+   * @return this builder
+   */
+  LogStreamBuilder withMaxCoalescedBatchLength(int maxCoalescedBatchLength);
+
+  /**
+   * The maximum number of entries which can be waiting in the write queue to be appended to the log
+   * storage; further writes are rejected until entries were appended. It is rounded up to the next
+   * power of two, and defaults to 1024. A single batch which is larger than the capacity is still
+   * accepted into an empty queue.
+   *
+   * @param sequencerCapacity the maximum number of queued entries
+   * @return this builder
+   */
+  LogStreamBuilder withSequencerCapacity(int sequencerCapacity);
+
   /**
    * The underlying log storage to read from/write to.
    *
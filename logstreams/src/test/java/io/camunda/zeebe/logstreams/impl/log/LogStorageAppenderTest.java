@@ -10,11 +10,14 @@ package io.camunda.zeebe.logstreams.impl.log;
 import static io.camunda.zeebe.logstreams.util.TestEntry.TestEntryAssert.assertThatEntry;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.after;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 
+import io.camunda.zeebe.logstreams.impl.serializer.SequencedBatchSerializer;
 import io.camunda.zeebe.logstreams.log.LogAppendEntry;
 import io.camunda.zeebe.logstreams.log.LogStreamReader;
 import io.camunda.zeebe.logstreams.storage.LogStorage.AppendListener;
@@ -113,4 +116,70 @@ final class LogStorageAppenderTest {
       assertThatEntry(entry).matchesLoggedEvent(reader.next());
     }
   }
+
+  @Test
+  void shouldCoalesceQueuedBatches() throws InterruptedException {
+    // given
+    appender = new LogStorageAppender("appender", PARTITION_ID, logStorage, sequencer, 1024 * 1024);
+    final List<LogAppendEntry> entries =
+        IntStream.range(0, 3).mapToObj(i -> TestEntry.ofKey(i + 1)).collect(Collectors.toList());
+    final var latch = new CountDownLatch(1);
+
+    // when
+    entries.forEach(sequencer::tryWrite);
+    logStorage.setPositionListener(i -> latch.countDown());
+    scheduler.submitActor(appender).join();
+
+    // then
+    assertThat(latch.await(5, TimeUnit.SECONDS)).as("value was written within 5 seconds").isTrue();
+    verify(logStorage, after(500).times(1))
+        .append(anyLong(), anyLong(), any(ByteBuffer.class), any(AppendListener.class));
+    verify(logStorage)
+        .append(
+            eq(INITIAL_POSITION),
+            eq(INITIAL_POSITION + 2),
+            any(ByteBuffer.class),
+            any(AppendListener.class));
+
+    assertThat(reader.seek(INITIAL_POSITION)).isTrue();
+    for (final var entry : entries) {
+      assertThat(reader.hasNext()).isTrue();
+      assertThatEntry(entry).matchesLoggedEvent(reader.next());
+    }
+  }
+
+  @Test
+  void shouldNotCoalesceBatchesBeyondMaxLength() throws InterruptedException {
+    // given
+    final var entry = TestEntry.ofKey(1);
+    final var batchLength = SequencedBatchSerializer.calculateBatchSize(List.of(entry));
+    appender =
+        new LogStorageAppender(
+            "appender", PARTITION_ID, logStorage, sequencer, 2 * batchLength + batchLength / 2);
+    final var latch = new CountDownLatch(2);
+
+    // when
+    for (int i = 0; i < 3; i++) {
+      sequencer.tryWrite(entry);
+    }
+    logStorage.setPositionListener(i -> latch.countDown());
+    scheduler.submitActor(appender).join();
+
+    // then
+    assertThat(latch.await(5, TimeUnit.SECONDS))
+        .as("values were written within 5 seconds")
+        .isTrue();
+    verify(logStorage)
+        .append(
+            eq(INITIAL_POSITION),
+            eq(INITIAL_POSITION + 1),
+            any(ByteBuffer.class),
+            any(AppendListener.class));
+    verify(logStorage)
+        .append(
+            eq(INITIAL_POSITION + 2),
+            eq(INITIAL_POSITION + 2),
+            any(ByteBuffer.class),
+            any(AppendListener.class));
+  }
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.logstreams.impl.log;
+
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.logstreams.util.TestEntry;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the write throughput of the {@link Sequencer} under contention, with a dedicated
+ * consumer thread draining it like the {@link LogStorageAppender} does. Writers retry rejected
+ * writes, so only accepted batches are counted. Run {@link #main(String[])} to compare 1 to 16
+ * writer threads.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class SequencerBenchmark {
+
+  private static final List<LogAppendEntry> BATCH = List.of(TestEntry.ofKey(1));
+  private static final int[] WRITER_THREADS = {1, 2, 4, 8, 16};
+
+  private Sequencer sequencer;
+  private Thread consumer;
+  private volatile boolean running;
+
+  @Setup
+  public void setup() {
+    sequencer = new Sequencer(1, 4 * 1024 * 1024, new SequencerMetrics(1));
+    running = true;
+    consumer = new Thread(this::drain, "sequencer-consumer");
+    consumer.start();
+  }
+
+  @TearDown
+  public void tearDown() throws InterruptedException {
+    running = false;
+    consumer.join();
+    sequencer.close();
+  }
+
+  @Benchmark
+  public long write() {
+    var result = sequencer.tryWrite(BATCH);
+    while (result.isLeft()) {
+      Thread.onSpinWait();
+      result = sequencer.tryWrite(BATCH);
+    }
+    return result.get();
+  }
+
+  private void drain() {
+    while (running) {
+      if (sequencer.tryRead() == null) {
+        Thread.onSpinWait();
+      }
+    }
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    for (final int threads : WRITER_THREADS) {
+      new Runner(
+              new OptionsBuilder()
+                  .include(SequencerBenchmark.class.getSimpleName())
+                  .threads(threads)
+                  .build())
+          .run();
+    }
+  }
+}
@@ -194,6 +194,72 @@ final class SequencerTest {
     Mockito.verify(consumer).signal();
   }
 
+  @Test
+  void rejectsWritesWhenCapacityIsReached() {
+    // given
+    final var sequencer = new Sequencer(1, 16 * 1024 * 1024, new SequencerMetrics(1));
+    for (int i = 0; i < Sequencer.DEFAULT_CAPACITY; i++) {
+      EitherAssert.assertThat(sequencer.tryWrite(TestEntry.ofDefaults())).isRight();
+    }
+
+    // when
+    final var result = sequencer.tryWrite(TestEntry.ofDefaults());
+
+    // then
+    EitherAssert.assertThat(result).isLeft().left().isEqualTo(WriteFailure.FULL);
+  }
+
+  @Test
+  void acceptsWritesAgainAfterReading() {
+    // given
+    final var sequencer = new Sequencer(1, 16 * 1024 * 1024, new SequencerMetrics(1));
+    for (int i = 0; i < Sequencer.DEFAULT_CAPACITY; i++) {
+      sequencer.tryWrite(TestEntry.ofDefaults());
+    }
+
+    // when
+    sequencer.tryRead();
+    final var result = sequencer.tryWrite(TestEntry.ofDefaults());
+
+    // then
+    EitherAssert.assertThat(result)
+        .isRight()
+        .right()
+        .isEqualTo((long) Sequencer.DEFAULT_CAPACITY + 1);
+  }
+
+  @Test
+  void rejectsWritesWhenConfiguredCapacityIsReached() {
+    // given
+    final var sequencer = new Sequencer(1, 16 * 1024 * 1024, 100, new SequencerMetrics(1));
+    for (int i = 0; i < 128; i++) {
+      EitherAssert.assertThat(sequencer.tryWrite(TestEntry.ofDefaults())).isRight();
+    }
+
+    // when
+    final var result = sequencer.tryWrite(TestEntry.ofDefaults());
+
+    // then - the capacity is rounded up to the next power of two
+    Assertions.assertThat(sequencer.capacity()).isEqualTo(128);
+    EitherAssert.assertThat(result).isLeft().left().isEqualTo(WriteFailure.FULL);
+  }
+
+  @Test
+  void acceptsBatchLargerThanCapacity() {
+    // given
+    final var sequencer = new Sequencer(1, 16 * 1024 * 1024, new SequencerMetrics(1));
+    final var entries =
+        IntStream.range(0, Sequencer.DEFAULT_CAPACITY + 1).mapToObj(TestEntry::ofKey).toList();
+
+    // when
+    final var result = sequencer.tryWrite(entries);
+
+    // then
+    EitherAssert.assertThat(result).isRight().right().isEqualTo((long) entries.size());
+    Assertions.assertThat(sequencer.tryRead().entries()).isEqualTo(entries);
+    Assertions.assertThat(sequencer.tryRead()).isNull();
+  }
+
   @Test
   void keepsPositionsWithSingleWriter() throws InterruptedException {
     // given
@@ -42,6 +42,18 @@ public final class SyncLogStreamBuilder implements LogStreamBuilder {
     return this;
   }
 
+  @Override
+  public SyncLogStreamBuilder withMaxCoalescedBatchLength(final int maxCoalescedBatchLength) {
+    delegate.withMaxCoalescedBatchLength(maxCoalescedBatchLength);
+    return this;
+  }
+
+  @Override
+  public SyncLogStreamBuilder withSequencerCapacity(final int sequencerCapacity) {
+    delegate.withSequencerCapacity(sequencerCapacity);
+    return this;
+  }
+
   @Override
   public SyncLogStreamBuilder withLogStorage(final LogStorage logStorage) {
     delegate.withLogStorage(logStorage);
@@ -102,7 +102,24 @@ public final class MsgPackConverter {
   ////////////////////////////////////////////////////////////////////////////////////////////////
 
   public static String convertToJson(final DirectBuffer buffer) {
-    return convertToJson(BufferUtil.bufferAsArray(buffer));
+    return new String(convertToJsonBytes(buffer), JSON_CHARSET);
+  }
+
+  /**
+   * Converts the given MessagePack document to UTF-8 encoded JSON by streaming it directly from the
+   * buffer, without copying or parsing it into intermediate objects first.
+   */
+  static byte[] convertToJsonBytes(final DirectBuffer buffer) {
+    try (final ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+      try (final JsonGenerator generator =
+          JSON_FACTORY.createGenerator(outputStream, JSON_ENCODING)) {
+        new MsgPackJsonWriter().write(buffer, generator);
+      }
+
+      return outputStream.toByteArray();
+    } catch (final Exception e) {
+      throw new RuntimeException("Failed to convert MessagePack to JSON", e);
+    }
   }
 
   public static String convertToJson(final byte[] msgPack) {
@@ -0,0 +1,54 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.protocol.impl.encoding;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import java.io.IOException;
+import org.agrona.DirectBuffer;
+
+/**
+ * Serializes a buffer containing a MessagePack document as its JSON value, streaming it directly
+ * into the generator with a {@link MsgPackJsonWriter}. Use it on the buffer accessor of a document
+ * property, instead of serializing a {@link java.util.Map} converted from the document, to avoid
+ * materializing the document when a record is serialized to JSON, e.g. by an exporter.
+ */
+public final class MsgPackJsonSerializer extends StdSerializer<DirectBuffer> {
+
+  public MsgPackJsonSerializer() {
+    super(DirectBuffer.class);
+  }
+
+  @Override
+  public void serialize(
+      final DirectBuffer value, final JsonGenerator generator, final SerializerProvider provider)
+      throws IOException {
+    new MsgPackJsonWriter().write(value, generator);
+  }
+
+  /**
+   * Serializes a buffer containing a MessagePack document as a string containing its JSON value,
+   * i.e. the same as {@link MsgPackConverter#convertToJson(DirectBuffer)}, but without creating an
+   * intermediate {@link String}.
+   */
+  public static final class AsString extends StdSerializer<DirectBuffer> {
+
+    public AsString() {
+      super(DirectBuffer.class);
+    }
+
+    @Override
+    public void serialize(
+        final DirectBuffer value, final JsonGenerator generator, final SerializerProvider provider)
+        throws IOException {
+      final byte[] json = MsgPackConverter.convertToJsonBytes(value);
+      MsgPackJsonWriter.writeUtf8String(json, 0, json.length, generator);
+    }
+  }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.protocol.impl.encoding;
+
+import static io.camunda.zeebe.msgpack.spec.MsgPackCodes.BYTE_ORDER;
+import static io.camunda.zeebe.msgpack.spec.MsgPackCodes.FLOAT32;
+import static io.camunda.zeebe.msgpack.spec.MsgPackCodes.UINT64;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.json.UTF8JsonGenerator;
+import io.camunda.zeebe.msgpack.spec.MsgPackReader;
+import io.camunda.zeebe.msgpack.spec.MsgPackToken;
+import io.camunda.zeebe.msgpack.spec.MsgPackType;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import org.agrona.DirectBuffer;
+
+/**
+ * Streams a MessagePack document into a {@link JsonGenerator}, token by token. In contrast to
+ * converting the document into a {@link java.util.Map} first, or parsing it again with Jackson, no
+ * intermediate objects are created for the document: strings are passed as UTF-8 bytes to the
+ * generator, which writes them directly into its output.
+ *
+ * <p>As with Jackson's MessagePack parser, binary values are written as Base64 strings and integer
+ * keys as field names.
+ *
+ * <p>This class is not thread safe, as it reuses its reader. It is cheap to create though.
+ */
+public final class MsgPackJsonWriter {
+
+  private final MsgPackReader reader = new MsgPackReader();
+  private byte[] scratch = new byte[0];
+
+  /**
+   * Writes the given MessagePack document as a single JSON value.
+   *
+   * @param msgPack the MessagePack document
+   * @param generator the generator to write the JSON value to
+   * @throws IOException if the generator fails to write
+   */
+  public void write(final DirectBuffer msgPack, final JsonGenerator generator) throws IOException {
+    reader.wrap(msgPack, 0, msgPack.capacity());
+    writeValue(generator);
+  }
+
+  private void writeValue(final JsonGenerator generator) throws IOException {
+    final DirectBuffer buffer = reader.getBuffer();
+    final byte headerByte = buffer.getByte(reader.getOffset());
+    if (headerByte == UINT64) {
+      // unsigned values beyond Long.MAX_VALUE cannot be read as a long
+      final long value = buffer.getLong(reader.getOffset() + 1, BYTE_ORDER);
+      reader.skipValue();
+      if (value < 0) {
+        generator.writeNumber(new BigInteger(Long.toUnsignedString(value)));
+      } else {
+        generator.writeNumber(value);
+      }
+      return;
+    }
+
+    final MsgPackToken token = reader.readToken();
+    switch (token.getType()) {
+      case NIL -> generator.writeNull();
+      case BOOLEAN -> generator.writeBoolean(token.getBooleanValue());
+      case INTEGER -> generator.writeNumber(token.getIntegerValue());
+      case FLOAT -> {
+        if (headerByte == FLOAT32) {
+          generator.writeNumber((float) token.getFloatValue());
+        } else {
+          generator.writeNumber(token.getFloatValue());
+        }
+      }
+      case STRING -> writeString(token.getValueBuffer(), generator);
+      case BINARY -> generator.writeString(
+          Base64.getEncoder().encodeToString(BufferUtil.bufferAsArray(token.getValueBuffer())));
+      case ARRAY -> writeArray(token.getSize(), generator);
+      case MAP -> writeMap(token.getSize(), generator);
+      default -> throw new IllegalStateException(
+          "Expected a JSON compatible MessagePack value, but found '%s'"
+              .formatted(token.getType()));
+    }
+  }
+
+  private void writeArray(final int size, final JsonGenerator generator) throws IOException {
+    generator.writeStartArray();
+    for (int i = 0; i < size; i++) {
+      writeValue(generator);
+    }
+    generator.writeEndArray();
+  }
+
+  private void writeMap(final int size, final JsonGenerator generator) throws IOException {
+    generator.writeStartObject();
+    for (int i = 0; i < size; i++) {
+      final MsgPackToken key = reader.readToken();
+      if (key.getType() == MsgPackType.STRING) {
+        generator.writeFieldName(BufferUtil.bufferAsString(key.getValueBuffer()));
+      } else if (key.getType() == MsgPackType.INTEGER) {
+        generator.writeFieldName(String.valueOf(key.getIntegerValue()));
+      } else {
+        throw new IllegalStateException(
+            "Expected a string or integer key, but found '%s'".formatted(key.getType()));
+      }
+
+      writeValue(generator);
+    }
+    generator.writeEndObject();
+  }
+
+  private void writeString(final DirectBuffer value, final JsonGenerator generator)
+      throws IOException {
+    final int length = value.capacity();
+    final byte[] array = value.byteArray();
+    if (array != null) {
+      writeUtf8String(array, (int) value.wrapAdjustment(), length, generator);
+      return;
+    }
+
+    if (scratch.length < length) {
+      scratch = new byte[length];
+    }
+    value.getBytes(0, scratch, 0, length);
+    writeUtf8String(scratch, 0, length, generator);
+  }
+
+  /**
+   * Writes the given UTF-8 encoded string. Only byte based generators can write UTF-8 directly,
+   * character based generators (e.g. when serializing to a {@link String}) require decoding it.
+   */
+  static void writeUtf8String(
+      final byte[] utf8, final int offset, final int length, final JsonGenerator generator)
+      throws IOException {
+    if (generator instanceof UTF8JsonGenerator) {
+      generator.writeUTF8String(utf8, offset, length);
+    } else {
+      generator.writeString(new String(utf8, offset, length, StandardCharsets.UTF_8));
+    }
+  }
+}
@@ -12,6 +12,8 @@ import static io.camunda.zeebe.protocol.impl.record.value.processinstance.Proces
 import static io.camunda.zeebe.util.buffer.BufferUtil.bufferAsString;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import io.camunda.zeebe.msgpack.property.DocumentProperty;
 import io.camunda.zeebe.msgpack.property.IntegerProperty;
 import io.camunda.zeebe.msgpack.property.LongProperty;
@@ -19,6 +21,7 @@ import io.camunda.zeebe.msgpack.property.PackedProperty;
 import io.camunda.zeebe.msgpack.property.StringProperty;
 import io.camunda.zeebe.msgpack.spec.MsgPackHelper;
 import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackJsonSerializer;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.protocol.record.value.JobRecordValue;
 import java.util.Map;
@@ -108,7 +111,9 @@ public final class JobRecord extends UnifiedRecordValue implements JobRecordValu
     return this;
   }
 
-  @JsonIgnore
+  // serialized from the buffer to avoid converting it to a map first
+  @JsonProperty(CUSTOM_HEADERS)
+  @JsonSerialize(using = MsgPackJsonSerializer.class)
   public DirectBuffer getCustomHeadersBuffer() {
     return customHeadersProp.getValue();
   }
@@ -129,6 +134,7 @@ public final class JobRecord extends UnifiedRecordValue implements JobRecordValu
   }
 
   @Override
+  @JsonIgnore
   public Map<String, String> getCustomHeaders() {
     return MsgPackConverter.convertToStringMap(customHeadersProp.getValue());
   }
@@ -290,6 +296,7 @@ public final class JobRecord extends UnifiedRecordValue implements JobRecordValu
   }
 
   @Override
+  @JsonIgnore
   public Map<String, Object> getVariables() {
     return MsgPackConverter.convertToMap(variableProp.getValue());
   }
@@ -299,7 +306,9 @@ public final class JobRecord extends UnifiedRecordValue implements JobRecordValu
     return this;
   }
 
-  @JsonIgnore
+  // serialized from the buffer to avoid converting it to a map first
+  @JsonProperty(VARIABLES)
+  @JsonSerialize(using = MsgPackJsonSerializer.class)
   public DirectBuffer getVariablesBuffer() {
     return variableProp.getValue();
   }
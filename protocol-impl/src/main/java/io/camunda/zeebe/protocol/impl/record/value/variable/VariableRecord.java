@@ -8,10 +8,13 @@
 package io.camunda.zeebe.protocol.impl.record.value.variable;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import io.camunda.zeebe.msgpack.property.BinaryProperty;
 import io.camunda.zeebe.msgpack.property.LongProperty;
 import io.camunda.zeebe.msgpack.property.StringProperty;
 import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackJsonSerializer;
 import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
 import io.camunda.zeebe.protocol.record.value.VariableRecordValue;
 import io.camunda.zeebe.util.buffer.BufferUtil;
@@ -41,6 +44,7 @@ public final class VariableRecord extends UnifiedRecordValue implements Variable
   }
 
   @Override
+  @JsonIgnore
   public String getValue() {
     return MsgPackConverter.convertToJson(valueProp.getValue());
   }
@@ -105,7 +109,9 @@ public final class VariableRecord extends UnifiedRecordValue implements Variable
     return nameProp.getValue();
   }
 
-  @JsonIgnore
+  // serialized from the buffer to avoid converting it to a string first
+  @JsonProperty("value")
+  @JsonSerialize(using = MsgPackJsonSerializer.AsString.class)
   public DirectBuffer getValueBuffer() {
     return valueProp.getValue();
   }
@@ -0,0 +1,64 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.protocol.impl.stream.job;
+
+import io.camunda.zeebe.msgpack.UnpackedObject;
+import io.camunda.zeebe.msgpack.property.ArrayProperty;
+import io.camunda.zeebe.msgpack.property.LongProperty;
+import io.camunda.zeebe.msgpack.property.StringProperty;
+import io.camunda.zeebe.msgpack.value.StringValue;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
+import java.util.Collection;
+import org.agrona.DirectBuffer;
+
+public class JobActivationPropertiesImpl extends UnpackedObject implements JobActivationProperties {
+
+  private final StringProperty workerProp = new StringProperty("worker", "");
+  private final LongProperty timeoutProp = new LongProperty("timeout", -1);
+  private final ArrayProperty<StringValue> fetchVariablesProp =
+      new ArrayProperty<>("fetchVariables", new StringValue());
+
+  public JobActivationPropertiesImpl() {
+    declareProperty(workerProp).declareProperty(timeoutProp).declareProperty(fetchVariablesProp);
+  }
+
+  public JobActivationPropertiesImpl setWorker(final DirectBuffer worker) {
+    workerProp.setValue(worker);
+    return this;
+  }
+
+  public JobActivationPropertiesImpl setTimeout(final long timeout) {
+    timeoutProp.setValue(timeout);
+    return this;
+  }
+
+  public JobActivationPropertiesImpl setFetchVariables(final Collection<DirectBuffer> variables) {
+    fetchVariablesProp.reset();
+    variables.forEach(variable -> fetchVariablesProp.add().wrap(variable));
+    return this;
+  }
+
+  @Override
+  public DirectBuffer worker() {
+    return workerProp.getValue();
+  }
+
+  @Override
+  public Collection<DirectBuffer> fetchVariables() {
+    final var variables = new ArrayList<DirectBuffer>();
+    fetchVariablesProp.forEach(
+        variable -> variables.add(BufferUtil.cloneBuffer(variable.getValue())));
+    return variables;
+  }
+
+  @Override
+  public long timeout() {
+    return timeoutProp.getValue();
+  }
+}
@@ -0,0 +1,160 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.protocol.impl.encoding;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import io.camunda.zeebe.msgpack.spec.MsgPackWriter;
+import io.camunda.zeebe.test.util.JsonUtil;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.agrona.DirectBuffer;
+import org.agrona.ExpandableArrayBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+final class MsgPackJsonWriterTest {
+
+  private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+  @ParameterizedTest
+  @MethodSource("jsonDocuments")
+  void shouldWriteEquivalentJson(final String json) throws IOException {
+    // given
+    final byte[] msgPack = MsgPackConverter.convertToMsgPack(json);
+
+    // when
+    final String written = writeJson(new UnsafeBuffer(msgPack));
+
+    // then
+    JsonUtil.assertEquality(written, MsgPackConverter.convertToJson(msgPack));
+  }
+
+  @ParameterizedTest
+  @MethodSource("jsonDocuments")
+  void shouldWriteEquivalentJsonToCharacterBasedGenerator(final String json) throws IOException {
+    // given
+    final byte[] msgPack = MsgPackConverter.convertToMsgPack(json);
+    final StringWriter writer = new StringWriter();
+
+    // when
+    try (final JsonGenerator generator = JSON_FACTORY.createGenerator(writer)) {
+      new MsgPackJsonWriter().write(new UnsafeBuffer(msgPack), generator);
+    }
+
+    // then
+    JsonUtil.assertEquality(writer.toString(), MsgPackConverter.convertToJson(msgPack));
+  }
+
+  @Test
+  void shouldWriteDocumentFromOffHeapBuffer() throws IOException {
+    // given
+    final byte[] msgPack = MsgPackConverter.convertToMsgPack("{'foo':'bär','baz':[1,2]}");
+    final UnsafeBuffer buffer = new UnsafeBuffer(ByteBuffer.allocateDirect(msgPack.length));
+    buffer.putBytes(0, msgPack);
+
+    // when
+    final String written = writeJson(buffer);
+
+    // then
+    assertThat(written).isEqualTo("{\"foo\":\"bär\",\"baz\":[1,2]}");
+  }
+
+  @Test
+  void shouldWriteDocumentAtOffset() throws IOException {
+    // given
+    final byte[] msgPack = MsgPackConverter.convertToMsgPack("{'foo':'bar'}");
+    final byte[] padded = new byte[msgPack.length + 10];
+    System.arraycopy(msgPack, 0, padded, 5, msgPack.length);
+
+    // when
+    final String written = writeJson(new UnsafeBuffer(padded, 5, msgPack.length));
+
+    // then
+    assertThat(written).isEqualTo("{\"foo\":\"bar\"}");
+  }
+
+  @Test
+  void shouldWriteFloat32() throws IOException {
+    // given
+    final DirectBuffer msgPack = writeMsgPack(writer -> writer.writeFloat(1.5));
+
+    // when
+    final String written = writeJson(msgPack);
+
+    // then
+    assertThat(written).isEqualTo(MsgPackConverter.convertToJson(msgPack));
+  }
+
+  @Test
+  void shouldWriteIntegerKeysAsFieldNames() throws IOException {
+    // given
+    final DirectBuffer msgPack =
+        writeMsgPack(writer -> writer.writeMapHeader(1).writeInteger(1).writeBoolean(true));
+
+    // when
+    final String written = writeJson(msgPack);
+
+    // then
+    assertThat(written).isEqualTo("{\"1\":true}");
+  }
+
+  @Test
+  void shouldWriteBinaryAsBase64() throws IOException {
+    // given
+    final byte[] bytes = "binary".getBytes(StandardCharsets.UTF_8);
+    final DirectBuffer msgPack =
+        writeMsgPack(writer -> writer.writeBinary(new UnsafeBuffer(bytes)));
+
+    // when
+    final String written = writeJson(msgPack);
+
+    // then
+    assertThat(written).isEqualTo(MsgPackConverter.convertToJson(msgPack));
+  }
+
+  private static Stream<String> jsonDocuments() {
+    return Stream.of(
+        "{}",
+        "[]",
+        "null",
+        "'string'",
+        "{'foo':'bar'}",
+        "{'a':1,'b':-1,'c':2147483648,'d':-9223372036854775808,'e':18446744073709551615}",
+        "{'a':0.1,'b':-1.7976931348623157E308,'c':1.0E-10}",
+        "{'a':true,'b':false,'c':null}",
+        "{'quote':'\"','backslash':'\\\\','newline':'\\n','control':'\\u0001'}",
+        "{'unicode':'Zeebe ⚙ 🐝','ümlaut':'äöü'}",
+        "{'nested':{'array':[1,'two',{'three':[3.0]},[],{}]}}");
+  }
+
+  private static String writeJson(final DirectBuffer msgPack) throws IOException {
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    try (final JsonGenerator generator = JSON_FACTORY.createGenerator(outputStream)) {
+      new MsgPackJsonWriter().write(msgPack, generator);
+    }
+
+    return outputStream.toString(StandardCharsets.UTF_8);
+  }
+
+  private static DirectBuffer writeMsgPack(final Consumer<MsgPackWriter> writes) {
+    final ExpandableArrayBuffer buffer = new ExpandableArrayBuffer();
+    final MsgPackWriter writer = new MsgPackWriter().wrap(buffer, 0);
+    writes.accept(writer);
+    return new UnsafeBuffer(buffer, 0, writer.getOffset());
+  }
+}
@@ -10,7 +10,10 @@ package io.camunda.zeebe.snapshots;
 public interface ReceivableSnapshotStore extends PersistedSnapshotStore {
 
   /**
-   * Starts a new received volatile snapshot which can be persisted later.
+   * Starts a new received volatile snapshot which can be persisted later. The received snapshot may
+   * advertise which chunks it can reuse from the latest persisted snapshot of this store (see
+   * {@link ReceivedSnapshot#getReusableChunks()}), in which case the sender only has to transfer
+   * the content of the missing chunks.
    *
    * @param snapshotId the snapshot id which is defined as {@code
    *     index-term-timestamp-processedposition-exportedposition}
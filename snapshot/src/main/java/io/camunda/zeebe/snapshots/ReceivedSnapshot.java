@@ -8,6 +8,7 @@
 package io.camunda.zeebe.snapshots;
 
 import io.camunda.zeebe.scheduler.future.ActorFuture;
+import java.util.Map;
 
 /**
  * A received volatile snapshot, which consist of several {@link SnapshotChunk}'s. It can be
@@ -30,4 +31,17 @@ public interface ReceivedSnapshot extends PersistableSnapshot {
    * @param chunk the {@link SnapshotChunk} which should be applied
    */
   ActorFuture<Void> apply(SnapshotChunk chunk);
+
+  /**
+   * Returns the chunks which this snapshot can reuse from the receiver's latest persisted snapshot,
+   * mapped from chunk name to checksum. The sender may pass them to {@link
+   * SnapshotChunkReader#setReusableChunks(Map)}, such that only the missing chunks are transferred
+   * with their content. Reused chunks are then taken over from the latest persisted snapshot
+   * without copying their content.
+   *
+   * @return the reusable chunks by name and checksum, or an empty map if none can be reused
+   */
+  default Map<String, Long> getReusableChunks() {
+    return Map.of();
+  }
 }
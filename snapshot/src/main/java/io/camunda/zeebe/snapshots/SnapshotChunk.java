@@ -39,4 +39,12 @@ public interface SnapshotChunk {
    * @return the checksum of the entire snapshot
    */
   long getSnapshotChecksum();
+
+  /**
+   * @return true if the content was omitted because the receiver already holds a file with the same
+   *     name and checksum, see {@link ReceivedSnapshot#getReusableChunks()}
+   */
+  default boolean isReused() {
+    return false;
+  }
 }
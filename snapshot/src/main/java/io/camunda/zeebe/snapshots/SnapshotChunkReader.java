@@ -10,6 +10,7 @@ package io.camunda.zeebe.snapshots;
 import io.camunda.zeebe.util.CloseableSilently;
 import java.nio.ByteBuffer;
 import java.util.Iterator;
+import java.util.Map;
 
 /**
  * Represents a snapshot chunk reader, which means it is used to chunk an {@link PersistedSnapshot}
@@ -32,4 +33,14 @@ public interface SnapshotChunkReader extends Iterator<SnapshotChunk>, CloseableS
    * @return the next chunk ID
    */
   ByteBuffer nextId();
+
+  /**
+   * Sets the chunks which are already available at the receiver, mapped from chunk name to
+   * checksum. Chunks with a matching name and checksum are returned as reused chunks without
+   * content (see {@link SnapshotChunk#isReused()}), all other chunks are returned as is. By default
+   * the given chunks are ignored and all chunks are returned with their content.
+   *
+   * @param reusableChunks the chunks the receiver already holds, by name and checksum
+   */
+  default void setReusableChunks(final Map<String, Long> reusableChunks) {}
 }
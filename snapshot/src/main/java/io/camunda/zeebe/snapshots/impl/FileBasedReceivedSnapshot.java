@@ -22,7 +22,9 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
 import java.util.Arrays;
+import java.util.Map;
 import java.util.Objects;
+import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -30,12 +32,18 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(FileBasedReceivedSnapshot.class);
   private static final int BLOCK_SIZE = 512 * 1024;
+  // only SST files are immutable in a RocksDB checkpoint, every other file may differ between two
+  // snapshots even if it has the same name
+  private static final String REUSABLE_CHUNK_SUFFIX = ".sst";
 
   private final Path directory;
   private final ActorControl actor;
   private final FileBasedSnapshotStore snapshotStore;
 
   private final FileBasedSnapshotId snapshotId;
+  // the latest persisted snapshot at the time this snapshot was started; may be null
+  private final FileBasedSnapshot baseSnapshot;
+  private final Map<String, Long> reusableChunks;
   private long expectedSnapshotChecksum;
   private int expectedTotalCount;
   private FileBasedSnapshotMetadata metadata;
@@ -44,11 +52,14 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
       final FileBasedSnapshotId snapshotId,
       final Path directory,
       final FileBasedSnapshotStore snapshotStore,
+      final FileBasedSnapshot baseSnapshot,
       final ActorControl actor) {
     this.snapshotId = snapshotId;
     this.snapshotStore = snapshotStore;
     this.directory = directory;
+    this.baseSnapshot = baseSnapshot;
     this.actor = actor;
+    reusableChunks = collectReusableChunks(baseSnapshot);
     expectedSnapshotChecksum = Long.MIN_VALUE;
     expectedTotalCount = Integer.MIN_VALUE;
   }
@@ -58,6 +69,11 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     return snapshotId.getIndex();
   }
 
+  @Override
+  public Map<String, Long> getReusableChunks() {
+    return reusableChunks;
+  }
+
   @Override
   public ActorFuture<Void> apply(final SnapshotChunk snapshotChunk) {
     return actor.call(
@@ -95,7 +111,9 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
       return;
     }
 
-    checkChunkChecksumIsValid(snapshotChunk, snapshotId, chunkName);
+    if (!snapshotChunk.isReused()) {
+      checkChunkChecksumIsValid(snapshotChunk, snapshotId, chunkName);
+    }
 
     final var tmpSnapshotDirectory = directory;
     try {
@@ -112,6 +130,12 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
               "Received a snapshot snapshotChunk which already exist '%s'.", snapshotFile));
     }
 
+    if (snapshotChunk.isReused()) {
+      LOGGER.trace("Reuse snapshot snapshotChunk {} for snapshot {}", chunkName, snapshotId);
+      linkReusedSnapshotChunk(snapshotChunk, snapshotFile);
+      return;
+    }
+
     LOGGER.trace("Consume snapshot snapshotChunk {} of snapshot {}", chunkName, snapshotId);
     writeReceivedSnapshotChunk(snapshotChunk, snapshotFile);
 
@@ -124,6 +148,46 @@ public class FileBasedReceivedSnapshot implements ReceivedSnapshot {
     }
   }
 
+  private static Map<String, Long> collectReusableChunks(final FileBasedSnapshot baseSnapshot) {
+    if (baseSnapshot == null) {
+      return Map.of();
+    }
+
+    try {
+      final var checksum = SnapshotChecksum.read(baseSnapshot.getChecksumPath());
+      return checksum.getChecksums().entrySet().stream()
+          .filter(entry -> entry.getKey().endsWith(REUSABLE_CHUNK_SUFFIX))
+          .collect(Collectors.toUnmodifiableMap(Map.Entry::getKey, Map.Entry::getValue));
+    } catch (final IOException e) {
+      LOGGER.warn(
+          "Failed to read checksums of snapshot {}, no chunks will be reused", baseSnapshot, e);
+      return Map.of();
+    }
+  }
+
+  private void linkReusedSnapshotChunk(final SnapshotChunk snapshotChunk, final Path snapshotFile)
+      throws SnapshotWriteException {
+    final var chunkName = snapshotChunk.getChunkName();
+    final var reusableChecksum = reusableChunks.get(chunkName);
+    if (reusableChecksum == null || reusableChecksum != snapshotChunk.getChecksum()) {
+      throw new SnapshotWriteException(
+          String.format(
+              "Expected to reuse snapshot chunk %s with checksum %d, but no such chunk is available in %s",
+              chunkName, snapshotChunk.getChecksum(), baseSnapshot));
+    }
+
+    final var sourceFile = baseSnapshot.getDirectory().resolve(chunkName);
+    try {
+      // SST files are immutable, so the new snapshot can safely share them with the base snapshot
+      Files.createLink(snapshotFile, sourceFile);
+    } catch (final IOException e) {
+      throw new SnapshotWriteException(
+          String.format("Failed to reuse snapshot chunk %s from %s", chunkName, sourceFile), e);
+    }
+
+    LOGGER.trace("Linked reused snapshot chunk {} to file {}", sourceFile, snapshotFile);
+  }
+
   private void collectMetadata(final byte[] content) throws IOException {
     metadata = FileBasedSnapshotMetadata.decode(content);
   }
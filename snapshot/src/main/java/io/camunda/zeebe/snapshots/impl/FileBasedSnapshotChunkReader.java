@@ -17,6 +17,7 @@ import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.NavigableSet;
 import java.util.NoSuchElementException;
 import java.util.TreeSet;
@@ -40,6 +41,7 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
   private final int totalCount;
   private final long snapshotChecksum;
   private final String snapshotID;
+  private Map<String, Long> reusableChunks = Map.of();
 
   FileBasedSnapshotChunkReader(final Path directory, final long checksum) throws IOException {
     this.directory = directory;
@@ -80,6 +82,11 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
     return encodeChunkId(chunksView.first());
   }
 
+  @Override
+  public void setReusableChunks(final Map<String, Long> reusableChunks) {
+    this.reusableChunks = Map.copyOf(reusableChunks);
+  }
+
   @Override
   public void close() {
     chunks.clear();
@@ -101,6 +108,16 @@ public final class FileBasedSnapshotChunkReader implements SnapshotChunkReader {
     final var path = directory.resolve(chunkName.toString());
 
     try {
+      final var reusableChecksum = reusableChunks.get(chunkName.toString());
+      if (reusableChecksum != null) {
+        // only skip the content if the receiver's copy is identical to ours
+        final var checksum = SnapshotChunkUtil.createChecksum(path);
+        if (checksum == reusableChecksum) {
+          return SnapshotChunkUtil.createReusedSnapshotChunk(
+              path, snapshotID, totalCount, checksum, snapshotChecksum);
+        }
+      }
+
       return SnapshotChunkUtil.createSnapshotChunkFromFile(
           path, snapshotID, totalCount, snapshotChecksum);
     } catch (final IOException e) {
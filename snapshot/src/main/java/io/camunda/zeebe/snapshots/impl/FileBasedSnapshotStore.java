@@ -383,7 +383,8 @@ public final class FileBasedSnapshotStore extends Actor
             RECEIVING_DIR_FORMAT, parsedSnapshotId.getSnapshotIdAsString(), nextStartCount);
     final var pendingSnapshotDir = pendingDirectory.resolve(pendingDirectoryName);
     final var newPendingSnapshot =
-        new FileBasedReceivedSnapshot(parsedSnapshotId, pendingSnapshotDir, this, actor);
+        new FileBasedReceivedSnapshot(
+            parsedSnapshotId, pendingSnapshotDir, this, currentPersistedSnapshotRef.get(), actor);
     addPendingSnapshot(newPendingSnapshot);
     return newPendingSnapshot;
   }
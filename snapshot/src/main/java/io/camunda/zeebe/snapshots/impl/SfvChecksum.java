@@ -63,6 +63,10 @@ final class SfvChecksum {
     return combinedChecksum.getValue();
   }
 
+  SortedMap<String, Long> getChecksums() {
+    return checksums;
+  }
+
   public void setSnapshotDirectoryComment(final String headerComment) {
     snapshotDirectoryComment = headerComment;
   }
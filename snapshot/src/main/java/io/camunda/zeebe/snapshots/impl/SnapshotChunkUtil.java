@@ -9,10 +9,14 @@ package io.camunda.zeebe.snapshots.impl;
 
 import io.camunda.zeebe.snapshots.SnapshotChunk;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.zip.CRC32C;
 import java.util.zip.Checksum;
+import org.agrona.IoUtil;
 
 final class SnapshotChunkUtil {
 
@@ -24,6 +28,19 @@ final class SnapshotChunkUtil {
     return checksum.getValue();
   }
 
+  static long createChecksum(final Path file) throws IOException {
+    final Checksum checksum = newChecksum();
+    final ByteBuffer readBuffer = ByteBuffer.allocate(IoUtil.BLOCK_SIZE);
+    try (final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      while (channel.read(readBuffer) > 0) {
+        readBuffer.flip();
+        checksum.update(readBuffer);
+        readBuffer.clear();
+      }
+    }
+    return checksum.getValue();
+  }
+
   static Checksum newChecksum() {
     return new CRC32C();
   }
@@ -42,7 +59,24 @@ final class SnapshotChunkUtil {
         chunkFile.getFileName().toString(),
         checksum,
         content,
-        snapshotChecksum);
+        snapshotChecksum,
+        false);
+  }
+
+  static SnapshotChunk createReusedSnapshotChunk(
+      final Path chunkFile,
+      final String snapshotId,
+      final int totalCount,
+      final long checksum,
+      final long snapshotChecksum) {
+    return new SnapshotChunkImpl(
+        snapshotId,
+        totalCount,
+        chunkFile.getFileName().toString(),
+        checksum,
+        new byte[0],
+        snapshotChecksum,
+        true);
   }
 
   private static final class SnapshotChunkImpl implements SnapshotChunk {
@@ -52,6 +86,7 @@ final class SnapshotChunkUtil {
     private final byte[] content;
     private final long snapshotChecksum;
     private final long checksum;
+    private final boolean reused;
 
     SnapshotChunkImpl(
         final String snapshotId,
@@ -59,13 +94,15 @@ final class SnapshotChunkUtil {
         final String chunkName,
         final long checksum,
         final byte[] content,
-        final long snapshotChecksum) {
+        final long snapshotChecksum,
+        final boolean reused) {
       this.snapshotId = snapshotId;
       this.totalCount = totalCount;
       this.chunkName = chunkName;
       this.checksum = checksum;
       this.content = content;
       this.snapshotChecksum = snapshotChecksum;
+      this.reused = reused;
     }
 
     @Override
@@ -97,5 +134,10 @@ final class SnapshotChunkUtil {
     public long getSnapshotChecksum() {
       return snapshotChecksum;
     }
+
+    @Override
+    public boolean isReused() {
+      return reused;
+    }
   }
 }
@@ -343,6 +343,81 @@ public class FileBasedReceivedSnapshotTest {
                 name.getFileName().toString().equals(FileBasedSnapshotStore.METADATA_FILE_NAME));
   }
 
+  @Test
+  public void shouldAdvertiseSstFilesOfLatestSnapshotAsReusable() {
+    // given
+    receiveSnapshot(takePersistedSnapshot(1L, Map.of("000001.sst", "sst contents")))
+        .persist()
+        .join();
+
+    // when
+    final var receivedSnapshot = receiverSnapshotStore.newReceivedSnapshot("2-0-123-121");
+
+    // then
+    assertThat(receivedSnapshot.getReusableChunks())
+        .containsOnlyKeys("000001.sst")
+        .containsEntry(
+            "000001.sst",
+            SnapshotChunkUtil.createChecksum("sst contents".getBytes(StandardCharsets.UTF_8)));
+  }
+
+  @Test
+  public void shouldNotAdvertiseReusableChunksWithoutLatestSnapshot() {
+    // when
+    final var receivedSnapshot = receiverSnapshotStore.newReceivedSnapshot("1-0-123-121");
+
+    // then
+    assertThat(receivedSnapshot.getReusableChunks()).isEmpty();
+  }
+
+  @Test
+  public void shouldReuseChunksOfLatestSnapshot() throws IOException {
+    // given
+    final var sstFiles = Map.of("000001.sst", "sst contents");
+    receiveSnapshot(takePersistedSnapshot(1L, sstFiles)).persist().join();
+    final var snapshotToSend = takePersistedSnapshot(2L, sstFiles);
+    final var receivedSnapshot = receiverSnapshotStore.newReceivedSnapshot(snapshotToSend.getId());
+
+    // when
+    try (final var snapshotChunkReader = snapshotToSend.newChunkReader()) {
+      snapshotChunkReader.setReusableChunks(receivedSnapshot.getReusableChunks());
+      while (snapshotChunkReader.hasNext()) {
+        final var chunk = snapshotChunkReader.next();
+        assertThat(chunk.isReused())
+            .as("only the chunk '%s' known by the receiver is reused", chunk.getChunkName())
+            .isEqualTo(chunk.getChunkName().equals("000001.sst"));
+        receivedSnapshot.apply(chunk).join();
+      }
+    }
+    final var persistedSnapshot = receivedSnapshot.persist().join();
+
+    // then
+    assertThat(persistedSnapshot.getChecksum()).isEqualTo(snapshotToSend.getChecksum());
+    assertThat(persistedSnapshot.getPath().resolve("000001.sst")).hasContent("sst contents");
+  }
+
+  @Test
+  public void shouldNotWriteReusedChunkWhichIsNotAvailable() {
+    // given
+    final var snapshotToSend = takePersistedSnapshot(1L, Map.of("000001.sst", "sst contents"));
+    final var receivedSnapshot = receiverSnapshotStore.newReceivedSnapshot(snapshotToSend.getId());
+
+    // when
+    final SnapshotChunk reusedChunk;
+    try (final var snapshotChunkReader = snapshotToSend.newChunkReader()) {
+      snapshotChunkReader.setReusableChunks(
+          Map.of(
+              "000001.sst",
+              SnapshotChunkUtil.createChecksum("sst contents".getBytes(StandardCharsets.UTF_8))));
+      reusedChunk = snapshotChunkReader.next();
+    }
+
+    // then
+    assertThat(reusedChunk.isReused()).isTrue();
+    assertThatThrownBy(() -> receivedSnapshot.apply(reusedChunk).join())
+        .hasRootCauseInstanceOf(SnapshotWriteException.class);
+  }
+
   private ReceivedSnapshot receiveSnapshot(final PersistedSnapshot persistedSnapshot) {
     final var receivedSnapshot =
         receiverSnapshotStore.newReceivedSnapshot(persistedSnapshot.getId());
@@ -357,16 +432,27 @@ public class FileBasedReceivedSnapshotTest {
   }
 
   private PersistedSnapshot takePersistedSnapshot(final long index) {
+    return takePersistedSnapshot(index, Map.of());
+  }
+
+  private PersistedSnapshot takePersistedSnapshot(
+      final long index, final Map<String, String> additionalFiles) {
     final var transientSnapshot = senderSnapshotStore.newTransientSnapshot(index, 0L, 1, 0).get();
-    transientSnapshot.take(this::writeSnapshot).join();
+    transientSnapshot
+        .take(
+            path -> {
+              writeSnapshot(path, SNAPSHOT_FILE_CONTENTS);
+              writeSnapshot(path, additionalFiles);
+            })
+        .join();
     return transientSnapshot.withLastFollowupEventPosition(100L).persist().join();
   }
 
-  private boolean writeSnapshot(final Path path) {
+  private boolean writeSnapshot(final Path path, final Map<String, String> fileContents) {
     try {
       FileUtil.ensureDirectoryExists(path);
 
-      for (final var entry : SNAPSHOT_FILE_CONTENTS.entrySet()) {
+      for (final var entry : fileContents.entrySet()) {
         final var fileName = path.resolve(entry.getKey());
         final var fileContent = entry.getValue().getBytes(StandardCharsets.UTF_8);
         Files.write(fileName, fileContent, CREATE_NEW, StandardOpenOption.WRITE);
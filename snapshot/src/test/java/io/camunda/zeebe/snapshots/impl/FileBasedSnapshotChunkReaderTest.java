@@ -9,6 +9,7 @@ package io.camunda.zeebe.snapshots.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 
 import io.camunda.zeebe.protocol.Protocol;
 import io.camunda.zeebe.snapshots.SnapshotChunk;
@@ -133,6 +134,35 @@ public final class FileBasedSnapshotChunkReaderTest {
     assertThat(snapshotChunkIds).containsExactly("file2", "file3");
   }
 
+  @Test
+  public void shouldNotReadContentOfReusableChunks() throws IOException {
+    // given
+    final var reusableChecksum =
+        SnapshotChunkUtil.createChecksum("is".getBytes(StandardCharsets.UTF_8));
+    final var snapshotChunks = new ArrayList<SnapshotChunk>();
+
+    // when
+    try (final var snapshotChunkReader = newReader()) {
+      snapshotChunkReader.setReusableChunks(Map.of("file2", reusableChecksum, "file3", 0xCAFEL));
+      while (snapshotChunkReader.hasNext()) {
+        snapshotChunks.add(snapshotChunkReader.next());
+      }
+    }
+
+    // then
+    assertThat(snapshotChunks)
+        .extracting(
+            SnapshotChunk::getChunkName, SnapshotChunk::isReused, c -> c.getContent().length)
+        .containsExactly(
+            tuple("file1", false, "this".length()),
+            tuple("file2", true, 0),
+            tuple("file3", false, "content".length()));
+    assertThat(snapshotChunks.get(1).getChecksum()).isEqualTo(reusableChecksum);
+    assertThat(snapshotChunks)
+        .extracting(SnapshotChunk::getTotalCount)
+        .containsOnly(SNAPSHOT_CHUNK.size());
+  }
+
   @Test
   public void shouldThrowExceptionOnReachingLimit() throws IOException {
     // given
@@ -105,4 +105,35 @@ public interface RecordProcessor {
       Throwable processingException,
       TypedRecord record,
       ProcessingResultBuilder processingResultBuilder);
+
+  /**
+   * Called by platform after the transaction of a processed record was committed.
+   *
+   * <p><em>Contract</em>
+   *
+   * <ul>
+   *   <li>Will be called after the database transaction was committed, and before the side effects
+   *       of the record are executed
+   *   <li>Implementors can drop anything they kept to undo their in-memory state on {@link
+   *       #onRollback()}
+   *   <li>Implementors must not write to the database or the log stream
+   * </ul>
+   */
+  default void onCommit() {}
+
+  /**
+   * Called by platform after the transaction of a processed record was rolled back.
+   *
+   * <p><em>Contract</em>
+   *
+   * <ul>
+   *   <li>Will be called after the database transaction was rolled back, and before the record is
+   *       processed again or {@link #onProcessingError(Throwable, TypedRecord,
+   *       ProcessingResultBuilder)} is called
+   *   <li>Implementors must discard any in-memory state which they changed alongside the rolled
+   *       back transaction
+   *   <li>Implementors must not write to the database or the log stream
+   * </ul>
+   */
+  default void onRollback() {}
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+/**
+ * A {@link CommandBatchLimit} which adapts to the observed latency of the batches, such that the
+ * 99th percentile of the latency stays below the given target.
+ *
+ * <p>The limit starts at the given initial limit. The latencies of the last {@value #WINDOW_SIZE}
+ * batches are tracked. If more than one percent of them exceeded the target, or the log stream
+ * applied backpressure, the limit is halved. Otherwise, the limit is increased by one whenever a
+ * batch was cut off by the limit, up to the given maximum, which may be above the initial limit. At
+ * low load batches rarely reach the limit, so it only grows when batching more commands would
+ * actually help to amortize commits and appends.
+ *
+ * <p>This class is not thread safe; it is only used from the stream processor actor.
+ */
+final class AdaptiveCommandBatchLimit implements CommandBatchLimit {
+
+  static final int WINDOW_SIZE = 100;
+  private static final int MAX_SLOW_BATCHES_IN_WINDOW = WINDOW_SIZE / 100;
+
+  private final int maxLimit;
+  private final long latencyTargetNanos;
+  private final boolean[] slowBatches = new boolean[WINDOW_SIZE];
+  private int nextSlot;
+  private int slowBatchCount;
+  private int limit;
+
+  AdaptiveCommandBatchLimit(
+      final int initialLimit, final int maxLimit, final Duration latencyTarget) {
+    if (initialLimit < 1) {
+      throw new IllegalArgumentException(
+          "Expected initial limit to be at least 1, but was %d".formatted(initialLimit));
+    }
+    if (maxLimit < initialLimit) {
+      throw new IllegalArgumentException(
+          "Expected max limit to be at least the initial limit %d, but was %d"
+              .formatted(initialLimit, maxLimit));
+    }
+    if (latencyTarget.isNegative() || latencyTarget.isZero()) {
+      throw new IllegalArgumentException(
+          "Expected latency target to be positive, but was %s".formatted(latencyTarget));
+    }
+
+    this.maxLimit = maxLimit;
+    latencyTargetNanos = latencyTarget.toNanos();
+    limit = initialLimit;
+  }
+
+  @Override
+  public int get() {
+    return limit;
+  }
+
+  @Override
+  public void onBatchCompleted(final boolean limitReached, final Duration latency) {
+    final boolean slow = latency.toNanos() > latencyTargetNanos;
+    if (slowBatches[nextSlot]) {
+      slowBatchCount--;
+    }
+    slowBatches[nextSlot] = slow;
+    if (slow) {
+      slowBatchCount++;
+    }
+    nextSlot = (nextSlot + 1) % WINDOW_SIZE;
+
+    if (slowBatchCount > MAX_SLOW_BATCHES_IN_WINDOW) {
+      decrease();
+    } else if (limitReached && !slow && limit < maxLimit) {
+      limit++;
+    }
+  }
+
+  @Override
+  public void onBackpressure() {
+    decrease();
+  }
+
+  private void decrease() {
+    limit = Math.max(1, limit / 2);
+
+    // the slow batches were caused by the previous limit, so they must not cause a further decrease
+    Arrays.fill(slowBatches, false);
+    slowBatchCount = 0;
+  }
+
+  @Override
+  public String toString() {
+    return "AdaptiveCommandBatchLimit{"
+        + "maxLimit="
+        + maxLimit
+        + ", latencyTargetNanos="
+        + latencyTargetNanos
+        + ", limit="
+        + limit
+        + '}';
+  }
+}
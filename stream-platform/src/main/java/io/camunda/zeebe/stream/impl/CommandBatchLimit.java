@@ -0,0 +1,57 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import java.time.Duration;
+
+/**
+ * Limits the number of commands which are processed in one batch by the {@link
+ * ProcessingStateMachine}. The limit may change over time, based on how previous batches performed.
+ */
+interface CommandBatchLimit {
+
+  /**
+   * @return the maximum number of commands to process in the next batch, at least 1
+   */
+  int get();
+
+  /**
+   * Called after a batch was committed.
+   *
+   * @param limitReached true if the batch was cut off by the limit, i.e. more follow-up commands
+   *     could have been processed in the same batch
+   * @param latency the time spent processing the batch and committing its state changes
+   */
+  void onBatchCompleted(boolean limitReached, Duration latency);
+
+  /** Called if a batch could not be appended right away, or was too large to be appended at all. */
+  void onBackpressure();
+
+  static CommandBatchLimit fixed(final int limit) {
+    return new FixedCommandBatchLimit(limit);
+  }
+
+  static CommandBatchLimit adaptive(
+      final int initialLimit, final int maxLimit, final Duration latencyTarget) {
+    return new AdaptiveCommandBatchLimit(initialLimit, maxLimit, latencyTarget);
+  }
+
+  record FixedCommandBatchLimit(int limit) implements CommandBatchLimit {
+
+    @Override
+    public int get() {
+      return limit;
+    }
+
+    @Override
+    public void onBatchCompleted(final boolean limitReached, final Duration latency) {}
+
+    @Override
+    public void onBackpressure() {}
+  }
+}
@@ -154,8 +154,12 @@ public final class ProcessingStateMachine {
   private RecordProcessor currentProcessor;
   private final LogStreamWriter logStreamWriter;
   private boolean inProcessing;
-  private final int maxCommandsInBatch;
+  private final CommandBatchLimit commandBatchLimit;
   private int processedCommandsCount;
+  private boolean commandBatchLimitReached;
+  private boolean appendBackpressured;
+  private long batchProcessingNanos;
+  private long batchCommitNanos;
   private final ProcessingMetrics processingMetrics;
 
   public ProcessingStateMachine(
@@ -171,7 +175,14 @@ public final class ProcessingStateMachine {
     transactionContext = context.getTransactionContext();
     abortCondition = context.getAbortCondition();
     lastProcessedPositionState = context.getLastProcessedPositionState();
-    maxCommandsInBatch = context.getMaxCommandsInBatch();
+    final var commandBatchLatencyTarget = context.getCommandBatchLatencyTarget();
+    commandBatchLimit =
+        commandBatchLatencyTarget == null
+            ? CommandBatchLimit.fixed(context.getMaxCommandsInBatch())
+            : CommandBatchLimit.adaptive(
+                context.getMaxCommandsInBatch(),
+                context.getMaxCommandsInAdaptiveBatch(),
+                commandBatchLatencyTarget);
 
     writeRetryStrategy = new AbortableRetryStrategy(actor);
     sideEffectsRetryStrategy = new AbortableRetryStrategy(actor);
@@ -185,6 +196,7 @@ public final class ProcessingStateMachine {
     streamProcessorListener = context.getStreamProcessorListener();
 
     processingMetrics = new ProcessingMetrics(Integer.toString(partitionId));
+    processingMetrics.setCommandBatchLimit(commandBatchLimit.get());
   }
 
   private void skipRecord() {
@@ -248,6 +260,7 @@ public final class ProcessingStateMachine {
     inProcessing = true;
 
     currentProcessingResult = EmptyProcessingResult.INSTANCE;
+    appendBackpressured = false;
 
     metadata.reset();
     loggedEvent.readMetadata(metadata);
@@ -265,7 +278,9 @@ public final class ProcessingStateMachine {
 
       zeebeDbTransaction = transactionContext.getCurrentTransaction();
       try (final var timer = processingMetrics.startBatchProcessingDurationTimer()) {
+        final long batchProcessingStart = System.nanoTime();
         zeebeDbTransaction.run(() -> batchProcessing(typedCommand));
+        batchProcessingNanos = System.nanoTime() - batchProcessingStart;
         processingMetrics.observeCommandCount(processedCommandsCount);
       }
 
@@ -292,9 +307,11 @@ public final class ProcessingStateMachine {
         LOG.warn(
             WARN_MESSAGE_BATCH_PROCESSING_RETRY,
             processedCommandsCount,
-            maxCommandsInBatch,
+            commandBatchLimit.get(),
             exceededBatchRecordSizeException);
         processingMetrics.countRetry();
+        commandBatchLimit.onBackpressure();
+        processingMetrics.setCommandBatchLimit(commandBatchLimit.get());
         onError(() -> processCommand(loggedEvent));
       } else {
         onError(
@@ -327,8 +344,9 @@ public final class ProcessingStateMachine {
     // We know that we can process until the last processed commands count, which is why we set it
     // as our processing batch limit, in order to handle the commands afterwards as own batch.
     final var currentProcessingBatchLimit =
-        processedCommandsCount > 0 ? processedCommandsCount : maxCommandsInBatch;
+        processedCommandsCount > 0 ? processedCommandsCount : commandBatchLimit.get();
     processedCommandsCount = 0;
+    commandBatchLimitReached = false;
     pendingWrites = new ArrayList<>();
     pendingResponses = Collections.newSetFromMap(new IdentityHashMap<>(2));
     final var pendingCommands = new ArrayDeque<TypedRecord<?>>();
@@ -401,6 +419,9 @@ public final class ProcessingStateMachine {
                         entry.recordValue(),
                         entry.recordMetadata()));
                 toWriteEntry = LogAppendEntry.ofProcessed(entry);
+              } else if (entry.recordMetadata().getRecordType() == RecordType.COMMAND) {
+                // the command is processed in a later batch
+                commandBatchLimitReached = true;
               }
               toWriteEntries.add(toWriteEntry);
             });
@@ -417,6 +438,7 @@ public final class ProcessingStateMachine {
         updateStateRetryStrategy.runWithRetry(
             () -> {
               zeebeDbTransaction.rollback();
+              recordProcessors.forEach(RecordProcessor::onRollback);
               return true;
             },
             abortCondition);
@@ -467,6 +489,7 @@ public final class ProcessingStateMachine {
                 writtenPosition = writeResult.get();
                 return true;
               } else {
+                appendBackpressured = true;
                 return false;
               }
             },
@@ -497,7 +520,10 @@ public final class ProcessingStateMachine {
     final ActorFuture<Boolean> retryFuture =
         updateStateRetryStrategy.runWithRetry(
             () -> {
+              final long commitStart = System.nanoTime();
               zeebeDbTransaction.commit();
+              batchCommitNanos = System.nanoTime() - commitStart;
+              recordProcessors.forEach(RecordProcessor::onCommit);
               lastSuccessfulProcessedRecordPosition = currentRecord.getPosition();
               metrics.setLastProcessedPosition(lastSuccessfulProcessedRecordPosition);
               lastWrittenPosition = writtenPosition;
@@ -516,11 +542,22 @@ public final class ProcessingStateMachine {
                   updateState();
                 });
           } else {
+            updateCommandBatchLimit();
             executeSideEffects();
           }
         });
   }
 
+  private void updateCommandBatchLimit() {
+    if (appendBackpressured) {
+      commandBatchLimit.onBackpressure();
+    } else {
+      commandBatchLimit.onBatchCompleted(
+          commandBatchLimitReached, Duration.ofNanos(batchProcessingNanos + batchCommitNanos));
+    }
+    processingMetrics.setCommandBatchLimit(commandBatchLimit.get());
+  }
+
   private void executeSideEffects() {
     final ActorFuture<Boolean> retryFuture =
         sideEffectsRetryStrategy.runWithRetry(
@@ -87,6 +87,13 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
   private final ReplayMetrics replayMetrics;
   private final List<RecordProcessor> recordProcessors;
   private final int partitionId;
+  private final int maxBatchesInTransaction;
+
+  // the state at the start of the current transaction, to replay all of its batches again on retry
+  private int batchesInTransaction;
+  private long transactionStartReadPosition = StreamProcessor.UNSET_POSITION;
+  private long transactionStartReplayedPosition = StreamProcessor.UNSET_POSITION;
+  private long transactionStartSourcePosition = StreamProcessor.UNSET_POSITION;
 
   public ReplayStateMachine(
       final List<RecordProcessor> recordProcessors,
@@ -108,6 +115,7 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     logStream = context.getLogStream();
     logStreamBatchReader = new LogStreamBatchReaderImpl(context.getLogStreamReader());
     replayMetrics = new ReplayMetrics(logStream.getPartitionId());
+    maxBatchesInTransaction = context.getMaxBatchesInReplayTransaction();
   }
 
   /**
@@ -160,9 +168,10 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
         currentState = State.REPLAY_EVENT;
 
         final var replayDurationTimer = replayMetrics.startReplayDurationTimer();
+        startTransaction();
         final var batch = logStreamBatchReader.next();
         replayStrategy
-            .runWithRetry(() -> tryToReplayBatch(batch), abortCondition)
+            .runWithRetry(() -> tryToReplayBatches(batch), abortCondition)
             .onComplete(
                 (success, failure) -> {
                   if (failure != null) {
@@ -170,7 +179,8 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
                   } else {
                     // observe the replay duration
                     replayDurationTimer.close();
-                    // the position should be visible only after the batch is replayed successfully
+                    // the position should be visible only after the batches are replayed
+                    // successfully
                     lastSourceEventPosition =
                         Math.max(lastSourceEventPosition, batchSourceEventPosition);
                     replayMetrics.setLastSourcePosition(lastSourceEventPosition);
@@ -194,19 +204,34 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     }
   }
 
-  private boolean tryToReplayBatch(final Batch batch) throws Exception {
+  /**
+   * Replays the given batch, and up to {@link #maxBatchesInTransaction} - 1 following batches, in a
+   * single transaction. The events of a batch only stay valid until the next batch is read, so on
+   * retry the reader is moved back to the start of the transaction if it already read further.
+   */
+  private boolean tryToReplayBatches(final Batch firstBatch) throws Exception {
     final boolean onRetry = zeebeDbTransaction != null;
+    final Batch batch;
     if (onRetry) {
       zeebeDbTransaction.rollback();
-      // reading the whole batch from the beginning again
-      batch.head();
+      batch = rewindTransaction(firstBatch);
+    } else {
+      batch = firstBatch;
     }
 
     zeebeDbTransaction = transactionContext.getCurrentTransaction();
     zeebeDbTransaction.run(
         () -> {
+          batchesInTransaction = 1;
           batch.forEachRemaining(this::replayEvent);
 
+          while (batchesInTransaction < maxBatchesInTransaction
+              && logStreamBatchReader.hasNext()
+              && !shouldPause.getAsBoolean()) {
+            batchesInTransaction++;
+            logStreamBatchReader.next().forEachRemaining(this::replayEvent);
+          }
+
           if (batchSourceEventPosition > snapshotPosition) {
             lastProcessedPositionState.markAsProcessed(batchSourceEventPosition);
           }
@@ -218,6 +243,34 @@ public final class ReplayStateMachine implements LogRecordAwaiter {
     return true;
   }
 
+  private void startTransaction() {
+    batchesInTransaction = 0;
+    transactionStartReadPosition = lastReadRecordPosition;
+    transactionStartReplayedPosition = lastReplayedEventPosition;
+    transactionStartSourcePosition = batchSourceEventPosition;
+  }
+
+  private Batch rewindTransaction(final Batch firstBatch) {
+    lastReadRecordPosition = transactionStartReadPosition;
+    lastReplayedEventPosition = transactionStartReplayedPosition;
+    batchSourceEventPosition = transactionStartSourcePosition;
+
+    if (batchesInTransaction <= 1) {
+      // reading the whole batch from the beginning again
+      firstBatch.head();
+      return firstBatch;
+    }
+
+    // the first batch was overwritten by the following ones, read all batches again; this is the
+    // same seek as on start of the recovery if no record was replayed before
+    final var seekPosition =
+        transactionStartReadPosition != StreamProcessor.UNSET_POSITION
+            ? transactionStartReadPosition
+            : snapshotPosition;
+    logStreamBatchReader.seekToNextBatch(seekPosition);
+    return logStreamBatchReader.next();
+  }
+
   private void replayEvent(final LoggedEvent currentEvent) {
     if (eventFilter.applies(currentEvent)
         && currentEvent.getSourceEventPosition() > snapshotPosition) {
@@ -14,6 +14,7 @@ import io.camunda.zeebe.stream.api.CommandResponseWriter;
 import io.camunda.zeebe.stream.api.InterPartitionCommandSender;
 import io.camunda.zeebe.stream.api.RecordProcessor;
 import io.camunda.zeebe.stream.api.StreamProcessorLifecycleAware;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -129,10 +130,45 @@ public final class StreamProcessorBuilder {
           "Batch processing limit must be >= 1 but was %s"
               .formatted(streamProcessorContext.getMaxCommandsInBatch()));
     }
+    if (streamProcessorContext.getMaxBatchesInReplayTransaction() < 1) {
+      throw new IllegalArgumentException(
+          "Replay transaction limit must be >= 1 but was %s"
+              .formatted(streamProcessorContext.getMaxBatchesInReplayTransaction()));
+    }
+    final var latencyTarget = streamProcessorContext.getCommandBatchLatencyTarget();
+    if (latencyTarget != null && (latencyTarget.isNegative() || latencyTarget.isZero())) {
+      throw new IllegalArgumentException(
+          "Batch processing latency target must be positive but was %s".formatted(latencyTarget));
+    }
+    if (latencyTarget != null
+        && streamProcessorContext.getMaxCommandsInAdaptiveBatch()
+            < streamProcessorContext.getMaxCommandsInBatch()) {
+      throw new IllegalArgumentException(
+          "Adaptive batch processing limit must be >= %s but was %s"
+              .formatted(
+                  streamProcessorContext.getMaxCommandsInBatch(),
+                  streamProcessorContext.getMaxCommandsInAdaptiveBatch()));
+    }
   }
 
   public StreamProcessorBuilder maxCommandsInBatch(final int maxCommandsInBatch) {
     streamProcessorContext.maxCommandsInBatch(maxCommandsInBatch);
     return this;
   }
+
+  public StreamProcessorBuilder maxBatchesInReplayTransaction(
+      final int maxBatchesInReplayTransaction) {
+    streamProcessorContext.maxBatchesInReplayTransaction(maxBatchesInReplayTransaction);
+    return this;
+  }
+
+  public StreamProcessorBuilder commandBatchLatencyTarget(final Duration latencyTarget) {
+    streamProcessorContext.commandBatchLatencyTarget(latencyTarget);
+    return this;
+  }
+
+  public StreamProcessorBuilder maxCommandsInAdaptiveBatch(final int maxCommandsInAdaptiveBatch) {
+    streamProcessorContext.maxCommandsInAdaptiveBatch(maxCommandsInAdaptiveBatch);
+    return this;
+  }
 }
@@ -22,11 +22,14 @@ import io.camunda.zeebe.stream.api.state.KeyGeneratorControls;
 import io.camunda.zeebe.stream.api.state.MutableLastProcessedPositionState;
 import io.camunda.zeebe.stream.impl.StreamProcessor.Phase;
 import io.camunda.zeebe.stream.impl.records.RecordValues;
+import java.time.Duration;
 import java.util.function.BooleanSupplier;
 
 public final class StreamProcessorContext implements ReadonlyStreamProcessorContext {
 
   public static final int DEFAULT_MAX_COMMANDS_IN_BATCH = 100;
+  public static final int DEFAULT_MAX_BATCHES_IN_REPLAY_TRANSACTION = 1;
+  public static final int DEFAULT_MAX_COMMANDS_IN_ADAPTIVE_BATCH = 1000;
   private static final StreamProcessorListener NOOP_LISTENER =
       new StreamProcessorListener() {
         @Override
@@ -56,6 +59,9 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
   private volatile StreamProcessor.Phase phase = Phase.INITIAL;
   private KeyGeneratorControls keyGeneratorControls;
   private int maxCommandsInBatch = DEFAULT_MAX_COMMANDS_IN_BATCH;
+  private int maxBatchesInReplayTransaction = DEFAULT_MAX_BATCHES_IN_REPLAY_TRANSACTION;
+  private Duration commandBatchLatencyTarget;
+  private int maxCommandsInAdaptiveBatch = DEFAULT_MAX_COMMANDS_IN_ADAPTIVE_BATCH;
 
   public StreamProcessorContext actor(final ActorControl actor) {
     this.actor = actor;
@@ -206,4 +212,45 @@ public final class StreamProcessorContext implements ReadonlyStreamProcessorCont
   public int getMaxCommandsInBatch() {
     return maxCommandsInBatch;
   }
+
+  public StreamProcessorContext maxBatchesInReplayTransaction(
+      final int maxBatchesInReplayTransaction) {
+    this.maxBatchesInReplayTransaction = maxBatchesInReplayTransaction;
+    return this;
+  }
+
+  public int getMaxBatchesInReplayTransaction() {
+    return maxBatchesInReplayTransaction;
+  }
+
+  /**
+   * Enables adaptive command batching: the number of commands processed in one batch is adjusted
+   * such that the latency of the batches stays below the given target. The limit starts at {@link
+   * #getMaxCommandsInBatch()} and may grow up to {@link #getMaxCommandsInAdaptiveBatch()}.
+   *
+   * @param commandBatchLatencyTarget the target for the 99th percentile of the batch latency, or
+   *     null to always use {@link #getMaxCommandsInBatch()} as the limit
+   */
+  public StreamProcessorContext commandBatchLatencyTarget(
+      final Duration commandBatchLatencyTarget) {
+    this.commandBatchLatencyTarget = commandBatchLatencyTarget;
+    return this;
+  }
+
+  public Duration getCommandBatchLatencyTarget() {
+    return commandBatchLatencyTarget;
+  }
+
+  /**
+   * @param maxCommandsInAdaptiveBatch the upper bound of the limit if adaptive command batching is
+   *     enabled; must be at least {@link #getMaxCommandsInBatch()}
+   */
+  public StreamProcessorContext maxCommandsInAdaptiveBatch(final int maxCommandsInAdaptiveBatch) {
+    this.maxCommandsInAdaptiveBatch = maxCommandsInAdaptiveBatch;
+    return this;
+  }
+
+  public int getMaxCommandsInAdaptiveBatch() {
+    return maxCommandsInAdaptiveBatch;
+  }
 }
@@ -8,6 +8,7 @@
 package io.camunda.zeebe.stream.impl.metrics;
 
 import io.prometheus.client.Counter;
+import io.prometheus.client.Gauge;
 import io.prometheus.client.Histogram;
 import io.prometheus.client.Histogram.Child;
 
@@ -50,16 +51,27 @@ public class ProcessingMetrics {
               "Number of times batch processing failed due to reaching batch limit and was retried")
           .labelNames(LABEL_NAME_PARTITION)
           .register();
+
+  private static final Gauge BATCH_PROCESSING_LIMIT =
+      Gauge.build()
+          .namespace(NAMESPACE)
+          .name("stream_processor_batch_processing_limit")
+          .help(
+              "The current maximum number of commands processed in one batch, which changes over time if adaptive batching is enabled")
+          .labelNames(LABEL_NAME_PARTITION)
+          .register();
   private final Child batchProcessingDuration;
   private final Child batchProcessingCommands;
   private final Counter.Child batchProcessingRetries;
   private final Child batchProcessingPostCommitTasks;
+  private final Gauge.Child batchProcessingLimit;
 
   public ProcessingMetrics(final String partitionIdLabel) {
     batchProcessingDuration = BATCH_PROCESSING_DURATION.labels(partitionIdLabel);
     batchProcessingCommands = BATCH_PROCESSING_COMMANDS.labels(partitionIdLabel);
     batchProcessingRetries = BATCH_PROCESSING_RETRIES.labels(partitionIdLabel);
     batchProcessingPostCommitTasks = BATCH_PROCESSING_POST_COMMIT_TASKS.labels(partitionIdLabel);
+    batchProcessingLimit = BATCH_PROCESSING_LIMIT.labels(partitionIdLabel);
   }
 
   public Histogram.Timer startBatchProcessingDurationTimer() {
@@ -77,4 +89,8 @@ public class ProcessingMetrics {
   public Histogram.Timer startBatchProcessingPostCommitTasksTimer() {
     return batchProcessingPostCommitTasks.startTimer();
   }
+
+  public void setCommandBatchLimit(final int limit) {
+    batchProcessingLimit.set(limit);
+  }
 }
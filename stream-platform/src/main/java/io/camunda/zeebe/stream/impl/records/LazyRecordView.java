@@ -0,0 +1,208 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.stream.impl.records;
+
+import static io.camunda.zeebe.stream.impl.TypedEventRegistry.EVENT_REGISTRY;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.camunda.zeebe.logstreams.log.LoggedEvent;
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.camunda.zeebe.protocol.impl.record.CopiedRecord;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.RejectionType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.Intent;
+import io.camunda.zeebe.stream.api.records.TypedRecord;
+import io.camunda.zeebe.util.ReflectUtil;
+import io.camunda.zeebe.util.StringUtil;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.EnumMap;
+import java.util.Map;
+import org.agrona.DirectBuffer;
+import org.agrona.concurrent.UnsafeBuffer;
+
+/**
+ * A flyweight record over a {@link LoggedEvent}, which decodes the record value only when it is
+ * accessed.
+ *
+ * <p>Contrary to {@link TypedRecordImpl}, which is wrapped around a value which was already read,
+ * this view only reads the header and metadata of the event when it is wrapped. The value is
+ * decoded on the first call to {@link #getValue()}, so consumers which only look at the metadata
+ * never pay for it.
+ *
+ * <p>The view doesn't copy the event; it wraps the memory the event points to. It is only valid as
+ * long as that memory is, i.e. it must not be kept beyond the lifetime of the log block the event
+ * was read from. Unlike the event itself, it stays valid when the reader moves on to the next
+ * event, which allows to collect several views of the same reader.
+ */
+public final class LazyRecordView implements TypedRecord<UnifiedRecordValue> {
+
+  private final Map<ValueType, UnifiedRecordValue> values = new EnumMap<>(ValueType.class);
+  private final RecordMetadata metadata = new RecordMetadata();
+  private final DirectBuffer metadataBuffer = new UnsafeBuffer();
+  private final DirectBuffer valueBuffer = new UnsafeBuffer();
+  private final int partitionId;
+
+  private long position;
+  private long sourceRecordPosition;
+  private long key;
+  private long timestamp;
+  private UnifiedRecordValue value;
+
+  public LazyRecordView(final int partitionId) {
+    this.partitionId = partitionId;
+  }
+
+  /**
+   * Wraps the given event. Only reads its header and metadata, the value is decoded on access.
+   *
+   * @param event the event to wrap
+   */
+  public void wrap(final LoggedEvent event) {
+    position = event.getPosition();
+    sourceRecordPosition = event.getSourceEventPosition();
+    key = event.getKey();
+    timestamp = event.getTimestamp();
+
+    metadataBuffer.wrap(event.getMetadata(), event.getMetadataOffset(), event.getMetadataLength());
+    metadata.wrap(metadataBuffer, 0, metadataBuffer.capacity());
+    valueBuffer.wrap(event.getValueBuffer(), event.getValueOffset(), event.getValueLength());
+    value = null;
+  }
+
+  /**
+   * @return true if the value type of the wrapped event is known, i.e. its value can be decoded
+   */
+  public boolean hasKnownValueType() {
+    return EVENT_REGISTRY.containsKey(metadata.getValueType());
+  }
+
+  @Override
+  public long getPosition() {
+    return position;
+  }
+
+  @Override
+  public long getSourceRecordPosition() {
+    return sourceRecordPosition;
+  }
+
+  @Override
+  public long getTimestamp() {
+    return timestamp;
+  }
+
+  @Override
+  public Intent getIntent() {
+    return metadata.getIntent();
+  }
+
+  @Override
+  public int getPartitionId() {
+    return partitionId;
+  }
+
+  @Override
+  public RecordType getRecordType() {
+    return metadata.getRecordType();
+  }
+
+  @Override
+  public RejectionType getRejectionType() {
+    return metadata.getRejectionType();
+  }
+
+  @Override
+  public String getRejectionReason() {
+    return metadata.getRejectionReason();
+  }
+
+  @Override
+  public String getBrokerVersion() {
+    return metadata.getBrokerVersion().toString();
+  }
+
+  @Override
+  public int getRecordVersion() {
+    return metadata.getRecordVersion();
+  }
+
+  @Override
+  public ValueType getValueType() {
+    return metadata.getValueType();
+  }
+
+  @Override
+  public Record<UnifiedRecordValue> copyOf() {
+    final RecordMetadata copiedMetadata = new RecordMetadata();
+    copiedMetadata.wrap(BufferUtil.cloneBuffer(metadataBuffer), 0, metadataBuffer.capacity());
+
+    final UnifiedRecordValue copiedValue = newValue(getValueType());
+    copiedValue.wrap(BufferUtil.cloneBuffer(valueBuffer));
+
+    return new CopiedRecord<>(
+        copiedValue, copiedMetadata, key, partitionId, position, sourceRecordPosition, timestamp);
+  }
+
+  @Override
+  public long getKey() {
+    return key;
+  }
+
+  @Override
+  public UnifiedRecordValue getValue() {
+    if (value == null) {
+      // instances are reused for the same value type, such that re-wrapping the view is cheap
+      final UnifiedRecordValue decoded = values.computeIfAbsent(getValueType(), this::newValue);
+      decoded.wrap(valueBuffer, 0, valueBuffer.capacity());
+      value = decoded;
+    }
+
+    return value;
+  }
+
+  @Override
+  @JsonIgnore
+  public int getRequestStreamId() {
+    return metadata.getRequestStreamId();
+  }
+
+  @Override
+  @JsonIgnore
+  public long getRequestId() {
+    return metadata.getRequestId();
+  }
+
+  @Override
+  @JsonIgnore
+  public int getLength() {
+    return metadataBuffer.capacity() + valueBuffer.capacity();
+  }
+
+  @Override
+  public String toJson() {
+    return MsgPackConverter.convertJsonSerializableObjectToJson(this);
+  }
+
+  private UnifiedRecordValue newValue(final ValueType valueType) {
+    return ReflectUtil.newInstance(EVENT_REGISTRY.get(valueType));
+  }
+
+  @Override
+  public String toString() {
+    return "LazyRecordView{"
+        + "metadata="
+        + metadata
+        + ", value="
+        + StringUtil.limitString(getValue().toString(), 1024)
+        + '}';
+  }
+}
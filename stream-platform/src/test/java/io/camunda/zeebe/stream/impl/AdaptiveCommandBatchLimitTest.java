@@ -0,0 +1,159 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.stream.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+
+final class AdaptiveCommandBatchLimitTest {
+
+  private static final Duration TARGET = Duration.ofMillis(10);
+  private static final Duration FAST = Duration.ofMillis(1);
+  private static final Duration SLOW = Duration.ofMillis(20);
+
+  private final AdaptiveCommandBatchLimit limit = new AdaptiveCommandBatchLimit(100, 200, TARGET);
+
+  @Test
+  void shouldStartWithInitialLimit() {
+    // then
+    assertThat(limit.get()).isEqualTo(100);
+  }
+
+  @Test
+  void shouldTolerateOnePercentOfSlowBatches() {
+    // when
+    limit.onBatchCompleted(true, SLOW);
+
+    // then
+    assertThat(limit.get()).isEqualTo(100);
+  }
+
+  @Test
+  void shouldHalveLimitIfLatencyTargetIsExceeded() {
+    // when
+    limit.onBatchCompleted(true, SLOW);
+    limit.onBatchCompleted(true, SLOW);
+
+    // then
+    assertThat(limit.get()).isEqualTo(50);
+  }
+
+  @Test
+  void shouldForgetSlowBatchesAfterDecrease() {
+    // given
+    limit.onBatchCompleted(true, SLOW);
+    limit.onBatchCompleted(true, SLOW);
+
+    // when
+    limit.onBatchCompleted(false, SLOW);
+
+    // then
+    assertThat(limit.get()).isEqualTo(50);
+  }
+
+  @Test
+  void shouldForgetSlowBatchesOutsideOfWindow() {
+    // given
+    limit.onBatchCompleted(false, SLOW);
+    for (int i = 0; i < AdaptiveCommandBatchLimit.WINDOW_SIZE - 1; i++) {
+      limit.onBatchCompleted(false, FAST);
+    }
+
+    // when
+    limit.onBatchCompleted(false, SLOW);
+
+    // then
+    assertThat(limit.get()).isEqualTo(100);
+  }
+
+  @Test
+  void shouldHalveLimitOnBackpressure() {
+    // when
+    limit.onBackpressure();
+    limit.onBackpressure();
+
+    // then
+    assertThat(limit.get()).isEqualTo(25);
+  }
+
+  @Test
+  void shouldNotDecreaseBelowOne() {
+    // when
+    for (int i = 0; i < 10; i++) {
+      limit.onBackpressure();
+    }
+
+    // then
+    assertThat(limit.get()).isOne();
+  }
+
+  @Test
+  void shouldGrowIfLimitWasReachedWithinTarget() {
+    // given
+    limit.onBackpressure();
+
+    // when
+    limit.onBatchCompleted(true, FAST);
+    limit.onBatchCompleted(true, FAST);
+
+    // then
+    assertThat(limit.get()).isEqualTo(52);
+  }
+
+  @Test
+  void shouldNotGrowIfLimitWasNotReached() {
+    // given
+    limit.onBackpressure();
+
+    // when
+    limit.onBatchCompleted(false, FAST);
+
+    // then
+    assertThat(limit.get()).isEqualTo(50);
+  }
+
+  @Test
+  void shouldGrowBeyondInitialLimit() {
+    // when
+    limit.onBatchCompleted(true, FAST);
+    limit.onBatchCompleted(true, FAST);
+
+    // then
+    assertThat(limit.get()).isEqualTo(102);
+  }
+
+  @Test
+  void shouldNotGrowBeyondMaxLimit() {
+    // given
+    final var limit = new AdaptiveCommandBatchLimit(100, 101, TARGET);
+
+    // when
+    limit.onBatchCompleted(true, FAST);
+    limit.onBatchCompleted(true, FAST);
+
+    // then
+    assertThat(limit.get()).isEqualTo(101);
+  }
+
+  @Test
+  void shouldRejectNonPositiveLatencyTarget() {
+    // then
+    assertThatThrownBy(() -> new AdaptiveCommandBatchLimit(100, 200, Duration.ZERO))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  void shouldRejectMaxLimitBelowInitialLimit() {
+    // then
+    assertThatThrownBy(() -> new AdaptiveCommandBatchLimit(100, 99, TARGET))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
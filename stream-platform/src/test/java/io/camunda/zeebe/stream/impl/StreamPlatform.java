@@ -66,6 +66,8 @@ public final class StreamPlatform {
   private boolean snapshotWasTaken = false;
   private final StreamProcessorMode defaultStreamProcessorMode = StreamProcessorMode.PROCESSING;
   private List<RecordProcessor> recordProcessors;
+  private int maxBatchesInReplayTransaction =
+      StreamProcessorContext.DEFAULT_MAX_BATCHES_IN_REPLAY_TRANSACTION;
   private final RecordProcessor defaultMockedRecordProcessor;
   private final ZeebeDbFactory zeebeDbFactory;
   private final StreamProcessorLifecycleAware mockProcessorLifecycleAware;
@@ -208,6 +210,11 @@ public final class StreamPlatform {
     return this;
   }
 
+  public StreamPlatform withMaxBatchesInReplayTransaction(final int maxBatchesInReplayTransaction) {
+    this.maxBatchesInReplayTransaction = maxBatchesInReplayTransaction;
+    return this;
+  }
+
   public StreamProcessorListener getMockStreamProcessorListener() {
     return mockStreamProcessorListener;
   }
@@ -258,6 +265,7 @@ public final class StreamPlatform {
             .commandResponseWriter(mockCommandResponseWriter)
             .recordProcessors(recordProcessors)
             .streamProcessorMode(processorMode)
+            .maxBatchesInReplayTransaction(maxBatchesInReplayTransaction)
             .listener(mockStreamProcessorListener)
             .partitionCommandSender(mock(InterPartitionCommandSender.class));
 
@@ -11,6 +11,7 @@ import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ACTI
 import static io.camunda.zeebe.protocol.record.intent.ProcessInstanceIntent.ELEMENT_ACTIVATING;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.never;
@@ -28,6 +29,7 @@ import io.camunda.zeebe.stream.api.records.TypedRecord;
 import io.camunda.zeebe.stream.util.RecordToWrite;
 import io.camunda.zeebe.stream.util.Records;
 import io.camunda.zeebe.test.util.junit.RegressionTest;
+import io.camunda.zeebe.util.exception.RecoverableException;
 import org.assertj.core.api.Assertions;
 import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Test;
@@ -358,4 +360,63 @@ final class StreamProcessorReplayTest {
     Assertions.assertThat(Protocol.decodeKeyInPartition(streamPlatform.getCurrentKey()))
         .isEqualTo(19L);
   }
+
+  @Test
+  void shouldReplayMultipleBatchesInOneTransaction() {
+    // given - every command and every event forms its own batch
+    streamPlatform.withMaxBatchesInReplayTransaction(6);
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.event()
+            .processInstance(ELEMENT_ACTIVATING, Records.processInstance(1))
+            .causedBy(0),
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(2)),
+        RecordToWrite.event()
+            .processInstance(ELEMENT_ACTIVATING, Records.processInstance(2))
+            .causedBy(2),
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(3)),
+        RecordToWrite.event()
+            .processInstance(ELEMENT_ACTIVATING, Records.processInstance(3))
+            .causedBy(4));
+
+    // when
+    final var streamProcessor = streamPlatform.startStreamProcessor();
+
+    // then
+    final RecordProcessor recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    verify(recordProcessor, TIMEOUT.times(3)).replay(any());
+    Assertions.assertThat(streamProcessor.getLastProcessedPositionAsync().join()).isEqualTo(5L);
+    Assertions.assertThat(streamProcessor.getLastWrittenPositionAsync().join()).isEqualTo(6L);
+    Assertions.assertThat(streamPlatform.getLastSuccessfulProcessedRecordPosition()).isEqualTo(5);
+  }
+
+  @Test
+  void shouldReplayAllBatchesOfTransactionOnRetry() {
+    // given
+    streamPlatform.withMaxBatchesInReplayTransaction(4);
+    final RecordProcessor recordProcessor = streamPlatform.getDefaultMockedRecordProcessor();
+    doNothing()
+        .doThrow(new RecoverableException("replay error"))
+        .doNothing()
+        .when(recordProcessor)
+        .replay(any());
+    streamPlatform.writeBatch(
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(1)),
+        RecordToWrite.event()
+            .processInstance(ELEMENT_ACTIVATING, Records.processInstance(1))
+            .causedBy(0),
+        RecordToWrite.command().processInstance(ACTIVATE_ELEMENT, Records.processInstance(2)),
+        RecordToWrite.event()
+            .processInstance(ELEMENT_ACTIVATING, Records.processInstance(2))
+            .causedBy(2));
+
+    // when
+    final var streamProcessor = streamPlatform.startStreamProcessor();
+
+    // then
+    verify(recordProcessor, TIMEOUT.times(4)).replay(any());
+    Assertions.assertThat(streamProcessor.getLastProcessedPositionAsync().join()).isEqualTo(3L);
+    Assertions.assertThat(streamProcessor.getLastWrittenPositionAsync().join()).isEqualTo(4L);
+    Assertions.assertThat(streamPlatform.getLastSuccessfulProcessedRecordPosition()).isEqualTo(3);
+  }
 }
@@ -0,0 +1,152 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.stream.impl.records;
+
+import io.camunda.zeebe.logstreams.impl.log.LoggedEventImpl;
+import io.camunda.zeebe.logstreams.impl.log.SequencedBatch;
+import io.camunda.zeebe.logstreams.impl.serializer.SequencedBatchSerializer;
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.protocol.impl.encoding.MsgPackConverter;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.UnifiedRecordValue;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.util.buffer.BufferUtil;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the per record exporting path, which decodes every record value into a {@link
+ * TypedRecordImpl} before handing it over, with the batch path, which collects {@link
+ * LazyRecordView}s and only decodes the values which are accessed. Both are measured for a consumer
+ * which only reads the record metadata (e.g. a sink forwarding records by key), and for one which
+ * reads every value.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class LazyRecordViewBenchmark {
+
+  private static final int BATCH_SIZE = 100;
+
+  private final LoggedEventImpl event = new LoggedEventImpl();
+  private final RecordValues recordValues = new RecordValues();
+  private final RecordMetadata metadata = new RecordMetadata();
+  private final TypedRecordImpl typedRecord = new TypedRecordImpl(1);
+  private final List<LazyRecordView> views = new ArrayList<>();
+  private UnsafeBuffer block;
+
+  @Setup
+  public void setup() {
+    final var variables =
+        BufferUtil.wrapArray(
+            MsgPackConverter.convertToMsgPack("{\"foo\":\"" + "x".repeat(512) + "\"}"));
+    final var entries = new ArrayList<LogAppendEntry>();
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      final var job = new JobRecord().setType("type").setWorker("worker").setVariables(variables);
+      final var recordMetadata =
+          new RecordMetadata()
+              .recordType(RecordType.EVENT)
+              .valueType(ValueType.JOB)
+              .intent(JobIntent.CREATED);
+      entries.add(LogAppendEntry.of(i, recordMetadata, job));
+    }
+
+    block =
+        new UnsafeBuffer(
+            SequencedBatchSerializer.serializeBatch(new SequencedBatch(1L, 1L, -1L, entries)));
+
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      views.add(new LazyRecordView(1));
+    }
+  }
+
+  @Benchmark
+  public void perRecordMetadataOnly(final Blackhole blackhole) {
+    int offset = 0;
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      event.wrap(block, offset);
+      final var record = wrapTypedRecord();
+      blackhole.consume(record.getKey());
+      blackhole.consume(record.getIntent());
+      offset += event.getLength();
+    }
+  }
+
+  @Benchmark
+  public void perRecordWithValue(final Blackhole blackhole) {
+    int offset = 0;
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      event.wrap(block, offset);
+      final var record = wrapTypedRecord();
+      blackhole.consume(record.getValue().getLength());
+      offset += event.getLength();
+    }
+  }
+
+  @Benchmark
+  public void lazyBatchMetadataOnly(final Blackhole blackhole) {
+    final var batch = wrapViews();
+    for (int i = 0; i < batch.size(); i++) {
+      final var record = batch.get(i);
+      blackhole.consume(record.getKey());
+      blackhole.consume(record.getIntent());
+    }
+  }
+
+  @Benchmark
+  public void lazyBatchWithValue(final Blackhole blackhole) {
+    final var batch = wrapViews();
+    for (int i = 0; i < batch.size(); i++) {
+      blackhole.consume(batch.get(i).getValue().getLength());
+    }
+  }
+
+  private TypedRecordImpl wrapTypedRecord() {
+    event.readMetadata(metadata);
+    final UnifiedRecordValue value = recordValues.readRecordValue(event, metadata.getValueType());
+    typedRecord.wrap(event, metadata, value);
+    return typedRecord;
+  }
+
+  private List<LazyRecordView> wrapViews() {
+    int offset = 0;
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      event.wrap(block, offset);
+      views.get(i).wrap(event);
+      offset += event.getLength();
+    }
+    return views;
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(LazyRecordViewBenchmark.class.getSimpleName()).build())
+        .run();
+  }
+}
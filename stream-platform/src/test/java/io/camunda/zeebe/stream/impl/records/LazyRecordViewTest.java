@@ -0,0 +1,140 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.stream.impl.records;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.camunda.zeebe.logstreams.impl.log.LoggedEventImpl;
+import io.camunda.zeebe.logstreams.impl.log.SequencedBatch;
+import io.camunda.zeebe.logstreams.impl.serializer.SequencedBatchSerializer;
+import io.camunda.zeebe.logstreams.log.LogAppendEntry;
+import io.camunda.zeebe.protocol.impl.record.RecordMetadata;
+import io.camunda.zeebe.protocol.impl.record.value.job.JobRecord;
+import io.camunda.zeebe.protocol.record.Record;
+import io.camunda.zeebe.protocol.record.RecordType;
+import io.camunda.zeebe.protocol.record.ValueType;
+import io.camunda.zeebe.protocol.record.intent.JobIntent;
+import io.camunda.zeebe.protocol.record.value.JobRecordValue;
+import java.util.List;
+import org.agrona.concurrent.UnsafeBuffer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+final class LazyRecordViewTest {
+
+  private static final int PARTITION_ID = 1;
+
+  private final LoggedEventImpl event = new LoggedEventImpl();
+  private UnsafeBuffer block;
+
+  @BeforeEach
+  void beforeEach() {
+    final var entries =
+        List.of(
+            LogAppendEntry.of(1L, metadata(JobIntent.CREATED), new JobRecord().setType("first")),
+            LogAppendEntry.of(
+                2L, metadata(JobIntent.COMPLETED), new JobRecord().setType("second")));
+    block =
+        new UnsafeBuffer(
+            SequencedBatchSerializer.serializeBatch(new SequencedBatch(10L, 5L, 3L, entries)));
+  }
+
+  @Test
+  void shouldReadMetadata() {
+    // given
+    final var view = new LazyRecordView(PARTITION_ID);
+    event.wrap(block, 0);
+
+    // when
+    view.wrap(event);
+
+    // then
+    assertThat(view.getPosition()).isEqualTo(5L);
+    assertThat(view.getSourceRecordPosition()).isEqualTo(3L);
+    assertThat(view.getKey()).isEqualTo(1L);
+    assertThat(view.getTimestamp()).isEqualTo(10L);
+    assertThat(view.getPartitionId()).isEqualTo(PARTITION_ID);
+    assertThat(view.getRecordType()).isEqualTo(RecordType.EVENT);
+    assertThat(view.getValueType()).isEqualTo(ValueType.JOB);
+    assertThat(view.getIntent()).isEqualTo(JobIntent.CREATED);
+    assertThat(view.hasKnownValueType()).isTrue();
+  }
+
+  @Test
+  void shouldDecodeValueOnAccess() {
+    // given
+    final var view = new LazyRecordView(PARTITION_ID);
+    event.wrap(block, 0);
+    view.wrap(event);
+
+    // when
+    final var value = (JobRecordValue) view.getValue();
+
+    // then
+    assertThat(value.getType()).isEqualTo("first");
+  }
+
+  @Test
+  void shouldStayValidWhenEventIsRewrapped() {
+    // given
+    final var first = new LazyRecordView(PARTITION_ID);
+    final var second = new LazyRecordView(PARTITION_ID);
+    event.wrap(block, 0);
+    first.wrap(event);
+
+    // when
+    event.wrap(block, event.getLength());
+    second.wrap(event);
+
+    // then
+    assertThat(first.getPosition()).isEqualTo(5L);
+    assertThat(((JobRecordValue) first.getValue()).getType()).isEqualTo("first");
+    assertThat(second.getPosition()).isEqualTo(6L);
+    assertThat(((JobRecordValue) second.getValue()).getType()).isEqualTo("second");
+  }
+
+  @Test
+  void shouldDecodeNewValueWhenRewrapped() {
+    // given
+    final var view = new LazyRecordView(PARTITION_ID);
+    event.wrap(block, 0);
+    view.wrap(event);
+    view.getValue();
+
+    // when
+    event.wrap(block, event.getLength());
+    view.wrap(event);
+
+    // then
+    assertThat(((JobRecordValue) view.getValue()).getType()).isEqualTo("second");
+  }
+
+  @Test
+  void shouldCopyRecord() {
+    // given
+    final var view = new LazyRecordView(PARTITION_ID);
+    event.wrap(block, 0);
+    view.wrap(event);
+
+    // when
+    final Record<?> copy = view.copyOf();
+    block.setMemory(0, block.capacity(), (byte) 0);
+
+    // then
+    assertThat(copy.getPosition()).isEqualTo(5L);
+    assertThat(copy.getIntent()).isEqualTo(JobIntent.CREATED);
+    assertThat(((JobRecordValue) copy.getValue()).getType()).isEqualTo("first");
+  }
+
+  private static RecordMetadata metadata(final JobIntent intent) {
+    return new RecordMetadata()
+        .recordType(RecordType.EVENT)
+        .valueType(ValueType.JOB)
+        .intent(intent);
+  }
+}
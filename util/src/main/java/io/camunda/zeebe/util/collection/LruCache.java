@@ -0,0 +1,84 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.util.collection;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * A size-bounded cache which evicts the least recently used entry when a new entry is added to a
+ * full cache. Both {@link #get(Object)} and {@link #put(Object, Object)} count as a use of the
+ * entry. An optional listener is notified about every evicted entry, e.g. to clean up secondary
+ * indexes; it is not notified about entries which are removed explicitly.
+ *
+ * <p>This class is not thread-safe.
+ *
+ * @param <K> the type of the keys
+ * @param <V> the type of the cached values
+ */
+public final class LruCache<K, V> {
+
+  private final int capacity;
+  private final LinkedHashMap<K, V> entries;
+
+  public LruCache(final int capacity) {
+    this(capacity, (key, value) -> {});
+  }
+
+  public LruCache(final int capacity, final BiConsumer<K, V> evictionListener) {
+    if (capacity < 1) {
+      throw new IllegalArgumentException(
+          "Expected capacity to be at least 1, but was %d".formatted(capacity));
+    }
+
+    this.capacity = capacity;
+    entries =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(final Map.Entry<K, V> eldest) {
+            if (size() > LruCache.this.capacity) {
+              evictionListener.accept(eldest.getKey(), eldest.getValue());
+              return true;
+            }
+            return false;
+          }
+        };
+  }
+
+  /**
+   * @return the cached value for the given key, or {@code null} if it is not cached
+   */
+  public V get(final K key) {
+    return entries.get(key);
+  }
+
+  /** Caches the given value, evicting the least recently used entry if the cache is full. */
+  public void put(final K key, final V value) {
+    entries.put(key, value);
+  }
+
+  /**
+   * @return the value which was cached for the given key, or {@code null} if none was cached
+   */
+  public V remove(final K key) {
+    return entries.remove(key);
+  }
+
+  public void clear() {
+    entries.clear();
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  public int capacity() {
+    return capacity;
+  }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.util.collection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+import java.util.HashMap;
+import org.junit.Test;
+
+public final class LruCacheTest {
+
+  @Test
+  public void shouldReturnCachedValue() {
+    // given
+    final var cache = new LruCache<Long, String>(2);
+
+    // when
+    cache.put(1L, "a");
+
+    // then
+    assertThat(cache.get(1L)).isEqualTo("a");
+    assertThat(cache.get(2L)).isNull();
+  }
+
+  @Test
+  public void shouldEvictLeastRecentlyUsedEntry() {
+    // given
+    final var cache = new LruCache<Long, String>(2);
+    cache.put(1L, "a");
+    cache.put(2L, "b");
+    cache.get(1L);
+
+    // when
+    cache.put(3L, "c");
+
+    // then
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.get(1L)).isEqualTo("a");
+    assertThat(cache.get(2L)).isNull();
+    assertThat(cache.get(3L)).isEqualTo("c");
+  }
+
+  @Test
+  public void shouldNotifyListenerAboutEvictedEntry() {
+    // given
+    final var evicted = new HashMap<Long, String>();
+    final var cache = new LruCache<Long, String>(1, evicted::put);
+    cache.put(1L, "a");
+
+    // when
+    cache.put(2L, "b");
+    cache.remove(2L);
+
+    // then
+    assertThat(evicted).containsExactly(entry(1L, "a"));
+  }
+
+  @Test
+  public void shouldRemoveEntry() {
+    // given
+    final var cache = new LruCache<Long, String>(2);
+    cache.put(1L, "a");
+
+    // when
+    final var removed = cache.remove(1L);
+
+    // then
+    assertThat(removed).isEqualTo("a");
+    assertThat(cache.get(1L)).isNull();
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  public void shouldRejectNonPositiveCapacity() {
+    assertThatThrownBy(() -> new LruCache<Long, String>(0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
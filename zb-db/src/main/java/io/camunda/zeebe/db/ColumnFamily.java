@@ -7,6 +7,7 @@
  */
 package io.camunda.zeebe.db;
 
+import java.util.List;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 
@@ -44,6 +45,19 @@ public interface ColumnFamily<KeyType extends DbKey, ValueType extends DbValue>
    */
   ValueType get(KeyType key);
 
+  /**
+   * Looks up the values of all given keys with a single batched read, which is cheaper than calling
+   * {@link #get(DbKey)} for each of them, and visits them in the order of the keys. The visitor
+   * receives each key with its value, or null if the key was not found in the column family.
+   *
+   * <p>As all keys are looked up at once, they must be distinct instances. Similar to {@link
+   * #forEach(BiConsumer)}, the given DbValue is reused for every key and should not be stored.
+   *
+   * @param keys the keys to look up
+   * @param visitor the visitor which accepts each key and its value
+   */
+  void multiGet(List<KeyType> keys, BiConsumer<KeyType, ValueType> visitor);
+
   /**
    * Visits the values, which are stored in the column family. The ordering depends on the key.
    *
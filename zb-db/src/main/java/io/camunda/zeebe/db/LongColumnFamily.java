@@ -0,0 +1,68 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db;
+
+import io.camunda.zeebe.db.impl.DbLong;
+
+/**
+ * A column family which is keyed by a single long. Next to the generic {@link ColumnFamily}
+ * operations, it offers operations which take the key as primitive long. These write the key
+ * directly into the reused key buffer of the column family, without going through a {@link DbLong}
+ * instance, which makes them the preferred way to access such column families on hot paths.
+ *
+ * @param <ValueType> the type of the values
+ */
+public interface LongColumnFamily<ValueType extends DbValue>
+    extends ColumnFamily<DbLong, ValueType> {
+
+  /**
+   * Inserts a new key value pair into the column family.
+   *
+   * @throws IllegalStateException if key already exists
+   */
+  void insert(long key, ValueType value);
+
+  /**
+   * Updates the value of an existing key in the column family.
+   *
+   * @throws IllegalStateException if key does not exist
+   */
+  void update(long key, ValueType value);
+
+  /** Inserts or updates a key value pair in the column family. */
+  void upsert(long key, ValueType value);
+
+  /**
+   * The corresponding stored value in the column family to the given key.
+   *
+   * @param key the key
+   * @return if the key was found in the column family then the value, otherwise null
+   */
+  ValueType get(long key);
+
+  /**
+   * Deletes the key-value pair with the given key if it exists in the column family
+   *
+   * @throws IllegalStateException if the key does not exist
+   */
+  void deleteExisting(long key);
+
+  /**
+   * Deletes the key-value pair if the key does exist in the column family. No-op if the key does
+   * not exist.
+   */
+  void deleteIfExists(long key);
+
+  /**
+   * Checks for key existence in the column family.
+   *
+   * @param key the key to look for
+   * @return true if the key exist in this column family, false otherwise
+   */
+  boolean exists(long key);
+}
@@ -42,6 +42,19 @@ public interface ZeebeDb<ColumnFamilyType extends Enum<ColumnFamilyType>> extend
           KeyType keyInstance,
           ValueType valueInstance);
 
+  /**
+   * Creates an instance of a specific column family which is keyed by a single long. Next to the
+   * generic operations, the returned column family can be accessed with primitive long keys, which
+   * avoids going through a {@link io.camunda.zeebe.db.impl.DbLong} key instance.
+   *
+   * @param <ValueType> the value type of the column family
+   * @param columnFamily the enum instance of the column family
+   * @param valueInstance this instance defines the type of the column family value type
+   * @return the created column family instance
+   */
+  <ValueType extends DbValue> LongColumnFamily<ValueType> createLongColumnFamily(
+      ColumnFamilyType columnFamily, TransactionContext context, ValueType valueInstance);
+
   /**
    * Creates a snapshot of the current database in the given directory.
    *
@@ -48,6 +48,16 @@ public class ColumnFamilyContext {
     keyLength += key.getLength();
   }
 
+  /**
+   * Writes a long key directly into the key buffer; this is equivalent to {@link #writeKey(DbKey)}
+   * with a {@link io.camunda.zeebe.db.impl.DbLong}, but avoids going through the generic key.
+   */
+  public void writeKey(final long key) {
+    keyBuffer.putLong(0, columnFamilyPrefix, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+    keyBuffer.putLong(Long.BYTES, key, ZeebeDbConstants.ZB_DB_BYTE_ORDER);
+    keyLength = Long.BYTES + Long.BYTES;
+  }
+
   public int getKeyLength() {
     return keyLength;
   }
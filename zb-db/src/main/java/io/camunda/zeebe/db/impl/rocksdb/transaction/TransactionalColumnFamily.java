@@ -17,6 +17,9 @@ import io.camunda.zeebe.db.DbValue;
 import io.camunda.zeebe.db.KeyValuePairVisitor;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDbInconsistentException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.BiConsumer;
@@ -44,14 +47,15 @@ class TransactionalColumnFamily<
         ValueType extends DbValue>
     implements ColumnFamily<KeyType, ValueType> {
 
-  private final ZeebeTransactionDb<ColumnFamilyNames> transactionDb;
+  final ZeebeTransactionDb<ColumnFamilyNames> transactionDb;
+  final ColumnFamilyContext columnFamilyContext;
+
   private final ConsistencyChecksSettings consistencyChecksSettings;
   private final ColumnFamilyNames columnFamily;
   private final TransactionContext context;
 
   private final ValueType valueInstance;
   private final KeyType keyInstance;
-  private final ColumnFamilyContext columnFamilyContext;
 
   private final ForeignKeyChecker foreignKeyChecker;
 
@@ -136,12 +140,39 @@ class TransactionalColumnFamily<
                   columnFamilyContext.getKeyLength());
           columnFamilyContext.wrapValueView(value);
         });
-    final var valueBuffer = columnFamilyContext.getValueView();
-    if (valueBuffer != null) {
-      valueInstance.wrap(valueBuffer, 0, valueBuffer.capacity());
-      return valueInstance;
+    return wrapValueView();
+  }
+
+  @Override
+  public void multiGet(final List<KeyType> keys, final BiConsumer<KeyType, ValueType> visitor) {
+    if (keys.isEmpty()) {
+      return;
     }
-    return null;
+
+    // a batched read only pays off for several keys, a single one is cheaper as a plain get
+    if (keys.size() == 1) {
+      final var key = keys.get(0);
+      visitor.accept(key, get(key));
+      return;
+    }
+
+    ensureInOpenTransaction(
+        transaction -> {
+          final var keyBytes = new ArrayList<byte[]>(keys.size());
+          for (final var key : keys) {
+            keyBytes.add(columnFamilyContext.keyWithColumnFamily(key).array());
+          }
+
+          final List<byte[]> values =
+              transaction.multiGet(
+                  transactionDb.getReadOptions(),
+                  Collections.nCopies(keys.size(), transactionDb.getDefaultHandle()),
+                  keyBytes);
+          for (int i = 0; i < keys.size(); i++) {
+            columnFamilyContext.wrapValueView(values.get(i));
+            visitor.accept(keys.get(i), wrapValueView());
+          }
+        });
   }
 
   @Override
@@ -262,7 +293,7 @@ class TransactionalColumnFamily<
     return isEmpty.get();
   }
 
-  private void assertForeignKeysExist(final ZeebeTransaction transaction, final Object... keys)
+  void assertForeignKeysExist(final ZeebeTransaction transaction, final Object... keys)
       throws Exception {
     if (!consistencyChecksSettings.enableForeignKeyChecks()) {
       return;
@@ -274,7 +305,7 @@ class TransactionalColumnFamily<
     }
   }
 
-  private void assertKeyDoesNotExist(final ZeebeTransaction transaction) throws Exception {
+  void assertKeyDoesNotExist(final ZeebeTransaction transaction) throws Exception {
     if (!consistencyChecksSettings.enablePreconditions()) {
       return;
     }
@@ -290,7 +321,7 @@ class TransactionalColumnFamily<
     }
   }
 
-  private void assertKeyExists(final ZeebeTransaction transaction) throws Exception {
+  void assertKeyExists(final ZeebeTransaction transaction) throws Exception {
     if (!consistencyChecksSettings.enablePreconditions()) {
       return;
     }
@@ -306,12 +337,26 @@ class TransactionalColumnFamily<
     }
   }
 
+  /**
+   * Wraps the value instance around the value view of the column family context.
+   *
+   * @return the value instance, or null if the value view is empty
+   */
+  ValueType wrapValueView() {
+    final var valueBuffer = columnFamilyContext.getValueView();
+    if (valueBuffer != null) {
+      valueInstance.wrap(valueBuffer, 0, valueBuffer.capacity());
+      return valueInstance;
+    }
+    return null;
+  }
+
   /**
    * Make sure to use this method in all public methods of this class to ensure that all operations
    * on the column family occur inside a transaction. Within private methods we can assume that a
    * transaction was already opened.
    */
-  private void ensureInOpenTransaction(final TransactionConsumer operation) {
+  void ensureInOpenTransaction(final TransactionConsumer operation) {
     context.runInTransaction(
         () -> operation.run((ZeebeTransaction) context.getCurrentTransaction()));
   }
@@ -0,0 +1,150 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl.rocksdb.transaction;
+
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.DbValue;
+import io.camunda.zeebe.db.LongColumnFamily;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.impl.DbLong;
+
+/**
+ * A {@link TransactionalColumnFamily} keyed by a single long, which writes primitive keys directly
+ * into the key buffer of the {@link ColumnFamilyContext}.
+ *
+ * <p>The operations which don't take a value are kept as pre-allocated {@link TransactionConsumer}
+ * instances, as they only depend on the key that was written beforehand. This avoids allocating a
+ * new lambda on every call, which the generic column family cannot avoid as it has to capture the
+ * key.
+ */
+final class TransactionalLongColumnFamily<
+        ColumnFamilyNames extends Enum<ColumnFamilyNames>, ValueType extends DbValue>
+    extends TransactionalColumnFamily<ColumnFamilyNames, DbLong, ValueType>
+    implements LongColumnFamily<ValueType> {
+
+  private final DbLong keyInstance;
+
+  private final TransactionConsumer getOperation = this::readValue;
+  private final TransactionConsumer deleteExistingOperation = this::deleteExistingKey;
+  private final TransactionConsumer deleteIfExistsOperation = this::deleteKey;
+
+  TransactionalLongColumnFamily(
+      final ZeebeTransactionDb<ColumnFamilyNames> transactionDb,
+      final ConsistencyChecksSettings consistencyChecksSettings,
+      final ColumnFamilyNames columnFamily,
+      final TransactionContext context,
+      final DbLong keyInstance,
+      final ValueType valueInstance) {
+    super(
+        transactionDb,
+        consistencyChecksSettings,
+        columnFamily,
+        context,
+        keyInstance,
+        valueInstance);
+    this.keyInstance = keyInstance;
+  }
+
+  @Override
+  public void insert(final long key, final ValueType value) {
+    writeKey(key);
+    ensureInOpenTransaction(
+        transaction -> {
+          columnFamilyContext.writeValue(value);
+          assertKeyDoesNotExist(transaction);
+          assertForeignKeysExist(transaction, value);
+          put(transaction, value);
+        });
+  }
+
+  @Override
+  public void update(final long key, final ValueType value) {
+    writeKey(key);
+    ensureInOpenTransaction(
+        transaction -> {
+          columnFamilyContext.writeValue(value);
+          assertKeyExists(transaction);
+          assertForeignKeysExist(transaction, value);
+          put(transaction, value);
+        });
+  }
+
+  @Override
+  public void upsert(final long key, final ValueType value) {
+    writeKey(key);
+    ensureInOpenTransaction(
+        transaction -> {
+          columnFamilyContext.writeValue(value);
+          assertForeignKeysExist(transaction, value);
+          put(transaction, value);
+        });
+  }
+
+  @Override
+  public ValueType get(final long key) {
+    writeKey(key);
+    ensureInOpenTransaction(getOperation);
+    return wrapValueView();
+  }
+
+  @Override
+  public void deleteExisting(final long key) {
+    writeKey(key);
+    ensureInOpenTransaction(deleteExistingOperation);
+  }
+
+  @Override
+  public void deleteIfExists(final long key) {
+    writeKey(key);
+    ensureInOpenTransaction(deleteIfExistsOperation);
+  }
+
+  @Override
+  public boolean exists(final long key) {
+    writeKey(key);
+    ensureInOpenTransaction(getOperation);
+    return !columnFamilyContext.isValueViewEmpty();
+  }
+
+  private void writeKey(final long key) {
+    // the key instance is only used to describe the key in case of inconsistencies
+    keyInstance.wrapLong(key);
+    columnFamilyContext.writeKey(key);
+  }
+
+  private void put(final ZeebeTransaction transaction, final ValueType value) throws Exception {
+    transaction.put(
+        transactionDb.getDefaultNativeHandle(),
+        columnFamilyContext.getKeyBufferArray(),
+        columnFamilyContext.getKeyLength(),
+        columnFamilyContext.getValueBufferArray(),
+        value.getLength());
+  }
+
+  private void readValue(final ZeebeTransaction transaction) throws Exception {
+    final byte[] value =
+        transaction.get(
+            transactionDb.getDefaultNativeHandle(),
+            transactionDb.getReadOptionsNativeHandle(),
+            columnFamilyContext.getKeyBufferArray(),
+            columnFamilyContext.getKeyLength());
+    columnFamilyContext.wrapValueView(value);
+  }
+
+  private void deleteExistingKey(final ZeebeTransaction transaction) throws Exception {
+    assertKeyExists(transaction);
+    deleteKey(transaction);
+  }
+
+  private void deleteKey(final ZeebeTransaction transaction) throws Exception {
+    transaction.delete(
+        transactionDb.getDefaultNativeHandle(),
+        columnFamilyContext.getKeyBufferArray(),
+        columnFamilyContext.getKeyLength());
+  }
+}
@@ -12,6 +12,7 @@ import static io.camunda.zeebe.db.impl.rocksdb.transaction.RocksDbInternal.isRoc
 import io.camunda.zeebe.db.TransactionOperation;
 import io.camunda.zeebe.db.ZeebeDbException;
 import io.camunda.zeebe.db.ZeebeDbTransaction;
+import java.util.List;
 import org.agrona.LangUtil;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ReadOptions;
@@ -69,6 +70,14 @@ public class ZeebeTransaction implements ZeebeDbTransaction, AutoCloseable {
     }
   }
 
+  public List<byte[]> multiGet(
+      final ReadOptions readOptions,
+      final List<ColumnFamilyHandle> columnFamilyHandles,
+      final List<byte[]> keys)
+      throws RocksDBException {
+    return transaction.multiGetAsList(readOptions, columnFamilyHandles, keys);
+  }
+
   public void delete(final long columnFamilyHandle, final byte[] key, final int keyLength)
       throws Exception {
     try {
@@ -11,9 +11,11 @@ import io.camunda.zeebe.db.ColumnFamily;
 import io.camunda.zeebe.db.ConsistencyChecksSettings;
 import io.camunda.zeebe.db.DbKey;
 import io.camunda.zeebe.db.DbValue;
+import io.camunda.zeebe.db.LongColumnFamily;
 import io.camunda.zeebe.db.TransactionContext;
 import io.camunda.zeebe.db.ZeebeDb;
 import io.camunda.zeebe.db.ZeebeDbException;
+import io.camunda.zeebe.db.impl.DbLong;
 import io.camunda.zeebe.db.impl.DbNil;
 import io.camunda.zeebe.db.impl.rocksdb.Loggers;
 import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
@@ -112,6 +114,10 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
     return defaultHandle;
   }
 
+  protected ReadOptions getReadOptions() {
+    return defaultReadOptions;
+  }
+
   protected long getReadOptionsNativeHandle() {
     return getNativeHandle(defaultReadOptions);
   }
@@ -131,6 +137,15 @@ public class ZeebeTransactionDb<ColumnFamilyNames extends Enum<ColumnFamilyNames
         this, consistencyChecksSettings, columnFamily, context, keyInstance, valueInstance);
   }
 
+  @Override
+  public <ValueType extends DbValue> LongColumnFamily<ValueType> createLongColumnFamily(
+      final ColumnFamilyNames columnFamily,
+      final TransactionContext context,
+      final ValueType valueInstance) {
+    return new TransactionalLongColumnFamily<>(
+        this, consistencyChecksSettings, columnFamily, context, new DbLong(), valueInstance);
+  }
+
   @Override
   public void createSnapshot(final File snapshotDir) {
     try (final Checkpoint checkpoint = Checkpoint.create(optimisticTransactionDB)) {
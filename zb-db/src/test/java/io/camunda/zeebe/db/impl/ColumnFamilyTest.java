@@ -76,6 +76,46 @@ public final class ColumnFamilyTest {
     assertThat(zbLong).isNull();
   }
 
+  @Test
+  public void shouldMultiGetValues() {
+    // given
+    upsertKeyValuePair(1, 10);
+    upsertKeyValuePair(3, 30);
+    final var keys = List.of(dbLong(3), dbLong(2), dbLong(1));
+
+    // when
+    final List<String> visited = new ArrayList<>();
+    columnFamily.multiGet(
+        keys,
+        (key, value) ->
+            visited.add(key.getValue() + "=" + (value == null ? null : value.getValue())));
+
+    // then
+    assertThat(visited).containsExactly("3=30", "2=null", "1=10");
+  }
+
+  @Test
+  public void shouldMultiGetUncommittedValuesInTransaction() {
+    // given
+    final var context = zeebeDb.createContext();
+    final var transactionalColumnFamily =
+        zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
+    final List<Long> visited = new ArrayList<>();
+
+    // when
+    context.runInTransaction(
+        () -> {
+          key.wrapLong(1);
+          value.wrapLong(10);
+          transactionalColumnFamily.insert(key, value);
+          transactionalColumnFamily.multiGet(
+              List.of(dbLong(1)), (k, v) -> visited.add(v.getValue()));
+        });
+
+    // then
+    assertThat(visited).containsExactly(10L);
+  }
+
   @Test
   public void shouldPutMultipleValues() {
     // given
@@ -471,4 +511,10 @@ public final class ColumnFamilyTest {
     this.value.wrapLong(value);
     columnFamily.upsert(this.key, this.value);
   }
+
+  private static DbLong dbLong(final long value) {
+    final var dbLong = new DbLong();
+    dbLong.wrapLong(value);
+    return dbLong;
+  }
 }
@@ -0,0 +1,165 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.LongColumnFamily;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.ZeebeDbFactory;
+import io.camunda.zeebe.db.ZeebeDbInconsistentException;
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public final class LongColumnFamilyTest {
+
+  @Rule public final TemporaryFolder temporaryFolder = new TemporaryFolder();
+  private final ZeebeDbFactory<DefaultColumnFamily> dbFactory =
+      DefaultZeebeDbFactory.getDefaultFactory();
+  private LongColumnFamily<DbLong> columnFamily;
+  private ColumnFamily<DbLong, DbLong> genericColumnFamily;
+  private DbLong key;
+  private DbLong value;
+
+  @Before
+  public void setup() throws Exception {
+    final File pathName = temporaryFolder.newFolder();
+    final ZeebeDb<DefaultColumnFamily> zeebeDb = dbFactory.createDb(pathName);
+    final TransactionContext context = zeebeDb.createContext();
+
+    key = new DbLong();
+    value = new DbLong();
+    columnFamily = zeebeDb.createLongColumnFamily(DefaultColumnFamily.DEFAULT, context, value);
+    genericColumnFamily =
+        zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, new DbLong());
+  }
+
+  @Test
+  public void shouldInsertValue() {
+    // given
+    value.wrapLong(255);
+
+    // when
+    columnFamily.insert(1213, value);
+
+    // then
+    final DbLong longValue = columnFamily.get(1213);
+    assertThat(longValue).isNotNull();
+    assertThat(longValue.getValue()).isEqualTo(255);
+  }
+
+  @Test
+  public void shouldReturnNullIfNotExist() {
+    // when
+    final DbLong longValue = columnFamily.get(1213);
+
+    // then
+    assertThat(longValue).isNull();
+    assertThat(columnFamily.exists(1213)).isFalse();
+  }
+
+  @Test
+  public void shouldUpsertAndUpdateValue() {
+    // given
+    value.wrapLong(255);
+    columnFamily.upsert(1213, value);
+
+    // when
+    value.wrapLong(256);
+    columnFamily.update(1213, value);
+
+    // then
+    assertThat(columnFamily.get(1213).getValue()).isEqualTo(256);
+  }
+
+  @Test
+  public void shouldDeleteValue() {
+    // given
+    value.wrapLong(255);
+    columnFamily.insert(1213, value);
+    columnFamily.insert(1214, value);
+
+    // when
+    columnFamily.deleteExisting(1213);
+    columnFamily.deleteIfExists(1214);
+    columnFamily.deleteIfExists(1215);
+
+    // then
+    assertThat(columnFamily.exists(1213)).isFalse();
+    assertThat(columnFamily.exists(1214)).isFalse();
+    assertThat(columnFamily.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void shouldBeCompatibleWithGenericColumnFamily() {
+    // given
+    value.wrapLong(255);
+    columnFamily.insert(1213, value);
+    key.wrapLong(1214);
+    value.wrapLong(256);
+    genericColumnFamily.insert(key, value);
+
+    // when
+    key.wrapLong(1213);
+    final DbLong genericValue = genericColumnFamily.get(key);
+    final DbLong longValue = columnFamily.get(1214);
+
+    // then
+    assertThat(genericValue.getValue()).isEqualTo(255);
+    assertThat(longValue.getValue()).isEqualTo(256);
+  }
+
+  @Test
+  public void shouldIterateInKeyOrder() {
+    // given
+    value.wrapLong(1);
+    columnFamily.insert(3, value);
+    columnFamily.insert(1, value);
+    columnFamily.insert(2, value);
+    final List<Long> keys = new ArrayList<>();
+
+    // when
+    columnFamily.forEach((key, value) -> keys.add(key.getValue()));
+
+    // then
+    assertThat(keys).containsExactly(1L, 2L, 3L);
+  }
+
+  @Test
+  public void shouldThrowOnInsert() {
+    value.wrapLong(10);
+    columnFamily.insert(1, value);
+    assertThatThrownBy(() -> columnFamily.insert(1, value))
+        .hasMessageContaining("DbLong{1}")
+        .hasMessageContaining("already exists")
+        .isInstanceOf(ZeebeDbInconsistentException.class);
+  }
+
+  @Test
+  public void shouldThrowOnUpdate() {
+    value.wrapLong(10);
+    assertThatThrownBy(() -> columnFamily.update(1, value))
+        .hasMessageContaining("does not exist")
+        .isInstanceOf(ZeebeDbInconsistentException.class);
+  }
+
+  @Test
+  public void shouldThrowOnDeleteExisting() {
+    assertThatThrownBy(() -> columnFamily.deleteExisting(1))
+        .hasMessageContaining("does not exist")
+        .isInstanceOf(ZeebeDbInconsistentException.class);
+  }
+}
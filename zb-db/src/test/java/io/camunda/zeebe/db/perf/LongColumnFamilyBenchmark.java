@@ -0,0 +1,129 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.perf;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.LongColumnFamily;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.concurrent.TimeUnit;
+import org.agrona.IoUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares accessing a long keyed column family through the generic {@link ColumnFamily} API with
+ * accessing it through the primitive {@link LongColumnFamily} API. Run it via {@link
+ * #main(String[])} or any other JMH runner; use {@code -prof gc} to compare the allocation rates as
+ * well.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class LongColumnFamilyBenchmark {
+
+  private static final int KEY_COUNT = 10_000;
+
+  private final DbLong key = new DbLong();
+  private final DbLong value = new DbLong();
+
+  private File dbDirectory;
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private ColumnFamily<DbLong, DbLong> genericColumnFamily;
+  private LongColumnFamily<DbLong> longColumnFamily;
+  private long nextKey;
+
+  @Setup
+  public void setup() throws Exception {
+    dbDirectory = Files.createTempDirectory("long-column-family-benchmark").toFile();
+    // use the production defaults, i.e. without consistency checks
+    zeebeDb =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+                new RocksDbConfiguration(), new ConsistencyChecksSettings())
+            .createDb(dbDirectory);
+
+    final TransactionContext context = zeebeDb.createContext();
+    genericColumnFamily =
+        zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
+    longColumnFamily =
+        zeebeDb.createLongColumnFamily(DefaultColumnFamily.DEFAULT, context, new DbLong());
+
+    context.runInTransaction(
+        () -> {
+          for (long i = 0; i < KEY_COUNT; i++) {
+            value.wrapLong(i);
+            longColumnFamily.insert(i, value);
+          }
+        });
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    IoUtil.delete(dbDirectory, true);
+  }
+
+  @Benchmark
+  public DbLong genericGet() {
+    key.wrapLong(nextKey());
+    return genericColumnFamily.get(key);
+  }
+
+  @Benchmark
+  public DbLong longGet() {
+    return longColumnFamily.get(nextKey());
+  }
+
+  @Benchmark
+  public void genericUpsert() {
+    final long nextKey = nextKey();
+    key.wrapLong(nextKey);
+    value.wrapLong(nextKey);
+    genericColumnFamily.upsert(key, value);
+  }
+
+  @Benchmark
+  public void longUpsert() {
+    final long nextKey = nextKey();
+    value.wrapLong(nextKey);
+    longColumnFamily.upsert(nextKey, value);
+  }
+
+  private long nextKey() {
+    nextKey = (nextKey + 1) % KEY_COUNT;
+    return nextKey;
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder().include(LongColumnFamilyBenchmark.class.getSimpleName()).build())
+        .run();
+  }
+}
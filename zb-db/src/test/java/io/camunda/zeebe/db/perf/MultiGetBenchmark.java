@@ -0,0 +1,124 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH under
+ * one or more contributor license agreements. See the NOTICE file distributed
+ * with this work for additional information regarding copyright ownership.
+ * Licensed under the Zeebe Community License 1.1. You may not use this file
+ * except in compliance with the Zeebe Community License 1.1.
+ */
+package io.camunda.zeebe.db.perf;
+
+import io.camunda.zeebe.db.ColumnFamily;
+import io.camunda.zeebe.db.ConsistencyChecksSettings;
+import io.camunda.zeebe.db.TransactionContext;
+import io.camunda.zeebe.db.ZeebeDb;
+import io.camunda.zeebe.db.impl.DbLong;
+import io.camunda.zeebe.db.impl.DefaultColumnFamily;
+import io.camunda.zeebe.db.impl.rocksdb.RocksDbConfiguration;
+import io.camunda.zeebe.db.impl.rocksdb.ZeebeRocksDbFactory;
+import java.io.File;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.agrona.IoUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares looking up several keys one by one via {@link
+ * ColumnFamily#get(io.camunda.zeebe.db.DbKey)} with looking them up in one batch via {@link
+ * ColumnFamily#multiGet(List, java.util.function.BiConsumer)}, which crosses JNI only once per
+ * batch. Both look up the same number of existing keys per operation, so the scores of a batch size
+ * are directly comparable.
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(1)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class MultiGetBenchmark {
+
+  private static final int KEY_COUNT = 10_000;
+
+  @Param({"1", "8", "32", "128"})
+  public int batchSize;
+
+  private final DbLong key = new DbLong();
+  private final DbLong value = new DbLong();
+  private final List<DbLong> batchKeys = new ArrayList<>();
+
+  private File dbDirectory;
+  private ZeebeDb<DefaultColumnFamily> zeebeDb;
+  private ColumnFamily<DbLong, DbLong> columnFamily;
+  private long nextKey;
+
+  @Setup
+  public void setup() throws Exception {
+    dbDirectory = Files.createTempDirectory("multi-get-benchmark").toFile();
+    zeebeDb =
+        new ZeebeRocksDbFactory<DefaultColumnFamily>(
+                new RocksDbConfiguration(), new ConsistencyChecksSettings())
+            .createDb(dbDirectory);
+
+    final TransactionContext context = zeebeDb.createContext();
+    columnFamily = zeebeDb.createColumnFamily(DefaultColumnFamily.DEFAULT, context, key, value);
+    context.runInTransaction(
+        () -> {
+          for (long i = 0; i < KEY_COUNT; i++) {
+            key.wrapLong(i);
+            value.wrapLong(i);
+            columnFamily.insert(key, value);
+          }
+        });
+
+    for (int i = 0; i < batchSize; i++) {
+      batchKeys.add(new DbLong());
+    }
+  }
+
+  @TearDown
+  public void tearDown() throws Exception {
+    zeebeDb.close();
+    IoUtil.delete(dbDirectory, true);
+  }
+
+  @Benchmark
+  public void get(final Blackhole blackhole) {
+    for (int i = 0; i < batchSize; i++) {
+      key.wrapLong(nextKey());
+      blackhole.consume(columnFamily.get(key).getValue());
+    }
+  }
+
+  @Benchmark
+  public void multiGet(final Blackhole blackhole) {
+    for (final var batchKey : batchKeys) {
+      batchKey.wrapLong(nextKey());
+    }
+    columnFamily.multiGet(batchKeys, (k, v) -> blackhole.consume(v.getValue()));
+  }
+
+  private long nextKey() {
+    nextKey = (nextKey + 1) % KEY_COUNT;
+    return nextKey;
+  }
+
+  public static void main(final String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(MultiGetBenchmark.class.getSimpleName()).build()).run();
+  }
+}